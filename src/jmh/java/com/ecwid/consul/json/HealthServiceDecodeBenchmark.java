@@ -0,0 +1,68 @@
+package com.ecwid.consul.json;
+
+import com.ecwid.consul.v1.health.model.HealthService;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Decoding of a {@code /v1/health/service} response with {@link GsonFactory}: a {@link TypeToken} created per call
+ * (as the clients used to do) vs a cached {@link Type}. Run with {@code gradle jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class HealthServiceDecodeBenchmark {
+
+	private static final Type HEALTH_SERVICE_LIST_TYPE = new TypeToken<List<HealthService>>() {}.getType();
+
+	@Param({"100", "5000"})
+	public int instances;
+
+	private String json;
+
+	@Setup
+	public void setUp() {
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < instances; i++) {
+			if (i > 0) {
+				sb.append(',');
+			}
+			sb.append("{\"Node\":{\"ID\":\"40e4a748-2192-161a-0510-9bf59fe950b5\",\"Node\":\"node-").append(i)
+				.append("\",\"Address\":\"10.1.").append(i % 256).append(".12\",\"Datacenter\":\"dc1\",")
+				.append("\"TaggedAddresses\":{\"lan\":\"10.1.10.12\",\"wan\":\"10.1.10.12\"},\"Meta\":{\"instance_type\":\"t2.medium\"},")
+				.append("\"CreateIndex\":").append(i).append(",\"ModifyIndex\":").append(i).append("},")
+				.append("\"Service\":{\"ID\":\"web-").append(i).append("\",\"Service\":\"web\",\"Tags\":[\"primary\",\"v1\"],")
+				.append("\"Address\":\"\",\"Meta\":{\"version\":\"1.0\"},\"Port\":8080,\"EnableTagOverride\":false,")
+				.append("\"CreateIndex\":").append(i).append(",\"ModifyIndex\":").append(i).append("},")
+				.append("\"Checks\":[{\"Node\":\"node-").append(i).append("\",\"CheckID\":\"serfHealth\",\"Name\":\"Serf Health Status\",")
+				.append("\"Status\":\"passing\",\"Notes\":\"\",\"Output\":\"Agent alive and reachable\",\"ServiceID\":\"\",")
+				.append("\"ServiceName\":\"\",\"ServiceTags\":[],\"CreateIndex\":1,\"ModifyIndex\":1}]}");
+		}
+		json = sb.append(']').toString();
+	}
+
+	@Benchmark
+	public List<HealthService> perCallTypeToken() {
+		return GsonFactory.getGson().fromJson(new StringReader(json), new TypeToken<List<HealthService>>() {}.getType());
+	}
+
+	@Benchmark
+	public List<HealthService> cachedType() {
+		return GsonFactory.getGson().fromJson(new StringReader(json), HEALTH_SERVICE_LIST_TYPE);
+	}
+}
@@ -0,0 +1,60 @@
+package com.ecwid.consul.json;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.util.function.Consumer;
+
+public final class GsonJsonCodec implements JsonCodec {
+
+	public static final GsonJsonCodec DEFAULT = new GsonJsonCodec(GsonFactory.getGson());
+
+	private final Gson gson;
+
+	public GsonJsonCodec(Gson gson) {
+		this.gson = gson;
+	}
+
+	@Override
+	public <T> T fromJson(Reader reader, Type type) {
+		return gson.fromJson(reader, type);
+	}
+
+	@Override
+	public String toJson(Object src) {
+		return gson.toJson(src);
+	}
+
+	@Override
+	public <T> long fromJsonArray(Reader reader, Type elementType, Consumer<? super T> consumer) {
+		JsonReader jsonReader = gson.newJsonReader(reader);
+		try {
+			if (jsonReader.peek() == JsonToken.NULL) {
+				jsonReader.nextNull();
+				return 0;
+			}
+
+			long count = 0;
+			jsonReader.beginArray();
+			while (jsonReader.hasNext()) {
+				T element = gson.fromJson(jsonReader, elementType);
+				consumer.accept(element);
+				count++;
+			}
+			jsonReader.endArray();
+			return count;
+		} catch (MalformedJsonException e) {
+			throw new JsonSyntaxException(e);
+		} catch (IOException e) {
+			throw new JsonIOException(e);
+		}
+	}
+
+}
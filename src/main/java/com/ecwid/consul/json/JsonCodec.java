@@ -0,0 +1,38 @@
+package com.ecwid.consul.json;
+
+import com.google.gson.reflect.TypeToken;
+
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Serializes request bodies and deserializes response bodies of the v1 clients. The default implementation is
+ * {@link GsonJsonCodec}, another one can be set with {@code ConsulRawClient.Builder.setJsonCodec(JsonCodec)}.
+ * <p>
+ * Implementations must be thread safe and produce the same JSON as Gson for the model classes: field names are taken
+ * from {@code @SerializedName}, null fields are skipped and {@code byte[]} fields are Base64 strings.
+ */
+public interface JsonCodec {
+
+	<T> T fromJson(Reader reader, Type type);
+
+	String toJson(Object src);
+
+	/**
+	 * Decodes a JSON array element by element and passes each element to the consumer, so only one element is held
+	 * in memory. The default implementation decodes the whole array first, streaming codecs should override it.
+	 *
+	 * @return number of elements, 0 for a JSON null
+	 */
+	default <T> long fromJsonArray(Reader reader, Type elementType, Consumer<? super T> consumer) {
+		List<T> elements = fromJson(reader, TypeToken.getParameterized(List.class, elementType).getType());
+		if (elements == null) {
+			return 0;
+		}
+		elements.forEach(consumer);
+		return elements.size();
+	}
+
+}
@@ -1,24 +1,22 @@
 package com.ecwid.consul.transport;
 
-import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHeaders;
 import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.Configurable;
 import org.apache.http.client.methods.*;
-import org.apache.http.entity.ByteArrayEntity;
-import org.apache.http.entity.ContentType;
-import org.apache.http.entity.StringEntity;
-import org.apache.http.util.EntityUtils;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 
+import javax.net.ssl.SSLException;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.io.Reader;
-import java.io.UnsupportedEncodingException;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
-import java.nio.charset.UnsupportedCharsetException;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 public abstract class AbstractHttpTransport implements HttpTransport {
@@ -31,32 +29,48 @@ public abstract class AbstractHttpTransport implements HttpTransport {
 	// https://www.consul.io/api/index.html#blocking-queries
 	static final int DEFAULT_READ_TIMEOUT = 1000 * 60 * 10; // 10 min
 
+	private final HttpTransportConfig config;
+	private final RetryBudget retryBudget;
+
+	/**
+	 * Requests are executed with the HttpClient defaults
+	 */
+	protected AbstractHttpTransport() {
+		this(null);
+	}
+
+	/**
+	 * @param config if not null, the socket read timeout of every request is computed from it
+	 */
+	protected AbstractHttpTransport(HttpTransportConfig config) {
+		this.config = config;
+		this.retryBudget = config != null
+				? new RetryBudget(config.getRetryPolicy().getBudgetCapacity(), config.getRetryPolicy().getBudgetRatio())
+				: null;
+	}
+
 	@Override
 	public <T> HttpResponse<T> makeGetRequest(HttpRequest request, Function<Reader, T> objConverter) {
-		HttpGet httpGet = new HttpGet(request.getUrl());
-		addHeadersToRequest(httpGet, request.getHeaders());
+		HttpGet httpGet = HttpRequestFactory.createGet(request);
+		return executeRequest(request, httpGet, new ConsulResponseHandler<>(objConverter).setKnownIndex(request.getKnownIndex()));
+	}
 
-		return executeRequest(httpGet, objConverter);
+	@Override
+	public <T> HttpResponse<T> makeGetStreamRequest(HttpRequest request, Function<InputStream, T> streamConverter) {
+		HttpGet httpGet = HttpRequestFactory.createGet(request);
+		return executeRequest(request, httpGet, ConsulResponseHandler.forStream(streamConverter).setKnownIndex(request.getKnownIndex()));
 	}
 
 	@Override
 	public <T> HttpResponse<T> makePutRequest(HttpRequest request, Function<Reader, T> objConverter) {
-		HttpPut httpPut = new HttpPut(request.getUrl());
-		addHeadersToRequest(httpPut, request.getHeaders());
-		if (request.getContent() != null) {
-			httpPut.setEntity(new StringEntity(request.getContent(), StandardCharsets.UTF_8));
-		} else {
-			httpPut.setEntity(new ByteArrayEntity(request.getBinaryContent()));
-		}
-
-		return executeRequest(httpPut, objConverter);
+		HttpPut httpPut = HttpRequestFactory.createPut(request);
+		return executeRequest(request, httpPut, new ConsulResponseHandler<>(objConverter));
 	}
 
 	@Override
 	public <T> HttpResponse<T> makeDeleteRequest(HttpRequest request, Function<Reader, T> objConverter) {
-		HttpDelete httpDelete = new HttpDelete(request.getUrl());
-		addHeadersToRequest(httpDelete, request.getHeaders());
-		return executeRequest(httpDelete, objConverter);
+		HttpDelete httpDelete = HttpRequestFactory.createDelete(request);
+		return executeRequest(request, httpDelete, new ConsulResponseHandler<>(objConverter));
 	}
 
 	/**
@@ -66,94 +80,135 @@ public abstract class AbstractHttpTransport implements HttpTransport {
 	 */
 	protected abstract HttpClient getHttpClient();
 
-	private <T> HttpResponse<T> executeRequest(HttpUriRequest httpRequest, Function<Reader, T> objConverter) {
+	/**
+	 * Override this method to serve blocking queries by a separate HttpClient (with its own connection pool),
+	 * by default all requests use {@link #getHttpClient()}
+	 *
+	 * @return HttpClient for blocking queries
+	 */
+	protected HttpClient getBlockingQueryHttpClient() {
+		return getHttpClient();
+	}
 
-		try {
-			return getHttpClient().execute(httpRequest, response -> {
-				int statusCode = response.getStatusLine().getStatusCode();
-				String statusMessage = response.getStatusLine().getReasonPhrase();
-				Long consulIndex = parseUnsignedLong(response.getFirstHeader("X-Consul-Index"));
-				Boolean consulKnownLeader = parseBoolean(response.getFirstHeader("X-Consul-Knownleader"));
-				Long consulLastContact = parseUnsignedLong(response.getFirstHeader("X-Consul-Lastcontact"));
-				if (statusCode == 200) {
-					HttpEntity entity = response.getEntity();
-					Reader inputReader = new InputStreamReader(entity.getContent(), getCharset(entity));
-					T value = objConverter.apply(inputReader);
-					return new HttpResponse<>(statusCode, statusMessage, value, consulIndex, consulKnownLeader, consulLastContact);
-				}
-				return new HttpResponse<>(
-						statusCode,
-						statusMessage,
-						consulIndex,
-						consulKnownLeader,
-						consulLastContact,
-						EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8)
-				);
-			});
-		} catch (IOException e) {
-			throw new TransportException(e);
-		}
+	static HttpClientBuilder createHttpClientBuilder(PoolingHttpClientConnectionManager connectionManager,
+	                                                 int maxConnections, int maxPerRouteConnections,
+	                                                 HttpTransportConfig config, int readTimeout) {
+		connectionManager.setMaxTotal(maxConnections);
+		connectionManager.setDefaultMaxPerRoute(maxPerRouteConnections);
+
+		RequestConfig requestConfig = RequestConfig.custom().
+				setConnectTimeout(config.getConnectionTimeout()).
+				setConnectionRequestTimeout(config.getConnectionRequestTimeout()).
+				setSocketTimeout(readTimeout).
+				build();
+
+		// the HttpClient evictor thread would keep the pool alive until the client is closed, the shared one doesn't
+		ConnectionEvictor.register(connectionManager, config);
+
+		// retries are done by the transport according to the RetryPolicy, responses are decompressed by
+		// ConsulResponseHandler, so it can count the compressed bytes
+		return HttpClientBuilder.create().
+				setConnectionManager(connectionManager).
+				setDefaultRequestConfig(requestConfig).
+				disableAutomaticRetries().
+				disableContentCompression();
 	}
 
-	private Charset getCharset(HttpEntity entity) {
-		try {
-			ContentType contentType = ContentType.get(entity);
-			if (contentType == null) {
-				return StandardCharsets.UTF_8;
-			}
-			Charset charset = contentType.getCharset();
-			if (charset == null) {
-				return StandardCharsets.UTF_8;
+	private <T> HttpResponse<T> executeRequest(HttpRequest request, HttpRequestBase httpRequest, ConsulResponseHandler<T> responseHandler) {
+		HttpClient httpClient = request.isBlockingQuery() ? getBlockingQueryHttpClient() : getHttpClient();
+		if (config == null) {
+			try {
+				return httpClient.execute(httpRequest, responseHandler);
+			} catch (IOException e) {
+				throw new TransportException(e);
 			}
-			return charset;
-		} catch (UnsupportedCharsetException e) {
-			return StandardCharsets.UTF_8;
 		}
-	}
 
-	private Long parseUnsignedLong(Header header) {
-		if (header == null) {
-			return null;
+		RequestConfig defaultConfig = httpClient instanceof Configurable ? ((Configurable) httpClient).getConfig() : null;
+		httpRequest.setConfig(RequestConfig.copy(defaultConfig != null ? defaultConfig : RequestConfig.DEFAULT).
+				setSocketTimeout(config.getReadTimeout(request)).
+				build());
+		if (config.isResponseCompression()) {
+			httpRequest.setHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
 		}
 
-		String value = header.getValue();
-		if (value == null) {
-			return null;
+		TransportMetricsListener metricsListener = config.getMetricsListener();
+		RetryPolicy retryPolicy = config.getRetryPolicy();
+		boolean retryable = isRetryable(request, httpRequest);
+		String method = httpRequest.getMethod();
+		String endpoint = httpRequest.getURI().getPath();
+		retryBudget.onRequest();
+
+		for (int attempt = 1; ; attempt++) {
+			boolean canRetry = retryable && attempt < retryPolicy.getMaxAttempts();
+			long start = System.nanoTime();
+			try {
+				HttpResponse<T> response = httpClient.execute(httpRequest, responseHandler);
+				metricsListener.onRequestCompleted(method, endpoint, request.isBlockingQuery(),
+						response.getStatusCode(), System.nanoTime() - start, responseHandler.getResponseBytes());
+
+				if (!canRetry || !isRetryable(request, response.getStatusCode(), retryPolicy) || !retryBudget.tryAcquire()) {
+					return response;
+				}
+			} catch (IOException e) {
+				metricsListener.onRequestFailed(method, endpoint, request.isBlockingQuery(), System.nanoTime() - start, e);
+
+				if (!canRetry || !isRetryable(request, e) || !retryBudget.tryAcquire()) {
+					throw new TransportException(e);
+				}
+			}
+
+			long backoff = retryPolicy.getBackoff(attempt);
+			metricsListener.onRequestRetried(method, endpoint, request.isBlockingQuery(), attempt, TimeUnit.MILLISECONDS.toNanos(backoff));
+			sleep(backoff);
+			httpRequest.reset();
 		}
+	}
 
-		try {
-			return Long.parseUnsignedLong(value);
-		} catch (Exception e) {
-			return null;
+	private static boolean isRetryable(HttpRequest request, HttpRequestBase httpRequest) {
+		if (!(httpRequest instanceof HttpEntityEnclosingRequest)) {
+			// GET, DELETE
+			return true;
 		}
+
+		HttpEntity entity = ((HttpEntityEnclosingRequest) httpRequest).getEntity();
+		return request.isIdempotent() && (entity == null || entity.isRepeatable());
 	}
 
-	private Boolean parseBoolean(Header header) {
-		if (header == null) {
-			return null;
+	private static boolean isRetryable(HttpRequest request, IOException e) {
+		// permanent errors, a retry would fail the same way
+		if (e instanceof UnknownHostException || e instanceof SSLException) {
+			return false;
 		}
 
-		if ("true".equals(header.getValue())) {
-			return true;
+		// the read timeout of a blocking query already covers the whole wait time, a retry would hold the caller again
+		if (request.isBlockingQuery() && e instanceof SocketTimeoutException) {
+			return false;
 		}
 
-		if ("false".equals(header.getValue())) {
+		// the caller tries the next agent at once, and its circuit breaker sees every failure of this one
+		return !request.isFailoverAvailable();
+	}
+
+	private static boolean isRetryable(HttpRequest request, int statusCode, RetryPolicy retryPolicy) {
+		// same as above, the caller fails over on 5xx responses
+		if (request.isFailoverAvailable() && statusCode >= 500) {
 			return false;
 		}
 
-		return null;
+		return retryPolicy.getRetryableStatusCodes().contains(statusCode);
 	}
 
-	private void addHeadersToRequest(HttpRequestBase request, Map<String, String> headers) {
-		if (headers == null) {
+	private static void sleep(long millis) {
+		if (millis <= 0) {
 			return;
 		}
 
-		for (Map.Entry<String, String> headerValue : headers.entrySet()) {
-			String name = headerValue.getKey();
-			String value = headerValue.getValue();
-
-			request.addHeader(name, value);
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new TransportException(e);
 		}
 	}
 }
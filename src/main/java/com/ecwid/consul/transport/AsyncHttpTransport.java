@@ -0,0 +1,25 @@
+package com.ecwid.consul.transport;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Non-blocking counterpart of {@link HttpTransport}. Returned futures complete when the whole response
+ * has been received and converted, so no caller thread is held while a request (e.g. a blocking query) is in flight.
+ */
+public interface AsyncHttpTransport {
+
+	<T> CompletableFuture<HttpResponse<T>> makeGetRequest(HttpRequest request, Function<Reader, T> objConverter);
+
+	<T> CompletableFuture<HttpResponse<T>> makePutRequest(HttpRequest request, Function<Reader, T> objConverter);
+
+	<T> CompletableFuture<HttpResponse<T>> makeDeleteRequest(HttpRequest request, Function<Reader, T> objConverter);
+
+	/**
+	 * See {@link HttpTransport#makeGetStreamRequest}
+	 */
+	<T> CompletableFuture<HttpResponse<T>> makeGetStreamRequest(HttpRequest request, Function<InputStream, T> streamConverter);
+
+}
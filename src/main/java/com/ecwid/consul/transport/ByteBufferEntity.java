@@ -0,0 +1,96 @@
+package com.ecwid.consul.transport;
+
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.entity.HttpAsyncContentProducer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Entity of a direct {@link ByteBuffer}, the async transport writes the buffer to the channel as is.
+ */
+final class ByteBufferEntity extends AbstractHttpEntity implements HttpAsyncContentProducer {
+
+	private final ByteBuffer buffer;
+
+	// the not yet produced part of the buffer, reset by close() before the request is sent again
+	private ByteBuffer pending;
+
+	ByteBufferEntity(ByteBuffer buffer) {
+		this.buffer = buffer.duplicate();
+		this.pending = buffer.duplicate();
+	}
+
+	@Override
+	public boolean isRepeatable() {
+		return true;
+	}
+
+	@Override
+	public long getContentLength() {
+		return buffer.remaining();
+	}
+
+	@Override
+	public InputStream getContent() {
+		ByteBuffer content = buffer.duplicate();
+		return new InputStream() {
+			@Override
+			public int read() {
+				return content.hasRemaining() ? content.get() & 0xFF : -1;
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) {
+				if (len == 0) {
+					return 0;
+				}
+				if (!content.hasRemaining()) {
+					return -1;
+				}
+				int count = Math.min(len, content.remaining());
+				content.get(b, off, count);
+				return count;
+			}
+
+			@Override
+			public int available() {
+				return content.remaining();
+			}
+		};
+	}
+
+	@Override
+	public void writeTo(OutputStream out) throws IOException {
+		// the channel isn't closed, it would close the stream
+		WritableByteChannel channel = Channels.newChannel(out);
+		ByteBuffer content = buffer.duplicate();
+		while (content.hasRemaining()) {
+			channel.write(content);
+		}
+	}
+
+	@Override
+	public boolean isStreaming() {
+		return false;
+	}
+
+	@Override
+	public void produceContent(ContentEncoder encoder, IOControl ioControl) throws IOException {
+		encoder.write(pending);
+		if (!pending.hasRemaining()) {
+			encoder.complete();
+		}
+	}
+
+	@Override
+	public void close() {
+		pending = buffer.duplicate();
+	}
+}
@@ -0,0 +1,94 @@
+package com.ecwid.consul.transport;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closes expired and idle connections of the default transports from one daemon thread shared by all pools.
+ * <p>
+ * Pools are referenced weakly, so an abandoned transport is garbage collected like before instead of being kept
+ * alive by its eviction task. The task of a collected pool cancels itself on its next run.
+ */
+final class ConnectionEvictor {
+
+	// same as the HttpClient evictor if only expired connections are closed
+	private static final long DEFAULT_PERIOD = 10 * 1000; // 10 sec
+
+	private ConnectionEvictor() {
+	}
+
+	/**
+	 * Starts closing expired and idle connections of the pool according to the config, does nothing if both
+	 * {@link HttpTransportConfig#getMaxIdleTime()} and {@link HttpTransportConfig#getConnectionTimeToLive()} are disabled.
+	 */
+	static void register(PoolingHttpClientConnectionManager connectionManager, HttpTransportConfig config) {
+		long period = getPeriod(config);
+		if (period <= 0) {
+			return;
+		}
+
+		EvictionTask task = new EvictionTask(connectionManager, config.getMaxIdleTime());
+		task.future = Timer.INSTANCE.scheduleWithFixedDelay(task, period, period, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * @return time in milliseconds between two evictions of a pool, or -1 if the pool needs no eviction
+	 */
+	static long getPeriod(HttpTransportConfig config) {
+		if (config.getMaxIdleTime() > 0) {
+			return config.getMaxIdleTime();
+		}
+		if (config.getConnectionTimeToLive() > 0) {
+			return DEFAULT_PERIOD;
+		}
+		return -1;
+	}
+
+	private static final class EvictionTask implements Runnable {
+		private final WeakReference<PoolingHttpClientConnectionManager> connectionManager;
+		private final long maxIdleTime;
+		private volatile ScheduledFuture<?> future;
+
+		private EvictionTask(PoolingHttpClientConnectionManager connectionManager, long maxIdleTime) {
+			this.connectionManager = new WeakReference<>(connectionManager);
+			this.maxIdleTime = maxIdleTime;
+		}
+
+		@Override
+		public void run() {
+			PoolingHttpClientConnectionManager manager = connectionManager.get();
+			if (manager == null) {
+				ScheduledFuture<?> future = this.future;
+				if (future != null) {
+					future.cancel(false);
+				}
+				return;
+			}
+
+			manager.closeExpiredConnections();
+			if (maxIdleTime > 0) {
+				manager.closeIdleConnections(maxIdleTime, TimeUnit.MILLISECONDS);
+			}
+		}
+	}
+
+	// created on the first registration
+	private static final class Timer {
+		private static final ScheduledExecutorService INSTANCE = createExecutor();
+
+		private static ScheduledExecutorService createExecutor() {
+			ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+				Thread thread = new Thread(runnable, "consul-connection-evictor");
+				thread.setDaemon(true);
+				return thread;
+			});
+			executor.setRemoveOnCancelPolicy(true);
+			return executor;
+		}
+	}
+}
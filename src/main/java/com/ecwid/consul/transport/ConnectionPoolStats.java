@@ -0,0 +1,61 @@
+package com.ecwid.consul.transport;
+
+/**
+ * Point in time snapshot of a connection pool of the default transports.
+ */
+public final class ConnectionPoolStats {
+
+	private final int leased;
+	private final int pending;
+	private final int available;
+	private final int max;
+	private final int maxPerRoute;
+
+	public ConnectionPoolStats(int leased, int pending, int available, int max, int maxPerRoute) {
+		this.leased = leased;
+		this.pending = pending;
+		this.available = available;
+		this.max = max;
+		this.maxPerRoute = maxPerRoute;
+	}
+
+	/**
+	 * @return connections currently used by requests
+	 */
+	public int getLeased() {
+		return leased;
+	}
+
+	/**
+	 * @return requests waiting for a free connection, anything above zero means the pool is saturated
+	 */
+	public int getPending() {
+		return pending;
+	}
+
+	/**
+	 * @return idle connections ready to be reused
+	 */
+	public int getAvailable() {
+		return available;
+	}
+
+	public int getMax() {
+		return max;
+	}
+
+	public int getMaxPerRoute() {
+		return maxPerRoute;
+	}
+
+	@Override
+	public String toString() {
+		return "ConnectionPoolStats{" +
+				"leased=" + leased +
+				", pending=" + pending +
+				", available=" + available +
+				", max=" + max +
+				", maxPerRoute=" + maxPerRoute +
+				'}';
+	}
+}
@@ -0,0 +1,202 @@
+package com.ecwid.consul.transport;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.entity.ContentType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Converts Apache HTTP responses into {@link HttpResponse}, shared by the blocking and the async transports.
+ */
+final class ConsulResponseHandler<T> implements ResponseHandler<HttpResponse<T>> {
+
+	// exactly one of them is set
+	private final Function<Reader, T> objConverter;
+	private final Function<InputStream, T> streamConverter;
+
+	private Long knownIndex;
+
+	private long responseBytes;
+	private long decodedResponseBytes;
+
+	ConsulResponseHandler(Function<Reader, T> objConverter) {
+		this(objConverter, null);
+	}
+
+	private ConsulResponseHandler(Function<Reader, T> objConverter, Function<InputStream, T> streamConverter) {
+		this.objConverter = objConverter;
+		this.streamConverter = streamConverter;
+	}
+
+	/**
+	 * @param streamConverter gets the raw response body as {@link ResponseBodyStream}, the charset is up to the converter
+	 */
+	static <T> ConsulResponseHandler<T> forStream(Function<InputStream, T> streamConverter) {
+		return new ConsulResponseHandler<>(null, streamConverter);
+	}
+
+	/**
+	 * @param knownIndex if the response has this X-Consul-Index, its body is not converted, see {@link HttpRequest#getKnownIndex()}
+	 */
+	ConsulResponseHandler<T> setKnownIndex(Long knownIndex) {
+		this.knownIndex = knownIndex;
+		return this;
+	}
+
+	@Override
+	public HttpResponse<T> handleResponse(org.apache.http.HttpResponse response) throws IOException {
+		int statusCode = response.getStatusLine().getStatusCode();
+		String statusMessage = response.getStatusLine().getReasonPhrase();
+		Long consulIndex = parseUnsignedLong(response.getFirstHeader("X-Consul-Index"));
+		Boolean consulKnownLeader = parseBoolean(response.getFirstHeader("X-Consul-Knownleader"));
+		Long consulLastContact = parseUnsignedLong(response.getFirstHeader("X-Consul-Lastcontact"));
+		Boolean cacheHit = parseCacheHit(response.getFirstHeader("X-Cache"));
+		Long cacheAge = parseUnsignedLong(response.getFirstHeader("Age"));
+		HttpEntity entity = response.getEntity();
+		if (entity == null || (statusCode == 200 && knownIndex != null && knownIndex.equals(consulIndex))) {
+			// not modified, the caller keeps the content it has, the unread body is discarded when the connection is released
+			responseBytes = 0;
+			decodedResponseBytes = 0;
+			return new HttpResponse<>(statusCode, statusMessage, null, consulIndex, consulKnownLeader, consulLastContact, null, 0, 0, cacheHit, cacheAge);
+		}
+
+		CountingInputStream rawContent = new CountingInputStream(entity.getContent());
+		CountingInputStream content = isGzip(entity) && entity.getContentLength() != 0 ? new CountingInputStream(new GZIPInputStream(rawContent)) : rawContent;
+		try {
+			T value = null;
+			String error = null;
+			if (statusCode == 200) {
+				value = streamConverter != null
+						? streamConverter.apply(new ResponseBodyStream(content, content == rawContent ? entity.getContentLength() : -1))
+						: objConverter.apply(createReader(content, getCharset(entity)));
+			} else {
+				error = readError(content, getCharset(entity));
+			}
+			return new HttpResponse<>(statusCode, statusMessage, value, consulIndex, consulKnownLeader, consulLastContact, error,
+					rawContent.getCount(), content.getCount(), cacheHit, cacheAge);
+		} finally {
+			responseBytes = rawContent.getCount();
+			decodedResponseBytes = content.getCount();
+			if (content != rawContent) {
+				// releases the inflater, the connection is released by the caller as usual
+				content.close();
+			}
+		}
+	}
+
+	/**
+	 * @return number of response body bytes read by the last {@link #handleResponse} call
+	 */
+	long getResponseBytes() {
+		return responseBytes;
+	}
+
+	/**
+	 * @return number of response body bytes after decompression read by the last {@link #handleResponse} call
+	 */
+	long getDecodedResponseBytes() {
+		return decodedResponseBytes;
+	}
+
+	private static boolean isGzip(HttpEntity entity) {
+		Header contentEncoding = entity.getContentEncoding();
+		if (contentEncoding == null) {
+			return false;
+		}
+		String value = contentEncoding.getValue();
+		return "gzip".equalsIgnoreCase(value) || "x-gzip".equalsIgnoreCase(value);
+	}
+
+	private static String readError(InputStream content, Charset charset) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[4096];
+		int read;
+		while ((read = content.read(buffer)) != -1) {
+			out.write(buffer, 0, read);
+		}
+		return new String(out.toByteArray(), charset);
+	}
+
+	private static Reader createReader(InputStream content, Charset charset) {
+		if (StandardCharsets.UTF_8.equals(charset)) {
+			return new Utf8Reader(content);
+		}
+		return new InputStreamReader(content, charset);
+	}
+
+	private Charset getCharset(HttpEntity entity) {
+		try {
+			ContentType contentType = ContentType.get(entity);
+			if (contentType == null) {
+				return StandardCharsets.UTF_8;
+			}
+			Charset charset = contentType.getCharset();
+			if (charset == null) {
+				return StandardCharsets.UTF_8;
+			}
+			return charset;
+		} catch (UnsupportedCharsetException e) {
+			return StandardCharsets.UTF_8;
+		}
+	}
+
+	private Long parseUnsignedLong(Header header) {
+		if (header == null) {
+			return null;
+		}
+
+		String value = header.getValue();
+		if (value == null) {
+			return null;
+		}
+
+		try {
+			return Long.parseUnsignedLong(value);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	private Boolean parseBoolean(Header header) {
+		if (header == null) {
+			return null;
+		}
+
+		if ("true".equals(header.getValue())) {
+			return true;
+		}
+
+		if ("false".equals(header.getValue())) {
+			return false;
+		}
+
+		return null;
+	}
+
+	private Boolean parseCacheHit(Header header) {
+		if (header == null) {
+			return null;
+		}
+
+		if ("HIT".equals(header.getValue())) {
+			return true;
+		}
+
+		if ("MISS".equals(header.getValue())) {
+			return false;
+		}
+
+		return null;
+	}
+}
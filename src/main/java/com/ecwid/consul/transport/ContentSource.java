@@ -0,0 +1,89 @@
+package com.ecwid.consul.transport;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.nio.entity.NByteArrayEntity;
+import org.apache.http.nio.entity.NFileEntity;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * Binary request body which is streamed to the agent, so the caller doesn't need to copy it into a byte array.
+ * <p>
+ * Buffers and files can be sent several times, requests with them are retried as usual. An input stream can be
+ * read only once, so a request with it is never retried and never repeated on another agent after it was sent.
+ */
+public final class ContentSource {
+
+	private final ByteBuffer buffer;
+	private final InputStream stream;
+	private final long streamLength;
+	private final Path file;
+
+	private ContentSource(ByteBuffer buffer, InputStream stream, long streamLength, Path file) {
+		this.buffer = buffer;
+		this.stream = stream;
+		this.streamLength = streamLength;
+		this.file = file;
+	}
+
+	/**
+	 * @param buffer the bytes between the position and the limit are sent, the buffer itself is not modified
+	 */
+	public static ContentSource of(ByteBuffer buffer) {
+		if (buffer == null) {
+			throw new IllegalArgumentException("buffer must not be null");
+		}
+		return new ContentSource(buffer.duplicate(), null, -1, null);
+	}
+
+	/**
+	 * @param stream read to the end and closed when the request is sent
+	 * @param length number of bytes in the stream, or -1 if unknown (sent chunked)
+	 */
+	public static ContentSource of(InputStream stream, long length) {
+		if (stream == null) {
+			throw new IllegalArgumentException("stream must not be null");
+		}
+		return new ContentSource(null, stream, length, null);
+	}
+
+	/**
+	 * The async transport sends the file without copying it to user space (sendfile) on plain HTTP connections.
+	 */
+	public static ContentSource of(Path file) {
+		if (file == null) {
+			throw new IllegalArgumentException("file must not be null");
+		}
+		return new ContentSource(null, null, -1, file);
+	}
+
+	public boolean isRepeatable() {
+		return stream == null;
+	}
+
+	HttpEntity createEntity() {
+		if (buffer != null) {
+			if (buffer.hasArray()) {
+				return new NByteArrayEntity(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+			}
+			return new ByteBufferEntity(buffer);
+		} else if (stream != null) {
+			return new InputStreamEntity(stream, streamLength);
+		} else {
+			return new NFileEntity(file.toFile());
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ContentSource{" +
+				"buffer=" + buffer +
+				", stream=" + stream +
+				", streamLength=" + streamLength +
+				", file=" + file +
+				'}';
+	}
+}
@@ -0,0 +1,51 @@
+package com.ecwid.consul.transport;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Counts bytes read from the underlying stream, not thread safe.
+ */
+final class CountingInputStream extends FilterInputStream {
+
+	private long count;
+
+	CountingInputStream(InputStream in) {
+		super(in);
+	}
+
+	@Override
+	public int read() throws IOException {
+		int result = super.read();
+		if (result != -1) {
+			count++;
+		}
+		return result;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		int result = super.read(b, off, len);
+		if (result != -1) {
+			count += result;
+		}
+		return result;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long result = super.skip(n);
+		count += result;
+		return result;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	long getCount() {
+		return count;
+	}
+}
@@ -0,0 +1,302 @@
+package com.ecwid.consul.transport;
+
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.client.methods.HttpAsyncMethods;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.ConnectingIOReactor;
+import org.apache.http.util.EntityUtils;
+
+import javax.net.ssl.SSLEngine;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Default non-blocking HTTP(S) client based on Apache HttpAsyncClient. This class is thread safe.
+ * <p>
+ * The underlying I/O reactor is created and started on the first request, so an unused instance costs nothing.
+ * Responses are converted on the executor of {@link HttpTransportConfig#getAsyncResponseExecutor()}, never on the
+ * I/O dispatcher threads, so a slow converter doesn't delay the other requests multiplexed on a dispatcher.
+ */
+public final class DefaultAsyncHttpTransport implements AsyncHttpTransport, Closeable {
+
+	private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+	// reactor threads must not keep the JVM alive
+	private static final ThreadFactory THREAD_FACTORY = runnable -> {
+		Thread thread = new Thread(runnable, "consul-async-" + THREAD_COUNTER.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	};
+
+	private final TLSConfig tlsConfig;
+	private final HttpTransportConfig config;
+	private final Executor responseExecutor;
+	private volatile CloseableHttpAsyncClient httpClient;
+
+	// guarded by this, true while the client built from tlsConfig holds the shared SSL context
+	private boolean sslContextAcquired;
+
+	public DefaultAsyncHttpTransport() {
+		this(HttpTransportConfig.DEFAULT);
+	}
+
+	public DefaultAsyncHttpTransport(HttpTransportConfig config) {
+		this(null, config);
+	}
+
+	public DefaultAsyncHttpTransport(TLSConfig tlsConfig) {
+		this(tlsConfig, HttpTransportConfig.DEFAULT);
+	}
+
+	public DefaultAsyncHttpTransport(TLSConfig tlsConfig, HttpTransportConfig config) {
+		this.tlsConfig = tlsConfig;
+		this.config = config;
+		this.responseExecutor = config.getAsyncResponseExecutor() != null ? config.getAsyncResponseExecutor() : ResponseExecutor.INSTANCE;
+	}
+
+	/**
+	 * @param httpClient ready to use client, it will be started on the first request if it isn't running yet.
+	 *                   Requests are executed with the client defaults.
+	 */
+	public DefaultAsyncHttpTransport(CloseableHttpAsyncClient httpClient) {
+		this(httpClient, ResponseExecutor.INSTANCE);
+	}
+
+	/**
+	 * @param httpClient       ready to use client, see {@link #DefaultAsyncHttpTransport(CloseableHttpAsyncClient)}
+	 * @param responseExecutor converts the responses, see {@link HttpTransportConfig.Builder#setAsyncResponseExecutor}
+	 */
+	public DefaultAsyncHttpTransport(CloseableHttpAsyncClient httpClient, Executor responseExecutor) {
+		this.tlsConfig = null;
+		this.config = null;
+		this.responseExecutor = responseExecutor;
+		this.httpClient = httpClient;
+	}
+
+	@Override
+	public <T> CompletableFuture<HttpResponse<T>> makeGetRequest(HttpRequest request, Function<Reader, T> objConverter) {
+		return executeRequest(request, HttpRequestFactory.createGet(request), new ConsulResponseHandler<>(objConverter).setKnownIndex(request.getKnownIndex()));
+	}
+
+	@Override
+	public <T> CompletableFuture<HttpResponse<T>> makeGetStreamRequest(HttpRequest request, Function<InputStream, T> streamConverter) {
+		HttpRequestBase httpRequest = HttpRequestFactory.createGet(request);
+		configureRequest(request, httpRequest);
+
+		CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+		ConsulResponseHandler<T> responseHandler = ConsulResponseHandler.forStream(streamConverter).setKnownIndex(request.getKnownIndex());
+		StreamingResponseConsumer<T> responseConsumer = new StreamingResponseConsumer<>(responseHandler, responseExecutor, result);
+
+		Future<Void> future = getHttpClient().execute(HttpAsyncMethods.create(httpRequest), responseConsumer, new FutureCallback<Void>() {
+			@Override
+			public void completed(Void ignored) {
+				// the result is completed by the converter thread
+			}
+
+			@Override
+			public void failed(Exception e) {
+				result.completeExceptionally(new TransportException(e));
+			}
+
+			@Override
+			public void cancelled() {
+				result.cancel(false);
+			}
+		});
+
+		cancelOnCancellation(result, future);
+		return result;
+	}
+
+	@Override
+	public <T> CompletableFuture<HttpResponse<T>> makePutRequest(HttpRequest request, Function<Reader, T> objConverter) {
+		return executeRequest(request, HttpRequestFactory.createPut(request), new ConsulResponseHandler<>(objConverter));
+	}
+
+	@Override
+	public <T> CompletableFuture<HttpResponse<T>> makeDeleteRequest(HttpRequest request, Function<Reader, T> objConverter) {
+		return executeRequest(request, HttpRequestFactory.createDelete(request), new ConsulResponseHandler<>(objConverter));
+	}
+
+	@Override
+	public void close() throws IOException {
+		CloseableHttpAsyncClient client;
+		boolean releaseSSLContext;
+		synchronized (this) {
+			client = httpClient;
+			releaseSSLContext = sslContextAcquired;
+			sslContextAcquired = false;
+		}
+
+		try {
+			if (client != null) {
+				client.close();
+			}
+		} finally {
+			if (releaseSSLContext) {
+				SSLContextFactory.release(tlsConfig);
+			}
+		}
+	}
+
+	private <T> CompletableFuture<HttpResponse<T>> executeRequest(HttpRequest request, HttpRequestBase httpRequest, ConsulResponseHandler<T> responseHandler) {
+		configureRequest(request, httpRequest);
+
+		// the whole body is buffered before the callback, use makeGetStreamRequest for large bodies
+		CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+
+		Future<org.apache.http.HttpResponse> future = getHttpClient().execute(httpRequest, new FutureCallback<org.apache.http.HttpResponse>() {
+			@Override
+			public void completed(org.apache.http.HttpResponse response) {
+				try {
+					responseExecutor.execute(() -> handleResponse(response, responseHandler, result));
+				} catch (RejectedExecutionException e) {
+					EntityUtils.consumeQuietly(response.getEntity());
+					result.completeExceptionally(new TransportException(e));
+				}
+			}
+
+			@Override
+			public void failed(Exception e) {
+				result.completeExceptionally(new TransportException(e));
+			}
+
+			@Override
+			public void cancelled() {
+				result.cancel(false);
+			}
+		});
+
+		cancelOnCancellation(result, future);
+		return result;
+	}
+
+	private void configureRequest(HttpRequest request, HttpRequestBase httpRequest) {
+		if (config != null) {
+			httpRequest.setConfig(createRequestConfig(config, config.getReadTimeout(request)));
+			if (config.isResponseCompression()) {
+				httpRequest.setHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+			}
+		}
+	}
+
+	// propagate cancellation from the caller to the in-flight request
+	private static void cancelOnCancellation(CompletableFuture<?> result, Future<?> future) {
+		result.whenComplete((response, throwable) -> {
+			if (result.isCancelled()) {
+				future.cancel(true);
+			}
+		});
+	}
+
+	private static <T> void handleResponse(org.apache.http.HttpResponse response, ConsulResponseHandler<T> responseHandler,
+	                                       CompletableFuture<HttpResponse<T>> result) {
+		try {
+			result.complete(responseHandler.handleResponse(response));
+		} catch (IOException e) {
+			result.completeExceptionally(new TransportException(e));
+		} catch (RuntimeException e) {
+			result.completeExceptionally(e);
+		} finally {
+			EntityUtils.consumeQuietly(response.getEntity());
+		}
+	}
+
+	private CloseableHttpAsyncClient getHttpClient() {
+		CloseableHttpAsyncClient client = httpClient;
+		if (client == null || !client.isRunning()) {
+			synchronized (this) {
+				client = httpClient;
+				if (client == null) {
+					client = createHttpClient(tlsConfig, config);
+					httpClient = client;
+					sslContextAcquired = tlsConfig != null;
+				}
+				if (!client.isRunning()) {
+					client.start();
+				}
+			}
+		}
+		return client;
+	}
+
+	private static RequestConfig createRequestConfig(HttpTransportConfig config, int readTimeout) {
+		return RequestConfig.custom().
+				setConnectTimeout(config.getConnectionTimeout()).
+				setConnectionRequestTimeout(config.getConnectionRequestTimeout()).
+				setSocketTimeout(readTimeout).
+				build();
+	}
+
+	private static CloseableHttpAsyncClient createHttpClient(TLSConfig tlsConfig, HttpTransportConfig config) {
+		try {
+			IOReactorConfig ioReactorConfig = IOReactorConfig.custom().
+					setConnectTimeout(config.getConnectionTimeout()).
+					setSoTimeout(config.getBlockingQueryReadTimeout()).
+					build();
+			ConnectingIOReactor ioReactor = new DefaultConnectingIOReactor(ioReactorConfig, THREAD_FACTORY);
+
+			PoolingNHttpClientConnectionManager connectionManager;
+			if (tlsConfig != null) {
+				ReloadableSSLContext sslContext = SSLContextFactory.acquire(tlsConfig);
+				SSLIOSessionStrategy sslStrategy = new SSLIOSessionStrategy(sslContext.getSSLContext()) {
+					@Override
+					protected void initializeEngine(SSLEngine engine) {
+						// picks up rotated certificates before the handshake of every new connection
+						sslContext.reloadIfModified(config.getMetricsListener());
+					}
+				};
+				Registry<SchemeIOSessionStrategy> registry = RegistryBuilder.<SchemeIOSessionStrategy>create()
+						.register("https", sslStrategy).build();
+				connectionManager = new PoolingNHttpClientConnectionManager(ioReactor, registry);
+			} else {
+				connectionManager = new PoolingNHttpClientConnectionManager(ioReactor);
+			}
+			// one reactor multiplexes all connections, so the pool is sized for long-poll watches
+			connectionManager.setMaxTotal(config.getBlockingQueryMaxConnections());
+			connectionManager.setDefaultMaxPerRoute(config.getBlockingQueryMaxPerRouteConnections());
+
+			HttpAsyncClientBuilder httpClientBuilder = HttpAsyncClientBuilder.create().
+					setConnectionManager(connectionManager).
+					setDefaultRequestConfig(createRequestConfig(config, config.getBlockingQueryReadTimeout())).
+					setThreadFactory(THREAD_FACTORY);
+
+			return httpClientBuilder.build();
+		} catch (IOException e) {
+			throw new TransportException(e);
+		}
+	}
+
+	// converts the responses of all async transports without their own executor, created on the first response
+	private static final class ResponseExecutor {
+		private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+		private static final ExecutorService INSTANCE = Executors.newFixedThreadPool(
+				Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+					Thread thread = new Thread(runnable, "consul-async-response-" + THREAD_COUNTER.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+	}
+}
@@ -1,44 +1,101 @@
 package com.ecwid.consul.transport;
 
 import org.apache.http.client.HttpClient;
-import org.apache.http.client.config.RequestConfig;
-import org.apache.http.impl.client.HttpClientBuilder;
-import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import java.io.Closeable;
+import java.util.Map;
 
 /**
  * Default HTTP client This class is thread safe
+ * <p>
+ * Blocking queries and short requests use separate connection pools, see {@link HttpTransportConfig}.
  *
  * @author Vasily Vasilkov (vgv@ecwid.com)
  */
-public final class DefaultHttpTransport extends AbstractHttpTransport {
+public final class DefaultHttpTransport extends AbstractHttpTransport implements Closeable {
 
 	private final HttpClient httpClient;
+	private final HttpClient blockingQueryHttpClient;
+
+	private final InstrumentedConnectionManager connectionManager;
+	private final InstrumentedConnectionManager blockingQueryConnectionManager;
 
 	public DefaultHttpTransport() {
-		PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
-		connectionManager.setMaxTotal(DEFAULT_MAX_CONNECTIONS);
-		connectionManager.setDefaultMaxPerRoute(DEFAULT_MAX_PER_ROUTE_CONNECTIONS);
-
-		RequestConfig requestConfig = RequestConfig.custom().
-				setConnectTimeout(DEFAULT_CONNECTION_TIMEOUT).
-				setConnectionRequestTimeout(DEFAULT_CONNECTION_TIMEOUT).
-				setSocketTimeout(DEFAULT_READ_TIMEOUT).
-				build();
+		this(HttpTransportConfig.DEFAULT);
+	}
+
+	public DefaultHttpTransport(HttpTransportConfig config) {
+		super(config);
 
-		HttpClientBuilder httpClientBuilder = HttpClientBuilder.create().
-				setConnectionManager(connectionManager).
-				setDefaultRequestConfig(requestConfig).
-				useSystemProperties();
+		this.connectionManager = new InstrumentedConnectionManager(config, false);
+		this.blockingQueryConnectionManager = new InstrumentedConnectionManager(config, true);
 
-		this.httpClient = httpClientBuilder.build();
+		this.httpClient = createHttpClientBuilder(connectionManager,
+				config.getMaxConnections(), config.getMaxPerRouteConnections(),
+				config, config.getReadTimeout()).
+				useSystemProperties().
+				build();
+
+		this.blockingQueryHttpClient = createHttpClientBuilder(blockingQueryConnectionManager,
+				config.getBlockingQueryMaxConnections(), config.getBlockingQueryMaxPerRouteConnections(),
+				config, config.getBlockingQueryReadTimeout()).
+				useSystemProperties().
+				build();
 	}
 
 	public DefaultHttpTransport(HttpClient httpClient) {
 		this.httpClient = httpClient;
+		this.blockingQueryHttpClient = httpClient;
+		this.connectionManager = null;
+		this.blockingQueryConnectionManager = null;
+	}
+
+	/**
+	 * @return snapshot of the short request pool, or null if the transport wraps a user supplied HttpClient
+	 */
+	public ConnectionPoolStats getPoolStats() {
+		return connectionManager != null ? connectionManager.getPoolStats() : null;
+	}
+
+	/**
+	 * @return snapshot of the blocking query pool, or null if the transport wraps a user supplied HttpClient
+	 */
+	public ConnectionPoolStats getBlockingQueryPoolStats() {
+		return blockingQueryConnectionManager != null ? blockingQueryConnectionManager.getPoolStats() : null;
+	}
+
+	/**
+	 * @return snapshot of the short request pool per agent, or null if the transport wraps a user supplied HttpClient
+	 */
+	public Map<String, ConnectionPoolStats> getPoolStatsByAgent() {
+		return connectionManager != null ? connectionManager.getPoolStatsByAgent() : null;
+	}
+
+	/**
+	 * @return snapshot of the blocking query pool per agent, or null if the transport wraps a user supplied HttpClient
+	 */
+	public Map<String, ConnectionPoolStats> getBlockingQueryPoolStatsByAgent() {
+		return blockingQueryConnectionManager != null ? blockingQueryConnectionManager.getPoolStatsByAgent() : null;
+	}
+
+	/**
+	 * Closes the connection pools, does nothing if the transport wraps a user supplied HttpClient
+	 */
+	@Override
+	public void close() {
+		if (connectionManager != null) {
+			connectionManager.shutdown();
+			blockingQueryConnectionManager.shutdown();
+		}
 	}
 
 	@Override
 	protected HttpClient getHttpClient() {
 		return httpClient;
 	}
+
+	@Override
+	protected HttpClient getBlockingQueryHttpClient() {
+		return blockingQueryHttpClient;
+	}
 }
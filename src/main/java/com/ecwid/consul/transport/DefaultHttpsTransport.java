@@ -1,88 +1,127 @@
 package com.ecwid.consul.transport;
 
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.security.*;
-
-import javax.net.ssl.KeyManager;
-import javax.net.ssl.KeyManagerFactory;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.SSLSocket;
 
 import org.apache.http.client.HttpClient;
-import org.apache.http.client.config.RequestConfig;
 import org.apache.http.config.Registry;
 import org.apache.http.config.RegistryBuilder;
 import org.apache.http.conn.socket.ConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 
-import com.ecwid.consul.transport.TLSConfig.KeyStoreInstanceType;
-import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
-import org.apache.http.impl.client.HttpClientBuilder;
-import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
-import org.apache.http.ssl.SSLContexts;
+import java.io.Closeable;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Default HTTPS client This class is thread safe
+ * <p>
+ * Blocking queries and short requests use separate connection pools, see {@link HttpTransportConfig}.
+ * The SSL context is shared by all transports with an equal {@link TLSConfig} and follows certificate rotation.
  *
  * @author Carlos Augusto Ribeiro Mantovani (gutomantovani@gmail.com)
  */
-public final class DefaultHttpsTransport extends AbstractHttpTransport {
+public final class DefaultHttpsTransport extends AbstractHttpTransport implements Closeable {
 
 	private final HttpClient httpClient;
+	private final HttpClient blockingQueryHttpClient;
+
+	private final InstrumentedConnectionManager connectionManager;
+	private final InstrumentedConnectionManager blockingQueryConnectionManager;
+
+	// null if the transport wraps a user supplied HttpClient
+	private final TLSConfig tlsConfig;
+	private final AtomicBoolean closed = new AtomicBoolean();
 
 	public DefaultHttpsTransport(TLSConfig tlsConfig) {
-		try {
-			KeyStore clientStore = KeyStore.getInstance(tlsConfig.getKeyStoreInstanceType().name());
-			clientStore.load(new FileInputStream(tlsConfig.getCertificatePath()), tlsConfig.getCertificatePassword().toCharArray());
-
-			KeyManagerFactory kmf = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
-			kmf.init(clientStore, tlsConfig.getCertificatePassword().toCharArray());
-			KeyManager[] kms = kmf.getKeyManagers();
-
-			KeyStore trustStore = KeyStore.getInstance(KeyStoreInstanceType.JKS.name());
-			trustStore.load(new FileInputStream(tlsConfig.getKeyStorePath()), tlsConfig.getKeyStorePassword().toCharArray());
-
-			TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
-			tmf.init(trustStore);
-			TrustManager[] tms = tmf.getTrustManagers();
-
-			SSLContext sslContext = SSLContexts.custom().loadTrustMaterial(new TrustSelfSignedStrategy()).build();
-			sslContext.init(kms, tms, new SecureRandom());
-			SSLConnectionSocketFactory factory = new SSLConnectionSocketFactory(sslContext);
-
-			Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
-					.register("https", factory).build();
-
-			PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(registry);
-			connectionManager.setMaxTotal(DEFAULT_MAX_CONNECTIONS);
-			connectionManager.setDefaultMaxPerRoute(DEFAULT_MAX_PER_ROUTE_CONNECTIONS);
-
-			RequestConfig requestConfig = RequestConfig.custom().
-					setConnectTimeout(DEFAULT_CONNECTION_TIMEOUT).
-					setConnectionRequestTimeout(DEFAULT_CONNECTION_TIMEOUT).
-					setSocketTimeout(DEFAULT_READ_TIMEOUT).
-					build();
-
-			HttpClientBuilder httpClientBuilder = HttpClientBuilder.create().
-					setConnectionManager(connectionManager).
-					setDefaultRequestConfig(requestConfig);
-
-			this.httpClient = httpClientBuilder.build();
-		} catch (GeneralSecurityException e) {
-			throw new TransportException(e);
-		} catch (IOException e) {
-			throw new TransportException(e);
-		}
+		this(tlsConfig, HttpTransportConfig.DEFAULT);
+	}
+
+	public DefaultHttpsTransport(TLSConfig tlsConfig, HttpTransportConfig config) {
+		super(config);
+
+		this.tlsConfig = tlsConfig;
+		ReloadableSSLContext sslContext = SSLContextFactory.acquire(tlsConfig);
+		SSLConnectionSocketFactory factory = new SSLConnectionSocketFactory(sslContext.getSSLContext()) {
+			@Override
+			protected void prepareSocket(SSLSocket socket) {
+				// picks up rotated certificates before the handshake of every new connection
+				sslContext.reloadIfModified(config.getMetricsListener());
+			}
+		};
+
+		Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
+				.register("https", factory).build();
+
+		this.connectionManager = new InstrumentedConnectionManager(registry, config, false);
+		this.blockingQueryConnectionManager = new InstrumentedConnectionManager(registry, config, true);
+
+		this.httpClient = createHttpClientBuilder(connectionManager,
+				config.getMaxConnections(), config.getMaxPerRouteConnections(),
+				config, config.getReadTimeout()).
+				build();
+
+		this.blockingQueryHttpClient = createHttpClientBuilder(blockingQueryConnectionManager,
+				config.getBlockingQueryMaxConnections(), config.getBlockingQueryMaxPerRouteConnections(),
+				config, config.getBlockingQueryReadTimeout()).
+				build();
 	}
 
 	public DefaultHttpsTransport(HttpClient httpClient) {
 		this.httpClient = httpClient;
+		this.blockingQueryHttpClient = httpClient;
+		this.connectionManager = null;
+		this.blockingQueryConnectionManager = null;
+		this.tlsConfig = null;
+	}
+
+	/**
+	 * @return snapshot of the short request pool, or null if the transport wraps a user supplied HttpClient
+	 */
+	public ConnectionPoolStats getPoolStats() {
+		return connectionManager != null ? connectionManager.getPoolStats() : null;
+	}
+
+	/**
+	 * @return snapshot of the blocking query pool, or null if the transport wraps a user supplied HttpClient
+	 */
+	public ConnectionPoolStats getBlockingQueryPoolStats() {
+		return blockingQueryConnectionManager != null ? blockingQueryConnectionManager.getPoolStats() : null;
+	}
+
+	/**
+	 * @return snapshot of the short request pool per agent, or null if the transport wraps a user supplied HttpClient
+	 */
+	public Map<String, ConnectionPoolStats> getPoolStatsByAgent() {
+		return connectionManager != null ? connectionManager.getPoolStatsByAgent() : null;
+	}
+
+	/**
+	 * @return snapshot of the blocking query pool per agent, or null if the transport wraps a user supplied HttpClient
+	 */
+	public Map<String, ConnectionPoolStats> getBlockingQueryPoolStatsByAgent() {
+		return blockingQueryConnectionManager != null ? blockingQueryConnectionManager.getPoolStatsByAgent() : null;
+	}
+
+	/**
+	 * Closes the connection pools and releases the shared SSL context, does nothing if the transport wraps a user
+	 * supplied HttpClient
+	 */
+	@Override
+	public void close() {
+		if (connectionManager != null && closed.compareAndSet(false, true)) {
+			connectionManager.shutdown();
+			blockingQueryConnectionManager.shutdown();
+			SSLContextFactory.release(tlsConfig);
+		}
 	}
 
 	@Override
 	protected HttpClient getHttpClient() {
 		return httpClient;
 	}
+
+	@Override
+	protected HttpClient getBlockingQueryHttpClient() {
+		return blockingQueryHttpClient;
+	}
 }
@@ -10,16 +10,31 @@ public final class HttpRequest {
 
 	private final String content;
 	private final byte[] binaryContent;
+	private final ContentSource contentSource;
 
-	private HttpRequest(String url, Map<String, String> headers, String content, byte[] binaryContent) {
-		if (content != null && binaryContent != null) {
-			throw new IllegalArgumentException("You should set only content or binaryContent, not both.");
+	private final boolean blockingQuery;
+	private final long waitTime;
+	private final boolean idempotent;
+	private final boolean failoverAvailable;
+
+	private final Long knownIndex;
+
+	private HttpRequest(String url, Map<String, String> headers, String content, byte[] binaryContent, ContentSource contentSource,
+	                    boolean blockingQuery, long waitTime, boolean idempotent, boolean failoverAvailable, Long knownIndex) {
+		if ((content != null ? 1 : 0) + (binaryContent != null ? 1 : 0) + (contentSource != null ? 1 : 0) > 1) {
+			throw new IllegalArgumentException("You should set only one of content, binaryContent or contentSource.");
 		}
 
 		this.url = url;
 		this.headers = headers;
 		this.content = content;
 		this.binaryContent = binaryContent;
+		this.contentSource = contentSource;
+		this.blockingQuery = blockingQuery;
+		this.waitTime = waitTime;
+		this.idempotent = idempotent;
+		this.failoverAvailable = failoverAvailable;
+		this.knownIndex = knownIndex;
 	}
 
 	public String getUrl() {
@@ -38,6 +53,48 @@ public final class HttpRequest {
 		return binaryContent;
 	}
 
+	public ContentSource getContentSource() {
+		return contentSource;
+	}
+
+	/**
+	 * @return true if the request is a blocking query (long poll), it may be served by a dedicated connection pool
+	 */
+	public boolean isBlockingQuery() {
+		return blockingQuery;
+	}
+
+	/**
+	 * @return wait time of the blocking query in seconds, or -1 if the agent default is used
+	 */
+	public long getWaitTime() {
+		return waitTime;
+	}
+
+	/**
+	 * @return true if the request may be safely repeated. GET and DELETE requests are always treated as idempotent,
+	 * this flag marks PUT requests which are known to be safe, e.g. CAS writes or TTL check updates.
+	 */
+	public boolean isIdempotent() {
+		return idempotent;
+	}
+
+	/**
+	 * @return true if the caller sends the request to another agent when this one fails, so the transport must not
+	 * retry I/O errors and 5xx responses itself
+	 */
+	public boolean isFailoverAvailable() {
+		return failoverAvailable;
+	}
+
+	/**
+	 * @return X-Consul-Index of a response the caller already has, if the new response has the same index its body
+	 * is not converted and {@link HttpResponse#getContent()} is null. Null if the body is always converted.
+	 */
+	public Long getKnownIndex() {
+		return knownIndex;
+	}
+
 	// ---------------------------------------
 	// Builder
 	public static final class Builder {
@@ -45,6 +102,12 @@ public final class HttpRequest {
 		private Map<String, String> headers = new HashMap<>();
 		private String content;
 		private byte[] binaryContent;
+		private ContentSource contentSource;
+		private boolean blockingQuery;
+		private long waitTime = -1;
+		private boolean idempotent;
+		private boolean failoverAvailable;
+		private Long knownIndex;
 
 		public static Builder newBuilder() {
 			return new Builder();
@@ -75,8 +138,38 @@ public final class HttpRequest {
 			return this;
 		}
 
+		public Builder setContentSource(ContentSource contentSource) {
+			this.contentSource = contentSource;
+			return this;
+		}
+
+		public Builder setBlockingQuery(boolean blockingQuery) {
+			this.blockingQuery = blockingQuery;
+			return this;
+		}
+
+		public Builder setWaitTime(long waitTime) {
+			this.waitTime = waitTime;
+			return this;
+		}
+
+		public Builder setIdempotent(boolean idempotent) {
+			this.idempotent = idempotent;
+			return this;
+		}
+
+		public Builder setFailoverAvailable(boolean failoverAvailable) {
+			this.failoverAvailable = failoverAvailable;
+			return this;
+		}
+
+		public Builder setKnownIndex(Long knownIndex) {
+			this.knownIndex = knownIndex;
+			return this;
+		}
+
 		public HttpRequest build() {
-			return new HttpRequest(url, headers, content, binaryContent);
+			return new HttpRequest(url, headers, content, binaryContent, contentSource, blockingQuery, waitTime, idempotent, failoverAvailable, knownIndex);
 		}
 	}
 
@@ -0,0 +1,58 @@
+package com.ecwid.consul.transport;
+
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.StringEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Builds Apache HTTP requests from {@link HttpRequest}, shared by the blocking and the async transports.
+ */
+final class HttpRequestFactory {
+
+	private HttpRequestFactory() {
+	}
+
+	static HttpGet createGet(HttpRequest request) {
+		HttpGet httpGet = new HttpGet(request.getUrl());
+		addHeadersToRequest(httpGet, request.getHeaders());
+		return httpGet;
+	}
+
+	static HttpPut createPut(HttpRequest request) {
+		HttpPut httpPut = new HttpPut(request.getUrl());
+		addHeadersToRequest(httpPut, request.getHeaders());
+		if (request.getContent() != null) {
+			httpPut.setEntity(new StringEntity(request.getContent(), StandardCharsets.UTF_8));
+		} else if (request.getContentSource() != null) {
+			httpPut.setEntity(request.getContentSource().createEntity());
+		} else {
+			httpPut.setEntity(new ByteArrayEntity(request.getBinaryContent()));
+		}
+		return httpPut;
+	}
+
+	static HttpDelete createDelete(HttpRequest request) {
+		HttpDelete httpDelete = new HttpDelete(request.getUrl());
+		addHeadersToRequest(httpDelete, request.getHeaders());
+		return httpDelete;
+	}
+
+	private static void addHeadersToRequest(HttpRequestBase request, Map<String, String> headers) {
+		if (headers == null) {
+			return;
+		}
+
+		for (Map.Entry<String, String> headerValue : headers.entrySet()) {
+			String name = headerValue.getKey();
+			String value = headerValue.getValue();
+
+			request.addHeader(name, value);
+		}
+	}
+}
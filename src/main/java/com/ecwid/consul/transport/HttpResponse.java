@@ -16,6 +16,12 @@ public final class HttpResponse<T> {
 	private final Boolean consulKnownLeader;
 	private final Long consulLastContact;
 
+	private final long responseBytes;
+	private final long decodedResponseBytes;
+
+	private final Boolean cacheHit;
+	private final Long cacheAge;
+
 	public HttpResponse(int statusCode, String statusMessage, T content, Long consulIndex, Boolean consulKnownLeader, Long consulLastContact) {
 		this(statusCode, statusMessage, content, consulIndex, consulKnownLeader, consulLastContact, null);
 	}
@@ -39,6 +45,22 @@ public final class HttpResponse<T> {
 			Boolean consulKnownLeader,
 			Long consulLastContact,
 			String error
+	) {
+		this(statusCode, statusMessage, content, consulIndex, consulKnownLeader, consulLastContact, error, -1, -1, null, null);
+	}
+
+	HttpResponse(
+			int statusCode,
+			String statusMessage,
+			T content,
+			Long consulIndex,
+			Boolean consulKnownLeader,
+			Long consulLastContact,
+			String error,
+			long responseBytes,
+			long decodedResponseBytes,
+			Boolean cacheHit,
+			Long cacheAge
 	) {
 		this.statusCode = statusCode;
 		this.statusMessage = statusMessage;
@@ -47,6 +69,10 @@ public final class HttpResponse<T> {
 		this.consulIndex = consulIndex;
 		this.consulKnownLeader = consulKnownLeader;
 		this.consulLastContact = consulLastContact;
+		this.responseBytes = responseBytes;
+		this.decodedResponseBytes = decodedResponseBytes;
+		this.cacheHit = cacheHit;
+		this.cacheAge = cacheAge;
 	}
 
 	public int getStatusCode() {
@@ -76,4 +102,33 @@ public final class HttpResponse<T> {
 	public Long getConsulLastContact() {
 		return consulLastContact;
 	}
+
+	/**
+	 * @return number of body bytes received from the agent (compressed if the agent used gzip), -1 if unknown
+	 */
+	public long getResponseBytes() {
+		return responseBytes;
+	}
+
+	/**
+	 * @return number of body bytes after decompression, equal to {@link #getResponseBytes()} for uncompressed
+	 * responses, -1 if unknown
+	 */
+	public long getDecodedResponseBytes() {
+		return decodedResponseBytes;
+	}
+
+	/**
+	 * @return value of the X-Cache header of agent cached queries, null if the query wasn't cached
+	 */
+	public Boolean isCacheHit() {
+		return cacheHit;
+	}
+
+	/**
+	 * @return value of the Age header (in seconds) of agent cached queries, null if the query wasn't cached
+	 */
+	public Long getCacheAge() {
+		return cacheAge;
+	}
 }
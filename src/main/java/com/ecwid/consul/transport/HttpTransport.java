@@ -1,5 +1,6 @@
 package com.ecwid.consul.transport;
 
+import java.io.InputStream;
 import java.io.Reader;
 import java.util.function.Function;
 
@@ -14,4 +15,16 @@ public interface HttpTransport {
 
 	<T> HttpResponse<T> makeDeleteRequest(HttpRequest request, Function<Reader, T> objConverter);
 
+	/**
+	 * Same as {@link #makeGetRequest}, but the converter gets the raw response body, so byte-level parsers can skip
+	 * charset decoding. The converter gets a {@link ResponseBodyStream} with the length of the body, if it's known.
+	 * Error bodies are still returned as strings.
+	 * <p>
+	 * The KV client reads raw values and key listings this way, so custom transports should override it,
+	 * {@link com.ecwid.consul.v1.ConsulRawClient.Builder#setHttpTransport} rejects the ones which don't.
+	 */
+	default <T> HttpResponse<T> makeGetStreamRequest(HttpRequest request, Function<InputStream, T> streamConverter) {
+		throw new UnsupportedOperationException(getClass().getName() + " doesn't support stream converters");
+	}
+
 }
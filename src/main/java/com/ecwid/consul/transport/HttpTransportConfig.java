@@ -0,0 +1,346 @@
+package com.ecwid.consul.transport;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Connection pool and timeout settings of the default transports.
+ * <p>
+ * Blocking queries (requests with {@code index} or {@code wait} query parameters) are served by a dedicated pool,
+ * so long-poll watches can't exhaust the connections needed by short requests like KV writes or health checks.
+ * <p>
+ * Configs with equal settings are equal, so clients built from them share the same HTTPS transports. The metrics
+ * listener and the async response executor are compared by identity.
+ */
+public final class HttpTransportConfig {
+
+	// https://www.consul.io/api/index.html#blocking-queries
+	private static final long DEFAULT_WAIT_TIME = 5 * 60; // 5 min, in seconds
+	private static final long MAX_WAIT_TIME = 10 * 60; // 10 min, in seconds
+
+	public static final HttpTransportConfig DEFAULT = builder().build();
+
+	private final int maxConnections;
+	private final int maxPerRouteConnections;
+	private final int connectionTimeout;
+	private final int connectionRequestTimeout;
+	private final int readTimeout;
+
+	private final int blockingQueryMaxConnections;
+	private final int blockingQueryMaxPerRouteConnections;
+	private final int blockingQueryReadTimeout;
+	private final int blockingQueryReadTimeoutMargin;
+
+	private final long connectionTimeToLive;
+	private final long maxIdleTime;
+	private final int validateAfterInactivity;
+
+	private final boolean responseCompression;
+
+	private final RetryPolicy retryPolicy;
+	private final TransportMetricsListener metricsListener;
+	private final Executor asyncResponseExecutor;
+
+	private HttpTransportConfig(Builder builder) {
+		this.maxConnections = builder.maxConnections;
+		this.maxPerRouteConnections = builder.maxPerRouteConnections;
+		this.connectionTimeout = builder.connectionTimeout;
+		this.connectionRequestTimeout = builder.connectionRequestTimeout;
+		this.readTimeout = builder.readTimeout;
+		this.blockingQueryMaxConnections = builder.blockingQueryMaxConnections;
+		this.blockingQueryMaxPerRouteConnections = builder.blockingQueryMaxPerRouteConnections;
+		this.blockingQueryReadTimeout = builder.blockingQueryReadTimeout;
+		this.blockingQueryReadTimeoutMargin = builder.blockingQueryReadTimeoutMargin;
+		this.connectionTimeToLive = builder.connectionTimeToLive;
+		this.maxIdleTime = builder.maxIdleTime;
+		this.validateAfterInactivity = builder.validateAfterInactivity;
+		this.responseCompression = builder.responseCompression;
+		this.retryPolicy = builder.retryPolicy;
+		this.metricsListener = builder.metricsListener;
+		this.asyncResponseExecutor = builder.asyncResponseExecutor;
+	}
+
+	public int getMaxConnections() {
+		return maxConnections;
+	}
+
+	public int getMaxPerRouteConnections() {
+		return maxPerRouteConnections;
+	}
+
+	public int getConnectionTimeout() {
+		return connectionTimeout;
+	}
+
+	public int getConnectionRequestTimeout() {
+		return connectionRequestTimeout;
+	}
+
+	public int getReadTimeout() {
+		return readTimeout;
+	}
+
+	public int getBlockingQueryMaxConnections() {
+		return blockingQueryMaxConnections;
+	}
+
+	public int getBlockingQueryMaxPerRouteConnections() {
+		return blockingQueryMaxPerRouteConnections;
+	}
+
+	public int getBlockingQueryReadTimeout() {
+		return blockingQueryReadTimeout;
+	}
+
+	public int getBlockingQueryReadTimeoutMargin() {
+		return blockingQueryReadTimeoutMargin;
+	}
+
+	public long getConnectionTimeToLive() {
+		return connectionTimeToLive;
+	}
+
+	public long getMaxIdleTime() {
+		return maxIdleTime;
+	}
+
+	public int getValidateAfterInactivity() {
+		return validateAfterInactivity;
+	}
+
+	public boolean isResponseCompression() {
+		return responseCompression;
+	}
+
+	public RetryPolicy getRetryPolicy() {
+		return retryPolicy;
+	}
+
+	public TransportMetricsListener getMetricsListener() {
+		return metricsListener;
+	}
+
+	/**
+	 * @return executor converting the responses of {@link DefaultAsyncHttpTransport}, or null for the shared default one
+	 */
+	public Executor getAsyncResponseExecutor() {
+		return asyncResponseExecutor;
+	}
+
+	/**
+	 * Blocking queries may legally stay silent for the whole wait time plus the random jitter (up to wait/16)
+	 * Consul adds to it, everything else gets the short read timeout.
+	 *
+	 * @return socket read timeout in milliseconds for the request
+	 */
+	int getReadTimeout(HttpRequest request) {
+		if (!request.isBlockingQuery()) {
+			return readTimeout;
+		}
+
+		long waitTime = request.getWaitTime() > 0 ? Math.min(request.getWaitTime(), MAX_WAIT_TIME) : DEFAULT_WAIT_TIME;
+		long waitTimeMillis = waitTime * 1000;
+		return (int) (waitTimeMillis + waitTimeMillis / 16 + blockingQueryReadTimeoutMargin);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		HttpTransportConfig that = (HttpTransportConfig) o;
+		return maxConnections == that.maxConnections &&
+				maxPerRouteConnections == that.maxPerRouteConnections &&
+				connectionTimeout == that.connectionTimeout &&
+				connectionRequestTimeout == that.connectionRequestTimeout &&
+				readTimeout == that.readTimeout &&
+				blockingQueryMaxConnections == that.blockingQueryMaxConnections &&
+				blockingQueryMaxPerRouteConnections == that.blockingQueryMaxPerRouteConnections &&
+				blockingQueryReadTimeout == that.blockingQueryReadTimeout &&
+				blockingQueryReadTimeoutMargin == that.blockingQueryReadTimeoutMargin &&
+				connectionTimeToLive == that.connectionTimeToLive &&
+				maxIdleTime == that.maxIdleTime &&
+				validateAfterInactivity == that.validateAfterInactivity &&
+				responseCompression == that.responseCompression &&
+				Objects.equals(retryPolicy, that.retryPolicy) &&
+				metricsListener == that.metricsListener &&
+				asyncResponseExecutor == that.asyncResponseExecutor;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(maxConnections, maxPerRouteConnections, connectionTimeout, connectionRequestTimeout, readTimeout,
+				blockingQueryMaxConnections, blockingQueryMaxPerRouteConnections, blockingQueryReadTimeout,
+				blockingQueryReadTimeoutMargin, connectionTimeToLive, maxIdleTime, validateAfterInactivity,
+				responseCompression, retryPolicy, System.identityHashCode(metricsListener), System.identityHashCode(asyncResponseExecutor));
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	// ---------------------------------------
+	// Builder
+	public static final class Builder {
+		private int maxConnections = 200;
+		private int maxPerRouteConnections = 100;
+		private int connectionTimeout = 10 * 1000; // 10 sec
+		private int connectionRequestTimeout = 5 * 1000; // 5 sec
+		private int readTimeout = 60 * 1000; // 1 min
+
+		private int blockingQueryMaxConnections = AbstractHttpTransport.DEFAULT_MAX_CONNECTIONS;
+		private int blockingQueryMaxPerRouteConnections = AbstractHttpTransport.DEFAULT_MAX_PER_ROUTE_CONNECTIONS;
+		private int blockingQueryReadTimeout = AbstractHttpTransport.DEFAULT_READ_TIMEOUT;
+		private int blockingQueryReadTimeoutMargin = 10 * 1000; // 10 sec
+
+		private long connectionTimeToLive = 5 * 60 * 1000; // 5 min
+		private long maxIdleTime = 30 * 1000; // 30 sec
+		private int validateAfterInactivity = 1000; // 1 sec
+
+		private boolean responseCompression = true;
+
+		private RetryPolicy retryPolicy = RetryPolicy.DEFAULT;
+		private TransportMetricsListener metricsListener = TransportMetricsListener.NOOP;
+		private Executor asyncResponseExecutor;
+
+		private Builder() {
+		}
+
+		/**
+		 * @param maxConnections max total connections of the short request pool
+		 */
+		public Builder setMaxConnections(int maxConnections) {
+			this.maxConnections = maxConnections;
+			return this;
+		}
+
+		/**
+		 * @param maxPerRouteConnections max connections per agent of the short request pool
+		 */
+		public Builder setMaxPerRouteConnections(int maxPerRouteConnections) {
+			this.maxPerRouteConnections = maxPerRouteConnections;
+			return this;
+		}
+
+		/**
+		 * @param connectionTimeout TCP connect timeout in milliseconds, used by both pools
+		 */
+		public Builder setConnectionTimeout(int connectionTimeout) {
+			this.connectionTimeout = connectionTimeout;
+			return this;
+		}
+
+		/**
+		 * @param connectionRequestTimeout max time in milliseconds to wait for a free connection from a pool
+		 */
+		public Builder setConnectionRequestTimeout(int connectionRequestTimeout) {
+			this.connectionRequestTimeout = connectionRequestTimeout;
+			return this;
+		}
+
+		/**
+		 * @param readTimeout socket read timeout in milliseconds for short requests
+		 */
+		public Builder setReadTimeout(int readTimeout) {
+			this.readTimeout = readTimeout;
+			return this;
+		}
+
+		/**
+		 * @param blockingQueryMaxConnections max total connections of the blocking query pool
+		 */
+		public Builder setBlockingQueryMaxConnections(int blockingQueryMaxConnections) {
+			this.blockingQueryMaxConnections = blockingQueryMaxConnections;
+			return this;
+		}
+
+		/**
+		 * @param blockingQueryMaxPerRouteConnections max connections per agent of the blocking query pool
+		 */
+		public Builder setBlockingQueryMaxPerRouteConnections(int blockingQueryMaxPerRouteConnections) {
+			this.blockingQueryMaxPerRouteConnections = blockingQueryMaxPerRouteConnections;
+			return this;
+		}
+
+		/**
+		 * @param blockingQueryReadTimeout default socket read timeout in milliseconds of the blocking query pool,
+		 *                                 the default transports override it per request from the wait time
+		 */
+		public Builder setBlockingQueryReadTimeout(int blockingQueryReadTimeout) {
+			this.blockingQueryReadTimeout = blockingQueryReadTimeout;
+			return this;
+		}
+
+		/**
+		 * @param blockingQueryReadTimeoutMargin time in milliseconds added to wait time and jitter of a blocking
+		 *                                       query before the read is considered timed out
+		 */
+		public Builder setBlockingQueryReadTimeoutMargin(int blockingQueryReadTimeoutMargin) {
+			this.blockingQueryReadTimeoutMargin = blockingQueryReadTimeoutMargin;
+			return this;
+		}
+
+		/**
+		 * @param connectionTimeToLive max lifetime of a pooled connection in milliseconds, connections are never
+		 *                             reused after it (a running request is not interrupted), -1 for no limit
+		 */
+		public Builder setConnectionTimeToLive(long connectionTimeToLive) {
+			this.connectionTimeToLive = connectionTimeToLive;
+			return this;
+		}
+
+		/**
+		 * @param maxIdleTime idle connections are closed by a background thread after this time in milliseconds,
+		 *                    keep it below the idle timeout of load balancers in front of the agents, -1 to disable
+		 */
+		public Builder setMaxIdleTime(long maxIdleTime) {
+			this.maxIdleTime = maxIdleTime;
+			return this;
+		}
+
+		/**
+		 * @param validateAfterInactivity pooled connections idle for longer than this time in milliseconds are checked
+		 *                                for staleness before reuse, -1 to disable the check
+		 */
+		public Builder setValidateAfterInactivity(int validateAfterInactivity) {
+			this.validateAfterInactivity = validateAfterInactivity;
+			return this;
+		}
+
+		/**
+		 * @param responseCompression if true, gzip responses are requested and decompressed while they are read.
+		 *                            Consul compresses only large bodies, see {@link HttpResponse#getResponseBytes()}
+		 *                            and {@link HttpResponse#getDecodedResponseBytes()} for the effect.
+		 */
+		public Builder setResponseCompression(boolean responseCompression) {
+			this.responseCompression = responseCompression;
+			return this;
+		}
+
+		/**
+		 * @param retryPolicy retries of the blocking transports, {@link RetryPolicy#NONE} disables them
+		 */
+		public Builder setRetryPolicy(RetryPolicy retryPolicy) {
+			this.retryPolicy = retryPolicy;
+			return this;
+		}
+
+		public Builder setMetricsListener(TransportMetricsListener metricsListener) {
+			this.metricsListener = metricsListener;
+			return this;
+		}
+
+		/**
+		 * @param asyncResponseExecutor converts the responses of the async transport, so decoding a large body
+		 *                              doesn't stall the other requests of an I/O dispatcher thread. By default
+		 *                              a small daemon pool shared by all async transports is used.
+		 */
+		public Builder setAsyncResponseExecutor(Executor asyncResponseExecutor) {
+			this.asyncResponseExecutor = asyncResponseExecutor;
+			return this;
+		}
+
+		public HttpTransportConfig build() {
+			return new HttpTransportConfig(this);
+		}
+	}
+}
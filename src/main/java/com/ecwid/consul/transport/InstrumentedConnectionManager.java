@@ -0,0 +1,175 @@
+package com.ecwid.consul.transport;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.config.Registry;
+import org.apache.http.config.ConnectionConfig;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.HttpConnectionFactory;
+import org.apache.http.conn.ManagedHttpClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.conn.DefaultManagedHttpClientConnection;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Connection pool which reports lease waits, new and closed connections to a {@link TransportMetricsListener}.
+ */
+final class InstrumentedConnectionManager extends PoolingHttpClientConnectionManager {
+
+	private final TransportMetricsListener metricsListener;
+	private final boolean blockingQuery;
+
+	InstrumentedConnectionManager(HttpTransportConfig config, boolean blockingQuery) {
+		this(createDefaultRegistry(), null, config, blockingQuery);
+	}
+
+	InstrumentedConnectionManager(Registry<ConnectionSocketFactory> registry, HttpTransportConfig config, boolean blockingQuery) {
+		this(registry, null, config, blockingQuery);
+	}
+
+	InstrumentedConnectionManager(Registry<ConnectionSocketFactory> registry, DnsResolver dnsResolver, HttpTransportConfig config, boolean blockingQuery) {
+		super(registry, new ConnectionFactory(config.getMetricsListener(), blockingQuery), null, dnsResolver,
+				config.getConnectionTimeToLive(), TimeUnit.MILLISECONDS);
+		this.metricsListener = config.getMetricsListener();
+		this.blockingQuery = blockingQuery;
+		setValidateAfterInactivity(config.getValidateAfterInactivity());
+	}
+
+	@Override
+	public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+		ConnectionRequest connectionRequest = super.requestConnection(route, state);
+		return new ConnectionRequest() {
+			@Override
+			public HttpClientConnection get(long timeout, TimeUnit tunit) throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+				long start = System.nanoTime();
+				try {
+					return connectionRequest.get(timeout, tunit);
+				} finally {
+					metricsListener.onConnectionLeased(blockingQuery, System.nanoTime() - start);
+				}
+			}
+
+			@Override
+			public boolean cancel() {
+				return connectionRequest.cancel();
+			}
+		};
+	}
+
+	@Override
+	public void connect(HttpClientConnection managedConn, HttpRoute route, int connectTimeout, HttpContext context) throws IOException {
+		super.connect(managedConn, route, connectTimeout, context);
+		metricsListener.onConnectionCreated(blockingQuery);
+	}
+
+	ConnectionPoolStats getPoolStats() {
+		PoolStats totalStats = getTotalStats();
+		return new ConnectionPoolStats(
+				totalStats.getLeased(),
+				totalStats.getPending(),
+				totalStats.getAvailable(),
+				totalStats.getMax(),
+				getDefaultMaxPerRoute()
+		);
+	}
+
+	/**
+	 * @return stats of every agent the pool has connected to, by agent address (e.g. http://10.0.0.1:8500)
+	 */
+	Map<String, ConnectionPoolStats> getPoolStatsByAgent() {
+		Map<String, ConnectionPoolStats> result = new TreeMap<>();
+		for (HttpRoute route : getRoutes()) {
+			PoolStats routeStats = getStats(route);
+			result.put(route.getTargetHost().toURI(), new ConnectionPoolStats(
+					routeStats.getLeased(),
+					routeStats.getPending(),
+					routeStats.getAvailable(),
+					routeStats.getMax(),
+					routeStats.getMax()
+			));
+		}
+		return result;
+	}
+
+	// same as the HttpClient default
+	private static Registry<ConnectionSocketFactory> createDefaultRegistry() {
+		return RegistryBuilder.<ConnectionSocketFactory>create().
+				register("http", PlainConnectionSocketFactory.getSocketFactory()).
+				register("https", SSLConnectionSocketFactory.getSocketFactory()).
+				build();
+	}
+
+	private static final class ConnectionFactory implements HttpConnectionFactory<HttpRoute, ManagedHttpClientConnection> {
+		private static final AtomicLong COUNTER = new AtomicLong();
+
+		private final TransportMetricsListener metricsListener;
+		private final boolean blockingQuery;
+
+		private ConnectionFactory(TransportMetricsListener metricsListener, boolean blockingQuery) {
+			this.metricsListener = metricsListener;
+			this.blockingQuery = blockingQuery;
+		}
+
+		@Override
+		public ManagedHttpClientConnection create(HttpRoute route, ConnectionConfig config) {
+			ConnectionConfig connectionConfig = config != null ? config : ConnectionConfig.DEFAULT;
+			return new InstrumentedConnection("consul-http-" + COUNTER.getAndIncrement(), connectionConfig.getBufferSize(),
+					metricsListener, blockingQuery);
+		}
+	}
+
+	// reports the first close of an open connection, whoever closes it: the pool on expiry, eviction or shutdown,
+	// or the client if the connection can't be reused
+	private static final class InstrumentedConnection extends DefaultManagedHttpClientConnection {
+		private final TransportMetricsListener metricsListener;
+		private final boolean blockingQuery;
+		private final AtomicBoolean closed = new AtomicBoolean();
+
+		private InstrumentedConnection(String id, int bufferSize, TransportMetricsListener metricsListener, boolean blockingQuery) {
+			super(id, bufferSize);
+			this.metricsListener = metricsListener;
+			this.blockingQuery = blockingQuery;
+		}
+
+		@Override
+		public void close() throws IOException {
+			boolean open = isOpen();
+			try {
+				super.close();
+			} finally {
+				onClosed(open);
+			}
+		}
+
+		@Override
+		public void shutdown() throws IOException {
+			boolean open = isOpen();
+			try {
+				super.shutdown();
+			} finally {
+				onClosed(open);
+			}
+		}
+
+		private void onClosed(boolean open) {
+			if (open && closed.compareAndSet(false, true)) {
+				metricsListener.onConnectionClosed(blockingQuery);
+			}
+		}
+	}
+}
@@ -0,0 +1,242 @@
+package com.ecwid.consul.transport;
+
+import com.ecwid.consul.transport.TLSConfig.KeyStoreInstanceType;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509ExtendedKeyManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Socket;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.Principal;
+import java.security.PrivateKey;
+import java.security.SecureRandom;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.Enumeration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SSLContext} whose key and trust material is reloaded when the key store files change, so certificates
+ * can be rotated without recreating connection pools. Established connections keep their session, new connections
+ * do a full handshake with the new material.
+ */
+final class ReloadableSSLContext {
+
+	private static final long CHECK_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+	private final TLSConfig tlsConfig;
+	private final long checkInterval;
+	private final SSLContext sslContext;
+	private final ReloadingKeyManager keyManager = new ReloadingKeyManager();
+	private final ReloadingTrustManager trustManager = new ReloadingTrustManager();
+
+	private volatile long nextCheck;
+
+	// guarded by this
+	private long certificateModified;
+	private long keyStoreModified;
+
+	ReloadableSSLContext(TLSConfig tlsConfig) {
+		this(tlsConfig, CHECK_INTERVAL);
+	}
+
+	// hidden constructor, for tests
+	ReloadableSSLContext(TLSConfig tlsConfig, long checkInterval) {
+		this.tlsConfig = tlsConfig;
+		this.checkInterval = checkInterval;
+		try {
+			load();
+			this.sslContext = SSLContext.getInstance("TLS");
+			this.sslContext.init(new KeyManager[]{keyManager}, new TrustManager[]{trustManager}, new SecureRandom());
+		} catch (GeneralSecurityException | IOException e) {
+			throw new TransportException(e);
+		}
+		this.nextCheck = System.nanoTime() + checkInterval;
+	}
+
+	SSLContext getSSLContext() {
+		return sslContext;
+	}
+
+	X509ExtendedKeyManager getKeyManager() {
+		return keyManager;
+	}
+
+	/**
+	 * Reloads the key stores if their files were modified, checks at most once per second. Called before every
+	 * new handshake. If the files can't be loaded (e.g. they are being rewritten) the current material is kept,
+	 * the failure is reported to the listener and the reload is retried on the next check.
+	 */
+	void reloadIfModified(TransportMetricsListener metricsListener) {
+		long now = System.nanoTime();
+		if (now - nextCheck < 0) {
+			return;
+		}
+
+		synchronized (this) {
+			if (now - nextCheck < 0) {
+				return;
+			}
+			nextCheck = now + checkInterval;
+
+			if (lastModified(tlsConfig.getCertificatePath()) == certificateModified
+					&& lastModified(tlsConfig.getKeyStorePath()) == keyStoreModified) {
+				return;
+			}
+
+			try {
+				load();
+			} catch (GeneralSecurityException | IOException e) {
+				metricsListener.onCertificateReloadFailed(tlsConfig.getCertificatePath(), e);
+				return;
+			}
+			invalidateSessions();
+		}
+	}
+
+	private synchronized void load() throws GeneralSecurityException, IOException {
+		long newCertificateModified = lastModified(tlsConfig.getCertificatePath());
+		long newKeyStoreModified = lastModified(tlsConfig.getKeyStorePath());
+
+		KeyStore clientStore = loadKeyStore(tlsConfig.getKeyStoreInstanceType(), tlsConfig.getCertificatePath(), tlsConfig.getCertificatePassword());
+		KeyManagerFactory kmf = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+		kmf.init(clientStore, tlsConfig.getCertificatePassword().toCharArray());
+
+		KeyStore trustStore = loadKeyStore(KeyStoreInstanceType.JKS, tlsConfig.getKeyStorePath(), tlsConfig.getKeyStorePassword());
+		TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+		tmf.init(trustStore);
+
+		keyManager.delegate = find(kmf.getKeyManagers(), X509ExtendedKeyManager.class);
+		trustManager.delegate = find(tmf.getTrustManagers(), X509ExtendedTrustManager.class);
+		certificateModified = newCertificateModified;
+		keyStoreModified = newKeyStoreModified;
+	}
+
+	// sessions of the old material must not be resumed by new connections
+	private void invalidateSessions() {
+		SSLSessionContext sessionContext = sslContext.getClientSessionContext();
+		Enumeration<byte[]> ids = sessionContext.getIds();
+		while (ids.hasMoreElements()) {
+			SSLSession session = sessionContext.getSession(ids.nextElement());
+			if (session != null) {
+				session.invalidate();
+			}
+		}
+	}
+
+	private static KeyStore loadKeyStore(KeyStoreInstanceType type, String path, String password) throws GeneralSecurityException, IOException {
+		KeyStore keyStore = KeyStore.getInstance(type.name());
+		try (InputStream in = new FileInputStream(path)) {
+			keyStore.load(in, password.toCharArray());
+		}
+		return keyStore;
+	}
+
+	private static long lastModified(String path) {
+		return new File(path).lastModified();
+	}
+
+	private static <T> T find(Object[] managers, Class<T> type) throws GeneralSecurityException {
+		for (Object manager : managers) {
+			if (type.isInstance(manager)) {
+				return type.cast(manager);
+			}
+		}
+		throw new GeneralSecurityException("No " + type.getSimpleName() + " found");
+	}
+
+	private static final class ReloadingKeyManager extends X509ExtendedKeyManager {
+		private volatile X509ExtendedKeyManager delegate;
+
+		@Override
+		public String[] getClientAliases(String keyType, Principal[] issuers) {
+			return delegate.getClientAliases(keyType, issuers);
+		}
+
+		@Override
+		public String chooseClientAlias(String[] keyType, Principal[] issuers, Socket socket) {
+			return delegate.chooseClientAlias(keyType, issuers, socket);
+		}
+
+		@Override
+		public String chooseEngineClientAlias(String[] keyType, Principal[] issuers, SSLEngine engine) {
+			return delegate.chooseEngineClientAlias(keyType, issuers, engine);
+		}
+
+		@Override
+		public String[] getServerAliases(String keyType, Principal[] issuers) {
+			return delegate.getServerAliases(keyType, issuers);
+		}
+
+		@Override
+		public String chooseServerAlias(String keyType, Principal[] issuers, Socket socket) {
+			return delegate.chooseServerAlias(keyType, issuers, socket);
+		}
+
+		@Override
+		public String chooseEngineServerAlias(String keyType, Principal[] issuers, SSLEngine engine) {
+			return delegate.chooseEngineServerAlias(keyType, issuers, engine);
+		}
+
+		@Override
+		public X509Certificate[] getCertificateChain(String alias) {
+			return delegate.getCertificateChain(alias);
+		}
+
+		@Override
+		public PrivateKey getPrivateKey(String alias) {
+			return delegate.getPrivateKey(alias);
+		}
+	}
+
+	private static final class ReloadingTrustManager extends X509ExtendedTrustManager {
+		private volatile X509ExtendedTrustManager delegate;
+
+		@Override
+		public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+			delegate.checkClientTrusted(chain, authType);
+		}
+
+		@Override
+		public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) throws CertificateException {
+			delegate.checkClientTrusted(chain, authType, socket);
+		}
+
+		@Override
+		public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) throws CertificateException {
+			delegate.checkClientTrusted(chain, authType, engine);
+		}
+
+		@Override
+		public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+			delegate.checkServerTrusted(chain, authType);
+		}
+
+		@Override
+		public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) throws CertificateException {
+			delegate.checkServerTrusted(chain, authType, socket);
+		}
+
+		@Override
+		public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) throws CertificateException {
+			delegate.checkServerTrusted(chain, authType, engine);
+		}
+
+		@Override
+		public X509Certificate[] getAcceptedIssuers() {
+			return delegate.getAcceptedIssuers();
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package com.ecwid.consul.transport;
+
+import java.io.FilterInputStream;
+import java.io.InputStream;
+
+/**
+ * Response body passed to the stream converters of {@link HttpTransport#makeGetStreamRequest}, so they can size
+ * their buffers up front.
+ */
+public final class ResponseBodyStream extends FilterInputStream {
+
+	private final long contentLength;
+
+	ResponseBodyStream(InputStream in, long contentLength) {
+		super(in);
+		this.contentLength = contentLength;
+	}
+
+	/**
+	 * @return number of bytes the converter will read, or -1 if unknown (chunked or compressed body)
+	 */
+	public long getContentLength() {
+		return contentLength;
+	}
+}
@@ -0,0 +1,30 @@
+package com.ecwid.consul.transport;
+
+/**
+ * Token bucket which limits the share of retried requests, see {@link RetryPolicy}.
+ */
+final class RetryBudget {
+
+	private final double capacity;
+	private final double ratio;
+
+	private double tokens;
+
+	RetryBudget(double capacity, double ratio) {
+		this.capacity = capacity;
+		this.ratio = ratio;
+		this.tokens = capacity;
+	}
+
+	synchronized void onRequest() {
+		tokens = Math.min(capacity, tokens + ratio);
+	}
+
+	synchronized boolean tryAcquire() {
+		if (tokens >= 1) {
+			tokens -= 1;
+			return true;
+		}
+		return false;
+	}
+}
@@ -0,0 +1,170 @@
+package com.ecwid.consul.transport;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry settings of the default blocking transports, see {@link HttpTransportConfig.Builder#setRetryPolicy(RetryPolicy)}.
+ * <p>
+ * GET and DELETE requests are retried on I/O errors and retryable status codes. PUT requests are retried only if
+ * they are known to be safe to repeat ({@link HttpRequest#isIdempotent()}, e.g. CAS writes or TTL check updates)
+ * and their body can be sent again.
+ * <p>
+ * Backoff is exponential with full jitter: a random delay between 0 and min(maxBackoff, baseBackoff * 2^(retry - 1)).
+ * Retries are limited by a token bucket budget per transport: every request adds {@code budgetRatio} tokens
+ * (up to {@code budgetCapacity}), every retry takes one, so during an outage retries can't multiply the load.
+ */
+public final class RetryPolicy {
+
+	public static final RetryPolicy NONE = builder().setMaxAttempts(1).build();
+
+	public static final RetryPolicy DEFAULT = builder().build();
+
+	private final int maxAttempts;
+	private final long baseBackoff;
+	private final long maxBackoff;
+	private final Set<Integer> retryableStatusCodes;
+	private final double budgetCapacity;
+	private final double budgetRatio;
+
+	private RetryPolicy(Builder builder) {
+		this.maxAttempts = builder.maxAttempts;
+		this.baseBackoff = builder.baseBackoff;
+		this.maxBackoff = builder.maxBackoff;
+		this.retryableStatusCodes = Collections.unmodifiableSet(new HashSet<>(builder.retryableStatusCodes));
+		this.budgetCapacity = builder.budgetCapacity;
+		this.budgetRatio = builder.budgetRatio;
+	}
+
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+
+	public long getBaseBackoff() {
+		return baseBackoff;
+	}
+
+	public long getMaxBackoff() {
+		return maxBackoff;
+	}
+
+	public Set<Integer> getRetryableStatusCodes() {
+		return retryableStatusCodes;
+	}
+
+	public double getBudgetCapacity() {
+		return budgetCapacity;
+	}
+
+	public double getBudgetRatio() {
+		return budgetRatio;
+	}
+
+	/**
+	 * @param retry number of the retry, starting from 1
+	 * @return delay in milliseconds before the retry
+	 */
+	public long getBackoff(int retry) {
+		long ceiling = maxBackoff;
+		int shift = retry - 1;
+		if (shift < 62 && baseBackoff <= (maxBackoff >> shift)) {
+			ceiling = baseBackoff << shift;
+		}
+		return ceiling > 0 ? ThreadLocalRandom.current().nextLong(ceiling + 1) : 0;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		RetryPolicy that = (RetryPolicy) o;
+		return maxAttempts == that.maxAttempts &&
+				baseBackoff == that.baseBackoff &&
+				maxBackoff == that.maxBackoff &&
+				Double.compare(that.budgetCapacity, budgetCapacity) == 0 &&
+				Double.compare(that.budgetRatio, budgetRatio) == 0 &&
+				Objects.equals(retryableStatusCodes, that.retryableStatusCodes);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(maxAttempts, baseBackoff, maxBackoff, retryableStatusCodes, budgetCapacity, budgetRatio);
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	// ---------------------------------------
+	// Builder
+	public static final class Builder {
+		private int maxAttempts = 3;
+		private long baseBackoff = 100; // 100 ms
+		private long maxBackoff = 5 * 1000; // 5 sec
+		private Set<Integer> retryableStatusCodes = new HashSet<>(Arrays.asList(429, 502, 503, 504));
+		private double budgetCapacity = 10;
+		private double budgetRatio = 0.1;
+
+		private Builder() {
+		}
+
+		/**
+		 * @param maxAttempts max number of attempts including the first one, 1 disables retries
+		 */
+		public Builder setMaxAttempts(int maxAttempts) {
+			if (maxAttempts < 1) {
+				throw new IllegalArgumentException("maxAttempts must be positive");
+			}
+			this.maxAttempts = maxAttempts;
+			return this;
+		}
+
+		/**
+		 * @param baseBackoff backoff ceiling of the first retry in milliseconds
+		 */
+		public Builder setBaseBackoff(long baseBackoff) {
+			this.baseBackoff = baseBackoff;
+			return this;
+		}
+
+		/**
+		 * @param maxBackoff max backoff ceiling in milliseconds
+		 */
+		public Builder setMaxBackoff(long maxBackoff) {
+			this.maxBackoff = maxBackoff;
+			return this;
+		}
+
+		/**
+		 * @param retryableStatusCodes responses with these status codes are retried like I/O errors
+		 */
+		public Builder setRetryableStatusCodes(Set<Integer> retryableStatusCodes) {
+			this.retryableStatusCodes = new HashSet<>(retryableStatusCodes);
+			return this;
+		}
+
+		/**
+		 * @param budgetCapacity max number of retries which may be done in a burst
+		 */
+		public Builder setBudgetCapacity(double budgetCapacity) {
+			this.budgetCapacity = budgetCapacity;
+			return this;
+		}
+
+		/**
+		 * @param budgetRatio tokens earned by every request, e.g. 0.1 allows one retry per ten requests in the long run
+		 */
+		public Builder setBudgetRatio(double budgetRatio) {
+			this.budgetRatio = budgetRatio;
+			return this;
+		}
+
+		public RetryPolicy build() {
+			return new RetryPolicy(this);
+		}
+	}
+}
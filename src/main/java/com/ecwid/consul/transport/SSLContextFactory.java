@@ -0,0 +1,49 @@
+package com.ecwid.consul.transport;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds {@link ReloadableSSLContext} instances from {@link TLSConfig}, shared by the blocking and the async transports.
+ * <p>
+ * Contexts are cached by {@link TLSConfig}, so all transports with the same config share the TLS session cache
+ * and resume sessions instead of doing full handshakes. A context is dropped when the last transport using it
+ * releases it, so its key material isn't kept after the transports are closed.
+ */
+final class SSLContextFactory {
+
+	// guarded by SSLContextFactory.class
+	private static final Map<TLSConfig, Entry> CONTEXTS = new HashMap<>();
+
+	private SSLContextFactory() {
+	}
+
+	/**
+	 * Every call must be paired with {@link #release(TLSConfig)} once the context is no longer used
+	 */
+	static synchronized ReloadableSSLContext acquire(TLSConfig tlsConfig) {
+		Entry entry = CONTEXTS.get(tlsConfig);
+		if (entry == null) {
+			entry = new Entry(new ReloadableSSLContext(tlsConfig));
+			CONTEXTS.put(tlsConfig, entry);
+		}
+		entry.references++;
+		return entry.sslContext;
+	}
+
+	static synchronized void release(TLSConfig tlsConfig) {
+		Entry entry = CONTEXTS.get(tlsConfig);
+		if (entry != null && --entry.references == 0) {
+			CONTEXTS.remove(tlsConfig);
+		}
+	}
+
+	private static final class Entry {
+		private final ReloadableSSLContext sslContext;
+		private int references;
+
+		private Entry(ReloadableSSLContext sslContext) {
+			this.sslContext = sslContext;
+		}
+	}
+}
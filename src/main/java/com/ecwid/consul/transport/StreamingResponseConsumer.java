@@ -0,0 +1,127 @@
+package com.ecwid.consul.transport;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.entity.ContentInputStream;
+import org.apache.http.nio.protocol.AbstractAsyncResponseConsumer;
+import org.apache.http.nio.util.SharedInputBuffer;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Passes the response body of the async transport to a stream converter while it's received, instead of buffering
+ * it as a whole. The converter runs on the response executor and reads from a bounded buffer, the I/O dispatcher
+ * stops reading from the connection while the buffer is full.
+ * <p>
+ * The result is completed by the converter thread, after the rest of the body is drained. If the exchange fails
+ * or is cancelled, the converter sees the end of the body early, its result is dropped then.
+ */
+final class StreamingResponseConsumer<T> extends AbstractAsyncResponseConsumer<Void> {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final ConsulResponseHandler<T> responseHandler;
+	private final Executor executor;
+	private final CompletableFuture<HttpResponse<T>> result;
+
+	// set on the I/O dispatcher thread
+	private volatile org.apache.http.HttpResponse response;
+	private volatile SharedInputBuffer buffer;
+	private volatile boolean handlerStarted;
+	private volatile boolean bodyReceived;
+	private volatile boolean aborted;
+
+	StreamingResponseConsumer(ConsulResponseHandler<T> responseHandler, Executor executor, CompletableFuture<HttpResponse<T>> result) {
+		this.responseHandler = responseHandler;
+		this.executor = executor;
+		this.result = result;
+	}
+
+	@Override
+	protected void onResponseReceived(org.apache.http.HttpResponse response) {
+		this.response = response;
+	}
+
+	@Override
+	protected void onEntityEnclosed(HttpEntity entity, ContentType contentType) throws IOException {
+		SharedInputBuffer buffer = new SharedInputBuffer(BUFFER_SIZE);
+		BasicHttpEntity streamedEntity = new BasicHttpEntity();
+		streamedEntity.setContent(new ContentInputStream(buffer));
+		streamedEntity.setContentLength(entity.getContentLength());
+		streamedEntity.setContentType(entity.getContentType());
+		streamedEntity.setContentEncoding(entity.getContentEncoding());
+		response.setEntity(streamedEntity);
+
+		this.buffer = buffer;
+		startHandler();
+	}
+
+	@Override
+	protected void onContentReceived(ContentDecoder decoder, IOControl ioControl) throws IOException {
+		buffer.consumeContent(decoder, ioControl);
+	}
+
+	@Override
+	protected Void buildResult(HttpContext context) throws IOException {
+		bodyReceived = true;
+		if (!handlerStarted) {
+			// no body
+			startHandler();
+		}
+		return null;
+	}
+
+	@Override
+	protected void releaseResources() {
+		SharedInputBuffer buffer = this.buffer;
+		if (buffer != null && !bodyReceived) {
+			// failed or cancelled, wakes up the converter
+			aborted = true;
+			buffer.shutdown();
+		}
+	}
+
+	private void startHandler() throws IOException {
+		handlerStarted = true;
+		try {
+			executor.execute(this::handleResponse);
+		} catch (RejectedExecutionException e) {
+			throw new IOException(e);
+		}
+	}
+
+	private void handleResponse() {
+		HttpResponse<T> httpResponse = null;
+		Exception error = null;
+		try {
+			httpResponse = responseHandler.handleResponse(response);
+		} catch (IOException | RuntimeException e) {
+			error = e;
+		} finally {
+			// waits for the unread rest of the body, so the connection can be reused
+			EntityUtils.consumeQuietly(response.getEntity());
+		}
+
+		// a truncated body must not pass as a complete response
+		Exception failure = getException();
+		if (failure != null) {
+			result.completeExceptionally(new TransportException(failure));
+		} else if (aborted) {
+			result.cancel(false);
+		} else if (error instanceof IOException) {
+			result.completeExceptionally(new TransportException(error));
+		} else if (error != null) {
+			result.completeExceptionally(error);
+		} else {
+			result.complete(httpResponse);
+		}
+	}
+}
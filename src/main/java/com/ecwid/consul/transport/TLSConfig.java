@@ -1,5 +1,7 @@
 package com.ecwid.consul.transport;
 
+import java.util.Objects;
+
 public final class TLSConfig {
 
 	public enum KeyStoreInstanceType {
@@ -40,4 +42,21 @@ public final class TLSConfig {
 	public String getKeyStorePassword() {
 		return keyStorePassword;
 	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		TLSConfig that = (TLSConfig) o;
+		return keyStoreInstanceType == that.keyStoreInstanceType &&
+				Objects.equals(certificatePath, that.certificatePath) &&
+				Objects.equals(certificatePassword, that.certificatePassword) &&
+				Objects.equals(keyStorePath, that.keyStorePath) &&
+				Objects.equals(keyStorePassword, that.keyStorePassword);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(keyStoreInstanceType, certificatePath, certificatePassword, keyStorePath, keyStorePassword);
+	}
 }
@@ -0,0 +1,79 @@
+package com.ecwid.consul.transport;
+
+/**
+ * Receives measurements from the default transports, register it with
+ * {@link HttpTransportConfig.Builder#setMetricsListener(TransportMetricsListener)}.
+ * <p>
+ * Methods are called on the request threads (closed connections also on the connection evictor thread),
+ * implementations must be thread safe and cheap (e.g. record into a histogram or a counter). All methods do nothing
+ * by default.
+ */
+public interface TransportMetricsListener {
+
+	TransportMetricsListener NOOP = new TransportMetricsListener() {
+	};
+
+	/**
+	 * Called once a response is received and converted.
+	 *
+	 * @param method        HTTP method
+	 * @param endpoint      URL path without query parameters, e.g. /v1/kv/config/app (may contain keys or service names)
+	 * @param blockingQuery true if the request was served by the blocking query pool
+	 * @param statusCode    HTTP status code
+	 * @param latencyNanos  time from the request start till the response is converted, including the pool lease
+	 * @param responseBytes number of response body bytes read from the connection
+	 */
+	default void onRequestCompleted(String method, String endpoint, boolean blockingQuery, int statusCode, long latencyNanos, long responseBytes) {
+	}
+
+	/**
+	 * Called when a request fails with an I/O error, no response is available.
+	 */
+	default void onRequestFailed(String method, String endpoint, boolean blockingQuery, long latencyNanos, Exception e) {
+	}
+
+	/**
+	 * Called before a request is retried, after {@link #onRequestCompleted} or {@link #onRequestFailed} of the previous attempt.
+	 *
+	 * @param retry        number of the retry, starting from 1
+	 * @param backoffNanos delay before the retry
+	 */
+	default void onRequestRetried(String method, String endpoint, boolean blockingQuery, int retry, long backoffNanos) {
+	}
+
+	/**
+	 * Called after every connection lease from a pool, successful or timed out.
+	 *
+	 * @param blockingQuery true for the blocking query pool
+	 * @param waitNanos     time spent waiting for a free connection
+	 */
+	default void onConnectionLeased(boolean blockingQuery, long waitNanos) {
+	}
+
+	/**
+	 * Called when a new connection to an agent is established (i.e. nothing reusable was in the pool).
+	 *
+	 * @param blockingQuery true for the blocking query pool
+	 */
+	default void onConnectionCreated(boolean blockingQuery) {
+	}
+
+	/**
+	 * Called when a pooled connection is closed: expired, idle for too long, not reusable after a response,
+	 * or closed with the pool. A close rate close to {@link #onConnectionCreated} means connections are not reused.
+	 *
+	 * @param blockingQuery true for the blocking query pool
+	 */
+	default void onConnectionClosed(boolean blockingQuery) {
+	}
+
+	/**
+	 * Called when modified key store files of a {@link TLSConfig} can't be loaded. The current certificates stay
+	 * in use and the reload is retried before a later handshake, at most once per second.
+	 *
+	 * @param certificatePath client certificate of the TLS config
+	 * @param e               cause, e.g. a half written file or a wrong password
+	 */
+	default void onCertificateReloadFailed(String certificatePath, Exception e) {
+	}
+}
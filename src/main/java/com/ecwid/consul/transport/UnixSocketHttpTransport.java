@@ -0,0 +1,142 @@
+package com.ecwid.consul.transport;
+
+import org.apache.http.HttpHost;
+import org.apache.http.client.HttpClient;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.protocol.HttpContext;
+import org.newsclub.net.unix.AFUNIXSocket;
+import org.newsclub.net.unix.AFUNIXSocketAddress;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * HTTP client talking to the local agent over a unix domain socket (the agent {@code addresses.http} setting
+ * with the {@code unix://} scheme). This class is thread safe.
+ * <p>
+ * The host and port of request URLs are ignored, every connection goes to the socket file. Requires
+ * junixsocket ({@code com.kohlschutter.junixsocket:junixsocket-core}) on the classpath.
+ */
+public final class UnixSocketHttpTransport extends AbstractHttpTransport implements Closeable {
+
+	// connections never leave the host, so skip the DNS lookup of the URL host
+	private static final DnsResolver LOOPBACK_RESOLVER = host -> new InetAddress[]{InetAddress.getLoopbackAddress()};
+
+	private final HttpClient httpClient;
+	private final HttpClient blockingQueryHttpClient;
+
+	private final InstrumentedConnectionManager connectionManager;
+	private final InstrumentedConnectionManager blockingQueryConnectionManager;
+
+	public UnixSocketHttpTransport(Path socketFile) {
+		this(socketFile, HttpTransportConfig.DEFAULT);
+	}
+
+	public UnixSocketHttpTransport(Path socketFile, HttpTransportConfig config) {
+		super(config);
+
+		Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create().
+				register("http", new UnixSocketFactory(socketFile)).
+				build();
+
+		this.connectionManager = new InstrumentedConnectionManager(registry, LOOPBACK_RESOLVER, config, false);
+		this.blockingQueryConnectionManager = new InstrumentedConnectionManager(registry, LOOPBACK_RESOLVER, config, true);
+
+		this.httpClient = createHttpClientBuilder(connectionManager,
+				config.getMaxConnections(), config.getMaxPerRouteConnections(),
+				config, config.getReadTimeout()).
+				build();
+
+		this.blockingQueryHttpClient = createHttpClientBuilder(blockingQueryConnectionManager,
+				config.getBlockingQueryMaxConnections(), config.getBlockingQueryMaxPerRouteConnections(),
+				config, config.getBlockingQueryReadTimeout()).
+				build();
+	}
+
+	/**
+	 * @return snapshot of the short request pool
+	 */
+	public ConnectionPoolStats getPoolStats() {
+		return connectionManager.getPoolStats();
+	}
+
+	/**
+	 * @return snapshot of the blocking query pool
+	 */
+	public ConnectionPoolStats getBlockingQueryPoolStats() {
+		return blockingQueryConnectionManager.getPoolStats();
+	}
+
+	/**
+	 * @return snapshot of the short request pool per agent
+	 */
+	public Map<String, ConnectionPoolStats> getPoolStatsByAgent() {
+		return connectionManager.getPoolStatsByAgent();
+	}
+
+	/**
+	 * @return snapshot of the blocking query pool per agent
+	 */
+	public Map<String, ConnectionPoolStats> getBlockingQueryPoolStatsByAgent() {
+		return blockingQueryConnectionManager.getPoolStatsByAgent();
+	}
+
+	/**
+	 * Closes the connection pools
+	 */
+	@Override
+	public void close() {
+		connectionManager.shutdown();
+		blockingQueryConnectionManager.shutdown();
+	}
+
+	@Override
+	protected HttpClient getHttpClient() {
+		return httpClient;
+	}
+
+	@Override
+	protected HttpClient getBlockingQueryHttpClient() {
+		return blockingQueryHttpClient;
+	}
+
+	private static final class UnixSocketFactory implements ConnectionSocketFactory {
+
+		private final Path socketFile;
+
+		private UnixSocketFactory(Path socketFile) {
+			this.socketFile = socketFile;
+		}
+
+		@Override
+		public Socket createSocket(HttpContext context) throws IOException {
+			return AFUNIXSocket.newInstance();
+		}
+
+		@Override
+		public Socket connectSocket(int connectTimeout, Socket socket, HttpHost host, InetSocketAddress remoteAddress,
+		                            InetSocketAddress localAddress, HttpContext context) throws IOException {
+			Socket sock = socket != null ? socket : createSocket(context);
+			try {
+				sock.connect(AFUNIXSocketAddress.of(socketFile), connectTimeout);
+			} catch (SocketTimeoutException e) {
+				sock.close();
+				throw new ConnectTimeoutException(e, host, remoteAddress.getAddress());
+			} catch (IOException e) {
+				sock.close();
+				throw e;
+			}
+			return sock;
+		}
+	}
+}
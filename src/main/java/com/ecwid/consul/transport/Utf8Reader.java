@@ -0,0 +1,159 @@
+package com.ecwid.consul.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+/**
+ * UTF-8 decoder working directly on the byte buffer, with a fast path for ASCII (most of Consul JSON).
+ * Cheaper than {@link java.io.InputStreamReader}, which goes through a {@link java.nio.charset.CharsetDecoder}
+ * and NIO buffers for every read. Malformed input is replaced with U+FFFD. Not thread safe.
+ */
+final class Utf8Reader extends Reader {
+
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+	private static final char REPLACEMENT = '\uFFFD';
+
+	private final InputStream in;
+	private final byte[] buffer;
+	private int position;
+	private int limit;
+	private boolean eof;
+
+	// second half of a surrogate pair which didn't fit into the caller buffer, -1 if none
+	private int pendingChar = -1;
+
+	Utf8Reader(InputStream in) {
+		this(in, DEFAULT_BUFFER_SIZE);
+	}
+
+	Utf8Reader(InputStream in, int bufferSize) {
+		this.in = in;
+		this.buffer = new byte[Math.max(bufferSize, 4)];
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+
+		int n = 0;
+		if (pendingChar != -1) {
+			cbuf[off + n++] = (char) pendingChar;
+			pendingChar = -1;
+		}
+
+		byte[] buf = buffer;
+		while (n < len) {
+			if (position == limit) {
+				// never block for more input once there is something to return
+				if (n > 0 || !fill(1)) {
+					break;
+				}
+			}
+
+			int b = buf[position];
+			if (b >= 0) {
+				// ASCII run
+				int end = position + Math.min(limit - position, len - n);
+				int p = position;
+				while (p < end && (b = buf[p]) >= 0) {
+					cbuf[off + n++] = (char) b;
+					p++;
+				}
+				position = p;
+				continue;
+			}
+
+			int lead = b & 0xFF;
+			int needed;
+			int codePoint;
+			int min;
+			if (lead >= 0xC2 && lead <= 0xDF) {
+				needed = 1;
+				codePoint = lead & 0x1F;
+				min = 0x80;
+			} else if (lead >= 0xE0 && lead <= 0xEF) {
+				needed = 2;
+				codePoint = lead & 0x0F;
+				min = 0x800;
+			} else if (lead >= 0xF0 && lead <= 0xF4) {
+				needed = 3;
+				codePoint = lead & 0x07;
+				min = 0x10000;
+			} else {
+				cbuf[off + n++] = REPLACEMENT;
+				position++;
+				continue;
+			}
+
+			if (limit - position <= needed) {
+				if (n > 0) {
+					break;
+				}
+				fill(needed + 1);
+			}
+
+			int available = limit - position;
+			int i = 1;
+			for (; i <= needed; i++) {
+				if (i >= available || (buf[position + i] & 0xC0) != 0x80) {
+					break;
+				}
+				codePoint = (codePoint << 6) | (buf[position + i] & 0x3F);
+			}
+			if (i <= needed) {
+				// truncated sequence, skip the lead byte and the valid continuation bytes
+				cbuf[off + n++] = REPLACEMENT;
+				position += i;
+				continue;
+			}
+			position += needed + 1;
+
+			if (codePoint < min || codePoint > Character.MAX_CODE_POINT
+					|| (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+				cbuf[off + n++] = REPLACEMENT;
+			} else if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+				cbuf[off + n++] = (char) codePoint;
+			} else {
+				cbuf[off + n++] = Character.highSurrogate(codePoint);
+				if (n < len) {
+					cbuf[off + n++] = Character.lowSurrogate(codePoint);
+				} else {
+					pendingChar = Character.lowSurrogate(codePoint);
+				}
+			}
+		}
+
+		return n == 0 ? -1 : n;
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+
+	/**
+	 * Moves the unread bytes to the buffer start and reads until at least {@code count} bytes are available.
+	 *
+	 * @return false if the stream ended before that
+	 */
+	private boolean fill(int count) throws IOException {
+		if (position > 0) {
+			System.arraycopy(buffer, position, buffer, 0, limit - position);
+			limit -= position;
+			position = 0;
+		}
+
+		while (limit < count && !eof) {
+			int read = in.read(buffer, limit, buffer.length - limit);
+			if (read == -1) {
+				eof = true;
+			} else {
+				limit += read;
+			}
+		}
+		return limit >= count;
+	}
+}
@@ -0,0 +1,73 @@
+package com.ecwid.consul.v1;
+
+/**
+ * Health and latency state of one Consul agent, shared by all requests of a {@link ConsulRawClient}.
+ * Updates are racy by design: a lost EWMA sample doesn't matter, the state is only used to order agents.
+ */
+final class AgentEndpoint {
+
+	// weight of the newest latency sample
+	private static final double EWMA_ALPHA = 0.2;
+
+	private static final long MIN_BACKOFF = 1000L * 1000 * 1000; // 1 sec
+	private static final long MAX_BACKOFF = 30L * 1000 * 1000 * 1000; // 30 sec
+
+	private final String address;
+
+	private volatile double latencyEwma;
+	private volatile int consecutiveFailures;
+	private volatile long retryAt;
+
+	AgentEndpoint(String address) {
+		this.address = address;
+	}
+
+	String getAddress() {
+		return address;
+	}
+
+	/**
+	 * @param latencyNanos request latency, or -1 if it shouldn't be taken into account (e.g. blocking queries)
+	 */
+	void onSuccess(long latencyNanos) {
+		consecutiveFailures = 0;
+		if (latencyNanos >= 0) {
+			double ewma = latencyEwma;
+			latencyEwma = ewma == 0 ? latencyNanos : ewma + EWMA_ALPHA * (latencyNanos - ewma);
+		}
+	}
+
+	void onFailure(long now) {
+		int failures = consecutiveFailures + 1;
+		consecutiveFailures = failures;
+		retryAt = now + Math.min(MIN_BACKOFF << Math.min(failures - 1, 5), MAX_BACKOFF);
+	}
+
+	/**
+	 * @return false while the agent is backing off after a failure
+	 */
+	boolean isAvailable(long now) {
+		return consecutiveFailures == 0 || now - retryAt >= 0;
+	}
+
+	double getLatencyEwma() {
+		return latencyEwma;
+	}
+
+	int getConsecutiveFailures() {
+		return consecutiveFailures;
+	}
+
+	long getRetryAt() {
+		return retryAt;
+	}
+
+	@Override
+	public String toString() {
+		return "AgentEndpoint{" +
+			"address='" + address + '\'' +
+			", latencyEwma=" + latencyEwma +
+			", consecutiveFailures=" + consecutiveFailures +
+			'}';
+	}
+}
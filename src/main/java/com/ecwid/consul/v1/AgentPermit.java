@@ -0,0 +1,100 @@
+package com.ecwid.consul.v1;
+
+import com.ecwid.consul.ConsulException;
+import com.ecwid.consul.transport.HttpRequest;
+import com.ecwid.consul.transport.HttpResponse;
+
+/**
+ * Permission to send one request to an agent. Exactly one of {@link #onResponse}, {@link #onFailure} or
+ * {@link #onCancel} must be called for every granted permit, it feeds the agent state, the circuit breaker
+ * and the concurrency limiter.
+ */
+final class AgentPermit {
+
+	enum Rejection {
+		CIRCUIT_BREAKER_OPEN, CONCURRENCY_LIMIT_EXCEEDED
+	}
+
+	private final AgentEndpoint agent;
+	private final CircuitBreaker circuitBreaker;
+	private final ConcurrencyLimiter concurrencyLimiter;
+	private final Rejection rejection;
+	private final long start;
+
+	AgentPermit(AgentEndpoint agent, CircuitBreaker circuitBreaker, ConcurrencyLimiter concurrencyLimiter) {
+		this.agent = agent;
+		this.circuitBreaker = circuitBreaker;
+		this.concurrencyLimiter = concurrencyLimiter;
+		this.rejection = null;
+		this.start = System.nanoTime();
+	}
+
+	private AgentPermit(Rejection rejection) {
+		this.agent = null;
+		this.circuitBreaker = null;
+		this.concurrencyLimiter = null;
+		this.rejection = rejection;
+		this.start = 0;
+	}
+
+	static AgentPermit rejected(Rejection rejection) {
+		return new AgentPermit(rejection);
+	}
+
+	boolean isRejected() {
+		return rejection != null;
+	}
+
+	static ConsulException createRejectionException(Rejection rejection, String endpoint) {
+		if (rejection == Rejection.CIRCUIT_BREAKER_OPEN) {
+			return new CircuitBreakerOpenException(endpoint);
+		}
+		return new ConcurrencyLimitExceededException(endpoint);
+	}
+
+	Rejection getRejection() {
+		return rejection;
+	}
+
+	/**
+	 * @return true if the agent is healthy, i.e. the response is not 5xx
+	 */
+	boolean onResponse(HttpRequest request, HttpResponse<?> response) {
+		if (response != null && response.getStatusCode() >= 500) {
+			onFailure();
+			return false;
+		}
+
+		long now = System.nanoTime();
+		// blocking queries are slow by design, they say nothing about the agent latency
+		long latency = request.isBlockingQuery() ? -1 : now - start;
+		agent.onSuccess(latency);
+		if (circuitBreaker != null) {
+			circuitBreaker.onSuccess(latency, now);
+		}
+		if (concurrencyLimiter != null) {
+			concurrencyLimiter.onSuccess(latency);
+		}
+		return true;
+	}
+
+	void onFailure() {
+		long now = System.nanoTime();
+		agent.onFailure(now);
+		if (circuitBreaker != null) {
+			circuitBreaker.onFailure(now);
+		}
+		if (concurrencyLimiter != null) {
+			concurrencyLimiter.onFailure();
+		}
+	}
+
+	void onCancel() {
+		if (circuitBreaker != null) {
+			circuitBreaker.onCancel();
+		}
+		if (concurrencyLimiter != null) {
+			concurrencyLimiter.onCancel();
+		}
+	}
+}
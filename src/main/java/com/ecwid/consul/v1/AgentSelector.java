@@ -0,0 +1,50 @@
+package com.ecwid.consul.v1;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Orders agents for a request: available agents by EWMA latency first, then agents in backoff by the time they
+ * may be retried. Agents with equal state keep the configured order, so the first agent is preferred at start.
+ */
+final class AgentSelector {
+
+	private final List<AgentEndpoint> agents;
+
+	AgentSelector(List<AgentEndpoint> agents) {
+		if (agents.isEmpty()) {
+			throw new IllegalArgumentException("At least one agent is required");
+		}
+		this.agents = Collections.unmodifiableList(new ArrayList<>(agents));
+	}
+
+	List<AgentEndpoint> getAgents() {
+		return agents;
+	}
+
+	List<AgentEndpoint> select() {
+		if (agents.size() == 1) {
+			return agents;
+		}
+
+		long now = System.nanoTime();
+		List<AgentEndpoint> available = new ArrayList<>(agents.size());
+		List<AgentEndpoint> backingOff = new ArrayList<>();
+		for (AgentEndpoint agent : agents) {
+			if (agent.isAvailable(now)) {
+				available.add(agent);
+			} else {
+				backingOff.add(agent);
+			}
+		}
+
+		// List.sort is stable
+		available.sort(Comparator.comparingDouble(AgentEndpoint::getLatencyEwma));
+		backingOff.sort((a1, a2) -> Long.signum(a1.getRetryAt() - a2.getRetryAt()));
+
+		available.addAll(backingOff);
+		return available;
+	}
+}
@@ -0,0 +1,809 @@
+package com.ecwid.consul.v1;
+
+import com.ecwid.consul.transport.ContentSource;
+import com.ecwid.consul.transport.TLSConfig;
+import com.ecwid.consul.v1.acl.AsyncAclClient;
+import com.ecwid.consul.v1.acl.AsyncAclConsulClient;
+import com.ecwid.consul.v1.acl.model.Acl;
+import com.ecwid.consul.v1.acl.model.NewAcl;
+import com.ecwid.consul.v1.acl.model.UpdateAcl;
+import com.ecwid.consul.v1.agent.AsyncAgentClient;
+import com.ecwid.consul.v1.agent.AsyncAgentConsulClient;
+import com.ecwid.consul.v1.agent.model.*;
+import com.ecwid.consul.v1.catalog.*;
+import com.ecwid.consul.v1.catalog.model.*;
+import com.ecwid.consul.v1.coordinate.AsyncCoordinateClient;
+import com.ecwid.consul.v1.coordinate.AsyncCoordinateConsulClient;
+import com.ecwid.consul.v1.coordinate.model.Datacenter;
+import com.ecwid.consul.v1.event.AsyncEventClient;
+import com.ecwid.consul.v1.event.AsyncEventConsulClient;
+import com.ecwid.consul.v1.event.EventListRequest;
+import com.ecwid.consul.v1.event.model.Event;
+import com.ecwid.consul.v1.event.model.EventParams;
+import com.ecwid.consul.v1.health.AsyncHealthClient;
+import com.ecwid.consul.v1.health.AsyncHealthConsulClient;
+import com.ecwid.consul.v1.health.HealthChecksForServiceRequest;
+import com.ecwid.consul.v1.health.HealthServicesRequest;
+import com.ecwid.consul.v1.health.model.HealthService;
+import com.ecwid.consul.v1.kv.AsyncKeyValueClient;
+import com.ecwid.consul.v1.kv.AsyncKeyValueConsulClient;
+import com.ecwid.consul.v1.kv.model.GetBinaryValue;
+import com.ecwid.consul.v1.kv.model.GetValue;
+import com.ecwid.consul.v1.kv.model.PutParams;
+import com.ecwid.consul.v1.query.AsyncQueryClient;
+import com.ecwid.consul.v1.query.AsyncQueryConsulClient;
+import com.ecwid.consul.v1.query.QueryExecutionRequest;
+import com.ecwid.consul.v1.query.model.QueryExecution;
+import com.ecwid.consul.v1.session.AsyncSessionClient;
+import com.ecwid.consul.v1.session.AsyncSessionConsulClient;
+import com.ecwid.consul.v1.session.model.NewSession;
+import com.ecwid.consul.v1.session.model.Session;
+import com.ecwid.consul.v1.status.AsyncStatusClient;
+import com.ecwid.consul.v1.status.AsyncStatusConsulClient;
+import com.ecwid.consul.v1.txn.AsyncTxnClient;
+import com.ecwid.consul.v1.txn.AsyncTxnConsulClient;
+import com.ecwid.consul.v1.txn.model.TxnOperation;
+import com.ecwid.consul.v1.txn.model.TxnResponse;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Non-blocking counterpart of {@link ConsulClient}: every method returns immediately with a future of the response.
+ * If you like to use more specific clients, please look at Async*Client classes (AsyncAclClient, AsyncAgentClient etc.)
+ * <p>
+ * Methods deprecated in the blocking clients have no async counterpart, use the *Request based methods instead.
+ * Compose the futures to issue independent calls in parallel, e.g.
+ * <pre>{@code
+ * CompletableFuture<Response<GetValue>> config = client.getKVValue("app/config");
+ * CompletableFuture<Response<List<HealthService>>> backends = client.getHealthServices("backend", request);
+ * CompletableFuture.allOf(config, backends).join();
+ * }</pre>
+ */
+public class AsyncConsulClient implements
+		AsyncAclClient,
+		AsyncAgentClient,
+		AsyncCatalogClient,
+		AsyncCoordinateClient,
+		AsyncEventClient,
+		AsyncHealthClient,
+		AsyncKeyValueClient,
+		AsyncQueryClient,
+		AsyncSessionClient,
+		AsyncStatusClient,
+		AsyncTxnClient {
+
+	private final AsyncAclClient aclClient;
+	private final AsyncAgentClient agentClient;
+	private final AsyncCatalogClient catalogClient;
+	private final AsyncCoordinateClient coordinateClient;
+	private final AsyncEventClient eventClient;
+	private final AsyncHealthClient healthClient;
+	private final AsyncKeyValueClient keyValueClient;
+	private final AsyncQueryClient queryClient;
+	private final AsyncSessionClient sessionClient;
+	private final AsyncStatusClient statusClient;
+	private final AsyncTxnClient txnClient;
+
+	public AsyncConsulClient(ConsulRawClient rawClient) {
+		aclClient = new AsyncAclConsulClient(rawClient);
+		agentClient = new AsyncAgentConsulClient(rawClient);
+		catalogClient = new AsyncCatalogConsulClient(rawClient);
+		coordinateClient = new AsyncCoordinateConsulClient(rawClient);
+		eventClient = new AsyncEventConsulClient(rawClient);
+		healthClient = new AsyncHealthConsulClient(rawClient);
+		keyValueClient = new AsyncKeyValueConsulClient(rawClient);
+		queryClient = new AsyncQueryConsulClient(rawClient);
+		sessionClient = new AsyncSessionConsulClient(rawClient);
+		statusClient = new AsyncStatusConsulClient(rawClient);
+		txnClient = new AsyncTxnConsulClient(rawClient);
+	}
+
+	/**
+	 * Consul client will connect to local consul agent on
+	 * 'http://localhost:8500'
+	 */
+	public AsyncConsulClient() {
+		this(new ConsulRawClient());
+	}
+
+	/**
+	 * Consul client will connect to local consul agent on
+	 * 'http://localhost:8500'
+	 *
+	 * @param tlsConfig TLS configuration
+	 */
+	public AsyncConsulClient(TLSConfig tlsConfig) {
+		this(new ConsulRawClient(tlsConfig));
+	}
+
+	/**
+	 * Connect to consul agent on specific address and default port (8500)
+	 *
+	 * @param agentHost Hostname or IP address of consul agent. You can specify scheme
+	 *                  (HTTP/HTTPS) in address. If there is no scheme in address -
+	 *                  client will use HTTP.
+	 */
+	public AsyncConsulClient(String agentHost) {
+		this(new ConsulRawClient(agentHost));
+	}
+
+	/**
+	 * Connect to consul agent on specific address and default port (8500)
+	 *
+	 * @param agentHost Hostname or IP address of consul agent. You can specify scheme
+	 *                  (HTTP/HTTPS) in address. If there is no scheme in address -
+	 *                  client will use HTTP.
+	 * @param tlsConfig TLS configuration
+	 */
+	public AsyncConsulClient(String agentHost, TLSConfig tlsConfig) {
+		this(new ConsulRawClient(agentHost, tlsConfig));
+	}
+
+	/**
+	 * Connect to consul agent on specific address and port
+	 *
+	 * @param agentHost Hostname or IP address of consul agent. You can specify scheme
+	 *                  (HTTP/HTTPS) in address. If there is no scheme in address -
+	 *                  client will use HTTP.
+	 * @param agentPort Consul agent port
+	 */
+	public AsyncConsulClient(String agentHost, int agentPort) {
+		this(new ConsulRawClient(agentHost, agentPort));
+	}
+
+	/**
+	 * Connect to consul agent on specific address and port
+	 *
+	 * @param agentHost Hostname or IP address of consul agent. You can specify scheme
+	 *                  (HTTP/HTTPS) in address. If there is no scheme in address -
+	 *                  client will use HTTP.
+	 * @param agentPort Consul agent port
+	 * @param tlsConfig TLS configuration
+	 */
+	public AsyncConsulClient(String agentHost, int agentPort, TLSConfig tlsConfig) {
+		this(new ConsulRawClient(agentHost, agentPort, tlsConfig));
+	}
+
+	// -------------------------------------------------------------------------------------------
+	// ACL
+
+	@Override
+	public CompletableFuture<Response<String>> aclCreate(NewAcl newAcl, String token) {
+		return aclClient.aclCreate(newAcl, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> aclUpdate(UpdateAcl updateAcl, String token) {
+		return aclClient.aclUpdate(updateAcl, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> aclDestroy(String aclId, String token) {
+		return aclClient.aclDestroy(aclId, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<Acl>> getAcl(String id) {
+		return aclClient.getAcl(id);
+	}
+
+	@Override
+	public CompletableFuture<Response<String>> aclClone(String aclId, String token) {
+		return aclClient.aclClone(aclId, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<Acl>>> getAclList(String token) {
+		return aclClient.getAclList(token);
+	}
+
+	// -------------------------------------------------------------------------------------------
+	// Agent
+
+	@Override
+	public CompletableFuture<Response<Map<String, Check>>> getAgentChecks() {
+		return agentClient.getAgentChecks();
+	}
+
+	@Override
+	public CompletableFuture<Response<Map<String, Service>>> getAgentServices() {
+		return agentClient.getAgentServices();
+	}
+
+	@Override
+	public CompletableFuture<Response<List<Member>>> getAgentMembers() {
+		return agentClient.getAgentMembers();
+	}
+
+	@Override
+	public CompletableFuture<Response<Self>> getAgentSelf() {
+		return agentClient.getAgentSelf();
+	}
+	
+	@Override
+	public CompletableFuture<Response<Self>> getAgentSelf(String token) {
+		return agentClient.getAgentSelf(token);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentSetMaintenance(boolean maintenanceEnabled) {
+		return agentClient.agentSetMaintenance(maintenanceEnabled);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentSetMaintenance(boolean maintenanceEnabled, String reason) {
+		return agentClient.agentSetMaintenance(maintenanceEnabled, reason);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentJoin(String address, boolean wan) {
+		return agentClient.agentJoin(address, wan);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentForceLeave(String node) {
+		return agentClient.agentForceLeave(node);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckRegister(NewCheck newCheck) {
+		return agentClient.agentCheckRegister(newCheck);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckRegister(NewCheck newCheck, String token) {
+		return agentClient.agentCheckRegister(newCheck, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckDeregister(String checkId) {
+		return agentClient.agentCheckDeregister(checkId);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckDeregister(String checkId, String token) {
+		return agentClient.agentCheckDeregister(checkId, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckPass(String checkId) {
+		return agentClient.agentCheckPass(checkId);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckPass(String checkId, String note) {
+		return agentClient.agentCheckPass(checkId, note);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckPass(String checkId, String note, String token) {
+		return agentClient.agentCheckPass(checkId, note, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckWarn(String checkId) {
+		return agentClient.agentCheckWarn(checkId);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckWarn(String checkId, String note) {
+		return agentClient.agentCheckWarn(checkId, note);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckWarn(String checkId, String note, String token) {
+		return agentClient.agentCheckWarn(checkId, note, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckFail(String checkId) {
+		return agentClient.agentCheckFail(checkId);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckFail(String checkId, String note) {
+		return agentClient.agentCheckFail(checkId, note);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckFail(String checkId, String note, String token) {
+		return agentClient.agentCheckFail(checkId, note, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentServiceRegister(NewService newService) {
+		return agentClient.agentServiceRegister(newService);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentServiceRegister(NewService newService, String token) {
+		return agentClient.agentServiceRegister(newService, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentServiceDeregister(String serviceId) {
+		return agentClient.agentServiceDeregister(serviceId);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentServiceDeregister(String serviceId, String token) {
+		return agentClient.agentServiceDeregister(serviceId, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentServiceSetMaintenance(String serviceId, boolean maintenanceEnabled) {
+		return agentClient.agentServiceSetMaintenance(serviceId, maintenanceEnabled);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentServiceSetMaintenance(String serviceId, boolean maintenanceEnabled, String reason) {
+		return agentClient.agentServiceSetMaintenance(serviceId, maintenanceEnabled, reason);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentReload() {
+		return agentClient.agentReload();
+	}
+
+	// -------------------------------------------------------------------------------------------
+	// Catalog
+
+	@Override
+	public CompletableFuture<Response<Void>> catalogRegister(CatalogRegistration catalogRegistration) {
+		return catalogClient.catalogRegister(catalogRegistration);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> catalogRegister(CatalogRegistration catalogRegistration, String token) {
+		return catalogClient.catalogRegister(catalogRegistration, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> catalogDeregister(CatalogDeregistration catalogDeregistration) {
+		return catalogClient.catalogDeregister(catalogDeregistration);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> catalogDeregister(CatalogDeregistration catalogDeregistration, String token) {
+		return catalogClient.catalogDeregister(catalogDeregistration, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<String>>> getCatalogDatacenters() {
+		return catalogClient.getCatalogDatacenters();
+	}
+
+	@Override
+	public CompletableFuture<Response<List<Node>>> getCatalogNodes(CatalogNodesRequest catalogNodesRequest) {
+		return catalogClient.getCatalogNodes(catalogNodesRequest);
+	}
+
+	@Override
+	public CompletableFuture<Response<Map<String, List<String>>>> getCatalogServices(CatalogServicesRequest catalogServicesRequest) {
+		return catalogClient.getCatalogServices(catalogServicesRequest);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<CatalogService>>> getCatalogService(String serviceName, CatalogServiceRequest catalogServiceRequest) {
+		return catalogClient.getCatalogService(serviceName, catalogServiceRequest);
+	}
+
+	@Override
+	public CompletableFuture<Response<CatalogNode>> getCatalogNode(String nodeName, QueryParams queryParams) {
+		return catalogClient.getCatalogNode(nodeName, queryParams);
+	}
+
+	// -------------------------------------------------------------------------------------------
+	// Coordinates
+
+	@Override
+	public CompletableFuture<Response<List<Datacenter>>> getDatacenters() {
+		return coordinateClient.getDatacenters();
+	}
+
+	@Override
+	public CompletableFuture<Response<List<com.ecwid.consul.v1.coordinate.model.Node>>> getNodes(QueryParams queryParams) {
+		return coordinateClient.getNodes(queryParams);
+	}
+
+	// -------------------------------------------------------------------------------------------
+	// Event
+
+	@Override
+	public CompletableFuture<Response<Event>> eventFire(String event, String payload, EventParams eventParams, QueryParams queryParams) {
+		return eventClient.eventFire(event, payload, eventParams, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<Event>>> eventList(EventListRequest eventListRequest) {
+		return eventClient.eventList(eventListRequest);
+	}
+
+	// -------------------------------------------------------------------------------------------
+	// Health
+
+	@Override
+	public CompletableFuture<Response<List<com.ecwid.consul.v1.health.model.Check>>> getHealthChecksForNode(String nodeName, QueryParams queryParams) {
+		return healthClient.getHealthChecksForNode(nodeName, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<com.ecwid.consul.v1.health.model.Check>>> getHealthChecksForService(String serviceName, HealthChecksForServiceRequest healthChecksForServiceRequest) {
+		return healthClient.getHealthChecksForService(serviceName, healthChecksForServiceRequest);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<HealthService>>> getHealthServices(String serviceName, HealthServicesRequest healthServicesRequest) {
+		return healthClient.getHealthServices(serviceName, healthServicesRequest);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<com.ecwid.consul.v1.health.model.Check>>> getHealthChecksState(QueryParams queryParams) {
+		return healthClient.getHealthChecksState(queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<com.ecwid.consul.v1.health.model.Check>>> getHealthChecksState(com.ecwid.consul.v1.health.model.Check.CheckStatus checkStatus, QueryParams queryParams) {
+		return healthClient.getHealthChecksState(checkStatus, queryParams);
+	}
+
+	// -------------------------------------------------------------------------------------------
+	// KV
+
+	@Override
+	public CompletableFuture<Response<GetValue>> getKVValue(String key) {
+		return keyValueClient.getKVValue(key);
+	}
+
+	@Override
+	public CompletableFuture<Response<GetValue>> getKVValue(String key, String token) {
+		return keyValueClient.getKVValue(key, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<GetValue>> getKVValue(String key, QueryParams queryParams) {
+		return keyValueClient.getKVValue(key, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<GetValue>> getKVValue(String key, String token, QueryParams queryParams) {
+		return keyValueClient.getKVValue(key, token, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<GetBinaryValue>> getKVBinaryValue(String key) {
+		return keyValueClient.getKVBinaryValue(key);
+	}
+
+	@Override
+	public CompletableFuture<Response<GetBinaryValue>> getKVBinaryValue(String key, String token) {
+		return keyValueClient.getKVBinaryValue(key, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<GetBinaryValue>> getKVBinaryValue(String key, QueryParams queryParams) {
+		return keyValueClient.getKVBinaryValue(key, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<GetBinaryValue>> getKVBinaryValue(String key, String token, QueryParams queryParams) {
+		return keyValueClient.getKVBinaryValue(key, token, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<byte[]>> getKVRawValue(String key) {
+		return keyValueClient.getKVRawValue(key);
+	}
+
+	@Override
+	public CompletableFuture<Response<byte[]>> getKVRawValue(String key, String token) {
+		return keyValueClient.getKVRawValue(key, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<byte[]>> getKVRawValue(String key, QueryParams queryParams) {
+		return keyValueClient.getKVRawValue(key, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<byte[]>> getKVRawValue(String key, String token, QueryParams queryParams) {
+		return keyValueClient.getKVRawValue(key, token, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Long>> getKVRawValue(String key, OutputStream out, String token, QueryParams queryParams) {
+		return keyValueClient.getKVRawValue(key, out, token, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<GetValue>>> getKVValues(String keyPrefix) {
+		return keyValueClient.getKVValues(keyPrefix);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<GetValue>>> getKVValues(String keyPrefix, String token) {
+		return keyValueClient.getKVValues(keyPrefix, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<GetValue>>> getKVValues(String keyPrefix, QueryParams queryParams) {
+		return keyValueClient.getKVValues(keyPrefix, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<GetValue>>> getKVValues(String keyPrefix, String token, QueryParams queryParams) {
+		return keyValueClient.getKVValues(keyPrefix, token, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Long>> getKVValues(String keyPrefix, String token, QueryParams queryParams, Consumer<GetValue> consumer) {
+		return keyValueClient.getKVValues(keyPrefix, token, queryParams, consumer);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<GetBinaryValue>>> getKVBinaryValues(String keyPrefix) {
+		return keyValueClient.getKVBinaryValues(keyPrefix);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<GetBinaryValue>>> getKVBinaryValues(String keyPrefix, String token) {
+		return keyValueClient.getKVBinaryValues(keyPrefix, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<GetBinaryValue>>> getKVBinaryValues(String keyPrefix, QueryParams queryParams) {
+		return keyValueClient.getKVBinaryValues(keyPrefix, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<GetBinaryValue>>> getKVBinaryValues(String keyPrefix, String token, QueryParams queryParams) {
+		return keyValueClient.getKVBinaryValues(keyPrefix, token, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Long>> getKVBinaryValues(String keyPrefix, String token, QueryParams queryParams, Consumer<GetBinaryValue> consumer) {
+		return keyValueClient.getKVBinaryValues(keyPrefix, token, queryParams, consumer);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<String>>> getKVKeysOnly(String keyPrefix) {
+		return keyValueClient.getKVKeysOnly(keyPrefix);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<String>>> getKVKeysOnly(String keyPrefix, String separator, String token) {
+		return keyValueClient.getKVKeysOnly(keyPrefix, separator, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<String>>> getKVKeysOnly(String keyPrefix, QueryParams queryParams) {
+		return keyValueClient.getKVKeysOnly(keyPrefix, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<String>>> getKVKeysOnly(String keyPrefix, String separator, String token, QueryParams queryParams) {
+		return keyValueClient.getKVKeysOnly(keyPrefix, separator, token, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVValue(String key, String value) {
+		return keyValueClient.setKVValue(key, value);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVValue(String key, String value, PutParams putParams) {
+		return keyValueClient.setKVValue(key, value, putParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVValue(String key, String value, String token, PutParams putParams) {
+		return keyValueClient.setKVValue(key, value, token, putParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVValue(String key, String value, QueryParams queryParams) {
+		return keyValueClient.setKVValue(key, value, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVValue(String key, String value, PutParams putParams, QueryParams queryParams) {
+		return keyValueClient.setKVValue(key, value, putParams, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVValue(String key, String value, String token, PutParams putParams, QueryParams queryParams) {
+		return keyValueClient.setKVValue(key, value, token, putParams, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, byte[] value) {
+		return keyValueClient.setKVBinaryValue(key, value);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, byte[] value, PutParams putParams) {
+		return keyValueClient.setKVBinaryValue(key, value, putParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, byte[] value, String token, PutParams putParams) {
+		return keyValueClient.setKVBinaryValue(key, value, token, putParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, byte[] value, QueryParams queryParams) {
+		return keyValueClient.setKVBinaryValue(key, value, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, byte[] value, PutParams putParams, QueryParams queryParams) {
+		return keyValueClient.setKVBinaryValue(key, value, putParams, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, byte[] value, String token, PutParams putParams, QueryParams queryParams) {
+		return keyValueClient.setKVBinaryValue(key, value, token, putParams, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, ContentSource value) {
+		return keyValueClient.setKVBinaryValue(key, value);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, ContentSource value, String token, PutParams putParams, QueryParams queryParams) {
+		return keyValueClient.setKVBinaryValue(key, value, token, putParams, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> deleteKVValue(String key) {
+		return keyValueClient.deleteKVValue(key);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> deleteKVValue(String key, String token) {
+		return keyValueClient.deleteKVValue(key, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> deleteKVValue(String key, QueryParams queryParams) {
+		return keyValueClient.deleteKVValue(key, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> deleteKVValue(String key, String token, QueryParams queryParams) {
+		return keyValueClient.deleteKVValue(key, token, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> deleteKVValues(String key) {
+		return keyValueClient.deleteKVValues(key);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> deleteKVValues(String key, String token) {
+		return keyValueClient.deleteKVValues(key, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> deleteKVValues(String key, QueryParams queryParams) {
+		return keyValueClient.deleteKVValues(key, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> deleteKVValues(String key, String token, QueryParams queryParams) {
+		return keyValueClient.deleteKVValues(key, token, queryParams);
+	}
+
+	// -------------------------------------------------------------------------------------------
+	// Prepared Query
+
+	@Override
+	public CompletableFuture<Response<QueryExecution>> executePreparedQuery(String uuid, QueryParams queryParams) {
+		return queryClient.executePreparedQuery(uuid, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<QueryExecution>> executePreparedQuery(String uuid, QueryExecutionRequest queryExecutionRequest) {
+		return queryClient.executePreparedQuery(uuid, queryExecutionRequest);
+	}
+
+	// -------------------------------------------------------------------------------------------
+	// Session
+
+	@Override
+	public CompletableFuture<Response<String>> sessionCreate(NewSession newSession, QueryParams queryParams) {
+		return sessionClient.sessionCreate(newSession, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<String>> sessionCreate(NewSession newSession, QueryParams queryParams, String token) {
+		return sessionClient.sessionCreate(newSession, queryParams, token);
+	}
+
+
+	@Override
+	public CompletableFuture<Response<Void>> sessionDestroy(String session, QueryParams queryParams) {
+		return sessionClient.sessionDestroy(session, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> sessionDestroy(String session, QueryParams queryParams, String token) {
+		return sessionClient.sessionDestroy(session, queryParams, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<Session>> getSessionInfo(String session, QueryParams queryParams) {
+		return sessionClient.getSessionInfo(session, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Session>> getSessionInfo(String session, QueryParams queryParams, String token) {
+		return sessionClient.getSessionInfo(session, queryParams, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<Session>>> getSessionNode(String node, QueryParams queryParams) {
+		return sessionClient.getSessionNode(node, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<Session>>> getSessionNode(String node, QueryParams queryParams, String token) {
+		return sessionClient.getSessionNode(node, queryParams, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<Session>>> getSessionList(QueryParams queryParams) {
+		return sessionClient.getSessionList(queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<Session>>> getSessionList(QueryParams queryParams, String token) {
+		return sessionClient.getSessionList(queryParams, token);
+	}
+
+	@Override
+	public CompletableFuture<Response<Session>> renewSession(String session, QueryParams queryParams) {
+		return sessionClient.renewSession(session, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Session>> renewSession(String session, QueryParams queryParams, String token) {
+		return sessionClient.renewSession(session, queryParams, token);
+	}
+
+	// -------------------------------------------------------------------------------------------
+	// Status
+
+	@Override
+	public CompletableFuture<Response<String>> getStatusLeader() {
+		return statusClient.getStatusLeader();
+	}
+
+	@Override
+	public CompletableFuture<Response<List<String>>> getStatusPeers() {
+		return statusClient.getStatusPeers();
+	}
+
+	// -------------------------------------------------------------------------------------------
+	// Txn
+
+	@Override
+	public CompletableFuture<Response<TxnResponse>> txn(List<TxnOperation> operations) {
+		return txnClient.txn(operations);
+	}
+
+	@Override
+	public CompletableFuture<Response<TxnResponse>> txn(List<TxnOperation> operations, QueryParams queryParams) {
+		return txnClient.txn(operations, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<TxnResponse>> txn(List<TxnOperation> operations, String token, QueryParams queryParams) {
+		return txnClient.txn(operations, token, queryParams);
+	}
+}
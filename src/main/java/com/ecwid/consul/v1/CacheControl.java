@@ -0,0 +1,117 @@
+package com.ecwid.consul.v1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Cache-Control header of agent cached queries, see https://www.consul.io/api-docs/features/caching.
+ * The agent only looks at it if the {@code cached} parameter is set, so the request objects which accept
+ * a cache control set {@code cached} as well. All durations are in seconds.
+ */
+public final class CacheControl {
+
+	private final Long maxAge;
+	private final Long staleIfError;
+	private final boolean mustRevalidate;
+
+	private CacheControl(Builder builder) {
+		this.maxAge = builder.maxAge;
+		this.staleIfError = builder.staleIfError;
+		this.mustRevalidate = builder.mustRevalidate;
+	}
+
+	public Long getMaxAge() {
+		return maxAge;
+	}
+
+	public Long getStaleIfError() {
+		return staleIfError;
+	}
+
+	public boolean isMustRevalidate() {
+		return mustRevalidate;
+	}
+
+	/**
+	 * @return value of the Cache-Control header, e.g. {@code max-age=30, stale-if-error=600}
+	 */
+	public String toHeaderValue() {
+		List<String> directives = new ArrayList<>();
+		if (maxAge != null) {
+			directives.add("max-age=" + maxAge);
+		}
+		if (staleIfError != null) {
+			directives.add("stale-if-error=" + staleIfError);
+		}
+		if (mustRevalidate) {
+			directives.add("must-revalidate");
+		}
+		return String.join(", ", directives);
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public static final class Builder {
+		private Long maxAge;
+		private Long staleIfError;
+		private boolean mustRevalidate;
+
+		private Builder() {
+		}
+
+		/**
+		 * Cached results older than this are refreshed from the servers before they are returned
+		 */
+		public Builder setMaxAge(long maxAge) {
+			this.maxAge = maxAge;
+			return this;
+		}
+
+		/**
+		 * Cached results up to this old are returned if the servers can't be reached
+		 */
+		public Builder setStaleIfError(long staleIfError) {
+			this.staleIfError = staleIfError;
+			return this;
+		}
+
+		/**
+		 * Forces a refresh from the servers, the cached result is only used as a fallback with stale-if-error
+		 */
+		public Builder setMustRevalidate(boolean mustRevalidate) {
+			this.mustRevalidate = mustRevalidate;
+			return this;
+		}
+
+		public CacheControl build() {
+			return new CacheControl(this);
+		}
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof CacheControl)) {
+			return false;
+		}
+		CacheControl that = (CacheControl) o;
+		return mustRevalidate == that.mustRevalidate &&
+			Objects.equals(maxAge, that.maxAge) &&
+			Objects.equals(staleIfError, that.staleIfError);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(maxAge, staleIfError, mustRevalidate);
+	}
+
+	@Override
+	public String toString() {
+		return "CacheControl{" + toHeaderValue() + '}';
+	}
+}
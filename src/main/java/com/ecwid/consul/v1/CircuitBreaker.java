@@ -0,0 +1,131 @@
+package com.ecwid.consul.v1;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Count based circuit breaker of one agent (or one endpoint class of an agent), see {@link CircuitBreakerConfig}.
+ */
+final class CircuitBreaker {
+
+	enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final CircuitBreakerConfig config;
+	private final long openDurationNanos;
+	private final long slowCallNanos;
+
+	// ring buffer of the latest call outcomes
+	private final boolean[] failed;
+	private final boolean[] slow;
+	private int next;
+	private int size;
+	private int failedCount;
+	private int slowCount;
+
+	private State state = State.CLOSED;
+	private long openedAt;
+	private int halfOpenPermits;
+	private int halfOpenSuccesses;
+
+	CircuitBreaker(CircuitBreakerConfig config) {
+		this.config = config;
+		this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(config.getOpenDuration());
+		this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(config.getSlowCallDuration());
+		this.failed = new boolean[config.getWindowSize()];
+		this.slow = new boolean[config.getWindowSize()];
+	}
+
+	/**
+	 * @return true if the call may be sent, in this case exactly one of {@link #onSuccess}, {@link #onFailure}
+	 * or {@link #onCancel} must follow
+	 */
+	synchronized boolean tryAcquire(long now) {
+		if (state == State.OPEN) {
+			if (now - openedAt < openDurationNanos) {
+				return false;
+			}
+			state = State.HALF_OPEN;
+			halfOpenPermits = 0;
+			halfOpenSuccesses = 0;
+		}
+
+		if (state == State.HALF_OPEN) {
+			if (halfOpenPermits >= config.getHalfOpenCalls()) {
+				return false;
+			}
+			halfOpenPermits++;
+		}
+		return true;
+	}
+
+	/**
+	 * @param latencyNanos call latency, or -1 if it can't be slow (blocking queries)
+	 */
+	synchronized void onSuccess(long latencyNanos, long now) {
+		onResult(false, latencyNanos > slowCallNanos, now);
+	}
+
+	synchronized void onFailure(long now) {
+		onResult(true, false, now);
+	}
+
+	/**
+	 * The call was cancelled before it completed, its outcome says nothing about the agent.
+	 */
+	synchronized void onCancel() {
+		if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+			halfOpenPermits--;
+		}
+	}
+
+	synchronized State getState() {
+		return state;
+	}
+
+	private void onResult(boolean isFailed, boolean isSlow, long now) {
+		if (state == State.HALF_OPEN) {
+			if (isFailed || isSlow) {
+				open(now);
+			} else if (++halfOpenSuccesses >= config.getHalfOpenCalls()) {
+				close();
+			}
+			return;
+		}
+
+		if (state == State.OPEN) {
+			// a call sent before the breaker opened
+			return;
+		}
+
+		if (size == failed.length) {
+			failedCount -= failed[next] ? 1 : 0;
+			slowCount -= slow[next] ? 1 : 0;
+		} else {
+			size++;
+		}
+		failed[next] = isFailed;
+		slow[next] = isSlow;
+		failedCount += isFailed ? 1 : 0;
+		slowCount += isSlow ? 1 : 0;
+		next = (next + 1) % failed.length;
+
+		if (size >= config.getMinimumCalls()
+			&& (failedCount >= config.getFailureRateThreshold() * size || slowCount >= config.getSlowCallRateThreshold() * size)) {
+			open(now);
+		}
+	}
+
+	private void open(long now) {
+		state = State.OPEN;
+		openedAt = now;
+	}
+
+	private void close() {
+		state = State.CLOSED;
+		next = 0;
+		size = 0;
+		failedCount = 0;
+		slowCount = 0;
+	}
+}
@@ -0,0 +1,146 @@
+package com.ecwid.consul.v1;
+
+/**
+ * Settings of the per-agent circuit breakers, see {@link ConsulRawClient.Builder#setCircuitBreakerConfig(CircuitBreakerConfig)}.
+ * <p>
+ * A breaker opens when, over the last {@code windowSize} calls (at least {@code minimumCalls}), the share of failed
+ * calls (I/O errors and 5xx responses) or of slow calls reaches its threshold. An open breaker rejects calls for
+ * {@code openDuration}, then lets {@code halfOpenCalls} trial calls through: if all of them succeed the breaker
+ * closes, otherwise it opens again. Blocking queries are never counted as slow.
+ */
+public final class CircuitBreakerConfig {
+
+	public static final CircuitBreakerConfig DEFAULT = builder().build();
+
+	private final int windowSize;
+	private final int minimumCalls;
+	private final double failureRateThreshold;
+	private final long slowCallDuration;
+	private final double slowCallRateThreshold;
+	private final long openDuration;
+	private final int halfOpenCalls;
+	private final boolean perEndpointClass;
+
+	private CircuitBreakerConfig(Builder builder) {
+		this.windowSize = builder.windowSize;
+		this.minimumCalls = builder.minimumCalls;
+		this.failureRateThreshold = builder.failureRateThreshold;
+		this.slowCallDuration = builder.slowCallDuration;
+		this.slowCallRateThreshold = builder.slowCallRateThreshold;
+		this.openDuration = builder.openDuration;
+		this.halfOpenCalls = builder.halfOpenCalls;
+		this.perEndpointClass = builder.perEndpointClass;
+	}
+
+	public int getWindowSize() {
+		return windowSize;
+	}
+
+	public int getMinimumCalls() {
+		return minimumCalls;
+	}
+
+	public double getFailureRateThreshold() {
+		return failureRateThreshold;
+	}
+
+	public long getSlowCallDuration() {
+		return slowCallDuration;
+	}
+
+	public double getSlowCallRateThreshold() {
+		return slowCallRateThreshold;
+	}
+
+	public long getOpenDuration() {
+		return openDuration;
+	}
+
+	public int getHalfOpenCalls() {
+		return halfOpenCalls;
+	}
+
+	public boolean isPerEndpointClass() {
+		return perEndpointClass;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	// ---------------------------------------
+	// Builder
+	public static final class Builder {
+		private int windowSize = 50;
+		private int minimumCalls = 20;
+		private double failureRateThreshold = 0.5;
+		private long slowCallDuration = 5 * 1000; // 5 sec
+		private double slowCallRateThreshold = 0.8;
+		private long openDuration = 10 * 1000; // 10 sec
+		private int halfOpenCalls = 5;
+		private boolean perEndpointClass = false;
+
+		private Builder() {
+		}
+
+		public Builder setWindowSize(int windowSize) {
+			this.windowSize = windowSize;
+			return this;
+		}
+
+		public Builder setMinimumCalls(int minimumCalls) {
+			this.minimumCalls = minimumCalls;
+			return this;
+		}
+
+		/**
+		 * @param failureRateThreshold share of failed calls (0..1) which opens the breaker
+		 */
+		public Builder setFailureRateThreshold(double failureRateThreshold) {
+			this.failureRateThreshold = failureRateThreshold;
+			return this;
+		}
+
+		/**
+		 * @param slowCallDuration calls longer than this time in milliseconds are slow
+		 */
+		public Builder setSlowCallDuration(long slowCallDuration) {
+			this.slowCallDuration = slowCallDuration;
+			return this;
+		}
+
+		/**
+		 * @param slowCallRateThreshold share of slow calls (0..1) which opens the breaker, values above 1 disable it
+		 */
+		public Builder setSlowCallRateThreshold(double slowCallRateThreshold) {
+			this.slowCallRateThreshold = slowCallRateThreshold;
+			return this;
+		}
+
+		/**
+		 * @param openDuration time in milliseconds an open breaker rejects calls before trial calls are allowed
+		 */
+		public Builder setOpenDuration(long openDuration) {
+			this.openDuration = openDuration;
+			return this;
+		}
+
+		public Builder setHalfOpenCalls(int halfOpenCalls) {
+			this.halfOpenCalls = halfOpenCalls;
+			return this;
+		}
+
+		/**
+		 * @param perEndpointClass if true, every agent has a separate breaker per endpoint class (kv, health, catalog
+		 *                         etc.), so e.g. slow catalog calls don't block KV access
+		 */
+		public Builder setPerEndpointClass(boolean perEndpointClass) {
+			this.perEndpointClass = perEndpointClass;
+			return this;
+		}
+
+		public CircuitBreakerConfig build() {
+			return new CircuitBreakerConfig(this);
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.ecwid.consul.v1;
+
+import com.ecwid.consul.ConsulException;
+
+/**
+ * Thrown when requests are rejected without being sent, because the circuit breakers of all agents are open.
+ */
+public final class CircuitBreakerOpenException extends ConsulException {
+
+	private final String endpoint;
+
+	public CircuitBreakerOpenException(String endpoint) {
+		super("CircuitBreakerOpenException(endpoint='" + endpoint + "')");
+		this.endpoint = endpoint;
+	}
+
+	public String getEndpoint() {
+		return endpoint;
+	}
+}
@@ -0,0 +1,20 @@
+package com.ecwid.consul.v1;
+
+import com.ecwid.consul.ConsulException;
+
+/**
+ * Thrown when a request is rejected without being sent, because all agents are at their concurrency limit.
+ */
+public final class ConcurrencyLimitExceededException extends ConsulException {
+
+	private final String endpoint;
+
+	public ConcurrencyLimitExceededException(String endpoint) {
+		super("ConcurrencyLimitExceededException(endpoint='" + endpoint + "')");
+		this.endpoint = endpoint;
+	}
+
+	public String getEndpoint() {
+		return endpoint;
+	}
+}
@@ -0,0 +1,103 @@
+package com.ecwid.consul.v1;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AIMD limit of in-flight requests to one agent, see {@link ConcurrencyLimiterConfig}.
+ */
+final class ConcurrencyLimiter {
+
+	// the minimal latency is re-learned every window, so it follows a slower agent
+	private static final int MIN_LATENCY_WINDOW = 1000;
+
+	private final ConcurrencyLimiterConfig config;
+	private final long latencyFloorNanos;
+
+	private double limit;
+	private int inFlight;
+
+	private long minLatency = Long.MAX_VALUE;
+	private long windowMinLatency = Long.MAX_VALUE;
+	private int windowSamples;
+
+	ConcurrencyLimiter(ConcurrencyLimiterConfig config) {
+		this.config = config;
+		this.latencyFloorNanos = TimeUnit.MILLISECONDS.toNanos(config.getLatencyFloor());
+		this.limit = config.getInitialLimit();
+	}
+
+	synchronized boolean tryAcquire() {
+		if (inFlight >= (int) limit) {
+			return false;
+		}
+		inFlight++;
+		return true;
+	}
+
+	/**
+	 * @return false if no slot was freed within the timeout
+	 */
+	synchronized boolean acquire(long timeoutNanos) throws InterruptedException {
+		long deadline = System.nanoTime() + timeoutNanos;
+		while (inFlight >= (int) limit) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				return false;
+			}
+			TimeUnit.NANOSECONDS.timedWait(this, remaining);
+		}
+		inFlight++;
+		return true;
+	}
+
+	/**
+	 * @param latencyNanos latency of a successful request
+	 */
+	synchronized void onSuccess(long latencyNanos) {
+		boolean saturated = inFlight * 2 >= limit;
+		release();
+
+		windowMinLatency = Math.min(windowMinLatency, latencyNanos);
+		minLatency = Math.min(minLatency, latencyNanos);
+		if (++windowSamples == MIN_LATENCY_WINDOW) {
+			minLatency = windowMinLatency;
+			windowMinLatency = Long.MAX_VALUE;
+			windowSamples = 0;
+		}
+
+		if (latencyNanos > latencyFloorNanos && latencyNanos > minLatency * config.getLatencyTolerance()) {
+			decrease();
+		} else if (saturated) {
+			limit = Math.min(config.getMaxLimit(), limit + 1);
+		}
+	}
+
+	synchronized void onFailure() {
+		release();
+		decrease();
+	}
+
+	/**
+	 * The request was cancelled or failed for a reason unrelated to the agent.
+	 */
+	synchronized void onCancel() {
+		release();
+	}
+
+	synchronized int getLimit() {
+		return (int) limit;
+	}
+
+	synchronized int getInFlight() {
+		return inFlight;
+	}
+
+	private void decrease() {
+		limit = Math.max(config.getMinLimit(), limit * config.getBackoffRatio());
+	}
+
+	private void release() {
+		inFlight--;
+		notifyAll();
+	}
+}
@@ -0,0 +1,132 @@
+package com.ecwid.consul.v1;
+
+/**
+ * Settings of the per-agent adaptive concurrency limiters, see
+ * {@link ConsulRawClient.Builder#setConcurrencyLimiterConfig(ConcurrencyLimiterConfig)}.
+ * <p>
+ * The limit of in-flight requests per agent follows AIMD: it grows by one on every fast response while the limit is
+ * in use, and is multiplied by {@code backoffRatio} on every failure and on every response slower than
+ * {@code latencyTolerance} times the minimal observed latency (responses under {@code latencyFloor} never count
+ * as slow). Blocking queries are not limited and not counted.
+ */
+public final class ConcurrencyLimiterConfig {
+
+	public static final ConcurrencyLimiterConfig DEFAULT = builder().build();
+
+	private final int initialLimit;
+	private final int minLimit;
+	private final int maxLimit;
+	private final double backoffRatio;
+	private final double latencyTolerance;
+	private final long latencyFloor;
+	private final long maxQueueTime;
+
+	private ConcurrencyLimiterConfig(Builder builder) {
+		this.initialLimit = builder.initialLimit;
+		this.minLimit = builder.minLimit;
+		this.maxLimit = builder.maxLimit;
+		this.backoffRatio = builder.backoffRatio;
+		this.latencyTolerance = builder.latencyTolerance;
+		this.latencyFloor = builder.latencyFloor;
+		this.maxQueueTime = builder.maxQueueTime;
+	}
+
+	public int getInitialLimit() {
+		return initialLimit;
+	}
+
+	public int getMinLimit() {
+		return minLimit;
+	}
+
+	public int getMaxLimit() {
+		return maxLimit;
+	}
+
+	public double getBackoffRatio() {
+		return backoffRatio;
+	}
+
+	public double getLatencyTolerance() {
+		return latencyTolerance;
+	}
+
+	public long getLatencyFloor() {
+		return latencyFloor;
+	}
+
+	public long getMaxQueueTime() {
+		return maxQueueTime;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	// ---------------------------------------
+	// Builder
+	public static final class Builder {
+		private int initialLimit = 20;
+		private int minLimit = 1;
+		private int maxLimit = 100;
+		private double backoffRatio = 0.9;
+		private double latencyTolerance = 2.0;
+		private long latencyFloor = 10; // 10 ms
+		private long maxQueueTime = 100; // 100 ms
+
+		private Builder() {
+		}
+
+		public Builder setInitialLimit(int initialLimit) {
+			this.initialLimit = initialLimit;
+			return this;
+		}
+
+		public Builder setMinLimit(int minLimit) {
+			this.minLimit = minLimit;
+			return this;
+		}
+
+		public Builder setMaxLimit(int maxLimit) {
+			this.maxLimit = maxLimit;
+			return this;
+		}
+
+		/**
+		 * @param backoffRatio multiplier (0..1) applied to the limit on overload
+		 */
+		public Builder setBackoffRatio(double backoffRatio) {
+			this.backoffRatio = backoffRatio;
+			return this;
+		}
+
+		/**
+		 * @param latencyTolerance responses slower than the minimal latency multiplied by this value mean overload
+		 */
+		public Builder setLatencyTolerance(double latencyTolerance) {
+			this.latencyTolerance = latencyTolerance;
+			return this;
+		}
+
+		/**
+		 * @param latencyFloor responses faster than this time in milliseconds never mean overload
+		 */
+		public Builder setLatencyFloor(long latencyFloor) {
+			this.latencyFloor = latencyFloor;
+			return this;
+		}
+
+		/**
+		 * @param maxQueueTime max time in milliseconds a blocking request waits for a free slot before it is rejected,
+		 *                     0 to reject immediately. Async requests never wait.
+		 */
+		public Builder setMaxQueueTime(long maxQueueTime) {
+			this.maxQueueTime = maxQueueTime;
+			return this;
+		}
+
+		public ConcurrencyLimiterConfig build() {
+			return new ConcurrencyLimiterConfig(this);
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package com.ecwid.consul.v1;
 
+import com.ecwid.consul.transport.ContentSource;
 import com.ecwid.consul.transport.TLSConfig;
 import com.ecwid.consul.v1.acl.AclClient;
 import com.ecwid.consul.v1.acl.AclConsulClient;
@@ -31,6 +32,7 @@ import com.ecwid.consul.v1.kv.model.GetValue;
 import com.ecwid.consul.v1.kv.model.PutParams;
 import com.ecwid.consul.v1.query.QueryClient;
 import com.ecwid.consul.v1.query.QueryConsulClient;
+import com.ecwid.consul.v1.query.QueryExecutionRequest;
 import com.ecwid.consul.v1.query.model.QueryExecution;
 import com.ecwid.consul.v1.session.SessionClient;
 import com.ecwid.consul.v1.session.SessionConsulClient;
@@ -38,9 +40,15 @@ import com.ecwid.consul.v1.session.model.NewSession;
 import com.ecwid.consul.v1.session.model.Session;
 import com.ecwid.consul.v1.status.StatusClient;
 import com.ecwid.consul.v1.status.StatusConsulClient;
+import com.ecwid.consul.v1.txn.TxnClient;
+import com.ecwid.consul.v1.txn.TxnConsulClient;
+import com.ecwid.consul.v1.txn.model.TxnOperation;
+import com.ecwid.consul.v1.txn.model.TxnResponse;
 
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Full consul-api client with all supported methods.
@@ -62,7 +70,8 @@ public class ConsulClient implements
 		KeyValueClient,
 		QueryClient,
 		SessionClient,
-		StatusClient {
+		StatusClient,
+		TxnClient {
 
 	private final AclClient aclClient;
 	private final AgentClient agentClient;
@@ -74,6 +83,7 @@ public class ConsulClient implements
 	private final QueryClient queryClient;
 	private final SessionClient sessionClient;
 	private final StatusClient statusClient;
+	private final TxnClient txnClient;
 
 	public ConsulClient(ConsulRawClient rawClient) {
 		aclClient = new AclConsulClient(rawClient);
@@ -86,6 +96,7 @@ public class ConsulClient implements
 		queryClient = new QueryConsulClient(rawClient);
 		sessionClient = new SessionConsulClient(rawClient);
 		statusClient = new StatusConsulClient(rawClient);
+		txnClient = new TxnConsulClient(rawClient);
 	}
 
 	/**
@@ -624,6 +635,31 @@ public class ConsulClient implements
 		return keyValueClient.getKVBinaryValue(key, token, queryParams);
 	}
 
+	@Override
+	public Response<byte[]> getKVRawValue(String key) {
+		return keyValueClient.getKVRawValue(key);
+	}
+
+	@Override
+	public Response<byte[]> getKVRawValue(String key, String token) {
+		return keyValueClient.getKVRawValue(key, token);
+	}
+
+	@Override
+	public Response<byte[]> getKVRawValue(String key, QueryParams queryParams) {
+		return keyValueClient.getKVRawValue(key, queryParams);
+	}
+
+	@Override
+	public Response<byte[]> getKVRawValue(String key, String token, QueryParams queryParams) {
+		return keyValueClient.getKVRawValue(key, token, queryParams);
+	}
+
+	@Override
+	public Response<Long> getKVRawValue(String key, OutputStream out, String token, QueryParams queryParams) {
+		return keyValueClient.getKVRawValue(key, out, token, queryParams);
+	}
+
 	@Override
 	public Response<List<GetValue>> getKVValues(String keyPrefix) {
 		return keyValueClient.getKVValues(keyPrefix);
@@ -644,6 +680,11 @@ public class ConsulClient implements
 		return keyValueClient.getKVValues(keyPrefix, token, queryParams);
 	}
 
+	@Override
+	public Response<Long> getKVValues(String keyPrefix, String token, QueryParams queryParams, Consumer<GetValue> consumer) {
+		return keyValueClient.getKVValues(keyPrefix, token, queryParams, consumer);
+	}
+
 	@Override
 	public Response<List<GetBinaryValue>> getKVBinaryValues(String keyPrefix) {
 		return keyValueClient.getKVBinaryValues(keyPrefix);
@@ -664,6 +705,11 @@ public class ConsulClient implements
 		return keyValueClient.getKVBinaryValues(keyPrefix, token, queryParams);
 	}
 
+	@Override
+	public Response<Long> getKVBinaryValues(String keyPrefix, String token, QueryParams queryParams, Consumer<GetBinaryValue> consumer) {
+		return keyValueClient.getKVBinaryValues(keyPrefix, token, queryParams, consumer);
+	}
+
 	@Override
 	public Response<List<String>> getKVKeysOnly(String keyPrefix) {
 		return keyValueClient.getKVKeysOnly(keyPrefix);
@@ -744,6 +790,16 @@ public class ConsulClient implements
 		return keyValueClient.setKVBinaryValue(key, value, token, putParams, queryParams);
 	}
 
+	@Override
+	public Response<Boolean> setKVBinaryValue(String key, ContentSource value) {
+		return keyValueClient.setKVBinaryValue(key, value);
+	}
+
+	@Override
+	public Response<Boolean> setKVBinaryValue(String key, ContentSource value, String token, PutParams putParams, QueryParams queryParams) {
+		return keyValueClient.setKVBinaryValue(key, value, token, putParams, queryParams);
+	}
+
 	@Override
 	public Response<Void> deleteKVValue(String key) {
 		return keyValueClient.deleteKVValue(key);
@@ -792,6 +848,11 @@ public class ConsulClient implements
 		return queryClient.executePreparedQuery(uuid, queryParams);
 	}
 
+	@Override
+	public Response<QueryExecution> executePreparedQuery(String uuid, QueryExecutionRequest queryExecutionRequest) {
+		return queryClient.executePreparedQuery(uuid, queryExecutionRequest);
+	}
+
 	// -------------------------------------------------------------------------------------------
 	// Session
 
@@ -868,4 +929,22 @@ public class ConsulClient implements
 	public Response<List<String>> getStatusPeers() {
 		return statusClient.getStatusPeers();
 	}
+
+	// -------------------------------------------------------------------------------------------
+	// Txn
+
+	@Override
+	public Response<TxnResponse> txn(List<TxnOperation> operations) {
+		return txnClient.txn(operations);
+	}
+
+	@Override
+	public Response<TxnResponse> txn(List<TxnOperation> operations, QueryParams queryParams) {
+		return txnClient.txn(operations, queryParams);
+	}
+
+	@Override
+	public Response<TxnResponse> txn(List<TxnOperation> operations, String token, QueryParams queryParams) {
+		return txnClient.txn(operations, token, queryParams);
+	}
 }
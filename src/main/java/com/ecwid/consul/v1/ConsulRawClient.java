@@ -1,36 +1,123 @@
 package com.ecwid.consul.v1;
 
+import com.ecwid.consul.SingleUrlParameters;
 import com.ecwid.consul.UrlParameters;
 import com.ecwid.consul.Utils;
-import com.ecwid.consul.json.GsonFactory;
+import com.ecwid.consul.json.GsonJsonCodec;
+import com.ecwid.consul.json.JsonCodec;
 import com.ecwid.consul.transport.*;
+import com.ecwid.consul.v1.kv.model.PutParams;
 import org.apache.http.client.HttpClient;
+import org.apache.http.conn.ConnectTimeoutException;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
+import java.lang.reflect.Type;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
+ * Clients built with a {@link TLSConfig}, a unix socket or a custom {@link HttpTransportConfig} own connection pools,
+ * {@link #close()} releases them. HTTPS transports are shared by the clients with equal configs and closed with
+ * the last of them.
+ *
  * @author Vasily Vasilkov (vgv@ecwid.com)
  */
-public class ConsulRawClient {
+public class ConsulRawClient implements Closeable {
 
 	public static final String DEFAULT_HOST = "localhost";
 	public static final int DEFAULT_PORT = 8500;
 	public static final String DEFAULT_PATH = "";
 
+	private static final int HEDGE_LATENCY_SAMPLES = 256;
+	private static final int HEDGE_MIN_LATENCY_SAMPLES = 20;
+	private static final long HEDGE_DEFAULT_DELAY = TimeUnit.MILLISECONDS.toNanos(50);
+
+	private static final List<String> IDEMPOTENT_PUT_ENDPOINTS = Arrays.asList(
+		"/v1/agent/check/pass/",
+		"/v1/agent/check/warn/",
+		"/v1/agent/check/fail/",
+		"/v1/agent/check/update/"
+	);
+
 	// one real HTTP client for all instances
 	private static final HttpTransport DEFAULT_HTTP_TRANSPORT = new DefaultHttpTransport();
 
+	// one real async HTTP client for all instances, its I/O reactor is started on the first async request
+	private static final AsyncHttpTransport DEFAULT_ASYNC_HTTP_TRANSPORT = new DefaultAsyncHttpTransport();
+
+	// HTTPS transports shared by all instances with equal TLS and transport configs
+	private static final SharedTransports<DefaultHttpsTransport> HTTPS_TRANSPORTS = new SharedTransports<>();
+	private static final SharedTransports<DefaultAsyncHttpTransport> ASYNC_HTTPS_TRANSPORTS = new SharedTransports<>();
+
 	private final HttpTransport httpTransport;
-	private final String agentAddress;
+	private final AsyncHttpTransport asyncHttpTransport;
+	private final AgentSelector agentSelector;
+
+	// transports built for this instance and references to shared ones, released by close()
+	private final List<Closeable> resources;
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	// latencies of stale reads, null if hedging is disabled
+	private final LatencyTracker staleReadLatency;
+
+	// null if circuit breakers are disabled
+	private final CircuitBreakerConfig circuitBreakerConfig;
+	private final ConcurrentMap<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+	// null if concurrency limiters are disabled
+	private final ConcurrencyLimiterConfig concurrencyLimiterConfig;
+	private final ConcurrentMap<String, ConcurrencyLimiter> concurrencyLimiters = new ConcurrentHashMap<>();
+
+	private final JsonCodec jsonCodec;
+
+	// null if request coalescing is disabled
+	private final RequestCoalescer requestCoalescer;
+
+	// null if the response cache is disabled
+	private final ResponseCacheConfig responseCacheConfig;
+	private final ResponseCache responseCache;
 
 	public static final class Builder {
 		private String agentHost;
 		private int agentPort;
 		private String agentPath;
 		private HttpTransport httpTransport;
+		private AsyncHttpTransport asyncHttpTransport;
+		private TLSConfig tlsConfig;
+		private Path unixSocket;
+		private HttpTransportConfig httpTransportConfig;
+		private List<AgentAddress> agents;
+		private boolean hedgedStaleReads;
+		private CircuitBreakerConfig circuitBreakerConfig;
+		private ConcurrencyLimiterConfig concurrencyLimiterConfig;
+		private JsonCodec jsonCodec;
+		private boolean requestCoalescing;
+		private ResponseCacheConfig responseCacheConfig;
 
 		public static ConsulRawClient.Builder builder() {
 			return new ConsulRawClient.Builder();
@@ -40,7 +127,18 @@ public class ConsulRawClient {
 			this.agentHost = DEFAULT_HOST;
 			this.agentPort = DEFAULT_PORT;
 			this.agentPath = DEFAULT_PATH;
-			this.httpTransport = DEFAULT_HTTP_TRANSPORT;
+			this.httpTransport = null;
+			this.asyncHttpTransport = null;
+			this.tlsConfig = null;
+			this.unixSocket = null;
+			this.httpTransportConfig = HttpTransportConfig.DEFAULT;
+			this.agents = new ArrayList<>();
+			this.hedgedStaleReads = false;
+			this.circuitBreakerConfig = null;
+			this.concurrencyLimiterConfig = null;
+			this.jsonCodec = GsonJsonCodec.DEFAULT;
+			this.requestCoalescing = false;
+			this.responseCacheConfig = null;
 		}
 
 		public Builder setHost(String host) {
@@ -58,18 +156,213 @@ public class ConsulRawClient {
 			return this;
 		}
 
+		/**
+		 * Adds an agent to the failover set. If at least one agent is added, {@link #setHost(String)} and
+		 * {@link #setPort(int)} are ignored and every request goes to the healthiest agent with the lowest latency.
+		 * Requests fail over to the next agent on connect errors. GET, DELETE and idempotent PUT requests
+		 * (CAS writes, TTL check updates) also fail over on other I/O errors and 5xx responses.
+		 */
+		public Builder addAgent(String host, int port) {
+			this.agents.add(new AgentAddress(host, port));
+			return this;
+		}
+
+		/**
+		 * Enables hedged reads for GET requests with {@link ConsistencyMode#STALE} (blocking queries excluded), if
+		 * more than one agent is added. When the first agent doesn't answer within the p95 latency of recent stale
+		 * reads, the same request is sent to the next agent, the first response wins and the other one is cancelled.
+		 * Hedged reads always go through the async transport, so they need {@link #setAsyncHttpTransport} if a custom
+		 * blocking transport or client is set.
+		 */
+		public Builder setHedgedStaleReads(boolean hedgedStaleReads) {
+			this.hedgedStaleReads = hedgedStaleReads;
+			return this;
+		}
+
+		/**
+		 * Enables circuit breakers per agent (and optionally per endpoint class). While the breakers of all agents
+		 * are open, requests fail fast with {@link CircuitBreakerOpenException} instead of waiting for a connection.
+		 */
+		public Builder setCircuitBreakerConfig(CircuitBreakerConfig circuitBreakerConfig) {
+			this.circuitBreakerConfig = circuitBreakerConfig;
+			return this;
+		}
+
+		/**
+		 * Enables adaptive concurrency limiters per agent. The limit of in-flight requests is learned from the observed
+		 * latency, excess requests wait for a free slot or fail over to the next agent, and fail with
+		 * {@link ConcurrencyLimitExceededException} if all agents are saturated. Blocking queries are not limited.
+		 */
+		public Builder setConcurrencyLimiterConfig(ConcurrencyLimiterConfig concurrencyLimiterConfig) {
+			this.concurrencyLimiterConfig = concurrencyLimiterConfig;
+			return this;
+		}
+
+		/**
+		 * JSON codec used by the v1 clients for request and response bodies, {@link GsonJsonCodec#DEFAULT} by default
+		 */
+		public Builder setJsonCodec(JsonCodec jsonCodec) {
+			this.jsonCodec = jsonCodec;
+			return this;
+		}
+
+		/**
+		 * Enables single-flight GET requests: while a GET with the same endpoint, URL parameters (including the index
+		 * of a blocking query), token and response type is in flight, identical GETs don't send their own request
+		 * but get the same response. The converted content is shared between the callers, so it must not be modified.
+		 * Requests with a converter function instead of a response type share responses only with the same converter
+		 * instance.
+		 */
+		public Builder setRequestCoalescing(boolean requestCoalescing) {
+			this.requestCoalescing = requestCoalescing;
+			return this;
+		}
+
+		/**
+		 * Enables the client-side cache of successful GET responses (blocking queries excluded), see
+		 * {@link ResponseCacheConfig}. Cached content is shared between the callers, so it must not be modified.
+		 * Responses are cached by the same key as coalesced requests, see {@link #setRequestCoalescing(boolean)}.
+		 */
+		public Builder setResponseCacheConfig(ResponseCacheConfig responseCacheConfig) {
+			this.responseCacheConfig = responseCacheConfig;
+			return this;
+		}
+
 		public Builder setTlsConfig(TLSConfig tlsConfig) {
-			this.httpTransport = new DefaultHttpsTransport(tlsConfig);
+			this.tlsConfig = tlsConfig;
+			this.httpTransport = null;
 			return this;
 		}
 
+		/**
+		 * Sends blocking requests to the local agent over the unix domain socket instead of TCP, see
+		 * {@link UnixSocketHttpTransport}. The async HTTP client can't talk to a unix socket, so async requests fail with
+		 * {@link IllegalStateException} unless {@link #setAsyncHttpTransport} is set. Can't be combined with
+		 * {@link #addAgent(String, int)}.
+		 */
+		public Builder setUnixSocket(Path unixSocket) {
+			this.unixSocket = unixSocket;
+			this.httpTransport = null;
+			return this;
+		}
+
+		/**
+		 * Pool sizes and timeouts of the default transports, ignored if {@link #setHttpClient(HttpClient)} is used
+		 */
+		public Builder setHttpTransportConfig(HttpTransportConfig httpTransportConfig) {
+			this.httpTransportConfig = httpTransportConfig;
+			return this;
+		}
+
+		/**
+		 * Blocking requests use the client as is. Async requests fail with {@link IllegalStateException} unless
+		 * {@link #setAsyncHttpTransport} is set, they are never sent around the client.
+		 */
 		public Builder setHttpClient(HttpClient httpClient) {
 			this.httpTransport = new DefaultHttpTransport(httpClient);
 			return this;
 		}
 
+		/**
+		 * The transport is used as is and not closed by the client. It must implement
+		 * {@link HttpTransport#makeGetStreamRequest}, which serves raw KV values and key listings. Async requests fail
+		 * with {@link IllegalStateException} unless {@link #setAsyncHttpTransport} is set.
+		 *
+		 * @throws IllegalArgumentException if the transport only has the default makeGetStreamRequest
+		 */
+		public Builder setHttpTransport(HttpTransport httpTransport) {
+			if (httpTransport == null) {
+				throw new IllegalArgumentException("httpTransport must not be null");
+			}
+			if (!supportsStreamRequests(httpTransport)) {
+				throw new IllegalArgumentException(httpTransport.getClass().getName() + " must implement makeGetStreamRequest");
+			}
+			this.httpTransport = httpTransport;
+			return this;
+		}
+
+		private static boolean supportsStreamRequests(HttpTransport httpTransport) {
+			try {
+				return !httpTransport.getClass().getMethod("makeGetStreamRequest", HttpRequest.class, Function.class).isDefault();
+			} catch (NoSuchMethodException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		/**
+		 * The transport is used as is and not closed by the client. If it's not set, async requests use a transport
+		 * built from {@link #setTlsConfig} and {@link #setHttpTransportConfig}, or fail if a custom blocking transport,
+		 * client or unix socket is set.
+		 */
+		public Builder setAsyncHttpTransport(AsyncHttpTransport asyncHttpTransport) {
+			this.asyncHttpTransport = asyncHttpTransport;
+			return this;
+		}
+
 		public ConsulRawClient build() {
-			return new ConsulRawClient(httpTransport, agentHost, agentPort, agentPath);
+			if (unixSocket != null && !agents.isEmpty()) {
+				throw new IllegalStateException("Unix socket can't be combined with multiple agents");
+			}
+			// a custom blocking transport may talk to the agents differently, async requests are never sent around it
+			boolean asyncUnavailable = asyncHttpTransport == null && (httpTransport != null || unixSocket != null);
+			if (asyncUnavailable && hedgedStaleReads) {
+				throw new IllegalStateException("Hedged stale reads need an AsyncHttpTransport if a custom HttpTransport is set");
+			}
+
+			List<Closeable> resources = new ArrayList<>();
+			List<Object> httpsKey = Arrays.asList(tlsConfig, httpTransportConfig);
+
+			HttpTransport httpTransport = this.httpTransport;
+			if (httpTransport == null) {
+				if (unixSocket != null) {
+					UnixSocketHttpTransport unixSocketTransport = new UnixSocketHttpTransport(unixSocket, httpTransportConfig);
+					resources.add(unixSocketTransport);
+					httpTransport = unixSocketTransport;
+				} else if (tlsConfig != null) {
+					httpTransport = getHttpsTransport(tlsConfig, httpTransportConfig);
+					resources.add(() -> HTTPS_TRANSPORTS.release(httpsKey));
+				} else if (httpTransportConfig != HttpTransportConfig.DEFAULT) {
+					DefaultHttpTransport defaultTransport = new DefaultHttpTransport(httpTransportConfig);
+					resources.add(defaultTransport);
+					httpTransport = defaultTransport;
+				} else {
+					httpTransport = DEFAULT_HTTP_TRANSPORT;
+				}
+			}
+
+			AsyncHttpTransport asyncHttpTransport = this.asyncHttpTransport;
+			if (asyncHttpTransport == null && !asyncUnavailable) {
+				if (tlsConfig != null) {
+					asyncHttpTransport = getAsyncHttpsTransport(tlsConfig, httpTransportConfig);
+					resources.add(() -> ASYNC_HTTPS_TRANSPORTS.release(httpsKey));
+				} else if (httpTransportConfig != HttpTransportConfig.DEFAULT) {
+					DefaultAsyncHttpTransport defaultTransport = new DefaultAsyncHttpTransport(httpTransportConfig);
+					resources.add(defaultTransport);
+					asyncHttpTransport = defaultTransport;
+				} else {
+					asyncHttpTransport = DEFAULT_ASYNC_HTTP_TRANSPORT;
+				}
+			}
+
+			List<AgentAddress> agentAddresses = agents.isEmpty()
+				? Collections.singletonList(new AgentAddress(agentHost, agentPort))
+				: agents;
+			List<AgentEndpoint> agentEndpoints = new ArrayList<>();
+			for (AgentAddress agent : agentAddresses) {
+				agentEndpoints.add(new AgentEndpoint(Utils.assembleAgentAddress(normalizeHost(agent.host), agent.port, agentPath)));
+			}
+			return new ConsulRawClient(httpTransport, asyncHttpTransport, new AgentSelector(agentEndpoints), resources, hedgedStaleReads,
+				circuitBreakerConfig, concurrencyLimiterConfig, jsonCodec, requestCoalescing, responseCacheConfig);
+		}
+
+		private static final class AgentAddress {
+			private final String host;
+			private final int port;
+
+			private AgentAddress(String host, int port) {
+				this.host = host;
+				this.port = port;
+			}
 		}
 	}
 
@@ -90,7 +383,7 @@ public class ConsulRawClient {
 	}
 
 	public ConsulRawClient(String agentHost, int agentPort) {
-		this(DEFAULT_HTTP_TRANSPORT, agentHost, agentPort, DEFAULT_PATH);
+		this(DEFAULT_HTTP_TRANSPORT, DEFAULT_ASYNC_HTTP_TRANSPORT, agentHost, agentPort, DEFAULT_PATH);
 	}
 
 	public ConsulRawClient(HttpClient httpClient) {
@@ -98,33 +391,154 @@ public class ConsulRawClient {
 	}
 
 	public ConsulRawClient(String agentHost, HttpClient httpClient) {
-		this(new DefaultHttpTransport(httpClient), agentHost, DEFAULT_PORT, DEFAULT_PATH);
+		this(httpClient, agentHost, DEFAULT_PORT, DEFAULT_PATH);
 	}
 
 	public ConsulRawClient(String agentHost, int agentPort, HttpClient httpClient) {
-		this(new DefaultHttpTransport(httpClient), agentHost, agentPort, DEFAULT_PATH);
+		this(httpClient, agentHost, agentPort, DEFAULT_PATH);
 	}
 
 	public ConsulRawClient(String agentHost, int agentPort, TLSConfig tlsConfig) {
-		this(new DefaultHttpsTransport(tlsConfig), agentHost, agentPort, DEFAULT_PATH);
+		this(getHttpsTransport(tlsConfig, HttpTransportConfig.DEFAULT), getAsyncHttpsTransport(tlsConfig, HttpTransportConfig.DEFAULT),
+			agentHost, agentPort, DEFAULT_PATH, Arrays.asList(
+				() -> HTTPS_TRANSPORTS.release(Arrays.asList(tlsConfig, HttpTransportConfig.DEFAULT)),
+				() -> ASYNC_HTTPS_TRANSPORTS.release(Arrays.asList(tlsConfig, HttpTransportConfig.DEFAULT))));
 	}
 
+	/**
+	 * Async requests of this client fail with {@link IllegalStateException}, use
+	 * {@link Builder#setAsyncHttpTransport} to send them along with a custom client.
+	 */
 	public ConsulRawClient(HttpClient httpClient, String host, int port, String path) {
-		this(new DefaultHttpTransport(httpClient), host, port, path);
+		this(new DefaultHttpTransport(httpClient), null, host, port, path);
 	}
 
 	// hidden constructor, for tests
 	ConsulRawClient(HttpTransport httpTransport, String agentHost, int agentPort, String path) {
+		this(httpTransport, DEFAULT_ASYNC_HTTP_TRANSPORT, agentHost, agentPort, path);
+	}
+
+	// hidden constructor, for tests
+	ConsulRawClient(HttpTransport httpTransport, AsyncHttpTransport asyncHttpTransport, String agentHost, int agentPort, String path) {
+		this(httpTransport, asyncHttpTransport, agentHost, agentPort, path, Collections.emptyList());
+	}
+
+	private ConsulRawClient(HttpTransport httpTransport, AsyncHttpTransport asyncHttpTransport, String agentHost, int agentPort, String path,
+	                        List<Closeable> resources) {
+		this(httpTransport, asyncHttpTransport, new AgentSelector(Collections.singletonList(
+			new AgentEndpoint(Utils.assembleAgentAddress(normalizeHost(agentHost), agentPort, path)))), resources,
+			false, null, null, GsonJsonCodec.DEFAULT, false, null);
+	}
+
+	private ConsulRawClient(HttpTransport httpTransport, AsyncHttpTransport asyncHttpTransport, AgentSelector agentSelector,
+	                        List<Closeable> resources, boolean hedgedStaleReads, CircuitBreakerConfig circuitBreakerConfig,
+	                        ConcurrencyLimiterConfig concurrencyLimiterConfig, JsonCodec jsonCodec, boolean requestCoalescing,
+	                        ResponseCacheConfig responseCacheConfig) {
 		this.httpTransport = httpTransport;
+		this.asyncHttpTransport = asyncHttpTransport;
+		this.agentSelector = agentSelector;
+		this.resources = resources;
+		this.circuitBreakerConfig = circuitBreakerConfig;
+		this.concurrencyLimiterConfig = concurrencyLimiterConfig;
+		this.jsonCodec = jsonCodec;
+		this.requestCoalescer = requestCoalescing ? new RequestCoalescer() : null;
+		this.responseCacheConfig = responseCacheConfig;
+		this.responseCache = responseCacheConfig != null ? new ResponseCache(responseCacheConfig) : null;
+		this.staleReadLatency = hedgedStaleReads && agentSelector.getAgents().size() > 1
+			? new LatencyTracker(HEDGE_LATENCY_SAMPLES, HEDGE_MIN_LATENCY_SAMPLES)
+			: null;
+	}
+
+	public JsonCodec getJsonCodec() {
+		return jsonCodec;
+	}
+
+	/**
+	 * @return number of GET requests which were sent while request coalescing is enabled
+	 */
+	public long getExecutedRequestCount() {
+		return requestCoalescer != null ? requestCoalescer.getExecutedRequests() : 0;
+	}
 
+	/**
+	 * @return number of GET requests which got the response of an identical in-flight request instead of sending their own
+	 */
+	public long getCoalescedRequestCount() {
+		return requestCoalescer != null ? requestCoalescer.getCoalescedRequests() : 0;
+	}
+
+	/**
+	 * @return number of GET requests answered from the response cache without a request to the agent
+	 */
+	public long getCacheHitCount() {
+		return responseCache != null ? responseCache.getHits() : 0;
+	}
+
+	/**
+	 * @return number of cacheable GET requests whose response had to be fetched and decoded
+	 */
+	public long getCacheMissCount() {
+		return responseCache != null ? responseCache.getMisses() : 0;
+	}
+
+	/**
+	 * @return number of expired cache entries which were refreshed because their index didn't change
+	 */
+	public long getCacheRevalidationCount() {
+		return responseCache != null ? responseCache.getRevalidations() : 0;
+	}
+
+	/**
+	 * Closes the transports built for this client and releases the shared ones, the default transports and
+	 * user supplied ones stay open. Requests must not be sent after close.
+	 */
+	@Override
+	public void close() {
+		if (!closed.compareAndSet(false, true)) {
+			return;
+		}
+
+		TransportException error = null;
+		for (Closeable resource : resources) {
+			try {
+				resource.close();
+			} catch (IOException e) {
+				error = error != null ? error : new TransportException(e);
+			} catch (TransportException e) {
+				error = error != null ? error : e;
+			}
+		}
+		if (error != null) {
+			throw error;
+		}
+	}
+
+	private AsyncHttpTransport asyncHttpTransport() {
+		if (asyncHttpTransport == null) {
+			throw new IllegalStateException("Async requests need an AsyncHttpTransport if a custom HttpTransport, HttpClient " +
+				"or unix socket is set, see ConsulRawClient.Builder#setAsyncHttpTransport");
+		}
+		return asyncHttpTransport;
+	}
+
+	private static HttpTransport getHttpsTransport(TLSConfig tlsConfig, HttpTransportConfig httpTransportConfig) {
+		return HTTPS_TRANSPORTS.acquire(Arrays.asList(tlsConfig, httpTransportConfig),
+			() -> new DefaultHttpsTransport(tlsConfig, httpTransportConfig));
+	}
+
+	private static AsyncHttpTransport getAsyncHttpsTransport(TLSConfig tlsConfig, HttpTransportConfig httpTransportConfig) {
+		return ASYNC_HTTPS_TRANSPORTS.acquire(Arrays.asList(tlsConfig, httpTransportConfig),
+			() -> new DefaultAsyncHttpTransport(tlsConfig, httpTransportConfig));
+	}
+
+	private static String normalizeHost(String agentHost) {
 		// check that agentHost has scheme or not
 		String agentHostLowercase = agentHost.toLowerCase();
 		if (!agentHostLowercase.startsWith("https://") && !agentHostLowercase.startsWith("http://")) {
 			// no scheme in host, use default 'http'
 			agentHost = "http://" + agentHost;
 		}
-
-		this.agentAddress = Utils.assembleAgentAddress(agentHost, agentPort, path);
+		return agentHost;
 	}
 
 	public <T> HttpResponse<T> makeGetRequest(String endpoint, Function<Reader, T> objConverter, UrlParameters... urlParams) {
@@ -132,64 +546,765 @@ public class ConsulRawClient {
 	}
 
 	public <T> HttpResponse<T> makeGetRequest(String endpoint, Function<Reader, T> objConverter, List<UrlParameters> urlParams) {
-		String url = prepareUrl(agentAddress + endpoint);
-		url = Utils.generateUrl(url, urlParams);
+		return makeGetRequest(endpoint, objConverter, urlParams, objConverter);
+	}
+
+	/**
+	 * Same as {@link #makeGetRequest(String, Function, UrlParameters...)}, but the body is decoded to the type by the
+	 * {@link JsonCodec} of the client. Equal requests for the same type share coalesced and cached responses.
+	 */
+	public <T> HttpResponse<T> makeGetRequest(String endpoint, Type responseType, UrlParameters... urlParams) {
+		return makeGetRequest(endpoint, responseType, Arrays.asList(urlParams));
+	}
 
-		HttpRequest request = HttpRequest.Builder.newBuilder()
-			.setUrl(url)
-			.build();
+	public <T> HttpResponse<T> makeGetRequest(String endpoint, Type responseType, List<UrlParameters> urlParams) {
+		return makeGetRequest(endpoint, createConverter(responseType), urlParams, responseType);
+	}
 
-		return httpTransport.makeGetRequest(request, objConverter);
+	private <T> HttpResponse<T> makeGetRequest(String endpoint, Function<Reader, T> objConverter, List<UrlParameters> urlParams, Object responseKey) {
+		return executeGet(endpoint, urlParams, Collections.emptyMap(), responseKey, false, (params, request) -> {
+			if (isHedged(params)) {
+				return join(executeHedged(endpoint, params, request, r -> asyncHttpTransport().makeGetRequest(r, objConverter)));
+			}
+			return execute(endpoint, params, request, true, r -> httpTransport.makeGetRequest(r, objConverter));
+		});
 	}
 
 	public <T> HttpResponse<T> makeGetRequest(Request request, Function<Reader, T> objConverter) {
-		String url = prepareUrl(agentAddress + request.getEndpoint());
-		url = Utils.generateUrl(url, request.getUrlParameters());
+		return makeGetRequest(request, objConverter, objConverter);
+	}
 
-		HttpRequest httpRequest = HttpRequest.Builder.newBuilder()
-			.setUrl(url)
-			.addHeaders(Utils.createTokenMap(request.getToken()))
-			.build();
+	/**
+	 * Same as {@link #makeGetRequest(Request, Function)}, but the body is decoded to the type by the {@link JsonCodec}
+	 * of the client. Equal requests for the same type share coalesced and cached responses.
+	 */
+	public <T> HttpResponse<T> makeGetRequest(Request request, Type responseType) {
+		return makeGetRequest(request, createConverter(responseType), responseType);
+	}
 
-		return httpTransport.makeGetRequest(httpRequest, objConverter);
+	private <T> HttpResponse<T> makeGetRequest(Request request, Function<Reader, T> objConverter, Object responseKey) {
+		String endpoint = request.getEndpoint();
+		boolean exclusive = request.isExclusive();
+		return executeGet(endpoint, request.getUrlParameters(), createHeaders(request), responseKey, exclusive, (params, httpRequest) -> {
+			if (!exclusive && isHedged(params)) {
+				return join(executeHedged(endpoint, params, httpRequest, r -> asyncHttpTransport().makeGetRequest(r, objConverter)));
+			}
+			return execute(endpoint, params, httpRequest, !exclusive, r -> httpTransport.makeGetRequest(r, objConverter));
+		});
 	}
 
-	public <T> HttpResponse<T> makePutRequest(String endpoint, String content, Function<Reader, T> objConverter, UrlParameters... urlParams) {
-		String url = prepareUrl(agentAddress + endpoint);
-		url = Utils.generateUrl(url, urlParams);
+	/**
+	 * Same as {@link #makeGetRequest(Request, Function)}, but the converter gets the raw response body bytes,
+	 * e.g. for a parser working directly on UTF-8 input.
+	 */
+	public <T> HttpResponse<T> makeGetStreamRequest(Request request, Function<InputStream, T> streamConverter) {
+		String endpoint = request.getEndpoint();
+		boolean exclusive = request.isExclusive();
+		return executeGet(endpoint, request.getUrlParameters(), createHeaders(request), streamConverter, exclusive, (params, httpRequest) -> {
+			if (!exclusive && isHedged(params)) {
+				return join(executeHedged(endpoint, params, httpRequest, r -> asyncHttpTransport().makeGetStreamRequest(r, streamConverter)));
+			}
+			return execute(endpoint, params, httpRequest, !exclusive, r -> httpTransport.makeGetStreamRequest(r, streamConverter));
+		});
+	}
 
-		HttpRequest request = HttpRequest.Builder.newBuilder()
-			.setUrl(url)
+	public <T> HttpResponse<T> makePutRequest(String endpoint, String content, Function<Reader, T> objConverter, UrlParameters... urlParams) {
+		List<UrlParameters> urlParamsList = Arrays.asList(urlParams);
+		boolean idempotent = isIdempotentPut(endpoint, urlParamsList);
+		HttpRequest.Builder request = createHttpRequest(urlParamsList)
 			.setContent(content)
-			.build();
+			.setIdempotent(idempotent);
 
-		return httpTransport.makePutRequest(request, objConverter);
+		return execute(endpoint, urlParamsList, request, idempotent, r -> httpTransport.makePutRequest(r, objConverter));
 	}
 
 	public <T> HttpResponse<T> makePutRequest(Request request, Function<Reader, T> objConverter) {
-		//,  String endpoint, byte[] binaryContent, UrlParameters... urlParams
-		String url = prepareUrl(agentAddress + request.getEndpoint());
-		url = Utils.generateUrl(url, request.getUrlParameters());
-
-		HttpRequest httpRequest = HttpRequest.Builder.newBuilder()
-			.setUrl(url)
+		boolean idempotent = isIdempotentPut(request.getEndpoint(), request.getUrlParameters()) && isRepeatable(request);
+		HttpRequest.Builder httpRequest = createHttpRequest(request)
 			.setBinaryContent(request.getBinaryContent())
-			.addHeaders(Utils.createTokenMap(request.getToken()))
-			.build();
+			.setContentSource(request.getContentSource())
+			.setIdempotent(idempotent);
 
-		return httpTransport.makePutRequest(httpRequest, objConverter);
+		return execute(request.getEndpoint(), request.getUrlParameters(), httpRequest, idempotent, r -> httpTransport.makePutRequest(r, objConverter));
 	}
 
 	public <T> HttpResponse<T> makeDeleteRequest(Request request, Function<Reader, T> objConverter) {
-		String url = prepareUrl(agentAddress + request.getEndpoint());
-		url = Utils.generateUrl(url, request.getUrlParameters());
+		HttpRequest.Builder httpRequest = createHttpRequest(request);
+		return execute(request.getEndpoint(), request.getUrlParameters(), httpRequest, true, r -> httpTransport.makeDeleteRequest(r, objConverter));
+	}
+
+	// -------------------------------------------------------------------------------
+	// Async requests, no caller thread is held while the request is in flight
+
+	public <T> CompletableFuture<HttpResponse<T>> makeGetRequestAsync(String endpoint, Function<Reader, T> objConverter, UrlParameters... urlParams) {
+		return makeGetRequestAsync(endpoint, objConverter, Arrays.asList(urlParams));
+	}
+
+	public <T> CompletableFuture<HttpResponse<T>> makeGetRequestAsync(String endpoint, Function<Reader, T> objConverter, List<UrlParameters> urlParams) {
+		return makeGetRequestAsync(endpoint, objConverter, urlParams, objConverter);
+	}
+
+	/**
+	 * See {@link #makeGetRequest(String, Type, UrlParameters...)}
+	 */
+	public <T> CompletableFuture<HttpResponse<T>> makeGetRequestAsync(String endpoint, Type responseType, UrlParameters... urlParams) {
+		return makeGetRequestAsync(endpoint, responseType, Arrays.asList(urlParams));
+	}
+
+	public <T> CompletableFuture<HttpResponse<T>> makeGetRequestAsync(String endpoint, Type responseType, List<UrlParameters> urlParams) {
+		return makeGetRequestAsync(endpoint, createConverter(responseType), urlParams, responseType);
+	}
+
+	private <T> CompletableFuture<HttpResponse<T>> makeGetRequestAsync(String endpoint, Function<Reader, T> objConverter, List<UrlParameters> urlParams,
+	                                                                   Object responseKey) {
+		return executeGetAsync(endpoint, urlParams, Collections.emptyMap(), responseKey, false, (params, request) -> {
+			if (isHedged(params)) {
+				return executeHedged(endpoint, params, request, r -> asyncHttpTransport().makeGetRequest(r, objConverter));
+			}
+			return executeAsync(endpoint, params, request, true, r -> asyncHttpTransport().makeGetRequest(r, objConverter));
+		});
+	}
+
+	public <T> CompletableFuture<HttpResponse<T>> makeGetRequestAsync(Request request, Function<Reader, T> objConverter) {
+		return makeGetRequestAsync(request, objConverter, objConverter);
+	}
+
+	/**
+	 * See {@link #makeGetRequest(Request, Type)}
+	 */
+	public <T> CompletableFuture<HttpResponse<T>> makeGetRequestAsync(Request request, Type responseType) {
+		return makeGetRequestAsync(request, createConverter(responseType), responseType);
+	}
+
+	private <T> CompletableFuture<HttpResponse<T>> makeGetRequestAsync(Request request, Function<Reader, T> objConverter, Object responseKey) {
+		String endpoint = request.getEndpoint();
+		boolean exclusive = request.isExclusive();
+		return executeGetAsync(endpoint, request.getUrlParameters(), createHeaders(request), responseKey, exclusive, (params, httpRequest) -> {
+			if (!exclusive && isHedged(params)) {
+				return executeHedged(endpoint, params, httpRequest, r -> asyncHttpTransport().makeGetRequest(r, objConverter));
+			}
+			return executeAsync(endpoint, params, httpRequest, !exclusive, r -> asyncHttpTransport().makeGetRequest(r, objConverter));
+		});
+	}
+
+	public <T> CompletableFuture<HttpResponse<T>> makeGetStreamRequestAsync(Request request, Function<InputStream, T> streamConverter) {
+		String endpoint = request.getEndpoint();
+		boolean exclusive = request.isExclusive();
+		return executeGetAsync(endpoint, request.getUrlParameters(), createHeaders(request), streamConverter, exclusive, (params, httpRequest) -> {
+			if (!exclusive && isHedged(params)) {
+				return executeHedged(endpoint, params, httpRequest, r -> asyncHttpTransport().makeGetStreamRequest(r, streamConverter));
+			}
+			return executeAsync(endpoint, params, httpRequest, !exclusive, r -> asyncHttpTransport().makeGetStreamRequest(r, streamConverter));
+		});
+	}
+
+	public <T> CompletableFuture<HttpResponse<T>> makePutRequestAsync(String endpoint, String content, Function<Reader, T> objConverter, UrlParameters... urlParams) {
+		List<UrlParameters> urlParamsList = Arrays.asList(urlParams);
+		boolean idempotent = isIdempotentPut(endpoint, urlParamsList);
+		HttpRequest.Builder request = createHttpRequest(urlParamsList)
+			.setContent(content)
+			.setIdempotent(idempotent);
+
+		return executeAsync(endpoint, urlParamsList, request, idempotent, r -> asyncHttpTransport().makePutRequest(r, objConverter));
+	}
+
+	public <T> CompletableFuture<HttpResponse<T>> makePutRequestAsync(Request request, Function<Reader, T> objConverter) {
+		boolean idempotent = isIdempotentPut(request.getEndpoint(), request.getUrlParameters()) && isRepeatable(request);
+		HttpRequest.Builder httpRequest = createHttpRequest(request)
+			.setBinaryContent(request.getBinaryContent())
+			.setContentSource(request.getContentSource())
+			.setIdempotent(idempotent);
+
+		return executeAsync(request.getEndpoint(), request.getUrlParameters(), httpRequest, idempotent, r -> asyncHttpTransport().makePutRequest(r, objConverter));
+	}
+
+	public <T> CompletableFuture<HttpResponse<T>> makeDeleteRequestAsync(Request request, Function<Reader, T> objConverter) {
+		HttpRequest.Builder httpRequest = createHttpRequest(request);
+		return executeAsync(request.getEndpoint(), request.getUrlParameters(), httpRequest, true, r -> asyncHttpTransport().makeDeleteRequest(r, objConverter));
+	}
+
+	// -------------------------------------------------------------------------------
+	// Response cache and request coalescing
+
+	/**
+	 * @param exclusive if true, the request bypasses the response cache and request coalescing
+	 * @param call gets the URL parameters and the request builder, revalidations of cached responses add their index
+	 */
+	private <T> HttpResponse<T> executeGet(String endpoint, List<UrlParameters> urlParams, Map<String, String> headers, Object responseKey,
+	                                       boolean exclusive, BiFunction<List<UrlParameters>, HttpRequest.Builder, HttpResponse<T>> call) {
+		if (exclusive) {
+			return call.apply(urlParams, createHttpRequest(urlParams).addHeaders(headers));
+		}
 
-		HttpRequest httpRequest = HttpRequest.Builder.newBuilder()
-			.setUrl(url)
-			.addHeaders(Utils.createTokenMap(request.getToken()))
-			.build();
+		Function<Long, HttpResponse<T>> fetch = knownIndex -> {
+			List<UrlParameters> params = knownIndex != null ? createRevalidationParams(urlParams, knownIndex) : urlParams;
+			HttpRequest.Builder request = createHttpRequest(params)
+				.addHeaders(headers)
+				.setKnownIndex(knownIndex);
+			return coalesce(endpoint, params, headers, responseKey, () -> call.apply(params, request));
+		};
 
-		return httpTransport.makeDeleteRequest(httpRequest, objConverter);
+		if (responseCache == null || findBlockingQueryParams(urlParams) != null) {
+			return fetch.apply(null);
+		}
+		return responseCache.get(createRequestKey(endpoint, urlParams, headers, responseKey), endpoint, fetch);
+	}
+
+	private <T> CompletableFuture<HttpResponse<T>> executeGetAsync(String endpoint, List<UrlParameters> urlParams, Map<String, String> headers, Object responseKey,
+	                                                               boolean exclusive, BiFunction<List<UrlParameters>, HttpRequest.Builder, CompletableFuture<HttpResponse<T>>> call) {
+		if (exclusive) {
+			return call.apply(urlParams, createHttpRequest(urlParams).addHeaders(headers));
+		}
+
+		Function<Long, CompletableFuture<HttpResponse<T>>> fetch = knownIndex -> {
+			List<UrlParameters> params = knownIndex != null ? createRevalidationParams(urlParams, knownIndex) : urlParams;
+			HttpRequest.Builder request = createHttpRequest(params)
+				.addHeaders(headers)
+				.setKnownIndex(knownIndex);
+			return coalesceAsync(endpoint, params, headers, responseKey, () -> call.apply(params, request));
+		};
+
+		if (responseCache == null || findBlockingQueryParams(urlParams) != null) {
+			return fetch.apply(null);
+		}
+		return responseCache.getAsync(createRequestKey(endpoint, urlParams, headers, responseKey), endpoint, fetch);
+	}
+
+	/**
+	 * A short blocking query on the cached index: returns at once if the data changed, or after the revalidation wait
+	 * with the same index otherwise.
+	 */
+	private List<UrlParameters> createRevalidationParams(List<UrlParameters> urlParams, long knownIndex) {
+		List<UrlParameters> params = urlParams != null ? new ArrayList<>(urlParams) : new ArrayList<>();
+		params.add(new SingleUrlParameters("index", Long.toUnsignedString(knownIndex)));
+		params.add(new SingleUrlParameters("wait", responseCacheConfig.getRevalidationWait() + "ms"));
+		return params;
+	}
+
+	private <T> HttpResponse<T> coalesce(String endpoint, List<UrlParameters> urlParams, Map<String, String> headers, Object responseKey,
+	                                     Supplier<HttpResponse<T>> call) {
+		if (requestCoalescer == null) {
+			return call.get();
+		}
+		return requestCoalescer.execute(createRequestKey(endpoint, urlParams, headers, responseKey), call);
+	}
+
+	private <T> CompletableFuture<HttpResponse<T>> coalesceAsync(String endpoint, List<UrlParameters> urlParams, Map<String, String> headers, Object responseKey,
+	                                                             Supplier<CompletableFuture<HttpResponse<T>>> call) {
+		if (requestCoalescer == null) {
+			return call.get();
+		}
+		return requestCoalescer.executeAsync(createRequestKey(endpoint, urlParams, headers, responseKey), call);
+	}
+
+	/**
+	 * @param responseKey the response type, or the converter itself: converters of one call site may capture different
+	 *                    state, so only the same converter instance gets the same response
+	 */
+	private static Object createRequestKey(String endpoint, List<UrlParameters> urlParams, Map<String, String> headers, Object responseKey) {
+		return Arrays.asList(Utils.generateUrl(endpoint, urlParams), headers, responseKey);
+	}
+
+	private <T> Function<Reader, T> createConverter(Type responseType) {
+		return r -> jsonCodec.fromJson(r, responseType);
+	}
+
+	// -------------------------------------------------------------------------------
+	// Agent failover
+
+	/**
+	 * Tries the agents in the selector order until one of them answers. Connect errors always fail over (the request
+	 * didn't reach the agent), other I/O errors and 5xx responses only if the request is idempotent. Agents with
+	 * an open circuit breaker or at their concurrency limit are skipped, only the last agent is waited for.
+	 * The last error or response is returned as is, if all agents were skipped the rejection is thrown.
+	 */
+	private <T> HttpResponse<T> execute(String endpoint, List<UrlParameters> urlParams, HttpRequest.Builder requestBuilder,
+	                                    boolean idempotent, Function<HttpRequest, HttpResponse<T>> call) {
+		HttpResponse<T> lastResponse = null;
+		TransportException lastError = null;
+		AgentPermit.Rejection rejection = null;
+		boolean attempted = false;
+
+		List<AgentEndpoint> agents = agentSelector.select();
+		for (int i = 0; i < agents.size(); i++) {
+			AgentEndpoint agent = agents.get(i);
+			HttpRequest request = requestBuilder
+				.setUrl(createUrl(agent, endpoint, urlParams))
+				.setFailoverAvailable(i < agents.size() - 1)
+				.build();
+			AgentPermit permit = acquire(agent, endpoint, request, i == agents.size() - 1);
+			if (permit.isRejected()) {
+				rejection = permit.getRejection();
+				continue;
+			}
+
+			attempted = true;
+			try {
+				lastResponse = call.apply(request);
+				lastError = null;
+			} catch (TransportException e) {
+				permit.onFailure();
+				if (!canFailover(e, idempotent)) {
+					throw e;
+				}
+				lastResponse = null;
+				lastError = e;
+				continue;
+			} catch (RuntimeException e) {
+				// not an agent failure, e.g. a broken response converter
+				permit.onCancel();
+				throw e;
+			}
+
+			if (permit.onResponse(request, lastResponse) || !idempotent) {
+				return lastResponse;
+			}
+		}
+
+		if (!attempted) {
+			throw AgentPermit.createRejectionException(rejection, endpoint);
+		}
+		if (lastError != null) {
+			throw lastError;
+		}
+		return lastResponse;
+	}
+
+	private <T> CompletableFuture<HttpResponse<T>> executeAsync(String endpoint, List<UrlParameters> urlParams, HttpRequest.Builder requestBuilder,
+	                                                            boolean idempotent, Function<HttpRequest, CompletableFuture<HttpResponse<T>>> call) {
+		CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+		AtomicReference<CompletableFuture<HttpResponse<T>>> inFlight = new AtomicReference<>();
+
+		new AsyncAttempts<>(agentSelector.select(), endpoint, urlParams, requestBuilder, idempotent, call, result, inFlight).next(0, null, null);
+
+		// propagate cancellation from the caller to the in-flight request
+		result.whenComplete((response, throwable) -> {
+			CompletableFuture<HttpResponse<T>> future = inFlight.get();
+			if (result.isCancelled() && future != null) {
+				future.cancel(false);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Async version of {@link #execute}, every attempt is started from the completion callback of the previous one.
+	 * Saturated agents are never waited for.
+	 */
+	private final class AsyncAttempts<T> {
+		private final List<AgentEndpoint> agents;
+		private final String endpoint;
+		private final List<UrlParameters> urlParams;
+		private final HttpRequest.Builder requestBuilder;
+		private final boolean idempotent;
+		private final Function<HttpRequest, CompletableFuture<HttpResponse<T>>> call;
+		private final CompletableFuture<HttpResponse<T>> result;
+		private final AtomicReference<CompletableFuture<HttpResponse<T>>> inFlight;
+
+		private AsyncAttempts(List<AgentEndpoint> agents, String endpoint, List<UrlParameters> urlParams, HttpRequest.Builder requestBuilder,
+		                      boolean idempotent, Function<HttpRequest, CompletableFuture<HttpResponse<T>>> call,
+		                      CompletableFuture<HttpResponse<T>> result, AtomicReference<CompletableFuture<HttpResponse<T>>> inFlight) {
+			this.agents = agents;
+			this.endpoint = endpoint;
+			this.urlParams = urlParams;
+			this.requestBuilder = requestBuilder;
+			this.idempotent = idempotent;
+			this.call = call;
+			this.result = result;
+			this.inFlight = inFlight;
+		}
+
+		private void next(int index, HttpResponse<T> lastResponse, Throwable lastError) {
+			if (result.isDone()) {
+				return;
+			}
+
+			// skip agents with an open circuit breaker or at their concurrency limit,
+			// attempts never overlap, so the builder is not shared between threads
+			AgentPermit.Rejection rejection = null;
+			for (; index < agents.size(); index++) {
+				HttpRequest request = requestBuilder
+					.setUrl(createUrl(agents.get(index), endpoint, urlParams))
+					.setFailoverAvailable(index < agents.size() - 1)
+					.build();
+				AgentPermit permit = acquire(agents.get(index), endpoint, request, false);
+				if (!permit.isRejected()) {
+					attempt(index, permit, request);
+					return;
+				}
+				rejection = permit.getRejection();
+			}
+
+			if (lastError != null) {
+				result.completeExceptionally(lastError);
+			} else if (lastResponse != null) {
+				result.complete(lastResponse);
+			} else {
+				result.completeExceptionally(AgentPermit.createRejectionException(rejection, endpoint));
+			}
+		}
+
+		private void attempt(int index, AgentPermit permit, HttpRequest request) {
+			CompletableFuture<HttpResponse<T>> future;
+			try {
+				future = call.apply(request);
+			} catch (RuntimeException e) {
+				// this may run in the completion callback of a previous attempt, where a thrown exception would be lost
+				permit.onCancel();
+				result.completeExceptionally(e);
+				return;
+			}
+			inFlight.set(future);
+
+			future.whenComplete((response, throwable) -> {
+				if (throwable != null) {
+					Throwable cause = unwrap(throwable);
+					if (future.isCancelled() || !(cause instanceof TransportException)) {
+						permit.onCancel();
+						result.completeExceptionally(cause);
+						return;
+					}
+
+					permit.onFailure();
+					if (canFailover((TransportException) cause, idempotent)) {
+						next(index + 1, null, cause);
+					} else {
+						result.completeExceptionally(cause);
+					}
+					return;
+				}
+
+				if (permit.onResponse(request, response) || !idempotent) {
+					result.complete(response);
+				} else {
+					next(index + 1, response, null);
+				}
+			});
+		}
+	}
+
+	// -------------------------------------------------------------------------------
+	// Hedged stale reads
+
+	private boolean isHedged(List<UrlParameters> urlParams) {
+		if (staleReadLatency == null || urlParams == null || findBlockingQueryParams(urlParams) != null) {
+			return false;
+		}
+
+		for (UrlParameters urlParam : urlParams) {
+			if (urlParam instanceof QueryParams && ((QueryParams) urlParam).getConsistencyMode() == ConsistencyMode.STALE) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private <T> CompletableFuture<HttpResponse<T>> executeHedged(String endpoint, List<UrlParameters> urlParams, HttpRequest.Builder requestBuilder,
+	                                                             Function<HttpRequest, CompletableFuture<HttpResponse<T>>> call) {
+		List<AgentEndpoint> agents = agentSelector.select();
+		AgentEndpoint primaryAgent = agents.get(0);
+		AgentEndpoint hedgeAgent = agents.get(1);
+		HttpRequest primaryRequest = requestBuilder.setUrl(createUrl(primaryAgent, endpoint, urlParams)).build();
+		HttpRequest hedgeRequest = requestBuilder.setUrl(createUrl(hedgeAgent, endpoint, urlParams)).build();
+
+		long delay = staleReadLatency.getPercentile(0.95);
+		return new HedgedRead<>(endpoint, call, hedgeAgent, hedgeRequest).start(primaryAgent, primaryRequest, delay > 0 ? delay : HEDGE_DEFAULT_DELAY);
+	}
+
+	/**
+	 * Sends the request to the best agent and, if it hasn't answered within the hedge delay, to the second best one.
+	 * The first healthy response wins and the other request is cancelled. If the first attempt fails before
+	 * the hedge delay, the hedge is sent immediately. If both fail, the outcome of the last one is returned.
+	 */
+	private final class HedgedRead<T> {
+		private final String endpoint;
+		private final Function<HttpRequest, CompletableFuture<HttpResponse<T>>> call;
+		private final AgentEndpoint hedgeAgent;
+		private final HttpRequest hedgeRequest;
+
+		private final CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+		private final List<CompletableFuture<HttpResponse<T>>> attempts = new CopyOnWriteArrayList<>();
+		private final AtomicBoolean hedgeSent = new AtomicBoolean();
+		private final AtomicInteger failures = new AtomicInteger();
+
+		private HedgedRead(String endpoint, Function<HttpRequest, CompletableFuture<HttpResponse<T>>> call, AgentEndpoint hedgeAgent,
+		                   HttpRequest hedgeRequest) {
+			this.endpoint = endpoint;
+			this.call = call;
+			this.hedgeAgent = hedgeAgent;
+			this.hedgeRequest = hedgeRequest;
+		}
+
+		CompletableFuture<HttpResponse<T>> start(AgentEndpoint primaryAgent, HttpRequest primaryRequest, long hedgeDelay) {
+			ScheduledFuture<?> hedgeTimer = HedgeTimer.INSTANCE.schedule(this::sendHedge, hedgeDelay, TimeUnit.NANOSECONDS);
+			attempt(primaryAgent, primaryRequest);
+
+			// cancel the loser, or both requests if the caller cancelled the result
+			result.whenComplete((response, throwable) -> {
+				hedgeTimer.cancel(false);
+				for (CompletableFuture<HttpResponse<T>> attempt : attempts) {
+					if (!attempt.isDone()) {
+						attempt.cancel(false);
+					}
+				}
+			});
+			return result;
+		}
+
+		private void sendHedge() {
+			if (!result.isDone() && hedgeSent.compareAndSet(false, true)) {
+				attempt(hedgeAgent, hedgeRequest);
+			}
+		}
+
+		private void attempt(AgentEndpoint agent, HttpRequest request) {
+			AgentPermit permit = acquire(agent, endpoint, request, false);
+			long start = System.nanoTime();
+			CompletableFuture<HttpResponse<T>> future;
+			if (permit.isRejected()) {
+				future = new CompletableFuture<>();
+				future.completeExceptionally(AgentPermit.createRejectionException(permit.getRejection(), endpoint));
+			} else {
+				try {
+					future = call.apply(request);
+				} catch (RuntimeException e) {
+					// e.g. the timer thread must not swallow a failure to start the request
+					future = new CompletableFuture<>();
+					future.completeExceptionally(e);
+				}
+			}
+			attempts.add(future);
+
+			CompletableFuture<HttpResponse<T>> attempt = future;
+			attempt.whenComplete((response, throwable) -> {
+				// the latency of every answered attempt, a late loser included, the hedge delay is taken from it
+				if (throwable == null) {
+					staleReadLatency.record(System.nanoTime() - start);
+				}
+
+				if (attempt.isCancelled() || result.isDone()) {
+					if (!permit.isRejected()) {
+						permit.onCancel();
+					}
+					return;
+				}
+
+				if (throwable == null && permit.onResponse(request, response)) {
+					result.complete(response);
+					return;
+				}
+				if (throwable != null && !permit.isRejected()) {
+					if (unwrap(throwable) instanceof TransportException) {
+						permit.onFailure();
+					} else {
+						permit.onCancel();
+					}
+				}
+
+				int failed = failures.incrementAndGet();
+				if (!hedgeSent.get()) {
+					sendHedge();
+				} else if (failed == 2) {
+					if (throwable != null) {
+						result.completeExceptionally(unwrap(throwable));
+					} else {
+						result.complete(response);
+					}
+				}
+			});
+		}
+	}
+
+	static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new TransportException(cause);
+		}
+	}
+
+	// one daemon thread shared by all clients, created on the first hedged read
+	private static final class HedgeTimer {
+		private static final ScheduledExecutorService INSTANCE = createExecutor();
+
+		private static ScheduledExecutorService createExecutor() {
+			ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+				Thread thread = new Thread(runnable, "consul-hedge-timer");
+				thread.setDaemon(true);
+				return thread;
+			});
+			// most timers are cancelled, don't keep them in the queue
+			executor.setRemoveOnCancelPolicy(true);
+			return executor;
+		}
+	}
+
+	/**
+	 * @param wait if true, waits up to the max queue time for a free slot of the concurrency limiter
+	 */
+	private AgentPermit acquire(AgentEndpoint agent, String endpoint, HttpRequest request, boolean wait) {
+		CircuitBreaker circuitBreaker = getCircuitBreaker(agent, endpoint);
+		if (circuitBreaker != null && !circuitBreaker.tryAcquire(System.nanoTime())) {
+			return AgentPermit.rejected(AgentPermit.Rejection.CIRCUIT_BREAKER_OPEN);
+		}
+
+		// blocking queries hold a connection for minutes by design, they are not limited and not counted
+		ConcurrencyLimiter concurrencyLimiter = request.isBlockingQuery() ? null : getConcurrencyLimiter(agent);
+		boolean acquired = false;
+		try {
+			acquired = concurrencyLimiter == null || acquire(concurrencyLimiter, wait);
+		} finally {
+			if (!acquired && circuitBreaker != null) {
+				circuitBreaker.onCancel();
+			}
+		}
+		if (!acquired) {
+			return AgentPermit.rejected(AgentPermit.Rejection.CONCURRENCY_LIMIT_EXCEEDED);
+		}
+		return new AgentPermit(agent, circuitBreaker, concurrencyLimiter);
+	}
+
+	private boolean acquire(ConcurrencyLimiter concurrencyLimiter, boolean wait) {
+		if (!wait || concurrencyLimiterConfig.getMaxQueueTime() <= 0) {
+			return concurrencyLimiter.tryAcquire();
+		}
+
+		try {
+			return concurrencyLimiter.acquire(TimeUnit.MILLISECONDS.toNanos(concurrencyLimiterConfig.getMaxQueueTime()));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new TransportException(e);
+		}
+	}
+
+	/**
+	 * @return limiter of the agent, or null if concurrency limiters are disabled
+	 */
+	private ConcurrencyLimiter getConcurrencyLimiter(AgentEndpoint agent) {
+		if (concurrencyLimiterConfig == null) {
+			return null;
+		}
+		return concurrencyLimiters.computeIfAbsent(agent.getAddress(), k -> new ConcurrencyLimiter(concurrencyLimiterConfig));
+	}
+
+	/**
+	 * @return breaker of the agent (and of the endpoint class if configured), or null if circuit breakers are disabled
+	 */
+	private CircuitBreaker getCircuitBreaker(AgentEndpoint agent, String endpoint) {
+		if (circuitBreakerConfig == null) {
+			return null;
+		}
+
+		String key = agent.getAddress();
+		if (circuitBreakerConfig.isPerEndpointClass()) {
+			key += "|" + getEndpointClass(endpoint);
+		}
+		return circuitBreakers.computeIfAbsent(key, k -> new CircuitBreaker(circuitBreakerConfig));
+	}
+
+	/**
+	 * @return second segment of the endpoint path, e.g. kv for /v1/kv/key
+	 */
+	private static String getEndpointClass(String endpoint) {
+		int start = endpoint.indexOf('/', 1);
+		if (start == -1) {
+			return endpoint;
+		}
+		int end = endpoint.indexOf('/', start + 1);
+		return end == -1 ? endpoint.substring(start + 1) : endpoint.substring(start + 1, end);
+	}
+
+	static Throwable unwrap(Throwable throwable) {
+		return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+	}
+
+	private static boolean canFailover(TransportException e, boolean idempotent) {
+		if (idempotent) {
+			return true;
+		}
+
+		// the connection wasn't established, so the agent has not seen the request
+		Throwable cause = e.getCause();
+		return cause instanceof ConnectException
+			|| cause instanceof ConnectTimeoutException
+			|| cause instanceof NoRouteToHostException
+			|| cause instanceof UnknownHostException;
+	}
+
+	private String createUrl(AgentEndpoint agent, String endpoint, List<UrlParameters> urlParams) {
+		String url = prepareUrl(agent.getAddress() + endpoint);
+		return Utils.generateUrl(url, urlParams);
+	}
+
+	private HttpRequest.Builder createHttpRequest(List<UrlParameters> urlParams) {
+		HttpRequest.Builder builder = HttpRequest.Builder.newBuilder();
+
+		QueryParams blockingQueryParams = findBlockingQueryParams(urlParams);
+		if (blockingQueryParams != null) {
+			builder.setBlockingQuery(true)
+				.setWaitTime(blockingQueryParams.getWaitTime());
+		}
+
+		return builder;
+	}
+
+	private HttpRequest.Builder createHttpRequest(Request request) {
+		return createHttpRequest(request.getUrlParameters())
+			.addHeaders(createHeaders(request));
+	}
+
+	private static Map<String, String> createHeaders(Request request) {
+		Map<String, String> headers = Utils.createTokenMap(request.getToken());
+		if (request.getCacheControl() != null) {
+			headers.put("Cache-Control", request.getCacheControl().toHeaderValue());
+		}
+		return headers;
+	}
+
+	/**
+	 * PUT requests which may be repeated without changing the outcome: CAS writes (a repeated write fails the check)
+	 * and TTL check updates (they set the check state).
+	 */
+	private static boolean isIdempotentPut(String endpoint, List<UrlParameters> urlParams) {
+		for (String prefix : IDEMPOTENT_PUT_ENDPOINTS) {
+			if (endpoint.startsWith(prefix)) {
+				return true;
+			}
+		}
+
+		if (urlParams != null) {
+			for (UrlParameters urlParam : urlParams) {
+				if (urlParam instanceof PutParams && ((PutParams) urlParam).getCas() != null) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	// a request with a consumed stream body can't be sent again
+	private static boolean isRepeatable(Request request) {
+		return request.getContentSource() == null || request.getContentSource().isRepeatable();
+	}
+
+	private static QueryParams findBlockingQueryParams(List<UrlParameters> urlParams) {
+		if (urlParams == null) {
+			return null;
+		}
+
+		for (UrlParameters urlParam : urlParams) {
+			if (urlParam instanceof QueryParams) {
+				QueryParams queryParams = (QueryParams) urlParam;
+				if (queryParams.getIndex() != -1 || queryParams.getWaitTime() != -1) {
+					return queryParams;
+				}
+			}
+		}
+		return null;
 	}
 
 	private String prepareUrl(String url) {
@@ -0,0 +1,46 @@
+package com.ecwid.consul.v1;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the latest latency samples in a ring buffer and computes percentiles over them.
+ */
+final class LatencyTracker {
+
+	private final long[] samples;
+	private final int minSamples;
+
+	private int next;
+	private int size;
+
+	LatencyTracker(int capacity, int minSamples) {
+		this.samples = new long[capacity];
+		this.minSamples = minSamples;
+	}
+
+	synchronized void record(long latencyNanos) {
+		samples[next] = latencyNanos;
+		next = (next + 1) % samples.length;
+		if (size < samples.length) {
+			size++;
+		}
+	}
+
+	/**
+	 * @param percentile value between 0 and 1, e.g. 0.95
+	 * @return latency percentile in nanoseconds, or -1 if there are not enough samples yet
+	 */
+	long getPercentile(double percentile) {
+		long[] copy;
+		synchronized (this) {
+			if (size < minSamples) {
+				return -1;
+			}
+			copy = Arrays.copyOf(samples, size);
+		}
+
+		Arrays.sort(copy);
+		int index = (int) Math.ceil(percentile * copy.length) - 1;
+		return copy[Math.max(0, Math.min(index, copy.length - 1))];
+	}
+}
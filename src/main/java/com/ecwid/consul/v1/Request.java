@@ -1,6 +1,7 @@
 package com.ecwid.consul.v1;
 
 import com.ecwid.consul.UrlParameters;
+import com.ecwid.consul.transport.ContentSource;
 import com.ecwid.consul.transport.HttpRequest;
 
 import java.util.ArrayList;
@@ -13,19 +14,28 @@ public final class Request {
 
 	private final String content;
 	private final byte[] binaryContent;
+	private final ContentSource contentSource;
 
 	private final String token;
 
-	private Request(String endpoint, List<UrlParameters> urlParameters, String content, byte[] binaryContent, String token) {
-		if (content != null && binaryContent != null) {
-			throw new IllegalArgumentException("You should set only content or binaryContent, not both.");
+	private final CacheControl cacheControl;
+
+	private final boolean exclusive;
+
+	private Request(String endpoint, List<UrlParameters> urlParameters, String content, byte[] binaryContent, ContentSource contentSource,
+	                String token, CacheControl cacheControl, boolean exclusive) {
+		if ((content != null ? 1 : 0) + (binaryContent != null ? 1 : 0) + (contentSource != null ? 1 : 0) > 1) {
+			throw new IllegalArgumentException("You should set only one of content, binaryContent or contentSource.");
 		}
 
 		this.endpoint = endpoint;
 		this.urlParameters = urlParameters;
 		this.content = content;
 		this.binaryContent = binaryContent;
+		this.contentSource = contentSource;
 		this.token = token;
+		this.cacheControl = cacheControl;
+		this.exclusive = exclusive;
 	}
 
 	public String getEndpoint() {
@@ -44,10 +54,22 @@ public final class Request {
 		return binaryContent;
 	}
 
+	public ContentSource getContentSource() {
+		return contentSource;
+	}
+
 	public String getToken() {
 		return token;
 	}
 
+	public CacheControl getCacheControl() {
+		return cacheControl;
+	}
+
+	public boolean isExclusive() {
+		return exclusive;
+	}
+
 	// -------------------------------
 	// Builder
 	public static class Builder {
@@ -56,9 +78,14 @@ public final class Request {
 
 		private String content;
 		private byte[] binaryContent;
+		private ContentSource contentSource;
 
 		private String token;
 
+		private CacheControl cacheControl;
+
+		private boolean exclusive;
+
 		public static Builder newBuilder() {
 			return new Builder();
 		}
@@ -88,13 +115,39 @@ public final class Request {
 			return this;
 		}
 
+		/**
+		 * Streamed binary content, see {@link ContentSource}
+		 */
+		public Builder setContentSource(ContentSource contentSource) {
+			this.contentSource = contentSource;
+			return this;
+		}
+
 		public Builder setToken(String token) {
 			this.token = token;
 			return this;
 		}
 
+		/**
+		 * Sent as the Cache-Control header, see {@link CacheControl}
+		 */
+		public Builder setCacheControl(CacheControl cacheControl) {
+			this.cacheControl = cacheControl;
+			return this;
+		}
+
+		/**
+		 * The response is converted exactly once for this caller: it's not cached, not shared with identical
+		 * concurrent requests, not hedged and not repeated on another agent after the body was read. Required for
+		 * converters with side effects, e.g. copying the body to a caller supplied stream.
+		 */
+		public Builder setExclusive(boolean exclusive) {
+			this.exclusive = exclusive;
+			return this;
+		}
+
 		public Request build() {
-			return new Request(endpoint, urlParameters, content, binaryContent, token);
+			return new Request(endpoint, urlParameters, content, binaryContent, contentSource, token, cacheControl, exclusive);
 		}
 	}
 }
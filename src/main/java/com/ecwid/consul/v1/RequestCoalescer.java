@@ -0,0 +1,96 @@
+package com.ecwid.consul.v1;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight execution of identical GET requests: while a call with the same key is in flight, other callers
+ * wait for its result instead of sending their own request. Failures are shared the same way as responses.
+ */
+final class RequestCoalescer {
+
+	private final ConcurrentMap<Object, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+	private final LongAdder executedRequests = new LongAdder();
+	private final LongAdder coalescedRequests = new LongAdder();
+
+	<T> T execute(Object key, Supplier<T> call) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		CompletableFuture<T> existing = putIfAbsent(key, future);
+		if (existing != null) {
+			coalescedRequests.increment();
+			return ConsulRawClient.join(existing);
+		}
+
+		executedRequests.increment();
+		try {
+			T result = call.get();
+			future.complete(result);
+			return result;
+		} catch (RuntimeException | Error e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, future);
+		}
+	}
+
+	/**
+	 * Every caller gets its own future, cancelling it doesn't cancel the shared call.
+	 */
+	<T> CompletableFuture<T> executeAsync(Object key, Supplier<CompletableFuture<T>> call) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		CompletableFuture<T> existing = putIfAbsent(key, future);
+		if (existing != null) {
+			coalescedRequests.increment();
+			return copy(existing);
+		}
+
+		executedRequests.increment();
+		CompletableFuture<T> callFuture;
+		try {
+			callFuture = call.get();
+		} catch (RuntimeException | Error e) {
+			inFlight.remove(key, future);
+			future.completeExceptionally(e);
+			throw e;
+		}
+
+		callFuture.whenComplete((result, throwable) -> {
+			inFlight.remove(key, future);
+			if (throwable != null) {
+				future.completeExceptionally(ConsulRawClient.unwrap(throwable));
+			} else {
+				future.complete(result);
+			}
+		});
+		return copy(future);
+	}
+
+	long getExecutedRequests() {
+		return executedRequests.sum();
+	}
+
+	long getCoalescedRequests() {
+		return coalescedRequests.sum();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> CompletableFuture<T> putIfAbsent(Object key, CompletableFuture<T> future) {
+		return (CompletableFuture<T>) inFlight.putIfAbsent(key, future);
+	}
+
+	private static <T> CompletableFuture<T> copy(CompletableFuture<T> future) {
+		CompletableFuture<T> copy = new CompletableFuture<>();
+		future.whenComplete((result, throwable) -> {
+			if (throwable != null) {
+				copy.completeExceptionally(ConsulRawClient.unwrap(throwable));
+			} else {
+				copy.complete(result);
+			}
+		});
+		return copy;
+	}
+}
@@ -0,0 +1,136 @@
+package com.ecwid.consul.v1;
+
+import com.ecwid.consul.transport.HttpResponse;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * LRU cache of successful GET responses with per-endpoint TTLs, see {@link ResponseCacheConfig}.
+ * The fetch functions get the X-Consul-Index of the expired entry (null if there is none) to revalidate it.
+ */
+final class ResponseCache {
+
+	private final ResponseCacheConfig config;
+	private final Map<Object, CachedResponse> entries;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder revalidations = new LongAdder();
+
+	ResponseCache(ResponseCacheConfig config) {
+		this.config = config;
+		this.entries = new LinkedHashMap<Object, CachedResponse>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, CachedResponse> eldest) {
+				return size() > config.getMaxEntries();
+			}
+		};
+	}
+
+	<T> HttpResponse<T> get(Object key, String endpoint, Function<Long, HttpResponse<T>> fetch) {
+		long ttl = config.getTtl(endpoint);
+		if (ttl <= 0) {
+			return fetch.apply(null);
+		}
+
+		CachedResponse entry = getEntry(key);
+		if (entry != null && System.nanoTime() - entry.expiresAt < 0) {
+			hits.increment();
+			return entry.getResponse();
+		}
+
+		HttpResponse<T> response = fetch.apply(entry != null ? entry.response.getConsulIndex() : null);
+		return onResponse(key, ttl, entry, response);
+	}
+
+	<T> CompletableFuture<HttpResponse<T>> getAsync(Object key, String endpoint, Function<Long, CompletableFuture<HttpResponse<T>>> fetch) {
+		long ttl = config.getTtl(endpoint);
+		if (ttl <= 0) {
+			return fetch.apply(null);
+		}
+
+		CachedResponse entry = getEntry(key);
+		if (entry != null && System.nanoTime() - entry.expiresAt < 0) {
+			hits.increment();
+			return CompletableFuture.completedFuture(entry.getResponse());
+		}
+
+		return fetch.apply(entry != null ? entry.response.getConsulIndex() : null)
+			.thenApply(response -> onResponse(key, ttl, entry, response));
+	}
+
+	long getHits() {
+		return hits.sum();
+	}
+
+	long getMisses() {
+		return misses.sum();
+	}
+
+	long getRevalidations() {
+		return revalidations.sum();
+	}
+
+	int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	private <T> HttpResponse<T> onResponse(Object key, long ttl, CachedResponse expired, HttpResponse<T> response) {
+		long expiresAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttl);
+		if (expired != null && response.getStatusCode() == 200 && response.getConsulIndex() != null
+			&& response.getConsulIndex().equals(expired.response.getConsulIndex())) {
+			// not modified, the body of the new response wasn't decoded
+			revalidations.increment();
+			putEntry(key, new CachedResponse(expired.response, expiresAt));
+			return expired.getResponse();
+		}
+
+		misses.increment();
+		if (response.getStatusCode() == 200) {
+			putEntry(key, new CachedResponse(response, expiresAt));
+		} else if (expired != null) {
+			removeEntry(key, expired);
+		}
+		return response;
+	}
+
+	private CachedResponse getEntry(Object key) {
+		synchronized (entries) {
+			return entries.get(key);
+		}
+	}
+
+	private void putEntry(Object key, CachedResponse entry) {
+		synchronized (entries) {
+			entries.put(key, entry);
+		}
+	}
+
+	private void removeEntry(Object key, CachedResponse entry) {
+		synchronized (entries) {
+			entries.remove(key, entry);
+		}
+	}
+
+	private static final class CachedResponse {
+		private final HttpResponse<?> response;
+		private final long expiresAt;
+
+		private CachedResponse(HttpResponse<?> response, long expiresAt) {
+			this.response = response;
+			this.expiresAt = expiresAt;
+		}
+
+		@SuppressWarnings("unchecked")
+		private <T> HttpResponse<T> getResponse() {
+			return (HttpResponse<T>) response;
+		}
+	}
+}
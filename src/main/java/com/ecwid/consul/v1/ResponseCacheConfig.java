@@ -0,0 +1,113 @@
+package com.ecwid.consul.v1;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Settings of the client-side response cache, see {@link ConsulRawClient.Builder#setResponseCacheConfig(ResponseCacheConfig)}.
+ * <p>
+ * Successful GET responses are kept for the TTL of their endpoint, the least recently used entries are evicted
+ * when the cache is full. An expired entry is revalidated with a blocking query on its X-Consul-Index and a short
+ * {@code revalidationWait}: if the index didn't change, the cached content is kept and the response body
+ * is not decoded again.
+ */
+public final class ResponseCacheConfig {
+
+	public static final ResponseCacheConfig DEFAULT = builder().build();
+
+	private final int maxEntries;
+	private final long defaultTtl;
+	private final Map<String, Long> endpointTtls;
+	private final long revalidationWait;
+
+	private ResponseCacheConfig(Builder builder) {
+		this.maxEntries = builder.maxEntries;
+		this.defaultTtl = builder.defaultTtl;
+		this.endpointTtls = Collections.unmodifiableMap(new LinkedHashMap<>(builder.endpointTtls));
+		this.revalidationWait = builder.revalidationWait;
+	}
+
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	public long getDefaultTtl() {
+		return defaultTtl;
+	}
+
+	public Map<String, Long> getEndpointTtls() {
+		return endpointTtls;
+	}
+
+	public long getRevalidationWait() {
+		return revalidationWait;
+	}
+
+	/**
+	 * @return TTL in milliseconds of the endpoint, taken from the longest matching endpoint prefix
+	 */
+	public long getTtl(String endpoint) {
+		long ttl = defaultTtl;
+		int matchLength = -1;
+		for (Map.Entry<String, Long> endpointTtl : endpointTtls.entrySet()) {
+			String prefix = endpointTtl.getKey();
+			if (endpoint.startsWith(prefix) && prefix.length() > matchLength) {
+				ttl = endpointTtl.getValue();
+				matchLength = prefix.length();
+			}
+		}
+		return ttl;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	// ---------------------------------------
+	// Builder
+	public static final class Builder {
+		private int maxEntries = 1000;
+		private long defaultTtl = 1000; // 1 sec
+		private final Map<String, Long> endpointTtls = new LinkedHashMap<>();
+		private long revalidationWait = 100; // 100 ms
+
+		private Builder() {
+		}
+
+		public Builder setMaxEntries(int maxEntries) {
+			this.maxEntries = maxEntries;
+			return this;
+		}
+
+		/**
+		 * @param defaultTtl TTL in milliseconds of endpoints without their own TTL, 0 to cache only those endpoints
+		 */
+		public Builder setDefaultTtl(long defaultTtl) {
+			this.defaultTtl = defaultTtl;
+			return this;
+		}
+
+		/**
+		 * @param endpointPrefix e.g. {@code /v1/kv/config/} or {@code /v1/catalog/service/}
+		 * @param ttl            TTL in milliseconds, 0 to not cache the endpoints
+		 */
+		public Builder setTtl(String endpointPrefix, long ttl) {
+			this.endpointTtls.put(endpointPrefix, ttl);
+			return this;
+		}
+
+		/**
+		 * @param revalidationWait wait time in milliseconds of the blocking query which revalidates an expired entry,
+		 *                         the revalidation takes this long if nothing changed
+		 */
+		public Builder setRevalidationWait(long revalidationWait) {
+			this.revalidationWait = revalidationWait;
+			return this;
+		}
+
+		public ResponseCacheConfig build() {
+			return new ResponseCacheConfig(this);
+		}
+	}
+}
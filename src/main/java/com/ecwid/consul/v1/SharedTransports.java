@@ -0,0 +1,60 @@
+package com.ecwid.consul.v1;
+
+import com.ecwid.consul.transport.TransportException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Transports shared by the clients with equal configs. A transport is created for the first client which acquires
+ * its key and closed when the last one releases it.
+ */
+final class SharedTransports<T extends Closeable> {
+
+	// guarded by this
+	private final Map<Object, Entry<T>> entries = new HashMap<>();
+
+	synchronized T acquire(Object key, Supplier<T> factory) {
+		Entry<T> entry = entries.get(key);
+		if (entry == null) {
+			entry = new Entry<>(factory.get());
+			entries.put(key, entry);
+		}
+		entry.references++;
+		return entry.transport;
+	}
+
+	void release(Object key) {
+		T transport;
+		synchronized (this) {
+			Entry<T> entry = entries.get(key);
+			if (entry == null || --entry.references > 0) {
+				return;
+			}
+			entries.remove(key);
+			transport = entry.transport;
+		}
+
+		try {
+			transport.close();
+		} catch (IOException e) {
+			throw new TransportException(e);
+		}
+	}
+
+	synchronized int size() {
+		return entries.size();
+	}
+
+	private static final class Entry<T> {
+		private final T transport;
+		private int references;
+
+		private Entry(T transport) {
+			this.transport = transport;
+		}
+	}
+}
@@ -3,7 +3,6 @@ package com.ecwid.consul.v1.acl;
 import com.ecwid.consul.ConsulException;
 import com.ecwid.consul.SingleUrlParameters;
 import com.ecwid.consul.UrlParameters;
-import com.ecwid.consul.json.GsonFactory;
 import com.ecwid.consul.transport.HttpResponse;
 import com.ecwid.consul.transport.TLSConfig;
 import com.ecwid.consul.v1.ConsulRawClient;
@@ -14,6 +13,7 @@ import com.ecwid.consul.v1.acl.model.NewAcl;
 import com.ecwid.consul.v1.acl.model.UpdateAcl;
 import com.google.gson.reflect.TypeToken;
 
+import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Map;
 
@@ -22,6 +22,9 @@ import java.util.Map;
  */
 public final class AclConsulClient implements AclClient {
 
+	private static final Type STRING_MAP_TYPE = new TypeToken<Map<String, String>>() {}.getType();
+	private static final Type ACL_LIST_TYPE = new TypeToken<List<Acl>>() {}.getType();
+
 	private final ConsulRawClient rawClient;
 
 	public AclConsulClient(ConsulRawClient rawClient) {
@@ -55,9 +58,9 @@ public final class AclConsulClient implements AclClient {
 	@Override
 	public Response<String> aclCreate(NewAcl newAcl, String token) {
 		UrlParameters tokenParams = token != null ? new SingleUrlParameters("token", token) : null;
-		String json = GsonFactory.getGson().toJson(newAcl);
+		String json = rawClient.getJsonCodec().toJson(newAcl);
 		HttpResponse<Map<String, String>> httpResponse = rawClient.makePutRequest("/v1/acl/create", json, r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<Map<String, String>>() {}.getType());
+			return rawClient.getJsonCodec().fromJson(r, STRING_MAP_TYPE);
 		}, tokenParams);
 
 		if (httpResponse.getStatusCode() == 200) {
@@ -71,7 +74,7 @@ public final class AclConsulClient implements AclClient {
 	@Override
 	public Response<Void> aclUpdate(UpdateAcl updateAcl, String token) {
 		UrlParameters tokenParams = token != null ? new SingleUrlParameters("token", token) : null;
-		String json = GsonFactory.getGson().toJson(updateAcl);
+		String json = rawClient.getJsonCodec().toJson(updateAcl);
 		HttpResponse<Void> httpResponse = rawClient.makePutRequest("/v1/acl/update", json, r -> null, tokenParams);
 
 		if (httpResponse.getStatusCode() == 200) {
@@ -95,9 +98,7 @@ public final class AclConsulClient implements AclClient {
 
 	@Override
 	public Response<Acl> getAcl(String id) {
-		HttpResponse<List<Acl>> httpResponse = rawClient.makeGetRequest("/v1/acl/info/" + id, r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<List<Acl>>() {}.getType());
-		});
+		HttpResponse<List<Acl>> httpResponse = rawClient.makeGetRequest("/v1/acl/info/" + id, ACL_LIST_TYPE);
 
 		if (httpResponse.getStatusCode() == 200) {
 			List<Acl> value = httpResponse.getContent();
@@ -118,7 +119,7 @@ public final class AclConsulClient implements AclClient {
 	public Response<String> aclClone(String aclId, String token) {
 		UrlParameters tokenParams = token != null ? new SingleUrlParameters("token", token) : null;
 		HttpResponse<Map<String, String>> httpResponse = rawClient.makePutRequest("/v1/acl/clone/" + aclId, "", r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<Map<String, String>>() {}.getType());
+			return rawClient.getJsonCodec().fromJson(r, STRING_MAP_TYPE);
 		}, tokenParams);
 
 		if (httpResponse.getStatusCode() == 200) {
@@ -132,9 +133,7 @@ public final class AclConsulClient implements AclClient {
 	@Override
 	public Response<List<Acl>> getAclList(String token) {
 		UrlParameters tokenParams = token != null ? new SingleUrlParameters("token", token) : null;
-		HttpResponse<List<Acl>> httpResponse = rawClient.makeGetRequest("/v1/acl/list", r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<List<Acl>>() {}.getType());
-		}, tokenParams);
+		HttpResponse<List<Acl>> httpResponse = rawClient.makeGetRequest("/v1/acl/list", ACL_LIST_TYPE, tokenParams);
 
 		if (httpResponse.getStatusCode() == 200) {
 			List<Acl> value = httpResponse.getContent();
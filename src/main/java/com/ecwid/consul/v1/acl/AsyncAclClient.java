@@ -0,0 +1,29 @@
+package com.ecwid.consul.v1.acl;
+
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.acl.model.Acl;
+import com.ecwid.consul.v1.acl.model.NewAcl;
+import com.ecwid.consul.v1.acl.model.UpdateAcl;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link AclClient}, all methods return immediately and complete the future
+ * when the response arrives. Failures are reported through the future, not thrown.
+ */
+public interface AsyncAclClient {
+
+	CompletableFuture<Response<String>> aclCreate(NewAcl newAcl, String token);
+
+	CompletableFuture<Response<Void>> aclUpdate(UpdateAcl updateAcl, String token);
+
+	CompletableFuture<Response<Void>> aclDestroy(String aclId, String token);
+
+	CompletableFuture<Response<Acl>> getAcl(String id);
+
+	CompletableFuture<Response<String>> aclClone(String aclId, String token);
+
+	CompletableFuture<Response<List<Acl>>> getAclList(String token);
+
+}
@@ -0,0 +1,159 @@
+package com.ecwid.consul.v1.acl;
+
+import com.ecwid.consul.ConsulException;
+import com.ecwid.consul.SingleUrlParameters;
+import com.ecwid.consul.UrlParameters;
+import com.ecwid.consul.transport.HttpResponse;
+import com.ecwid.consul.transport.TLSConfig;
+import com.ecwid.consul.v1.ConsulRawClient;
+import com.ecwid.consul.v1.OperationException;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.acl.model.Acl;
+import com.ecwid.consul.v1.acl.model.NewAcl;
+import com.ecwid.consul.v1.acl.model.UpdateAcl;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking implementation of {@link AsyncAclClient} on top of {@link ConsulRawClient} async requests.
+ */
+public final class AsyncAclConsulClient implements AsyncAclClient {
+
+	private static final Type STRING_MAP_TYPE = new TypeToken<Map<String, String>>() {}.getType();
+	private static final Type ACL_LIST_TYPE = new TypeToken<List<Acl>>() {}.getType();
+
+	private final ConsulRawClient rawClient;
+
+	public AsyncAclConsulClient(ConsulRawClient rawClient) {
+		this.rawClient = rawClient;
+	}
+
+	public AsyncAclConsulClient() {
+		this(new ConsulRawClient());
+	}
+
+	public AsyncAclConsulClient(TLSConfig tlsConfig) {
+		this(new ConsulRawClient(tlsConfig));
+	}
+
+	public AsyncAclConsulClient(String agentHost) {
+		this(new ConsulRawClient(agentHost));
+	}
+
+	public AsyncAclConsulClient(String agentHost, TLSConfig tlsConfig) {
+		this(new ConsulRawClient(agentHost, tlsConfig));
+	}
+
+	public AsyncAclConsulClient(String agentHost, int agentPort) {
+		this(new ConsulRawClient(agentHost, agentPort));
+	}
+
+	public AsyncAclConsulClient(String agentHost, int agentPort, TLSConfig tlsConfig) {
+		this(new ConsulRawClient(agentHost, agentPort, tlsConfig));
+	}
+
+	@Override
+	public CompletableFuture<Response<String>> aclCreate(NewAcl newAcl, String token) {
+		UrlParameters tokenParams = token != null ? new SingleUrlParameters("token", token) : null;
+		String json = rawClient.getJsonCodec().toJson(newAcl);
+		CompletableFuture<HttpResponse<Map<String, String>>> future = rawClient.makePutRequestAsync("/v1/acl/create", json, r -> {
+			return rawClient.getJsonCodec().fromJson(r, STRING_MAP_TYPE);
+		}, tokenParams);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				Map<String, String> value = httpResponse.getContent();
+				return new Response<>(value.get("ID"), httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> aclUpdate(UpdateAcl updateAcl, String token) {
+		UrlParameters tokenParams = token != null ? new SingleUrlParameters("token", token) : null;
+		String json = rawClient.getJsonCodec().toJson(updateAcl);
+		CompletableFuture<HttpResponse<Void>> future = rawClient.makePutRequestAsync("/v1/acl/update", json, r -> null, tokenParams);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				return new Response<>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> aclDestroy(String aclId, String token) {
+		UrlParameters tokenParams = token != null ? new SingleUrlParameters("token", token) : null;
+		CompletableFuture<HttpResponse<Void>> future = rawClient.makePutRequestAsync("/v1/acl/destroy/" + aclId, "", r -> null, tokenParams);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				return new Response<>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Acl>> getAcl(String id) {
+		CompletableFuture<HttpResponse<List<Acl>>> future = rawClient.makeGetRequestAsync("/v1/acl/info/" + id, ACL_LIST_TYPE);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				List<Acl> value = httpResponse.getContent();
+
+				if (value.isEmpty()) {
+					return new Response<>(null, httpResponse);
+				} else if (value.size() == 1) {
+					return new Response<>(value.get(0), httpResponse);
+				} else {
+					throw new ConsulException("Strange response (list size=" + value.size() + ")");
+				}
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<String>> aclClone(String aclId, String token) {
+		UrlParameters tokenParams = token != null ? new SingleUrlParameters("token", token) : null;
+		CompletableFuture<HttpResponse<Map<String, String>>> future = rawClient.makePutRequestAsync("/v1/acl/clone/" + aclId, "", r -> {
+			return rawClient.getJsonCodec().fromJson(r, STRING_MAP_TYPE);
+		}, tokenParams);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				Map<String, String> value = httpResponse.getContent();
+				return new Response<>(value.get("ID"), httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<List<Acl>>> getAclList(String token) {
+		UrlParameters tokenParams = token != null ? new SingleUrlParameters("token", token) : null;
+		CompletableFuture<HttpResponse<List<Acl>>> future = rawClient.makeGetRequestAsync("/v1/acl/list", ACL_LIST_TYPE, tokenParams);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				List<Acl> value = httpResponse.getContent();
+				return new Response<>(value, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+}
@@ -2,7 +2,6 @@ package com.ecwid.consul.v1.agent;
 
 import com.ecwid.consul.SingleUrlParameters;
 import com.ecwid.consul.UrlParameters;
-import com.ecwid.consul.json.GsonFactory;
 import com.ecwid.consul.transport.HttpResponse;
 import com.ecwid.consul.transport.TLSConfig;
 import com.ecwid.consul.v1.ConsulRawClient;
@@ -11,6 +10,7 @@ import com.ecwid.consul.v1.Response;
 import com.ecwid.consul.v1.agent.model.*;
 import com.google.gson.reflect.TypeToken;
 
+import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Map;
 
@@ -19,6 +19,11 @@ import java.util.Map;
  */
 public final class AgentConsulClient implements AgentClient {
 
+	private static final Type CHECK_MAP_TYPE = new TypeToken<Map<String, Check>>() {}.getType();
+	private static final Type SERVICE_MAP_TYPE = new TypeToken<Map<String, Service>>() {}.getType();
+	private static final Type MEMBER_LIST_TYPE = new TypeToken<List<Member>>() {}.getType();
+	private static final Type SELF_TYPE = new TypeToken<Self>() {}.getType();
+
 	private final ConsulRawClient rawClient;
 
 	public AgentConsulClient(ConsulRawClient rawClient) {
@@ -51,9 +56,7 @@ public final class AgentConsulClient implements AgentClient {
 
 	@Override
 	public Response<Map<String, Check>> getAgentChecks() {
-		HttpResponse<Map<String, Check>> httpResponse = rawClient.makeGetRequest("/v1/agent/checks", r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<Map<String, Check>>() {}.getType());
-		});
+		HttpResponse<Map<String, Check>> httpResponse = rawClient.makeGetRequest("/v1/agent/checks", CHECK_MAP_TYPE);
 
 		if (httpResponse.getStatusCode() == 200) {
 			Map<String, Check> value = httpResponse.getContent();
@@ -65,9 +68,7 @@ public final class AgentConsulClient implements AgentClient {
 
 	@Override
 	public Response<Map<String, Service>> getAgentServices() {
-		HttpResponse<Map<String, Service>> httpResponse = rawClient.makeGetRequest("/v1/agent/services", r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<Map<String, Service>>() {}.getType());
-		});
+		HttpResponse<Map<String, Service>> httpResponse = rawClient.makeGetRequest("/v1/agent/services", SERVICE_MAP_TYPE);
 
 		if (httpResponse.getStatusCode() == 200) {
 			Map<String, Service> agentServices = httpResponse.getContent();
@@ -79,9 +80,7 @@ public final class AgentConsulClient implements AgentClient {
 
 	@Override
 	public Response<List<Member>> getAgentMembers() {
-		HttpResponse<List<Member>> httpResponse = rawClient.makeGetRequest("/v1/agent/members", r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<List<Member>>() {}.getType());
-		});
+		HttpResponse<List<Member>> httpResponse = rawClient.makeGetRequest("/v1/agent/members", MEMBER_LIST_TYPE);
 
 		if (httpResponse.getStatusCode() == 200) {
 			List<Member> members = httpResponse.getContent();
@@ -100,9 +99,7 @@ public final class AgentConsulClient implements AgentClient {
 	public Response<Self> getAgentSelf(String token) {
 		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
 
-		HttpResponse<Self> httpResponse = rawClient.makeGetRequest("/v1/agent/self", r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<Self>() {}.getType());
-		}, tokenParam);
+		HttpResponse<Self> httpResponse = rawClient.makeGetRequest("/v1/agent/self", SELF_TYPE, tokenParam);
 
 		if (httpResponse.getStatusCode() == 200) {
 			Self self = httpResponse.getContent();
@@ -164,7 +161,7 @@ public final class AgentConsulClient implements AgentClient {
 	public Response<Void> agentCheckRegister(NewCheck newCheck, String token) {
 		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
 
-		String json = GsonFactory.getGson().toJson(newCheck);
+		String json = rawClient.getJsonCodec().toJson(newCheck);
 		HttpResponse<Void> httpResponse = rawClient.makePutRequest("/v1/agent/check/register", json, r -> null, tokenParam);
 
 		if (httpResponse.getStatusCode() == 200) {
@@ -273,7 +270,7 @@ public final class AgentConsulClient implements AgentClient {
 	public Response<Void> agentServiceRegister(NewService newService, String token) {
 		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
 
-		String json = GsonFactory.getGson().toJson(newService);
+		String json = rawClient.getJsonCodec().toJson(newService);
 		HttpResponse<Void> httpResponse = rawClient.makePutRequest("/v1/agent/service/register", json, r -> null, tokenParam);
 
 		if (httpResponse.getStatusCode() == 200) {
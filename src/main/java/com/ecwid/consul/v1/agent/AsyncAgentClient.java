@@ -0,0 +1,73 @@
+package com.ecwid.consul.v1.agent;
+
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.agent.model.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link AgentClient}, all methods return immediately and complete the future
+ * when the response arrives. Failures are reported through the future, not thrown.
+ */
+public interface AsyncAgentClient {
+
+	public CompletableFuture<Response<Map<String, Check>>> getAgentChecks();
+
+	public CompletableFuture<Response<Map<String, Service>>> getAgentServices();
+
+	public CompletableFuture<Response<List<Member>>> getAgentMembers();
+
+	public CompletableFuture<Response<Self>> getAgentSelf();
+	
+	public CompletableFuture<Response<Self>> getAgentSelf(String token);
+
+	public CompletableFuture<Response<Void>> agentSetMaintenance(boolean maintenanceEnabled);
+
+	public CompletableFuture<Response<Void>> agentSetMaintenance(boolean maintenanceEnabled, String reason);
+
+	public CompletableFuture<Response<Void>> agentJoin(String address, boolean wan);
+
+	public CompletableFuture<Response<Void>> agentForceLeave(String node);
+
+	public CompletableFuture<Response<Void>> agentCheckRegister(NewCheck newCheck);
+
+	public CompletableFuture<Response<Void>> agentCheckRegister(NewCheck newCheck, String token);
+
+	public CompletableFuture<Response<Void>> agentCheckDeregister(String checkId);
+
+	public CompletableFuture<Response<Void>> agentCheckDeregister(String checkId, String token);
+
+	public CompletableFuture<Response<Void>> agentCheckPass(String checkId);
+
+	public CompletableFuture<Response<Void>> agentCheckPass(String checkId, String note);
+
+	public CompletableFuture<Response<Void>> agentCheckPass(String checkId, String note, String token);
+
+	public CompletableFuture<Response<Void>> agentCheckWarn(String checkId);
+
+	public CompletableFuture<Response<Void>> agentCheckWarn(String checkId, String note);
+
+	public CompletableFuture<Response<Void>> agentCheckWarn(String checkId, String note, String token);
+
+	public CompletableFuture<Response<Void>> agentCheckFail(String checkId);
+
+	public CompletableFuture<Response<Void>> agentCheckFail(String checkId, String note);
+
+	public CompletableFuture<Response<Void>> agentCheckFail(String checkId, String note, String token);
+
+	public CompletableFuture<Response<Void>> agentServiceRegister(NewService newService);
+
+	public CompletableFuture<Response<Void>> agentServiceRegister(NewService newService, String token);
+
+	public CompletableFuture<Response<Void>> agentServiceDeregister(String serviceId);
+
+	public CompletableFuture<Response<Void>> agentServiceDeregister(String serviceId, String token);
+
+	public CompletableFuture<Response<Void>> agentServiceSetMaintenance(String serviceId, boolean maintenanceEnabled);
+
+	public CompletableFuture<Response<Void>> agentServiceSetMaintenance(String serviceId, boolean maintenanceEnabled, String reason);
+
+	public CompletableFuture<Response<Void>> agentReload();
+}
@@ -0,0 +1,362 @@
+package com.ecwid.consul.v1.agent;
+
+import com.ecwid.consul.SingleUrlParameters;
+import com.ecwid.consul.UrlParameters;
+import com.ecwid.consul.transport.HttpResponse;
+import com.ecwid.consul.transport.TLSConfig;
+import com.ecwid.consul.v1.ConsulRawClient;
+import com.ecwid.consul.v1.OperationException;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.agent.model.*;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking implementation of {@link AsyncAgentClient} on top of {@link ConsulRawClient} async requests.
+ */
+public final class AsyncAgentConsulClient implements AsyncAgentClient {
+
+	private static final Type CHECK_MAP_TYPE = new TypeToken<Map<String, Check>>() {}.getType();
+	private static final Type SERVICE_MAP_TYPE = new TypeToken<Map<String, Service>>() {}.getType();
+	private static final Type MEMBER_LIST_TYPE = new TypeToken<List<Member>>() {}.getType();
+	private static final Type SELF_TYPE = new TypeToken<Self>() {}.getType();
+
+	private final ConsulRawClient rawClient;
+
+	public AsyncAgentConsulClient(ConsulRawClient rawClient) {
+		this.rawClient = rawClient;
+	}
+
+	public AsyncAgentConsulClient() {
+		this(new ConsulRawClient());
+	}
+
+	public AsyncAgentConsulClient(TLSConfig tlsConfig) {
+		this(new ConsulRawClient(tlsConfig));
+	}
+
+	public AsyncAgentConsulClient(String agentHost) {
+		this(new ConsulRawClient(agentHost));
+	}
+
+	public AsyncAgentConsulClient(String agentHost, TLSConfig tlsConfig) {
+		this(new ConsulRawClient(agentHost, tlsConfig));
+	}
+
+	public AsyncAgentConsulClient(String agentHost, int agentPort) {
+		this(new ConsulRawClient(agentHost, agentPort));
+	}
+
+	public AsyncAgentConsulClient(String agentHost, int agentPort, TLSConfig tlsConfig) {
+		this(new ConsulRawClient(agentHost, agentPort, tlsConfig));
+	}
+
+	@Override
+	public CompletableFuture<Response<Map<String, Check>>> getAgentChecks() {
+		CompletableFuture<HttpResponse<Map<String, Check>>> future = rawClient.makeGetRequestAsync("/v1/agent/checks", CHECK_MAP_TYPE);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				Map<String, Check> value = httpResponse.getContent();
+				return new Response<>(value, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Map<String, Service>>> getAgentServices() {
+		CompletableFuture<HttpResponse<Map<String, Service>>> future = rawClient.makeGetRequestAsync("/v1/agent/services", SERVICE_MAP_TYPE);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				Map<String, Service> agentServices = httpResponse.getContent();
+				return new Response<>(agentServices, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<List<Member>>> getAgentMembers() {
+		CompletableFuture<HttpResponse<List<Member>>> future = rawClient.makeGetRequestAsync("/v1/agent/members", MEMBER_LIST_TYPE);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				List<Member> members = httpResponse.getContent();
+				return new Response<>(members, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Self>> getAgentSelf() {
+		return getAgentSelf(null);
+	}
+
+	@Override
+	public CompletableFuture<Response<Self>> getAgentSelf(String token) {
+		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
+
+		CompletableFuture<HttpResponse<Self>> future = rawClient.makeGetRequestAsync("/v1/agent/self", SELF_TYPE, tokenParam);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				Self self = httpResponse.getContent();
+				return new Response<>(self, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentSetMaintenance(boolean maintenanceEnabled) {
+		return agentSetMaintenance(maintenanceEnabled, null);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentSetMaintenance(boolean maintenanceEnabled, String reason) {
+		UrlParameters maintenanceParameter = new SingleUrlParameters("enable", Boolean.toString(maintenanceEnabled));
+		UrlParameters reasonParamenter = reason != null ? new SingleUrlParameters("reason", reason) : null;
+
+		CompletableFuture<HttpResponse<Void>> future = rawClient.makePutRequestAsync("/v1/agent/maintenance", "", r -> null, maintenanceParameter, reasonParamenter);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				return new Response<Void>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentJoin(String address, boolean wan) {
+		UrlParameters wanParams = wan ? new SingleUrlParameters("wan", "1") : null;
+		CompletableFuture<HttpResponse<Void>> future = rawClient.makePutRequestAsync("/v1/agent/join/" + address, "", r -> null, wanParams);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				return new Response<>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentForceLeave(String node) {
+		CompletableFuture<HttpResponse<Void>> future = rawClient.makePutRequestAsync("/v1/agent/force-leave/" + node, "", r -> null);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				return new Response<>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckRegister(NewCheck newCheck) {
+		return agentCheckRegister(newCheck, null);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckRegister(NewCheck newCheck, String token) {
+		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
+
+		String json = rawClient.getJsonCodec().toJson(newCheck);
+		CompletableFuture<HttpResponse<Void>> future = rawClient.makePutRequestAsync("/v1/agent/check/register", json, r -> null, tokenParam);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				return new Response<>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckDeregister(String checkId) {
+		return agentCheckDeregister(checkId, null);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckDeregister(String checkId, String token) {
+		UrlParameters tokenParameter = token != null ? new SingleUrlParameters("token", token) : null;
+
+		CompletableFuture<HttpResponse<Void>> future = rawClient.makePutRequestAsync("/v1/agent/check/deregister/" + checkId, "", r -> null, tokenParameter);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				return new Response<>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckPass(String checkId) {
+		return agentCheckPass(checkId, null);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckPass(String checkId, String note) {
+		return agentCheckPass(checkId, note, null);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckPass(String checkId, String note, String token) {
+		UrlParameters noteParameter = note != null ? new SingleUrlParameters("note", note) : null;
+		UrlParameters tokenParameter = token != null ? new SingleUrlParameters("token", token) : null;
+
+		CompletableFuture<HttpResponse<Void>> future = rawClient.makePutRequestAsync("/v1/agent/check/pass/" + checkId, "", r -> null, noteParameter, tokenParameter);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				return new Response<>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckWarn(String checkId) {
+		return agentCheckWarn(checkId, null);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckWarn(String checkId, String note) {
+		return agentCheckWarn(checkId, note, null);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckWarn(String checkId, String note, String token) {
+		UrlParameters noteParameter = note != null ? new SingleUrlParameters("note", note) : null;
+		UrlParameters tokenParameter = token != null ? new SingleUrlParameters("token", token) : null;
+
+		CompletableFuture<HttpResponse<Void>> future = rawClient.makePutRequestAsync("/v1/agent/check/warn/" + checkId, "", r -> null, noteParameter, tokenParameter);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				return new Response<>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckFail(String checkId) {
+		return agentCheckFail(checkId, null);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckFail(String checkId, String note) {
+		return agentCheckFail(checkId, note, null);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentCheckFail(String checkId, String note, String token) {
+		UrlParameters noteParameter = note != null ? new SingleUrlParameters("note", note) : null;
+		UrlParameters tokenParameter = token != null ? new SingleUrlParameters("token", token) : null;
+
+		CompletableFuture<HttpResponse<Void>> future = rawClient.makePutRequestAsync("/v1/agent/check/fail/" + checkId, "", r -> null, noteParameter, tokenParameter);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				return new Response<>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentServiceRegister(NewService newService) {
+		return agentServiceRegister(newService, null);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentServiceRegister(NewService newService, String token) {
+		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
+
+		String json = rawClient.getJsonCodec().toJson(newService);
+		CompletableFuture<HttpResponse<Void>> future = rawClient.makePutRequestAsync("/v1/agent/service/register", json, r -> null, tokenParam);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				return new Response<>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentServiceDeregister(String serviceId) {
+		return agentServiceDeregister(serviceId, null);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentServiceDeregister(String serviceId, String token) {
+		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
+
+		CompletableFuture<HttpResponse<Void>> future = rawClient.makePutRequestAsync("/v1/agent/service/deregister/" + serviceId, "", r -> null, tokenParam);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				return new Response<>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentServiceSetMaintenance(String serviceId, boolean maintenanceEnabled) {
+		return agentServiceSetMaintenance(serviceId, maintenanceEnabled, null);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentServiceSetMaintenance(String serviceId, boolean maintenanceEnabled, String reason) {
+		UrlParameters maintenanceParameter = new SingleUrlParameters("enable", Boolean.toString(maintenanceEnabled));
+		UrlParameters reasonParameter = reason != null ? new SingleUrlParameters("reason", reason) : null;
+
+		CompletableFuture<HttpResponse<Void>> future = rawClient.makePutRequestAsync("/v1/agent/service/maintenance/" + serviceId, "", r -> null, maintenanceParameter, reasonParameter);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				return new Response<>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> agentReload() {
+		CompletableFuture<HttpResponse<Void>> future = rawClient.makePutRequestAsync("/v1/agent/reload", "", r -> null);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				return new Response<>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+}
@@ -0,0 +1,49 @@
+package com.ecwid.consul.v1.catalog;
+
+import com.ecwid.consul.v1.QueryParams;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.catalog.model.CatalogDeregistration;
+import com.ecwid.consul.v1.catalog.model.CatalogNode;
+import com.ecwid.consul.v1.catalog.model.CatalogRegistration;
+import com.ecwid.consul.v1.catalog.model.Node;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link CatalogClient}, all methods return immediately and complete the future
+ * when the response arrives. Failures are reported through the future, not thrown.
+ */
+public interface AsyncCatalogClient {
+
+	public CompletableFuture<Response<Void>> catalogRegister(CatalogRegistration catalogRegistration);
+
+	public CompletableFuture<Response<Void>> catalogRegister(CatalogRegistration catalogRegistration, String token);
+
+	// -------------------------------------------------------------------------------
+
+	public CompletableFuture<Response<Void>> catalogDeregister(CatalogDeregistration catalogDeregistration);
+
+	public CompletableFuture<Response<Void>> catalogDeregister(CatalogDeregistration catalogDeregistration, String token);
+
+	// -------------------------------------------------------------------------------
+
+	public CompletableFuture<Response<List<String>>> getCatalogDatacenters();
+
+	// -------------------------------------------------------------------------------
+
+	public CompletableFuture<Response<List<Node>>> getCatalogNodes(CatalogNodesRequest catalogNodesRequest);
+
+	// -------------------------------------------------------------------------------
+
+	public CompletableFuture<Response<Map<String, List<String>>>> getCatalogServices(CatalogServicesRequest catalogServicesRequest);
+
+	// -------------------------------------------------------------------------------
+
+	public CompletableFuture<Response<List<com.ecwid.consul.v1.catalog.model.CatalogService>>> getCatalogService(String serviceName, CatalogServiceRequest catalogServiceRequest);
+
+	// -------------------------------------------------------------------------------
+
+	public CompletableFuture<Response<CatalogNode>> getCatalogNode(String nodeName, QueryParams queryParams);
+}
@@ -0,0 +1,184 @@
+package com.ecwid.consul.v1.catalog;
+
+import com.ecwid.consul.SingleUrlParameters;
+import com.ecwid.consul.UrlParameters;
+import com.ecwid.consul.transport.HttpResponse;
+import com.ecwid.consul.transport.TLSConfig;
+import com.ecwid.consul.v1.*;
+import com.ecwid.consul.v1.catalog.model.*;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking implementation of {@link AsyncCatalogClient} on top of {@link ConsulRawClient} async requests.
+ */
+public final class AsyncCatalogConsulClient implements AsyncCatalogClient {
+
+	private static final Type STRING_LIST_TYPE = new TypeToken<List<String>>() {}.getType();
+	private static final Type NODE_LIST_TYPE = new TypeToken<List<Node>>() {}.getType();
+	private static final Type STRING_LIST_MAP_TYPE = new TypeToken<Map<String, List<String>>>() {}.getType();
+	private static final Type CATALOG_SERVICE_LIST_TYPE = new TypeToken<List<com.ecwid.consul.v1.catalog.model.CatalogService>>() {}.getType();
+	private static final Type CATALOG_NODE_TYPE = new TypeToken<CatalogNode>() {}.getType();
+
+	private final ConsulRawClient rawClient;
+
+	public AsyncCatalogConsulClient(ConsulRawClient rawClient) {
+		this.rawClient = rawClient;
+	}
+
+	public AsyncCatalogConsulClient() {
+		this(new ConsulRawClient());
+	}
+
+	public AsyncCatalogConsulClient(TLSConfig tlsConfig) {
+		this(new ConsulRawClient(tlsConfig));
+	}
+
+	public AsyncCatalogConsulClient(String agentHost) {
+		this(new ConsulRawClient(agentHost));
+	}
+
+	public AsyncCatalogConsulClient(String agentHost, TLSConfig tlsConfig) {
+		this(new ConsulRawClient(agentHost, tlsConfig));
+	}
+
+	public AsyncCatalogConsulClient(String agentHost, int agentPort) {
+		this(new ConsulRawClient(agentHost, agentPort));
+	}
+
+	public AsyncCatalogConsulClient(String agentHost, int agentPort, TLSConfig tlsConfig) {
+		this(new ConsulRawClient(agentHost, agentPort, tlsConfig));
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> catalogRegister(CatalogRegistration catalogRegistration) {
+		return catalogRegister(catalogRegistration, null);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> catalogRegister(CatalogRegistration catalogRegistration, String token) {
+		String json = rawClient.getJsonCodec().toJson(catalogRegistration);
+		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
+
+		CompletableFuture<HttpResponse<Void>> future = rawClient.makePutRequestAsync("/v1/catalog/register", json, r -> null, tokenParam);
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				return new Response<>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> catalogDeregister(CatalogDeregistration catalogDeregistration) {
+		return catalogDeregister(catalogDeregistration, null);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> catalogDeregister(CatalogDeregistration catalogDeregistration, String token) {
+		String json = rawClient.getJsonCodec().toJson(catalogDeregistration);
+		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
+
+		CompletableFuture<HttpResponse<Void>> future = rawClient.makePutRequestAsync("/v1/catalog/deregister", json, r -> null, tokenParam);
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				return new Response<>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<List<String>>> getCatalogDatacenters() {
+		CompletableFuture<HttpResponse<List<String>>> future = rawClient.makeGetRequestAsync("/v1/catalog/datacenters", STRING_LIST_TYPE);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				List<String> value = httpResponse.getContent();
+				return new Response<>(value, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<List<Node>>> getCatalogNodes(CatalogNodesRequest catalogNodesRequest) {
+		Request request = Request.Builder.newBuilder()
+			.setEndpoint("/v1/catalog/nodes")
+			.addUrlParameters(catalogNodesRequest.asUrlParameters())
+			.build();
+
+		CompletableFuture<HttpResponse<List<Node>>> future = rawClient.makeGetRequestAsync(request, NODE_LIST_TYPE);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				List<Node> value = httpResponse.getContent();
+				return new Response<>(value, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Map<String, List<String>>>> getCatalogServices(CatalogServicesRequest catalogServicesRequest) {
+		Request request = Request.Builder.newBuilder()
+			.setEndpoint("/v1/catalog/services")
+			.addUrlParameters(catalogServicesRequest.asUrlParameters())
+			.setCacheControl(catalogServicesRequest.getCacheControl())
+			.build();
+
+		CompletableFuture<HttpResponse<Map<String, List<String>>>> future = rawClient.makeGetRequestAsync(request, STRING_LIST_MAP_TYPE);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				Map<String, List<String>> value = httpResponse.getContent();
+				return new Response<>(value, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<List<CatalogService>>> getCatalogService(String serviceName, CatalogServiceRequest catalogServiceRequest) {
+		Request request = Request.Builder.newBuilder()
+			.setEndpoint("/v1/catalog/service/" + serviceName)
+			.addUrlParameters(catalogServiceRequest.asUrlParameters())
+			.setCacheControl(catalogServiceRequest.getCacheControl())
+			.build();
+
+		CompletableFuture<HttpResponse<List<com.ecwid.consul.v1.catalog.model.CatalogService>>> future = rawClient.makeGetRequestAsync(request, CATALOG_SERVICE_LIST_TYPE);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				List<com.ecwid.consul.v1.catalog.model.CatalogService> value = httpResponse.getContent();
+				return new Response<>(value, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<CatalogNode>> getCatalogNode(String nodeName, QueryParams queryParams) {
+		CompletableFuture<HttpResponse<CatalogNode>> future = rawClient.makeGetRequestAsync("/v1/catalog/node/" + nodeName, CATALOG_NODE_TYPE, queryParams);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				CatalogNode catalogNode = httpResponse.getContent();
+				return new Response<>(catalogNode, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+}
@@ -2,13 +2,13 @@ package com.ecwid.consul.v1.catalog;
 
 import com.ecwid.consul.SingleUrlParameters;
 import com.ecwid.consul.UrlParameters;
-import com.ecwid.consul.json.GsonFactory;
 import com.ecwid.consul.transport.HttpResponse;
 import com.ecwid.consul.transport.TLSConfig;
 import com.ecwid.consul.v1.*;
 import com.ecwid.consul.v1.catalog.model.*;
 import com.google.gson.reflect.TypeToken;
 
+import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Map;
 
@@ -17,6 +17,12 @@ import java.util.Map;
  */
 public final class CatalogConsulClient implements CatalogClient {
 
+	private static final Type STRING_LIST_TYPE = new TypeToken<List<String>>() {}.getType();
+	private static final Type NODE_LIST_TYPE = new TypeToken<List<Node>>() {}.getType();
+	private static final Type STRING_LIST_MAP_TYPE = new TypeToken<Map<String, List<String>>>() {}.getType();
+	private static final Type CATALOG_SERVICE_LIST_TYPE = new TypeToken<List<com.ecwid.consul.v1.catalog.model.CatalogService>>() {}.getType();
+	private static final Type CATALOG_NODE_TYPE = new TypeToken<CatalogNode>() {}.getType();
+
 	private final ConsulRawClient rawClient;
 
 	public CatalogConsulClient(ConsulRawClient rawClient) {
@@ -54,7 +60,7 @@ public final class CatalogConsulClient implements CatalogClient {
 
 	@Override
 	public Response<Void> catalogRegister(CatalogRegistration catalogRegistration, String token) {
-		String json = GsonFactory.getGson().toJson(catalogRegistration);
+		String json = rawClient.getJsonCodec().toJson(catalogRegistration);
 		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
 
 		HttpResponse<Void> httpResponse = rawClient.makePutRequest("/v1/catalog/register", json, r -> null, tokenParam);
@@ -72,7 +78,7 @@ public final class CatalogConsulClient implements CatalogClient {
 
 	@Override
 	public Response<Void> catalogDeregister(CatalogDeregistration catalogDeregistration, String token) {
-		String json = GsonFactory.getGson().toJson(catalogDeregistration);
+		String json = rawClient.getJsonCodec().toJson(catalogDeregistration);
 		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
 
 		HttpResponse<Void> httpResponse = rawClient.makePutRequest("/v1/catalog/deregister", json, r -> null, tokenParam);
@@ -85,9 +91,7 @@ public final class CatalogConsulClient implements CatalogClient {
 
 	@Override
 	public Response<List<String>> getCatalogDatacenters() {
-		HttpResponse<List<String>> httpResponse = rawClient.makeGetRequest("/v1/catalog/datacenters", r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<List<String>>() {}.getType());
-		});
+		HttpResponse<List<String>> httpResponse = rawClient.makeGetRequest("/v1/catalog/datacenters", STRING_LIST_TYPE);
 
 		if (httpResponse.getStatusCode() == 200) {
 			List<String> value = httpResponse.getContent();
@@ -113,9 +117,7 @@ public final class CatalogConsulClient implements CatalogClient {
 			.addUrlParameters(catalogNodesRequest.asUrlParameters())
 			.build();
 
-		HttpResponse<List<Node>> httpResponse = rawClient.makeGetRequest(request, r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<List<Node>>() {}.getType());
-		});
+		HttpResponse<List<Node>> httpResponse = rawClient.makeGetRequest(request, NODE_LIST_TYPE);
 
 		if (httpResponse.getStatusCode() == 200) {
 			List<Node> value = httpResponse.getContent();
@@ -142,9 +144,13 @@ public final class CatalogConsulClient implements CatalogClient {
 
 	@Override
 	public Response<Map<String, List<String>>> getCatalogServices(CatalogServicesRequest catalogServicesRequest) {
-		HttpResponse<Map<String, List<String>>> httpResponse = rawClient.makeGetRequest("/v1/catalog/services", r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<Map<String, List<String>>>() {}.getType());
-		}, catalogServicesRequest.asUrlParameters());
+		Request request = Request.Builder.newBuilder()
+			.setEndpoint("/v1/catalog/services")
+			.addUrlParameters(catalogServicesRequest.asUrlParameters())
+			.setCacheControl(catalogServicesRequest.getCacheControl())
+			.build();
+
+		HttpResponse<Map<String, List<String>>> httpResponse = rawClient.makeGetRequest(request, STRING_LIST_MAP_TYPE);
 
 		if (httpResponse.getStatusCode() == 200) {
 			Map<String, List<String>> value = httpResponse.getContent();
@@ -190,9 +196,13 @@ public final class CatalogConsulClient implements CatalogClient {
 
 	@Override
 	public Response<List<CatalogService>> getCatalogService(String serviceName, CatalogServiceRequest catalogServiceRequest) {
-		HttpResponse<List<com.ecwid.consul.v1.catalog.model.CatalogService>> httpResponse = rawClient.makeGetRequest("/v1/catalog/service/" + serviceName, r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<List<com.ecwid.consul.v1.catalog.model.CatalogService>>() {}.getType());
-		}, catalogServiceRequest.asUrlParameters());
+		Request request = Request.Builder.newBuilder()
+			.setEndpoint("/v1/catalog/service/" + serviceName)
+			.addUrlParameters(catalogServiceRequest.asUrlParameters())
+			.setCacheControl(catalogServiceRequest.getCacheControl())
+			.build();
+
+		HttpResponse<List<com.ecwid.consul.v1.catalog.model.CatalogService>> httpResponse = rawClient.makeGetRequest(request, CATALOG_SERVICE_LIST_TYPE);
 
 		if (httpResponse.getStatusCode() == 200) {
 			List<com.ecwid.consul.v1.catalog.model.CatalogService> value = httpResponse.getContent();
@@ -204,9 +214,7 @@ public final class CatalogConsulClient implements CatalogClient {
 
 	@Override
 	public Response<CatalogNode> getCatalogNode(String nodeName, QueryParams queryParams) {
-		HttpResponse<CatalogNode> httpResponse = rawClient.makeGetRequest("/v1/catalog/node/" + nodeName, r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<CatalogNode>() {}.getType());
-		}, queryParams);
+		HttpResponse<CatalogNode> httpResponse = rawClient.makeGetRequest("/v1/catalog/node/" + nodeName, CATALOG_NODE_TYPE, queryParams);
 
 		if (httpResponse.getStatusCode() == 200) {
 			CatalogNode catalogNode = httpResponse.getContent();
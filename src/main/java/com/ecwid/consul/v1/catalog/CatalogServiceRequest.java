@@ -4,6 +4,7 @@ import com.ecwid.consul.ConsulRequest;
 import com.ecwid.consul.SingleUrlParameters;
 import com.ecwid.consul.v1.TagsParameters;
 import com.ecwid.consul.UrlParameters;
+import com.ecwid.consul.v1.CacheControl;
 import com.ecwid.consul.v1.NodeMetaParameters;
 import com.ecwid.consul.v1.QueryParams;
 
@@ -22,14 +23,19 @@ public final class CatalogServiceRequest implements ConsulRequest {
 	private final Map<String, String> nodeMeta;
 	private final QueryParams queryParams;
 	private final String token;
+	private final boolean cached;
+	private final CacheControl cacheControl;
 
-	private CatalogServiceRequest(String datacenter, String[] tags, String near, Map<String, String> nodeMeta, QueryParams queryParams, String token) {
+	private CatalogServiceRequest(String datacenter, String[] tags, String near, Map<String, String> nodeMeta, QueryParams queryParams, String token,
+	                              boolean cached, CacheControl cacheControl) {
 		this.datacenter = datacenter;
 		this.tags = tags;
 		this.near = near;
 		this.nodeMeta = nodeMeta;
 		this.queryParams = queryParams;
 		this.token = token;
+		this.cached = cached;
+		this.cacheControl = cacheControl;
 	}
 
 	public String getDatacenter() {
@@ -60,6 +66,14 @@ public final class CatalogServiceRequest implements ConsulRequest {
 		return token;
 	}
 
+	public boolean isCached() {
+		return cached || cacheControl != null;
+	}
+
+	public CacheControl getCacheControl() {
+		return cacheControl;
+	}
+
 	public static class Builder {
 		private String datacenter;
 		private String[] tags;
@@ -67,6 +81,8 @@ public final class CatalogServiceRequest implements ConsulRequest {
 		private Map<String, String> nodeMeta;
 		private QueryParams queryParams;
 		private String token;
+		private boolean cached;
+		private CacheControl cacheControl;
 
 		private Builder() {
 		}
@@ -111,8 +127,24 @@ public final class CatalogServiceRequest implements ConsulRequest {
 			return this;
 		}
 
+		/**
+		 * Use cached queries, see https://www.consul.io/api-docs/features/caching
+		 */
+		public Builder setCached(boolean cached) {
+			this.cached = cached;
+			return this;
+		}
+
+		/**
+		 * Cache-Control of the cached query, implies {@link #setCached(boolean)}
+		 */
+		public Builder setCacheControl(CacheControl cacheControl) {
+			this.cacheControl = cacheControl;
+			return this;
+		}
+
 		public CatalogServiceRequest build() {
-			return new CatalogServiceRequest(datacenter, tags, near, nodeMeta, queryParams, token);
+			return new CatalogServiceRequest(datacenter, tags, near, nodeMeta, queryParams, token, cached, cacheControl);
 		}
 	}
 
@@ -148,6 +180,11 @@ public final class CatalogServiceRequest implements ConsulRequest {
 			params.add(new SingleUrlParameters("token", token));
 		}
 
+		if (isCached()) {
+			// any value is true
+			params.add(new SingleUrlParameters("cached", "1"));
+		}
+
 		return params;
 	}
 
@@ -165,12 +202,14 @@ public final class CatalogServiceRequest implements ConsulRequest {
 			Objects.equals(near, that.near) &&
 			Objects.equals(nodeMeta, that.nodeMeta) &&
 			Objects.equals(queryParams, that.queryParams) &&
-			Objects.equals(token, that.token);
+			Objects.equals(token, that.token) &&
+			cached == that.cached &&
+			Objects.equals(cacheControl, that.cacheControl);
 	}
 
 	@Override
 	public int hashCode() {
-		int result = Objects.hash(datacenter, near, nodeMeta, queryParams, token);
+		int result = Objects.hash(datacenter, near, nodeMeta, queryParams, token, cached, cacheControl);
 		result = 31 * result + Arrays.hashCode(tags);
 		return result;
 	}
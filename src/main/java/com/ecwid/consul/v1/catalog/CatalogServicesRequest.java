@@ -3,6 +3,7 @@ package com.ecwid.consul.v1.catalog;
 import com.ecwid.consul.ConsulRequest;
 import com.ecwid.consul.SingleUrlParameters;
 import com.ecwid.consul.UrlParameters;
+import com.ecwid.consul.v1.CacheControl;
 import com.ecwid.consul.v1.NodeMetaParameters;
 import com.ecwid.consul.v1.QueryParams;
 
@@ -18,12 +19,21 @@ public final class CatalogServicesRequest implements ConsulRequest {
 	private final Map<String, String> nodeMeta;
 	private final QueryParams queryParams;
 	private final String token;
+	private final boolean cached;
+	private final CacheControl cacheControl;
 
 	public CatalogServicesRequest(String datacenter, Map<String, String> nodeMeta, QueryParams queryParams, String token) {
+		this(datacenter, nodeMeta, queryParams, token, false, null);
+	}
+
+	private CatalogServicesRequest(String datacenter, Map<String, String> nodeMeta, QueryParams queryParams, String token,
+	                               boolean cached, CacheControl cacheControl) {
 		this.datacenter = datacenter;
 		this.nodeMeta = nodeMeta;
 		this.queryParams = queryParams;
 		this.token = token;
+		this.cached = cached;
+		this.cacheControl = cacheControl;
 	}
 
 	public String getDatacenter() {
@@ -42,11 +52,21 @@ public final class CatalogServicesRequest implements ConsulRequest {
 		return token;
 	}
 
+	public boolean isCached() {
+		return cached || cacheControl != null;
+	}
+
+	public CacheControl getCacheControl() {
+		return cacheControl;
+	}
+
 	public static class Builder {
 		private String datacenter;
 		private Map<String, String> nodeMeta;
 		private QueryParams queryParams;
 		private String token;
+		private boolean cached;
+		private CacheControl cacheControl;
 
 		private Builder() {
 		}
@@ -76,8 +96,24 @@ public final class CatalogServicesRequest implements ConsulRequest {
 			return this;
 		}
 
+		/**
+		 * Use cached queries, see https://www.consul.io/api-docs/features/caching
+		 */
+		public Builder setCached(boolean cached) {
+			this.cached = cached;
+			return this;
+		}
+
+		/**
+		 * Cache-Control of the cached query, implies {@link #setCached(boolean)}
+		 */
+		public Builder setCacheControl(CacheControl cacheControl) {
+			this.cacheControl = cacheControl;
+			return this;
+		}
+
 		public CatalogServicesRequest build() {
-			return new CatalogServicesRequest(datacenter, nodeMeta, queryParams, token);
+			return new CatalogServicesRequest(datacenter, nodeMeta, queryParams, token, cached, cacheControl);
 		}
 	}
 
@@ -105,6 +141,11 @@ public final class CatalogServicesRequest implements ConsulRequest {
 			params.add(new SingleUrlParameters("token", token));
 		}
 
+		if (isCached()) {
+			// any value is true
+			params.add(new SingleUrlParameters("cached", "1"));
+		}
+
 		return params;
 	}
 
@@ -120,11 +161,13 @@ public final class CatalogServicesRequest implements ConsulRequest {
 		return Objects.equals(datacenter, that.datacenter) &&
 			Objects.equals(nodeMeta, that.nodeMeta) &&
 			Objects.equals(queryParams, that.queryParams) &&
-			Objects.equals(token, that.token);
+			Objects.equals(token, that.token) &&
+			cached == that.cached &&
+			Objects.equals(cacheControl, that.cacheControl);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(datacenter, nodeMeta, queryParams, token);
+		return Objects.hash(datacenter, nodeMeta, queryParams, token, cached, cacheControl);
 	}
 }
@@ -0,0 +1,21 @@
+package com.ecwid.consul.v1.coordinate;
+
+import com.ecwid.consul.v1.QueryParams;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.coordinate.model.Datacenter;
+import com.ecwid.consul.v1.coordinate.model.Node;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link CoordinateClient}, all methods return immediately and complete the future
+ * when the response arrives. Failures are reported through the future, not thrown.
+ */
+public interface AsyncCoordinateClient {
+
+	public CompletableFuture<Response<List<Datacenter>>> getDatacenters();
+
+	public CompletableFuture<Response<List<Node>>> getNodes(QueryParams queryParams);
+
+}
@@ -0,0 +1,57 @@
+package com.ecwid.consul.v1.coordinate;
+
+import com.ecwid.consul.transport.HttpResponse;
+import com.ecwid.consul.v1.ConsulRawClient;
+import com.ecwid.consul.v1.OperationException;
+import com.ecwid.consul.v1.QueryParams;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.coordinate.model.Datacenter;
+import com.ecwid.consul.v1.coordinate.model.Node;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking implementation of {@link AsyncCoordinateClient} on top of {@link ConsulRawClient} async requests.
+ */
+public class AsyncCoordinateConsulClient implements AsyncCoordinateClient {
+
+	private static final Type DATACENTER_LIST_TYPE = new TypeToken<List<Datacenter>>() {}.getType();
+	private static final Type NODE_LIST_TYPE = new TypeToken<List<Node>>() {}.getType();
+
+	private final ConsulRawClient rawClient;
+
+	public AsyncCoordinateConsulClient(ConsulRawClient rawClient) {
+		this.rawClient = rawClient;
+	}
+
+	@Override
+	public CompletableFuture<Response<List<Datacenter>>> getDatacenters() {
+		CompletableFuture<HttpResponse<List<Datacenter>>> future = rawClient.makeGetRequestAsync("/v1/coordinate/datacenters", DATACENTER_LIST_TYPE);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				List<Datacenter> value = httpResponse.getContent();
+				return new Response<>(value, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<List<Node>>> getNodes(QueryParams queryParams) {
+		CompletableFuture<HttpResponse<List<Node>>> future = rawClient.makeGetRequestAsync("/v1/coordinate/nodes", NODE_LIST_TYPE, queryParams);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				List<Node> value = httpResponse.getContent();
+				return new Response<>(value, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+}
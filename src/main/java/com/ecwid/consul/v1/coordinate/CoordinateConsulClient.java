@@ -1,6 +1,5 @@
 package com.ecwid.consul.v1.coordinate;
 
-import com.ecwid.consul.json.GsonFactory;
 import com.ecwid.consul.transport.HttpResponse;
 import com.ecwid.consul.v1.ConsulRawClient;
 import com.ecwid.consul.v1.OperationException;
@@ -10,6 +9,7 @@ import com.ecwid.consul.v1.coordinate.model.Datacenter;
 import com.ecwid.consul.v1.coordinate.model.Node;
 import com.google.gson.reflect.TypeToken;
 
+import java.lang.reflect.Type;
 import java.util.List;
 
 /**
@@ -17,6 +17,9 @@ import java.util.List;
  */
 public class CoordinateConsulClient implements CoordinateClient {
 
+	private static final Type DATACENTER_LIST_TYPE = new TypeToken<List<Datacenter>>() {}.getType();
+	private static final Type NODE_LIST_TYPE = new TypeToken<List<Node>>() {}.getType();
+
 	private final ConsulRawClient rawClient;
 
 	public CoordinateConsulClient(ConsulRawClient rawClient) {
@@ -25,9 +28,7 @@ public class CoordinateConsulClient implements CoordinateClient {
 
 	@Override
 	public Response<List<Datacenter>> getDatacenters() {
-		HttpResponse<List<Datacenter>> httpResponse = rawClient.makeGetRequest("/v1/coordinate/datacenters", r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<List<Datacenter>>() {}.getType());
-		});
+		HttpResponse<List<Datacenter>> httpResponse = rawClient.makeGetRequest("/v1/coordinate/datacenters", DATACENTER_LIST_TYPE);
 
 		if (httpResponse.getStatusCode() == 200) {
 			List<Datacenter> value = httpResponse.getContent();
@@ -39,9 +40,7 @@ public class CoordinateConsulClient implements CoordinateClient {
 
 	@Override
 	public Response<List<Node>> getNodes(QueryParams queryParams) {
-		HttpResponse<List<Node>> httpResponse = rawClient.makeGetRequest("/v1/coordinate/nodes", r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<List<Node>>() {}.getType());
-		}, queryParams);
+		HttpResponse<List<Node>> httpResponse = rawClient.makeGetRequest("/v1/coordinate/nodes", NODE_LIST_TYPE, queryParams);
 
 		if (httpResponse.getStatusCode() == 200) {
 			List<Node> value = httpResponse.getContent();
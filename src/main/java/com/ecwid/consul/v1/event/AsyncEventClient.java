@@ -0,0 +1,23 @@
+package com.ecwid.consul.v1.event;
+
+import com.ecwid.consul.v1.QueryParams;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.event.model.Event;
+import com.ecwid.consul.v1.event.model.EventParams;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link EventClient}, all methods return immediately and complete the future
+ * when the response arrives. Failures are reported through the future, not thrown.
+ */
+public interface AsyncEventClient {
+
+	public CompletableFuture<Response<Event>> eventFire(String event, String payload, EventParams eventParams, QueryParams queryParams);
+
+	// -------------------------------------------------------------------------------
+
+	public CompletableFuture<Response<List<Event>>> eventList(EventListRequest eventListRequest);
+
+}
@@ -0,0 +1,80 @@
+package com.ecwid.consul.v1.event;
+
+import com.ecwid.consul.transport.HttpResponse;
+import com.ecwid.consul.transport.TLSConfig;
+import com.ecwid.consul.v1.ConsulRawClient;
+import com.ecwid.consul.v1.OperationException;
+import com.ecwid.consul.v1.QueryParams;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.event.model.Event;
+import com.ecwid.consul.v1.event.model.EventParams;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking implementation of {@link AsyncEventClient} on top of {@link ConsulRawClient} async requests.
+ */
+public final class AsyncEventConsulClient implements AsyncEventClient {
+
+	private static final Type EVENT_TYPE = new TypeToken<Event>() {}.getType();
+	private static final Type EVENT_LIST_TYPE = new TypeToken<List<Event>>() {}.getType();
+
+	private final ConsulRawClient rawClient;
+
+	public AsyncEventConsulClient(ConsulRawClient rawClient) {
+		this.rawClient = rawClient;
+	}
+
+	public AsyncEventConsulClient() {
+		this(new ConsulRawClient());
+	}
+
+	public AsyncEventConsulClient(TLSConfig tlsConfig) {
+		this(new ConsulRawClient(tlsConfig));
+	}
+
+	public AsyncEventConsulClient(String agentHost) {
+		this(new ConsulRawClient(agentHost));
+	}
+
+	public AsyncEventConsulClient(String agentHost, TLSConfig tlsConfig) {
+		this(new ConsulRawClient(agentHost, tlsConfig));
+	}
+
+	public AsyncEventConsulClient(String agentHost, int agentPort, TLSConfig tlsConfig) {
+		this(new ConsulRawClient(agentHost, agentPort, tlsConfig));
+	}
+
+	@Override
+	public CompletableFuture<Response<Event>> eventFire(String event, String payload, EventParams eventParams, QueryParams queryParams) {
+		CompletableFuture<HttpResponse<Event>> future = rawClient.makePutRequestAsync("/v1/event/fire/" + event, payload, r -> {
+			return rawClient.getJsonCodec().fromJson(r, EVENT_TYPE);
+		}, eventParams, queryParams);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				Event value = httpResponse.getContent();
+				return new Response<>(value, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<List<Event>>> eventList(EventListRequest eventListRequest) {
+		CompletableFuture<HttpResponse<List<Event>>> future = rawClient.makeGetRequestAsync("/v1/event/list", EVENT_LIST_TYPE, eventListRequest.asUrlParameters());
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				List<Event> value = httpResponse.getContent();
+				return new Response<>(value, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+}
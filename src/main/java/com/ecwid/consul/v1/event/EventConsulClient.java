@@ -1,6 +1,5 @@
 package com.ecwid.consul.v1.event;
 
-import com.ecwid.consul.json.GsonFactory;
 import com.ecwid.consul.transport.HttpResponse;
 import com.ecwid.consul.transport.TLSConfig;
 import com.ecwid.consul.v1.ConsulRawClient;
@@ -11,6 +10,7 @@ import com.ecwid.consul.v1.event.model.Event;
 import com.ecwid.consul.v1.event.model.EventParams;
 import com.google.gson.reflect.TypeToken;
 
+import java.lang.reflect.Type;
 import java.util.List;
 
 /**
@@ -18,6 +18,9 @@ import java.util.List;
  */
 public final class EventConsulClient implements EventClient {
 
+	private static final Type EVENT_TYPE = new TypeToken<Event>() {}.getType();
+	private static final Type EVENT_LIST_TYPE = new TypeToken<List<Event>>() {}.getType();
+
 	private final ConsulRawClient rawClient;
 
 	public EventConsulClient(ConsulRawClient rawClient) {
@@ -47,7 +50,7 @@ public final class EventConsulClient implements EventClient {
 	@Override
 	public Response<Event> eventFire(String event, String payload, EventParams eventParams, QueryParams queryParams) {
 		HttpResponse<Event> httpResponse = rawClient.makePutRequest("/v1/event/fire/" + event, payload, r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<Event>() {}.getType());
+			return rawClient.getJsonCodec().fromJson(r, EVENT_TYPE);
 		}, eventParams, queryParams);
 
 		if (httpResponse.getStatusCode() == 200) {
@@ -75,9 +78,7 @@ public final class EventConsulClient implements EventClient {
 
 	@Override
 	public Response<List<Event>> eventList(EventListRequest eventListRequest) {
-		HttpResponse<List<Event>> httpResponse = rawClient.makeGetRequest("/v1/event/list", r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<List<Event>>() {}.getType());
-		}, eventListRequest.asUrlParameters());
+		HttpResponse<List<Event>> httpResponse = rawClient.makeGetRequest("/v1/event/list", EVENT_LIST_TYPE, eventListRequest.asUrlParameters());
 
 		if (httpResponse.getStatusCode() == 200) {
 			List<Event> value = httpResponse.getContent();
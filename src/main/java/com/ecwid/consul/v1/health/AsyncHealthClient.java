@@ -0,0 +1,31 @@
+package com.ecwid.consul.v1.health;
+
+import com.ecwid.consul.v1.QueryParams;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.health.model.Check;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link HealthClient}, all methods return immediately and complete the future
+ * when the response arrives. Failures are reported through the future, not thrown.
+ */
+public interface AsyncHealthClient {
+
+	public CompletableFuture<Response<List<Check>>> getHealthChecksForNode(String nodeName, QueryParams queryParams);
+
+	// -------------------------------------------------------------------------------
+
+	public CompletableFuture<Response<List<Check>>> getHealthChecksForService(String serviceName, HealthChecksForServiceRequest healthChecksForServiceRequest);
+
+	// -------------------------------------------------------------------------------
+
+	public CompletableFuture<Response<List<com.ecwid.consul.v1.health.model.HealthService>>> getHealthServices(String serviceName, HealthServicesRequest healthServicesRequest);
+
+	// -------------------------------------------------------------------------------
+
+	public CompletableFuture<Response<List<Check>>> getHealthChecksState(QueryParams queryParams);
+
+	public CompletableFuture<Response<List<Check>>> getHealthChecksState(Check.CheckStatus checkStatus, QueryParams queryParams);
+}
@@ -0,0 +1,130 @@
+package com.ecwid.consul.v1.health;
+
+import com.ecwid.consul.transport.HttpResponse;
+import com.ecwid.consul.transport.TLSConfig;
+import com.ecwid.consul.v1.ConsulRawClient;
+import com.ecwid.consul.v1.OperationException;
+import com.ecwid.consul.v1.QueryParams;
+import com.ecwid.consul.v1.Request;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.health.model.Check;
+import com.ecwid.consul.v1.health.model.HealthService;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking implementation of {@link AsyncHealthClient} on top of {@link ConsulRawClient} async requests.
+ */
+public final class AsyncHealthConsulClient implements AsyncHealthClient {
+
+	private static final Type CHECK_LIST_TYPE = new TypeToken<List<Check>>() {}.getType();
+	private static final Type HEALTH_SERVICE_LIST_TYPE = new TypeToken<List<com.ecwid.consul.v1.health.model.HealthService>>() {}.getType();
+
+	private final ConsulRawClient rawClient;
+
+	public AsyncHealthConsulClient(ConsulRawClient rawClient) {
+		this.rawClient = rawClient;
+	}
+
+	public AsyncHealthConsulClient() {
+		this(new ConsulRawClient());
+	}
+
+	public AsyncHealthConsulClient(TLSConfig tlsConfig) {
+		this(new ConsulRawClient(tlsConfig));
+	}
+
+	public AsyncHealthConsulClient(String agentHost) {
+		this(new ConsulRawClient(agentHost));
+	}
+
+	public AsyncHealthConsulClient(String agentHost, TLSConfig tlsConfig) {
+		this(new ConsulRawClient(agentHost, tlsConfig));
+	}
+
+	public AsyncHealthConsulClient(String agentHost, int agentPort) {
+		this(new ConsulRawClient(agentHost, agentPort));
+	}
+
+	public AsyncHealthConsulClient(String agentHost, int agentPort, TLSConfig tlsConfig) {
+		this(new ConsulRawClient(agentHost, agentPort, tlsConfig));
+	}
+
+	@Override
+	public CompletableFuture<Response<List<Check>>> getHealthChecksForNode(String nodeName, QueryParams queryParams) {
+		CompletableFuture<HttpResponse<List<Check>>> future = rawClient.makeGetRequestAsync("/v1/health/node/" + nodeName, CHECK_LIST_TYPE, queryParams);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				List<Check> value = httpResponse.getContent();
+				return new Response<>(value, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<List<Check>>> getHealthChecksForService(String serviceName, HealthChecksForServiceRequest healthChecksForServiceRequest) {
+		Request request = Request.Builder.newBuilder()
+			.setEndpoint("/v1/health/checks/" + serviceName)
+			.addUrlParameters(healthChecksForServiceRequest.asUrlParameters())
+			.setCacheControl(healthChecksForServiceRequest.getCacheControl())
+			.build();
+
+		CompletableFuture<HttpResponse<List<Check>>> future = rawClient.makeGetRequestAsync(request, CHECK_LIST_TYPE);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				List<Check> value = httpResponse.getContent();
+				return new Response<>(value, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<List<HealthService>>> getHealthServices(String serviceName, HealthServicesRequest healthServicesRequest) {
+		Request request = Request.Builder.newBuilder()
+			.setEndpoint("/v1/health/service/" + serviceName)
+			.addUrlParameters(healthServicesRequest.asUrlParameters())
+			.setCacheControl(healthServicesRequest.getCacheControl())
+			.build();
+
+		CompletableFuture<HttpResponse<List<com.ecwid.consul.v1.health.model.HealthService>>> future = rawClient.makeGetRequestAsync(request, HEALTH_SERVICE_LIST_TYPE);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				List<com.ecwid.consul.v1.health.model.HealthService> value = httpResponse.getContent();
+				return new Response<>(value, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<List<Check>>> getHealthChecksState(QueryParams queryParams) {
+		return getHealthChecksState(null, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<Check>>> getHealthChecksState(Check.CheckStatus checkStatus, QueryParams queryParams) {
+		String status = checkStatus == null ? "any" : checkStatus.name().toLowerCase();
+		CompletableFuture<HttpResponse<List<Check>>> future = rawClient.makeGetRequestAsync("/v1/health/state/" + status, CHECK_LIST_TYPE, queryParams);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				List<Check> value = httpResponse.getContent();
+				return new Response<>(value, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+}
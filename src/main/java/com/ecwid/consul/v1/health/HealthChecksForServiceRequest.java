@@ -3,6 +3,7 @@ package com.ecwid.consul.v1.health;
 import com.ecwid.consul.ConsulRequest;
 import com.ecwid.consul.SingleUrlParameters;
 import com.ecwid.consul.UrlParameters;
+import com.ecwid.consul.v1.CacheControl;
 import com.ecwid.consul.v1.NodeMetaParameters;
 import com.ecwid.consul.v1.QueryParams;
 
@@ -18,12 +19,21 @@ public final class HealthChecksForServiceRequest implements ConsulRequest {
 	private final String near;
 	private final Map<String, String> nodeMeta;
 	private final QueryParams queryParams;
+	private final boolean cached;
+	private final CacheControl cacheControl;
 
 	public HealthChecksForServiceRequest(String datacenter, String near, Map<String, String> nodeMeta, QueryParams queryParams) {
+		this(datacenter, near, nodeMeta, queryParams, false, null);
+	}
+
+	private HealthChecksForServiceRequest(String datacenter, String near, Map<String, String> nodeMeta, QueryParams queryParams,
+	                                      boolean cached, CacheControl cacheControl) {
 		this.datacenter = datacenter;
 		this.near = near;
 		this.nodeMeta = nodeMeta;
 		this.queryParams = queryParams;
+		this.cached = cached;
+		this.cacheControl = cacheControl;
 	}
 
 	public String getDatacenter() {
@@ -42,11 +52,21 @@ public final class HealthChecksForServiceRequest implements ConsulRequest {
 		return queryParams;
 	}
 
+	public boolean isCached() {
+		return cached || cacheControl != null;
+	}
+
+	public CacheControl getCacheControl() {
+		return cacheControl;
+	}
+
 	public static class Builder {
 		private String datacenter;
 		private String near;
 		private Map<String, String> nodeMeta;
 		private QueryParams queryParams;
+		private boolean cached;
+		private CacheControl cacheControl;
 
 		private Builder() {
 		}
@@ -71,8 +91,24 @@ public final class HealthChecksForServiceRequest implements ConsulRequest {
 			return this;
 		}
 
+		/**
+		 * Use cached queries, see https://www.consul.io/api-docs/features/caching
+		 */
+		public Builder setCached(boolean cached) {
+			this.cached = cached;
+			return this;
+		}
+
+		/**
+		 * Cache-Control of the cached query, implies {@link #setCached(boolean)}
+		 */
+		public Builder setCacheControl(CacheControl cacheControl) {
+			this.cacheControl = cacheControl;
+			return this;
+		}
+
 		public HealthChecksForServiceRequest build() {
-			return new HealthChecksForServiceRequest(datacenter, near, nodeMeta, queryParams);
+			return new HealthChecksForServiceRequest(datacenter, near, nodeMeta, queryParams, cached, cacheControl);
 		}
 	}
 
@@ -100,6 +136,11 @@ public final class HealthChecksForServiceRequest implements ConsulRequest {
 			params.add(queryParams);
 		}
 
+		if (isCached()) {
+			// any value is true
+			params.add(new SingleUrlParameters("cached", "1"));
+		}
+
 		return params;
 	}
 
@@ -115,11 +156,13 @@ public final class HealthChecksForServiceRequest implements ConsulRequest {
 		return Objects.equals(datacenter, that.datacenter) &&
 			Objects.equals(near, that.near) &&
 			Objects.equals(nodeMeta, that.nodeMeta) &&
-			Objects.equals(queryParams, that.queryParams);
+			Objects.equals(queryParams, that.queryParams) &&
+			cached == that.cached &&
+			Objects.equals(cacheControl, that.cacheControl);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(datacenter, near, nodeMeta, queryParams);
+		return Objects.hash(datacenter, near, nodeMeta, queryParams, cached, cacheControl);
 	}
 }
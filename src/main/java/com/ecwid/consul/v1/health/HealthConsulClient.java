@@ -1,16 +1,17 @@
 package com.ecwid.consul.v1.health;
 
-import com.ecwid.consul.json.GsonFactory;
 import com.ecwid.consul.transport.HttpResponse;
 import com.ecwid.consul.transport.TLSConfig;
 import com.ecwid.consul.v1.ConsulRawClient;
 import com.ecwid.consul.v1.OperationException;
 import com.ecwid.consul.v1.QueryParams;
+import com.ecwid.consul.v1.Request;
 import com.ecwid.consul.v1.Response;
 import com.ecwid.consul.v1.health.model.Check;
 import com.ecwid.consul.v1.health.model.HealthService;
 import com.google.gson.reflect.TypeToken;
 
+import java.lang.reflect.Type;
 import java.util.List;
 
 /**
@@ -18,6 +19,9 @@ import java.util.List;
  */
 public final class HealthConsulClient implements HealthClient {
 
+	private static final Type CHECK_LIST_TYPE = new TypeToken<List<Check>>() {}.getType();
+	private static final Type HEALTH_SERVICE_LIST_TYPE = new TypeToken<List<com.ecwid.consul.v1.health.model.HealthService>>() {}.getType();
+
 	private final ConsulRawClient rawClient;
 
 	public HealthConsulClient(ConsulRawClient rawClient) {
@@ -50,9 +54,7 @@ public final class HealthConsulClient implements HealthClient {
 
 	@Override
 	public Response<List<Check>> getHealthChecksForNode(String nodeName, QueryParams queryParams) {
-		HttpResponse<List<Check>> httpResponse = rawClient.makeGetRequest("/v1/health/node/" + nodeName, r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<List<Check>>() {}.getType());
-		}, queryParams);
+		HttpResponse<List<Check>> httpResponse = rawClient.makeGetRequest("/v1/health/node/" + nodeName, CHECK_LIST_TYPE, queryParams);
 
 		if (httpResponse.getStatusCode() == 200) {
 			List<Check> value = httpResponse.getContent();
@@ -73,9 +75,13 @@ public final class HealthConsulClient implements HealthClient {
 
 	@Override
 	public Response<List<Check>> getHealthChecksForService(String serviceName, HealthChecksForServiceRequest healthChecksForServiceRequest) {
-		HttpResponse<List<Check>> httpResponse = rawClient.makeGetRequest("/v1/health/checks/" + serviceName, r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<List<Check>>() {}.getType());
-		}, healthChecksForServiceRequest.asUrlParameters());
+		Request request = Request.Builder.newBuilder()
+			.setEndpoint("/v1/health/checks/" + serviceName)
+			.addUrlParameters(healthChecksForServiceRequest.asUrlParameters())
+			.setCacheControl(healthChecksForServiceRequest.getCacheControl())
+			.build();
+
+		HttpResponse<List<Check>> httpResponse = rawClient.makeGetRequest(request, CHECK_LIST_TYPE);
 
 		if (httpResponse.getStatusCode() == 200) {
 			List<Check> value = httpResponse.getContent();
@@ -119,9 +125,13 @@ public final class HealthConsulClient implements HealthClient {
 
 	@Override
 	public Response<List<HealthService>> getHealthServices(String serviceName, HealthServicesRequest healthServicesRequest) {
-		HttpResponse<List<com.ecwid.consul.v1.health.model.HealthService>> httpResponse = rawClient.makeGetRequest("/v1/health/service/" + serviceName, r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<List<com.ecwid.consul.v1.health.model.HealthService>>() {}.getType());
-		}, healthServicesRequest.asUrlParameters());
+		Request request = Request.Builder.newBuilder()
+			.setEndpoint("/v1/health/service/" + serviceName)
+			.addUrlParameters(healthServicesRequest.asUrlParameters())
+			.setCacheControl(healthServicesRequest.getCacheControl())
+			.build();
+
+		HttpResponse<List<com.ecwid.consul.v1.health.model.HealthService>> httpResponse = rawClient.makeGetRequest(request, HEALTH_SERVICE_LIST_TYPE);
 
 		if (httpResponse.getStatusCode() == 200) {
 			List<com.ecwid.consul.v1.health.model.HealthService> value = httpResponse.getContent();
@@ -139,9 +149,7 @@ public final class HealthConsulClient implements HealthClient {
 	@Override
 	public Response<List<Check>> getHealthChecksState(Check.CheckStatus checkStatus, QueryParams queryParams) {
 		String status = checkStatus == null ? "any" : checkStatus.name().toLowerCase();
-		HttpResponse<List<Check>> httpResponse = rawClient.makeGetRequest("/v1/health/state/" + status, r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<List<Check>>() {}.getType());
-		}, queryParams);
+		HttpResponse<List<Check>> httpResponse = rawClient.makeGetRequest("/v1/health/state/" + status, CHECK_LIST_TYPE, queryParams);
 
 		if (httpResponse.getStatusCode() == 200) {
 			List<Check> value = httpResponse.getContent();
@@ -3,6 +3,7 @@ package com.ecwid.consul.v1.health;
 import com.ecwid.consul.ConsulRequest;
 import com.ecwid.consul.SingleUrlParameters;
 import com.ecwid.consul.UrlParameters;
+import com.ecwid.consul.v1.CacheControl;
 import com.ecwid.consul.v1.Filter;
 import com.ecwid.consul.v1.NodeMetaParameters;
 import com.ecwid.consul.v1.QueryParams;
@@ -26,6 +27,7 @@ public final class HealthServicesRequest implements ConsulRequest {
 	private final String token;
 	private final Filter filter;
 	private final boolean cached;
+	private final CacheControl cacheControl;
 
 	private HealthServicesRequest(
 			String datacenter,
@@ -46,6 +48,7 @@ public final class HealthServicesRequest implements ConsulRequest {
 		this.token = token;
 		this.filter = filter;
 		cached = false;
+		cacheControl = null;
 	}
 
 	private HealthServicesRequest(
@@ -57,7 +60,8 @@ public final class HealthServicesRequest implements ConsulRequest {
 			QueryParams queryParams,
 			String token,
 			Filter filter,
-			boolean cached
+			boolean cached,
+			CacheControl cacheControl
 	) {
 		this.datacenter = datacenter;
 		this.near = near;
@@ -68,6 +72,7 @@ public final class HealthServicesRequest implements ConsulRequest {
 		this.token = token;
 		this.filter = filter;
 		this.cached = cached;
+		this.cacheControl = cacheControl;
 	}
 
 	public String getDatacenter() {
@@ -117,7 +122,11 @@ public final class HealthServicesRequest implements ConsulRequest {
 	}
 
 	public boolean isCached() {
-		return cached;
+		return cached || cacheControl != null;
+	}
+
+	public CacheControl getCacheControl() {
+		return cacheControl;
 	}
 
 	public static class Builder {
@@ -130,6 +139,7 @@ public final class HealthServicesRequest implements ConsulRequest {
 		private QueryParams queryParams;
 		private String token;
 		private boolean cached;
+		private CacheControl cacheControl;
 
 		private Builder() {
 		}
@@ -197,8 +207,16 @@ public final class HealthServicesRequest implements ConsulRequest {
 			return this;
 		}
 
+		/**
+		 * Cache-Control of the cached query, implies {@link #setCached(boolean)}
+		 */
+		public Builder setCacheControl(CacheControl cacheControl) {
+			this.cacheControl = cacheControl;
+			return this;
+		}
+
 		public HealthServicesRequest build() {
-			return new HealthServicesRequest(datacenter, near, tags, nodeMeta, passing, queryParams, token, filter, cached);
+			return new HealthServicesRequest(datacenter, near, tags, nodeMeta, passing, queryParams, token, filter, cached, cacheControl);
 		}
 	}
 
@@ -240,7 +258,7 @@ public final class HealthServicesRequest implements ConsulRequest {
 			params.add(new SingleUrlParameters("token", token));
 		}
 
-		if (cached) {
+		if (isCached()) {
 			// any value is true
 			params.add(new SingleUrlParameters("cached", "1"));
 		}
@@ -265,12 +283,13 @@ public final class HealthServicesRequest implements ConsulRequest {
 			Objects.equals(nodeMeta, that.nodeMeta) &&
 			Objects.equals(queryParams, that.queryParams) &&
 			Objects.equals(token, that.token) &&
-			Objects.equals(cached, that.cached);
+			Objects.equals(cached, that.cached) &&
+			Objects.equals(cacheControl, that.cacheControl);
 	}
 
 	@Override
 	public int hashCode() {
-		int result = Objects.hash(datacenter, near, nodeMeta, passing, queryParams, token, filter, cached);
+		int result = Objects.hash(datacenter, near, nodeMeta, passing, queryParams, token, filter, cached, cacheControl);
 		result = 31 * result + Arrays.hashCode(tags);
 		return result;
 	}
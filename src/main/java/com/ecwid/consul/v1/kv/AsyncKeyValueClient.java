@@ -0,0 +1,147 @@
+package com.ecwid.consul.v1.kv;
+
+import com.ecwid.consul.transport.ContentSource;
+import com.ecwid.consul.v1.QueryParams;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.kv.model.GetBinaryValue;
+import com.ecwid.consul.v1.kv.model.GetValue;
+import com.ecwid.consul.v1.kv.model.PutParams;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Non-blocking counterpart of {@link KeyValueClient}, all methods return immediately and complete the future
+ * when the response arrives. Failures are reported through the future, not thrown.
+ */
+public interface AsyncKeyValueClient {
+
+	public CompletableFuture<Response<GetValue>> getKVValue(String key);
+
+	public CompletableFuture<Response<GetValue>> getKVValue(String key, String token);
+
+	public CompletableFuture<Response<GetValue>> getKVValue(String key, QueryParams queryParams);
+
+	public CompletableFuture<Response<GetValue>> getKVValue(String key, String token, QueryParams queryParams);
+
+
+	public CompletableFuture<Response<GetBinaryValue>> getKVBinaryValue(String key);
+
+	public CompletableFuture<Response<GetBinaryValue>> getKVBinaryValue(String key, String token);
+
+	public CompletableFuture<Response<GetBinaryValue>> getKVBinaryValue(String key, QueryParams queryParams);
+
+	public CompletableFuture<Response<GetBinaryValue>> getKVBinaryValue(String key, String token, QueryParams queryParams);
+
+
+	/**
+	 * Reads the value with ?raw: the response body is the value itself, there is no JSON and Base64 decoding.
+	 * The modify index of the key is {@link Response#getConsulIndex()}, the value is null if there is no such key.
+	 * {@link java.nio.ByteBuffer#wrap(byte[])} gives a ByteBuffer view without a copy.
+	 */
+	public CompletableFuture<Response<byte[]>> getKVRawValue(String key);
+
+	public CompletableFuture<Response<byte[]>> getKVRawValue(String key, String token);
+
+	public CompletableFuture<Response<byte[]>> getKVRawValue(String key, QueryParams queryParams);
+
+	public CompletableFuture<Response<byte[]>> getKVRawValue(String key, String token, QueryParams queryParams);
+
+	/**
+	 * Same as {@link #getKVRawValue(String, String, QueryParams)}, but the value is copied to the stream while the
+	 * response body arrives instead of being held in memory. The response value is the number of copied bytes, null if
+	 * there is no such key. The stream is written on the response executor of the transport.
+	 */
+	public CompletableFuture<Response<Long>> getKVRawValue(String key, OutputStream out, String token, QueryParams queryParams);
+
+
+	public CompletableFuture<Response<List<GetValue>>> getKVValues(String keyPrefix);
+
+	public CompletableFuture<Response<List<GetValue>>> getKVValues(String keyPrefix, String token);
+
+	public CompletableFuture<Response<List<GetValue>>> getKVValues(String keyPrefix, QueryParams queryParams);
+
+	public CompletableFuture<Response<List<GetValue>>> getKVValues(String keyPrefix, String token, QueryParams queryParams);
+
+	/**
+	 * Decodes the values one by one while the response body arrives and passes them to the consumer, so neither the
+	 * body nor the whole list is held in memory. The response value is the number of values, 0 if there are no keys
+	 * with the prefix. The consumer is called on the response executor of the transport, see
+	 * {@link com.ecwid.consul.transport.HttpTransportConfig#getAsyncResponseExecutor()}.
+	 */
+	public CompletableFuture<Response<Long>> getKVValues(String keyPrefix, String token, QueryParams queryParams, Consumer<GetValue> consumer);
+
+
+	public CompletableFuture<Response<List<GetBinaryValue>>> getKVBinaryValues(String keyPrefix);
+
+	public CompletableFuture<Response<List<GetBinaryValue>>> getKVBinaryValues(String keyPrefix, String token);
+
+	public CompletableFuture<Response<List<GetBinaryValue>>> getKVBinaryValues(String keyPrefix, QueryParams queryParams);
+
+	public CompletableFuture<Response<List<GetBinaryValue>>> getKVBinaryValues(String keyPrefix, String token, QueryParams queryParams);
+
+	public CompletableFuture<Response<Long>> getKVBinaryValues(String keyPrefix, String token, QueryParams queryParams, Consumer<GetBinaryValue> consumer);
+
+
+	public CompletableFuture<Response<List<String>>> getKVKeysOnly(String keyPrefix);
+
+	public CompletableFuture<Response<List<String>>> getKVKeysOnly(String keyPrefix, String separator, String token);
+
+	public CompletableFuture<Response<List<String>>> getKVKeysOnly(String keyPrefix, QueryParams queryParams);
+
+	public CompletableFuture<Response<List<String>>> getKVKeysOnly(String keyPrefix, String separator, String token, QueryParams queryParams);
+
+
+	public CompletableFuture<Response<Boolean>> setKVValue(String key, String value);
+
+	public CompletableFuture<Response<Boolean>> setKVValue(String key, String value, PutParams putParams);
+
+	public CompletableFuture<Response<Boolean>> setKVValue(String key, String value, String token, PutParams putParams);
+
+	public CompletableFuture<Response<Boolean>> setKVValue(String key, String value, QueryParams queryParams);
+
+	public CompletableFuture<Response<Boolean>> setKVValue(String key, String value, PutParams putParams, QueryParams queryParams);
+
+	public CompletableFuture<Response<Boolean>> setKVValue(String key, String value, String token, PutParams putParams, QueryParams queryParams);
+
+
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, byte[] value);
+
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, byte[] value, PutParams putParams);
+
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, byte[] value, String token, PutParams putParams);
+
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, byte[] value, QueryParams queryParams);
+
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, byte[] value, PutParams putParams, QueryParams queryParams);
+
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, byte[] value, String token, PutParams putParams, QueryParams queryParams);
+
+	/**
+	 * Same as the byte[] variants, but the value is streamed from the source, see {@link ContentSource}
+	 */
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, ContentSource value);
+
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, ContentSource value, String token, PutParams putParams, QueryParams queryParams);
+
+
+	public CompletableFuture<Response<Void>> deleteKVValue(String key);
+
+	public CompletableFuture<Response<Void>> deleteKVValue(String key, String token);
+
+	public CompletableFuture<Response<Void>> deleteKVValue(String key, QueryParams queryParams);
+
+	public CompletableFuture<Response<Void>> deleteKVValue(String key, String token, QueryParams queryParams);
+
+
+	public CompletableFuture<Response<Void>> deleteKVValues(String key);
+
+	public CompletableFuture<Response<Void>> deleteKVValues(String key, String token);
+
+	public CompletableFuture<Response<Void>> deleteKVValues(String key, QueryParams queryParams);
+
+	public CompletableFuture<Response<Void>> deleteKVValues(String key, String token, QueryParams queryParams);
+
+}
@@ -0,0 +1,490 @@
+package com.ecwid.consul.v1.kv;
+
+import com.ecwid.consul.ConsulException;
+import com.ecwid.consul.SingleUrlParameters;
+import com.ecwid.consul.UrlParameters;
+import com.ecwid.consul.transport.ContentSource;
+import com.ecwid.consul.transport.HttpResponse;
+import com.ecwid.consul.transport.TLSConfig;
+import com.ecwid.consul.v1.*;
+import com.ecwid.consul.v1.kv.model.GetBinaryValue;
+import com.ecwid.consul.v1.kv.model.GetValue;
+import com.ecwid.consul.v1.kv.model.PutParams;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Non-blocking implementation of {@link AsyncKeyValueClient} on top of {@link ConsulRawClient} async requests.
+ */
+public final class AsyncKeyValueConsulClient implements AsyncKeyValueClient {
+
+	private static final Type GET_VALUE_LIST_TYPE = new TypeToken<List<GetValue>>() {}.getType();
+	private static final Type GET_BINARY_VALUE_LIST_TYPE = new TypeToken<List<GetBinaryValue>>() {}.getType();
+	private static final Type STRING_LIST_TYPE = new TypeToken<List<String>>() {}.getType();
+	private static final Type BOOLEAN_TYPE = new TypeToken<Boolean>() {}.getType();
+
+	private final ConsulRawClient rawClient;
+
+	public AsyncKeyValueConsulClient(ConsulRawClient rawClient) {
+		this.rawClient = rawClient;
+	}
+
+	public AsyncKeyValueConsulClient() {
+		this(new ConsulRawClient());
+	}
+
+	public AsyncKeyValueConsulClient(String agentHost) {
+		this(new ConsulRawClient(agentHost));
+	}
+
+	public AsyncKeyValueConsulClient(String agentHost, int agentPort) {
+		this(new ConsulRawClient(agentHost, agentPort));
+	}
+
+	public AsyncKeyValueConsulClient(TLSConfig tlsConfig) {
+		this(new ConsulRawClient(tlsConfig));
+	}
+
+	public AsyncKeyValueConsulClient(String agentHost, TLSConfig tlsConfig) {
+		this(new ConsulRawClient(agentHost, tlsConfig));
+	}
+
+	public AsyncKeyValueConsulClient(String agentHost, int agentPort, TLSConfig tlsConfig) {
+		this(new ConsulRawClient(agentHost, agentPort, tlsConfig));
+	}
+
+	@Override
+	public CompletableFuture<Response<GetValue>> getKVValue(String key) {
+		return getKVValue(key, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<GetValue>> getKVValue(String key, String token) {
+		return getKVValue(key, token, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<GetValue>> getKVValue(String key, QueryParams queryParams) {
+		return getKVValue(key, null, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<GetValue>> getKVValue(String key, String token, QueryParams queryParams) {
+		UrlParameters tokenParams = token != null ? new SingleUrlParameters("token", token) : null;
+		CompletableFuture<HttpResponse<List<GetValue>>> future = rawClient.makeGetRequestAsync("/v1/kv/" + key, GET_VALUE_LIST_TYPE, tokenParams, queryParams);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				List<GetValue> value = httpResponse.getContent();
+
+				if (value.size() == 0) {
+					return new Response<>(null, httpResponse);
+				} else if (value.size() == 1) {
+					return new Response<>(value.get(0), httpResponse);
+				} else {
+					throw new ConsulException("Strange response (list size=" + value.size() + ")");
+				}
+			} else if (httpResponse.getStatusCode() == 404) {
+				return new Response<>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<GetBinaryValue>> getKVBinaryValue(String key) {
+		return getKVBinaryValue(key, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<GetBinaryValue>> getKVBinaryValue(String key, String token) {
+		return getKVBinaryValue(key, token, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<GetBinaryValue>> getKVBinaryValue(String key, QueryParams queryParams) {
+		return getKVBinaryValue(key, null, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<GetBinaryValue>> getKVBinaryValue(String key, String token, QueryParams queryParams) {
+		UrlParameters tokenParams = token != null ? new SingleUrlParameters("token", token) : null;
+		CompletableFuture<HttpResponse<List<GetBinaryValue>>> future = rawClient.makeGetRequestAsync("/v1/kv/" + key, GET_BINARY_VALUE_LIST_TYPE, tokenParams, queryParams);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				List<GetBinaryValue> value = httpResponse.getContent();
+
+				if (value.size() == 0) {
+					return new Response<>(null, httpResponse);
+				} else if (value.size() == 1) {
+					return new Response<>(value.get(0), httpResponse);
+				} else {
+					throw new ConsulException("Strange response (list size=" + value.size() + ")");
+				}
+			} else if (httpResponse.getStatusCode() == 404) {
+				return new Response<>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<byte[]>> getKVRawValue(String key) {
+		return getKVRawValue(key, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<byte[]>> getKVRawValue(String key, String token) {
+		return getKVRawValue(key, token, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<byte[]>> getKVRawValue(String key, QueryParams queryParams) {
+		return getKVRawValue(key, null, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<byte[]>> getKVRawValue(String key, String token, QueryParams queryParams) {
+		Request request = KeyValueConsulClient.createRawValueRequest(key, token, queryParams)
+			.build();
+
+		CompletableFuture<HttpResponse<byte[]>> future = rawClient.makeGetStreamRequestAsync(request, in -> {
+			return KeyValueStreams.readBytes(in);
+		});
+
+		return future.thenApply(KeyValueConsulClient::createRawValueResponse);
+	}
+
+	@Override
+	public CompletableFuture<Response<Long>> getKVRawValue(String key, OutputStream out, String token, QueryParams queryParams) {
+		// the converter writes to the caller's stream, so the body must be read exactly once
+		Request request = KeyValueConsulClient.createRawValueRequest(key, token, queryParams)
+			.setExclusive(true)
+			.build();
+
+		CompletableFuture<HttpResponse<Long>> future = rawClient.makeGetStreamRequestAsync(request, in -> {
+			return KeyValueStreams.copy(in, out);
+		});
+
+		return future.thenApply(KeyValueConsulClient::createRawValueResponse);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<GetValue>>> getKVValues(String keyPrefix) {
+		return getKVValues(keyPrefix, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<GetValue>>> getKVValues(String keyPrefix, String token) {
+		return getKVValues(keyPrefix, token, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<GetValue>>> getKVValues(String keyPrefix, QueryParams queryParams) {
+		return getKVValues(keyPrefix, null, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<GetValue>>> getKVValues(String keyPrefix, String token, QueryParams queryParams) {
+		UrlParameters recurseParam = new SingleUrlParameters("recurse");
+		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
+		CompletableFuture<HttpResponse<List<GetValue>>> future = rawClient.makeGetRequestAsync("/v1/kv/" + keyPrefix, GET_VALUE_LIST_TYPE, recurseParam, tokenParam, queryParams);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				List<GetValue> value = httpResponse.getContent();
+				return new Response<>(value, httpResponse);
+			} else if (httpResponse.getStatusCode() == 404) {
+				return new Response<>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Long>> getKVValues(String keyPrefix, String token, QueryParams queryParams, Consumer<GetValue> consumer) {
+		Request request = KeyValueConsulClient.createStreamedValuesRequest(keyPrefix, token, queryParams);
+		CompletableFuture<HttpResponse<Long>> future = rawClient.makeGetRequestAsync(request, r -> {
+			return rawClient.getJsonCodec().fromJsonArray(r, GetValue.class, consumer);
+		});
+
+		return future.thenApply(KeyValueConsulClient::createStreamedValuesResponse);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<GetBinaryValue>>> getKVBinaryValues(String keyPrefix) {
+		return getKVBinaryValues(keyPrefix, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<GetBinaryValue>>> getKVBinaryValues(String keyPrefix, String token) {
+		return getKVBinaryValues(keyPrefix, token, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<GetBinaryValue>>> getKVBinaryValues(String keyPrefix, QueryParams queryParams) {
+		return getKVBinaryValues(keyPrefix, null, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<GetBinaryValue>>> getKVBinaryValues(String keyPrefix, String token, QueryParams queryParams) {
+		UrlParameters recurseParam = new SingleUrlParameters("recurse");
+		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
+		CompletableFuture<HttpResponse<List<GetBinaryValue>>> future = rawClient.makeGetRequestAsync("/v1/kv/" + keyPrefix, GET_BINARY_VALUE_LIST_TYPE, recurseParam, tokenParam, queryParams);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				List<GetBinaryValue> value = httpResponse.getContent();
+				return new Response<>(value, httpResponse);
+			} else if (httpResponse.getStatusCode() == 404) {
+				return new Response<>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Long>> getKVBinaryValues(String keyPrefix, String token, QueryParams queryParams, Consumer<GetBinaryValue> consumer) {
+		Request request = KeyValueConsulClient.createStreamedValuesRequest(keyPrefix, token, queryParams);
+		CompletableFuture<HttpResponse<Long>> future = rawClient.makeGetRequestAsync(request, r -> {
+			return rawClient.getJsonCodec().fromJsonArray(r, GetBinaryValue.class, consumer);
+		});
+
+		return future.thenApply(KeyValueConsulClient::createStreamedValuesResponse);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<String>>> getKVKeysOnly(String keyPrefix) {
+		return getKVKeysOnly(keyPrefix, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<String>>> getKVKeysOnly(String keyPrefix, String separator, String token) {
+		return getKVKeysOnly(keyPrefix, separator, token, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<String>>> getKVKeysOnly(String keyPrefix, QueryParams queryParams) {
+		return getKVKeysOnly(keyPrefix, null, null, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<String>>> getKVKeysOnly(String keyPrefix, String separator, String token, QueryParams queryParams) {
+		UrlParameters keysParam = new SingleUrlParameters("keys");
+		UrlParameters separatorParam = separator != null ? new SingleUrlParameters("separator", separator) : null;
+		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
+		CompletableFuture<HttpResponse<List<String>>> future = rawClient.makeGetRequestAsync("/v1/kv/" + keyPrefix, STRING_LIST_TYPE, keysParam, separatorParam, tokenParam, queryParams);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				List<String> value = httpResponse.getContent();
+				return new Response<>(value, httpResponse);
+			} else if (httpResponse.getStatusCode() == 404) {
+				return new Response<>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVValue(String key, String value) {
+		return setKVValue(key, value, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVValue(String key, String value, PutParams putParams) {
+		return setKVValue(key, value, putParams, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVValue(String key, String value, String token, PutParams putParams) {
+		return setKVValue(key, value, token, putParams, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVValue(String key, String value, QueryParams queryParams) {
+		return setKVValue(key, value, null, null, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVValue(String key, String value, PutParams putParams, QueryParams queryParams) {
+		return setKVValue(key, value, null, putParams, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVValue(String key, String value, String token, PutParams putParams, QueryParams queryParams) {
+		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
+		CompletableFuture<HttpResponse<Boolean>> future = rawClient.makePutRequestAsync("/v1/kv/" + key, value, r -> {
+			return rawClient.getJsonCodec().fromJson(r, BOOLEAN_TYPE);
+		}, putParams, tokenParam, queryParams);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				boolean result = httpResponse.getContent();
+				return new Response<>(result, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, byte[] value) {
+		return setKVBinaryValue(key, value, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, byte[] value, PutParams putParams) {
+		return setKVBinaryValue(key, value, putParams, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, byte[] value, String token, PutParams putParams) {
+		return setKVBinaryValue(key, value, token, putParams, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, byte[] value, QueryParams queryParams) {
+		return setKVBinaryValue(key, value, null, null, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, byte[] value, PutParams putParams, QueryParams queryParams) {
+		return setKVBinaryValue(key, value, null, putParams, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, byte[] value, String token, PutParams putParams, QueryParams queryParams) {
+		Request request = Request.Builder.newBuilder()
+			.setEndpoint("/v1/kv/" + key)
+			.setToken(token)
+			.addUrlParameter(queryParams)
+			.addUrlParameter(putParams)
+			.setBinaryContent(value)
+			.build();
+
+		CompletableFuture<HttpResponse<Boolean>> future = rawClient.makePutRequestAsync(request, r -> {
+			return rawClient.getJsonCodec().fromJson(r, BOOLEAN_TYPE);
+		});
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				boolean result = httpResponse.getContent();
+				return new Response<>(result, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, ContentSource value) {
+		return setKVBinaryValue(key, value, null, null, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<Boolean>> setKVBinaryValue(String key, ContentSource value, String token, PutParams putParams, QueryParams queryParams) {
+		Request request = Request.Builder.newBuilder()
+			.setEndpoint("/v1/kv/" + key)
+			.setToken(token)
+			.addUrlParameter(queryParams)
+			.addUrlParameter(putParams)
+			.setContentSource(value)
+			.build();
+
+		CompletableFuture<HttpResponse<Boolean>> future = rawClient.makePutRequestAsync(request, r -> {
+			return rawClient.getJsonCodec().fromJson(r, BOOLEAN_TYPE);
+		});
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				boolean result = httpResponse.getContent();
+				return new Response<>(result, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> deleteKVValue(String key) {
+		return deleteKVValue(key, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> deleteKVValue(String key, String token) {
+		return deleteKVValue(key, token, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> deleteKVValue(String key, QueryParams queryParams) {
+		return deleteKVValue(key, null, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> deleteKVValue(String key, String token, QueryParams queryParams) {
+		Request request = Request.Builder.newBuilder()
+			.setEndpoint("/v1/kv/" + key)
+			.setToken(token)
+			.addUrlParameter(queryParams)
+			.build();
+
+		CompletableFuture<HttpResponse<Void>> future = rawClient.makeDeleteRequestAsync(request, reader -> null);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				return new Response<>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> deleteKVValues(String key) {
+		return deleteKVValues(key, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> deleteKVValues(String key, String token) {
+		return deleteKVValues(key, token, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> deleteKVValues(String key, QueryParams queryParams) {
+		return deleteKVValues(key, null, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> deleteKVValues(String key, String token, QueryParams queryParams) {
+		UrlParameters recurseParam = new SingleUrlParameters("recurse");
+
+		Request request = Request.Builder.newBuilder()
+			.setEndpoint("/v1/kv/" + key)
+			.setToken(token)
+			.addUrlParameter(recurseParam)
+			.addUrlParameter(queryParams)
+			.build();
+
+		CompletableFuture<HttpResponse<Void>> future = rawClient.makeDeleteRequestAsync(request, reader -> null);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				return new Response<>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+}
@@ -1,12 +1,15 @@
 package com.ecwid.consul.v1.kv;
 
+import com.ecwid.consul.transport.ContentSource;
 import com.ecwid.consul.v1.QueryParams;
 import com.ecwid.consul.v1.Response;
 import com.ecwid.consul.v1.kv.model.GetBinaryValue;
 import com.ecwid.consul.v1.kv.model.GetValue;
 import com.ecwid.consul.v1.kv.model.PutParams;
 
+import java.io.OutputStream;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * @author Vasily Vasilkov (vgv@ecwid.com)
@@ -31,6 +34,26 @@ public interface KeyValueClient {
 	public Response<GetBinaryValue> getKVBinaryValue(String key, String token, QueryParams queryParams);
 
 
+	/**
+	 * Reads the value with ?raw: the response body is the value itself, there is no JSON and Base64 decoding.
+	 * The modify index of the key is {@link Response#getConsulIndex()}, the value is null if there is no such key.
+	 * {@link java.nio.ByteBuffer#wrap(byte[])} gives a ByteBuffer view without a copy.
+	 */
+	public Response<byte[]> getKVRawValue(String key);
+
+	public Response<byte[]> getKVRawValue(String key, String token);
+
+	public Response<byte[]> getKVRawValue(String key, QueryParams queryParams);
+
+	public Response<byte[]> getKVRawValue(String key, String token, QueryParams queryParams);
+
+	/**
+	 * Same as {@link #getKVRawValue(String, String, QueryParams)}, but the value is copied to the stream
+	 * instead of being held in memory. The response value is the number of copied bytes, null if there is no such key.
+	 */
+	public Response<Long> getKVRawValue(String key, OutputStream out, String token, QueryParams queryParams);
+
+
 	public Response<List<GetValue>> getKVValues(String keyPrefix);
 
 	public Response<List<GetValue>> getKVValues(String keyPrefix, String token);
@@ -39,6 +62,12 @@ public interface KeyValueClient {
 
 	public Response<List<GetValue>> getKVValues(String keyPrefix, String token, QueryParams queryParams);
 
+	/**
+	 * Decodes the values one by one while the response body arrives and passes them to the consumer, so the whole
+	 * list is never held in memory. The response value is the number of values, 0 if there are no keys with the prefix.
+	 */
+	public Response<Long> getKVValues(String keyPrefix, String token, QueryParams queryParams, Consumer<GetValue> consumer);
+
 
 	public Response<List<GetBinaryValue>> getKVBinaryValues(String keyPrefix);
 
@@ -48,6 +77,8 @@ public interface KeyValueClient {
 
 	public Response<List<GetBinaryValue>> getKVBinaryValues(String keyPrefix, String token, QueryParams queryParams);
 
+	public Response<Long> getKVBinaryValues(String keyPrefix, String token, QueryParams queryParams, Consumer<GetBinaryValue> consumer);
+
 
 	public Response<List<String>> getKVKeysOnly(String keyPrefix);
 
@@ -83,6 +114,13 @@ public interface KeyValueClient {
 
 	public Response<Boolean> setKVBinaryValue(String key, byte[] value, String token, PutParams putParams, QueryParams queryParams);
 
+	/**
+	 * Same as the byte[] variants, but the value is streamed from the source, see {@link ContentSource}
+	 */
+	public Response<Boolean> setKVBinaryValue(String key, ContentSource value);
+
+	public Response<Boolean> setKVBinaryValue(String key, ContentSource value, String token, PutParams putParams, QueryParams queryParams);
+
 
 	public Response<Void> deleteKVValue(String key);
 
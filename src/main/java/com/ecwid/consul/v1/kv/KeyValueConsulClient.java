@@ -3,7 +3,7 @@ package com.ecwid.consul.v1.kv;
 import com.ecwid.consul.ConsulException;
 import com.ecwid.consul.SingleUrlParameters;
 import com.ecwid.consul.UrlParameters;
-import com.ecwid.consul.json.GsonFactory;
+import com.ecwid.consul.transport.ContentSource;
 import com.ecwid.consul.transport.HttpResponse;
 import com.ecwid.consul.transport.TLSConfig;
 import com.ecwid.consul.v1.*;
@@ -12,13 +12,21 @@ import com.ecwid.consul.v1.kv.model.GetValue;
 import com.ecwid.consul.v1.kv.model.PutParams;
 import com.google.gson.reflect.TypeToken;
 
+import java.io.OutputStream;
+import java.lang.reflect.Type;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * @author Vasily Vasilkov (vgv@ecwid.com)
  */
 public final class KeyValueConsulClient implements KeyValueClient {
 
+	private static final Type GET_VALUE_LIST_TYPE = new TypeToken<List<GetValue>>() {}.getType();
+	private static final Type GET_BINARY_VALUE_LIST_TYPE = new TypeToken<List<GetBinaryValue>>() {}.getType();
+	private static final Type STRING_LIST_TYPE = new TypeToken<List<String>>() {}.getType();
+	private static final Type BOOLEAN_TYPE = new TypeToken<Boolean>() {}.getType();
+
 	private final ConsulRawClient rawClient;
 
 	public KeyValueConsulClient(ConsulRawClient rawClient) {
@@ -67,9 +75,7 @@ public final class KeyValueConsulClient implements KeyValueClient {
 	@Override
 	public Response<GetValue> getKVValue(String key, String token, QueryParams queryParams) {
 		UrlParameters tokenParams = token != null ? new SingleUrlParameters("token", token) : null;
-		HttpResponse<List<GetValue>> httpResponse = rawClient.makeGetRequest("/v1/kv/" + key, r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<List<GetValue>>() {}.getType());
-		}, tokenParams, queryParams);
+		HttpResponse<List<GetValue>> httpResponse = rawClient.makeGetRequest("/v1/kv/" + key, GET_VALUE_LIST_TYPE, tokenParams, queryParams);
 
 		if (httpResponse.getStatusCode() == 200) {
 			List<GetValue> value = httpResponse.getContent();
@@ -106,9 +112,7 @@ public final class KeyValueConsulClient implements KeyValueClient {
 	@Override
 	public Response<GetBinaryValue> getKVBinaryValue(String key, String token, QueryParams queryParams) {
 		UrlParameters tokenParams = token != null ? new SingleUrlParameters("token", token) : null;
-		HttpResponse<List<GetBinaryValue>> httpResponse = rawClient.makeGetRequest("/v1/kv/" + key, r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<List<GetBinaryValue>>() {}.getType());
-		}, tokenParams, queryParams);
+		HttpResponse<List<GetBinaryValue>> httpResponse = rawClient.makeGetRequest("/v1/kv/" + key, GET_BINARY_VALUE_LIST_TYPE, tokenParams, queryParams);
 
 		if (httpResponse.getStatusCode() == 200) {
 			List<GetBinaryValue> value = httpResponse.getContent();
@@ -127,6 +131,47 @@ public final class KeyValueConsulClient implements KeyValueClient {
 		}
 	}
 
+	@Override
+	public Response<byte[]> getKVRawValue(String key) {
+		return getKVRawValue(key, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public Response<byte[]> getKVRawValue(String key, String token) {
+		return getKVRawValue(key, token, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public Response<byte[]> getKVRawValue(String key, QueryParams queryParams) {
+		return getKVRawValue(key, null, queryParams);
+	}
+
+	@Override
+	public Response<byte[]> getKVRawValue(String key, String token, QueryParams queryParams) {
+		Request request = createRawValueRequest(key, token, queryParams)
+			.build();
+
+		HttpResponse<byte[]> httpResponse = rawClient.makeGetStreamRequest(request, in -> {
+			return KeyValueStreams.readBytes(in);
+		});
+
+		return createRawValueResponse(httpResponse);
+	}
+
+	@Override
+	public Response<Long> getKVRawValue(String key, OutputStream out, String token, QueryParams queryParams) {
+		// the converter writes to the caller's stream, so the body must be read exactly once
+		Request request = createRawValueRequest(key, token, queryParams)
+			.setExclusive(true)
+			.build();
+
+		HttpResponse<Long> httpResponse = rawClient.makeGetStreamRequest(request, in -> {
+			return KeyValueStreams.copy(in, out);
+		});
+
+		return createRawValueResponse(httpResponse);
+	}
+
 	@Override
 	public Response<List<GetValue>> getKVValues(String keyPrefix) {
 		return getKVValues(keyPrefix, QueryParams.DEFAULT);
@@ -146,9 +191,7 @@ public final class KeyValueConsulClient implements KeyValueClient {
 	public Response<List<GetValue>> getKVValues(String keyPrefix, String token, QueryParams queryParams) {
 		UrlParameters recurseParam = new SingleUrlParameters("recurse");
 		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
-		HttpResponse<List<GetValue>> httpResponse = rawClient.makeGetRequest("/v1/kv/" + keyPrefix, r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<List<GetValue>>() {}.getType());
-		}, recurseParam, tokenParam, queryParams);
+		HttpResponse<List<GetValue>> httpResponse = rawClient.makeGetRequest("/v1/kv/" + keyPrefix, GET_VALUE_LIST_TYPE, recurseParam, tokenParam, queryParams);
 
 		if (httpResponse.getStatusCode() == 200) {
 			List<GetValue> value = httpResponse.getContent();
@@ -160,6 +203,16 @@ public final class KeyValueConsulClient implements KeyValueClient {
 		}
 	}
 
+	@Override
+	public Response<Long> getKVValues(String keyPrefix, String token, QueryParams queryParams, Consumer<GetValue> consumer) {
+		Request request = createStreamedValuesRequest(keyPrefix, token, queryParams);
+		HttpResponse<Long> httpResponse = rawClient.makeGetRequest(request, r -> {
+			return rawClient.getJsonCodec().fromJsonArray(r, GetValue.class, consumer);
+		});
+
+		return createStreamedValuesResponse(httpResponse);
+	}
+
 	@Override
 	public Response<List<GetBinaryValue>> getKVBinaryValues(String keyPrefix) {
 		return getKVBinaryValues(keyPrefix, QueryParams.DEFAULT);
@@ -179,9 +232,7 @@ public final class KeyValueConsulClient implements KeyValueClient {
 	public Response<List<GetBinaryValue>> getKVBinaryValues(String keyPrefix, String token, QueryParams queryParams) {
 		UrlParameters recurseParam = new SingleUrlParameters("recurse");
 		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
-		HttpResponse<List<GetBinaryValue>> httpResponse = rawClient.makeGetRequest("/v1/kv/" + keyPrefix, r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<List<GetBinaryValue>>() {}.getType());
-		}, recurseParam, tokenParam, queryParams);
+		HttpResponse<List<GetBinaryValue>> httpResponse = rawClient.makeGetRequest("/v1/kv/" + keyPrefix, GET_BINARY_VALUE_LIST_TYPE, recurseParam, tokenParam, queryParams);
 
 		if (httpResponse.getStatusCode() == 200) {
 			List<GetBinaryValue> value = httpResponse.getContent();
@@ -193,6 +244,16 @@ public final class KeyValueConsulClient implements KeyValueClient {
 		}
 	}
 
+	@Override
+	public Response<Long> getKVBinaryValues(String keyPrefix, String token, QueryParams queryParams, Consumer<GetBinaryValue> consumer) {
+		Request request = createStreamedValuesRequest(keyPrefix, token, queryParams);
+		HttpResponse<Long> httpResponse = rawClient.makeGetRequest(request, r -> {
+			return rawClient.getJsonCodec().fromJsonArray(r, GetBinaryValue.class, consumer);
+		});
+
+		return createStreamedValuesResponse(httpResponse);
+	}
+
 	@Override
 	public Response<List<String>> getKVKeysOnly(String keyPrefix) {
 		return getKVKeysOnly(keyPrefix, QueryParams.DEFAULT);
@@ -213,9 +274,7 @@ public final class KeyValueConsulClient implements KeyValueClient {
 		UrlParameters keysParam = new SingleUrlParameters("keys");
 		UrlParameters separatorParam = separator != null ? new SingleUrlParameters("separator", separator) : null;
 		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
-		HttpResponse<List<String>> httpResponse = rawClient.makeGetRequest("/v1/kv/" + keyPrefix, r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<List<String>>() {}.getType());
-		}, keysParam, separatorParam, tokenParam, queryParams);
+		HttpResponse<List<String>> httpResponse = rawClient.makeGetRequest("/v1/kv/" + keyPrefix, STRING_LIST_TYPE, keysParam, separatorParam, tokenParam, queryParams);
 
 		if (httpResponse.getStatusCode() == 200) {
 			List<String> value = httpResponse.getContent();
@@ -256,7 +315,7 @@ public final class KeyValueConsulClient implements KeyValueClient {
 	public Response<Boolean> setKVValue(String key, String value, String token, PutParams putParams, QueryParams queryParams) {
 		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
 		HttpResponse<Boolean> httpResponse = rawClient.makePutRequest("/v1/kv/" + key, value, r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<Boolean>() {}.getType());
+			return rawClient.getJsonCodec().fromJson(r, BOOLEAN_TYPE);
 		}, putParams, tokenParam, queryParams);
 
 		if (httpResponse.getStatusCode() == 200) {
@@ -303,7 +362,34 @@ public final class KeyValueConsulClient implements KeyValueClient {
 			.build();
 
 		HttpResponse<Boolean> httpResponse = rawClient.makePutRequest(request, r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<Boolean>() {}.getType());
+			return rawClient.getJsonCodec().fromJson(r, BOOLEAN_TYPE);
+		});
+
+		if (httpResponse.getStatusCode() == 200) {
+			boolean result = httpResponse.getContent();
+			return new Response<>(result, httpResponse);
+		} else {
+			throw new OperationException(httpResponse);
+		}
+	}
+
+	@Override
+	public Response<Boolean> setKVBinaryValue(String key, ContentSource value) {
+		return setKVBinaryValue(key, value, null, null, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public Response<Boolean> setKVBinaryValue(String key, ContentSource value, String token, PutParams putParams, QueryParams queryParams) {
+		Request request = Request.Builder.newBuilder()
+			.setEndpoint("/v1/kv/" + key)
+			.setToken(token)
+			.addUrlParameter(queryParams)
+			.addUrlParameter(putParams)
+			.setContentSource(value)
+			.build();
+
+		HttpResponse<Boolean> httpResponse = rawClient.makePutRequest(request, r -> {
+			return rawClient.getJsonCodec().fromJson(r, BOOLEAN_TYPE);
 		});
 
 		if (httpResponse.getStatusCode() == 200) {
@@ -380,4 +466,43 @@ public final class KeyValueConsulClient implements KeyValueClient {
 			throw new OperationException(httpResponse);
 		}
 	}
+
+	static Request createStreamedValuesRequest(String keyPrefix, String token, QueryParams queryParams) {
+		// the consumer has side effects, so the body must be read exactly once
+		return Request.Builder.newBuilder()
+			.setEndpoint("/v1/kv/" + keyPrefix)
+			.addUrlParameter(new SingleUrlParameters("recurse"))
+			.addUrlParameter(queryParams)
+			.setToken(token)
+			.setExclusive(true)
+			.build();
+	}
+
+	static Response<Long> createStreamedValuesResponse(HttpResponse<Long> httpResponse) {
+		if (httpResponse.getStatusCode() == 200) {
+			return new Response<>(httpResponse.getContent(), httpResponse);
+		} else if (httpResponse.getStatusCode() == 404) {
+			return new Response<>(0L, httpResponse);
+		} else {
+			throw new OperationException(httpResponse);
+		}
+	}
+
+	static Request.Builder createRawValueRequest(String key, String token, QueryParams queryParams) {
+		return Request.Builder.newBuilder()
+			.setEndpoint("/v1/kv/" + key)
+			.addUrlParameter(new SingleUrlParameters("raw"))
+			.addUrlParameter(queryParams)
+			.setToken(token);
+	}
+
+	static <T> Response<T> createRawValueResponse(HttpResponse<T> httpResponse) {
+		if (httpResponse.getStatusCode() == 200) {
+			return new Response<>(httpResponse.getContent(), httpResponse);
+		} else if (httpResponse.getStatusCode() == 404) {
+			return new Response<>(null, httpResponse);
+		} else {
+			throw new OperationException(httpResponse);
+		}
+	}
 }
@@ -0,0 +1,64 @@
+package com.ecwid.consul.v1.kv;
+
+import com.ecwid.consul.transport.ResponseBodyStream;
+import com.ecwid.consul.transport.TransportException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Converters of raw (?raw) KV response bodies
+ */
+final class KeyValueStreams {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private KeyValueStreams() {
+	}
+
+	static byte[] readBytes(InputStream in) {
+		long contentLength = in instanceof ResponseBodyStream ? ((ResponseBodyStream) in).getContentLength() : -1;
+		if (contentLength < 0 || contentLength > Integer.MAX_VALUE) {
+			// unknown length, e.g. a compressed body
+			ByteArrayOutputStream out = new ByteArrayOutputStream(BUFFER_SIZE);
+			copy(in, out);
+			return out.toByteArray();
+		}
+
+		try {
+			byte[] bytes = new byte[(int) contentLength];
+			int offset = 0;
+			while (offset < bytes.length) {
+				int read = in.read(bytes, offset, bytes.length - offset);
+				if (read == -1) {
+					throw new EOFException("Premature end of body, expected " + bytes.length + " bytes, received " + offset);
+				}
+				offset += read;
+			}
+			return bytes;
+		} catch (IOException e) {
+			throw new TransportException(e);
+		}
+	}
+
+	/**
+	 * @return number of copied bytes
+	 */
+	static long copy(InputStream in, OutputStream out) {
+		try {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			long count = 0;
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				out.write(buffer, 0, read);
+				count += read;
+			}
+			return count;
+		} catch (IOException e) {
+			throw new TransportException(e);
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.ecwid.consul.v1.query;
+
+import com.ecwid.consul.v1.QueryParams;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.query.model.QueryExecution;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link QueryClient}, all methods return immediately and complete the future
+ * when the response arrives. Failures are reported through the future, not thrown.
+ */
+public interface AsyncQueryClient {
+
+	public CompletableFuture<Response<QueryExecution>> executePreparedQuery(String uuid, QueryParams queryParams);
+
+	public CompletableFuture<Response<QueryExecution>> executePreparedQuery(String uuid, QueryExecutionRequest queryExecutionRequest);
+}
@@ -0,0 +1,75 @@
+package com.ecwid.consul.v1.query;
+
+import com.ecwid.consul.transport.HttpResponse;
+import com.ecwid.consul.transport.TLSConfig;
+import com.ecwid.consul.v1.ConsulRawClient;
+import com.ecwid.consul.v1.OperationException;
+import com.ecwid.consul.v1.QueryParams;
+import com.ecwid.consul.v1.Request;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.query.model.QueryExecution;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking implementation of {@link AsyncQueryClient} on top of {@link ConsulRawClient} async requests.
+ */
+public final class AsyncQueryConsulClient implements AsyncQueryClient {
+
+	private static final Type QUERY_EXECUTION_TYPE = new TypeToken<QueryExecution>() {}.getType();
+
+	private final ConsulRawClient rawClient;
+
+	public AsyncQueryConsulClient(ConsulRawClient rawClient) { this.rawClient = rawClient; }
+
+	public AsyncQueryConsulClient() { this(new ConsulRawClient()); }
+
+	public AsyncQueryConsulClient(TLSConfig tlsConfig) { this(new ConsulRawClient(tlsConfig)); }
+
+	public AsyncQueryConsulClient(String agentHost) {
+		this(new ConsulRawClient(agentHost));
+	}
+
+	public AsyncQueryConsulClient(String agentHost, TLSConfig tlsConfig) {
+		this(new ConsulRawClient(agentHost, tlsConfig));
+	}
+
+	public AsyncQueryConsulClient(String agentHost, int agentPort) {
+		this(new ConsulRawClient(agentHost, agentPort));
+	}
+
+	public AsyncQueryConsulClient(String agentHost, int agentPort, TLSConfig tlsConfig) {
+		this(new ConsulRawClient(agentHost, agentPort, tlsConfig));
+	}
+
+	@Override
+	public CompletableFuture<Response<QueryExecution>> executePreparedQuery(String uuid, QueryParams queryParams) {
+		QueryExecutionRequest request = QueryExecutionRequest.newBuilder()
+				.setQueryParams(queryParams)
+				.build();
+
+		return executePreparedQuery(uuid, request);
+	}
+
+	@Override
+	public CompletableFuture<Response<QueryExecution>> executePreparedQuery(String uuid, QueryExecutionRequest queryExecutionRequest) {
+		Request request = Request.Builder.newBuilder()
+			.setEndpoint("/v1/query/" + uuid + "/execute")
+			.addUrlParameters(queryExecutionRequest.asUrlParameters())
+			.setCacheControl(queryExecutionRequest.getCacheControl())
+			.build();
+
+		CompletableFuture<HttpResponse<QueryExecution>> future = rawClient.makeGetRequestAsync(request, QUERY_EXECUTION_TYPE);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				QueryExecution queryExecution = httpResponse.getContent();
+				return new Response<>(queryExecution, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+}
@@ -7,4 +7,6 @@ import com.ecwid.consul.v1.query.model.QueryExecution;
 public interface QueryClient {
 
 	public Response<QueryExecution> executePreparedQuery(String uuid, QueryParams queryParams);
+
+	public Response<QueryExecution> executePreparedQuery(String uuid, QueryExecutionRequest queryExecutionRequest);
 }
@@ -1,17 +1,21 @@
 package com.ecwid.consul.v1.query;
 
-import com.ecwid.consul.json.GsonFactory;
 import com.ecwid.consul.transport.HttpResponse;
 import com.ecwid.consul.transport.TLSConfig;
 import com.ecwid.consul.v1.ConsulRawClient;
 import com.ecwid.consul.v1.OperationException;
 import com.ecwid.consul.v1.QueryParams;
+import com.ecwid.consul.v1.Request;
 import com.ecwid.consul.v1.Response;
 import com.ecwid.consul.v1.query.model.QueryExecution;
 import com.google.gson.reflect.TypeToken;
 
+import java.lang.reflect.Type;
+
 public final class QueryConsulClient implements QueryClient {
 
+	private static final Type QUERY_EXECUTION_TYPE = new TypeToken<QueryExecution>() {}.getType();
+
 	private final ConsulRawClient rawClient;
 
 	public QueryConsulClient(ConsulRawClient rawClient) { this.rawClient = rawClient; }
@@ -38,9 +42,22 @@ public final class QueryConsulClient implements QueryClient {
 
 	@Override
 	public Response<QueryExecution> executePreparedQuery(String uuid, QueryParams queryParams) {
-		HttpResponse<QueryExecution> httpResponse = rawClient.makeGetRequest("/v1/query/" + uuid + "/execute", r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<QueryExecution>() {}.getType());
-		}, queryParams);
+		QueryExecutionRequest request = QueryExecutionRequest.newBuilder()
+				.setQueryParams(queryParams)
+				.build();
+
+		return executePreparedQuery(uuid, request);
+	}
+
+	@Override
+	public Response<QueryExecution> executePreparedQuery(String uuid, QueryExecutionRequest queryExecutionRequest) {
+		Request request = Request.Builder.newBuilder()
+			.setEndpoint("/v1/query/" + uuid + "/execute")
+			.addUrlParameters(queryExecutionRequest.asUrlParameters())
+			.setCacheControl(queryExecutionRequest.getCacheControl())
+			.build();
+
+		HttpResponse<QueryExecution> httpResponse = rawClient.makeGetRequest(request, QUERY_EXECUTION_TYPE);
 
 		if (httpResponse.getStatusCode() == 200) {
 			QueryExecution queryExecution = httpResponse.getContent();
@@ -0,0 +1,178 @@
+package com.ecwid.consul.v1.query;
+
+import com.ecwid.consul.ConsulRequest;
+import com.ecwid.consul.SingleUrlParameters;
+import com.ecwid.consul.UrlParameters;
+import com.ecwid.consul.v1.CacheControl;
+import com.ecwid.consul.v1.QueryParams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public final class QueryExecutionRequest implements ConsulRequest {
+
+	private final String datacenter;
+	private final String near;
+	private final Integer limit;
+	private final QueryParams queryParams;
+	private final String token;
+	private final boolean cached;
+	private final CacheControl cacheControl;
+
+	private QueryExecutionRequest(String datacenter, String near, Integer limit, QueryParams queryParams, String token,
+	                              boolean cached, CacheControl cacheControl) {
+		this.datacenter = datacenter;
+		this.near = near;
+		this.limit = limit;
+		this.queryParams = queryParams;
+		this.token = token;
+		this.cached = cached;
+		this.cacheControl = cacheControl;
+	}
+
+	public String getDatacenter() {
+		return datacenter;
+	}
+
+	public String getNear() {
+		return near;
+	}
+
+	public Integer getLimit() {
+		return limit;
+	}
+
+	public QueryParams getQueryParams() {
+		return queryParams;
+	}
+
+	public String getToken() {
+		return token;
+	}
+
+	public boolean isCached() {
+		return cached || cacheControl != null;
+	}
+
+	public CacheControl getCacheControl() {
+		return cacheControl;
+	}
+
+	public static class Builder {
+		private String datacenter;
+		private String near;
+		private Integer limit;
+		private QueryParams queryParams;
+		private String token;
+		private boolean cached;
+		private CacheControl cacheControl;
+
+		private Builder() {
+		}
+
+		public Builder setDatacenter(String datacenter) {
+			this.datacenter = datacenter;
+			return this;
+		}
+
+		public Builder setNear(String near) {
+			this.near = near;
+			return this;
+		}
+
+		public Builder setLimit(Integer limit) {
+			this.limit = limit;
+			return this;
+		}
+
+		public Builder setQueryParams(QueryParams queryParams) {
+			this.queryParams = queryParams;
+			return this;
+		}
+
+		public Builder setToken(String token) {
+			this.token = token;
+			return this;
+		}
+
+		/**
+		 * Use cached queries, see https://www.consul.io/api-docs/features/caching
+		 */
+		public Builder setCached(boolean cached) {
+			this.cached = cached;
+			return this;
+		}
+
+		/**
+		 * Cache-Control of the cached query, implies {@link #setCached(boolean)}
+		 */
+		public Builder setCacheControl(CacheControl cacheControl) {
+			this.cacheControl = cacheControl;
+			return this;
+		}
+
+		public QueryExecutionRequest build() {
+			return new QueryExecutionRequest(datacenter, near, limit, queryParams, token, cached, cacheControl);
+		}
+	}
+
+	public static Builder newBuilder() {
+		return new Builder();
+	}
+
+	@Override
+	public List<UrlParameters> asUrlParameters() {
+		List<UrlParameters> params = new ArrayList<>();
+
+		if (datacenter != null) {
+			params.add(new SingleUrlParameters("dc", datacenter));
+		}
+
+		if (near != null) {
+			params.add(new SingleUrlParameters("near", near));
+		}
+
+		if (limit != null) {
+			params.add(new SingleUrlParameters("limit", String.valueOf(limit)));
+		}
+
+		if (queryParams != null) {
+			params.add(queryParams);
+		}
+
+		if (token != null) {
+			params.add(new SingleUrlParameters("token", token));
+		}
+
+		if (isCached()) {
+			// any value is true
+			params.add(new SingleUrlParameters("cached", "1"));
+		}
+
+		return params;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof QueryExecutionRequest)) {
+			return false;
+		}
+		QueryExecutionRequest that = (QueryExecutionRequest) o;
+		return cached == that.cached &&
+			Objects.equals(datacenter, that.datacenter) &&
+			Objects.equals(near, that.near) &&
+			Objects.equals(limit, that.limit) &&
+			Objects.equals(queryParams, that.queryParams) &&
+			Objects.equals(token, that.token) &&
+			Objects.equals(cacheControl, that.cacheControl);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(datacenter, near, limit, queryParams, token, cached, cacheControl);
+	}
+}
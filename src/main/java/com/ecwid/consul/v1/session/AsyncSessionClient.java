@@ -0,0 +1,40 @@
+package com.ecwid.consul.v1.session;
+
+import com.ecwid.consul.v1.QueryParams;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.session.model.NewSession;
+import com.ecwid.consul.v1.session.model.Session;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link SessionClient}, all methods return immediately and complete the future
+ * when the response arrives. Failures are reported through the future, not thrown.
+ */
+public interface AsyncSessionClient {
+
+	public CompletableFuture<Response<String>> sessionCreate(NewSession newSession, QueryParams queryParams);
+
+	public CompletableFuture<Response<String>> sessionCreate(NewSession newSession, QueryParams queryParams, String token);
+
+	public CompletableFuture<Response<Void>> sessionDestroy(String session, QueryParams queryParams);
+
+	public CompletableFuture<Response<Void>> sessionDestroy(String session, QueryParams queryParams, String token);
+
+	CompletableFuture<Response<Session>> getSessionInfo(String session, QueryParams queryParams);
+
+	CompletableFuture<Response<Session>> getSessionInfo(String session, QueryParams queryParams, String token);
+
+	CompletableFuture<Response<List<Session>>> getSessionNode(String node, QueryParams queryParams);
+
+	CompletableFuture<Response<List<Session>>> getSessionNode(String node, QueryParams queryParams, String token);
+
+	CompletableFuture<Response<List<Session>>> getSessionList(QueryParams queryParams);
+
+	CompletableFuture<Response<List<Session>>> getSessionList(QueryParams queryParams, String token);
+
+	CompletableFuture<Response<Session>> renewSession(String session, QueryParams queryParams);
+
+	CompletableFuture<Response<Session>> renewSession(String session, QueryParams queryParams, String token);
+}
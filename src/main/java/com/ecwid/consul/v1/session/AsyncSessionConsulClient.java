@@ -0,0 +1,182 @@
+package com.ecwid.consul.v1.session;
+
+import com.ecwid.consul.ConsulException;
+import com.ecwid.consul.SingleUrlParameters;
+import com.ecwid.consul.UrlParameters;
+import com.ecwid.consul.transport.HttpResponse;
+import com.ecwid.consul.v1.ConsulRawClient;
+import com.ecwid.consul.v1.OperationException;
+import com.ecwid.consul.v1.QueryParams;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.session.model.NewSession;
+import com.ecwid.consul.v1.session.model.Session;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking implementation of {@link AsyncSessionClient} on top of {@link ConsulRawClient} async requests.
+ */
+public final class AsyncSessionConsulClient implements AsyncSessionClient {
+
+	private static final Type STRING_MAP_TYPE = new TypeToken<Map<String, String>>() {}.getType();
+	private static final Type SESSION_LIST_TYPE = new TypeToken<List<Session>>() {}.getType();
+
+	private final ConsulRawClient rawClient;
+
+	public AsyncSessionConsulClient(ConsulRawClient rawClient) {
+		this.rawClient = rawClient;
+	}
+
+	public AsyncSessionConsulClient() {
+		this(new ConsulRawClient());
+	}
+
+	public AsyncSessionConsulClient(String agentHost) {
+		this(new ConsulRawClient(agentHost));
+	}
+
+	public AsyncSessionConsulClient(String agentHost, int agentPort) {
+		this(new ConsulRawClient(agentHost, agentPort));
+	}
+
+	@Override
+	public CompletableFuture<Response<String>> sessionCreate(NewSession newSession, QueryParams queryParams) {
+		return sessionCreate(newSession, queryParams, null);
+	}
+
+	@Override
+	public CompletableFuture<Response<String>> sessionCreate(NewSession newSession, QueryParams queryParams, String token) {
+		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
+
+		String json = rawClient.getJsonCodec().toJson(newSession);
+		CompletableFuture<HttpResponse<Map<String, String>>> future = rawClient.makePutRequestAsync("/v1/session/create", json, r -> {
+			return rawClient.getJsonCodec().fromJson(r, STRING_MAP_TYPE);
+		}, queryParams, tokenParam);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				Map<String, String> value = httpResponse.getContent();
+				return new Response<>(value.get("ID"), httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> sessionDestroy(String session, QueryParams queryParams) {
+		return sessionDestroy(session, queryParams, null);
+	}
+
+	@Override
+	public CompletableFuture<Response<Void>> sessionDestroy(String session, QueryParams queryParams, String token) {
+		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
+		CompletableFuture<HttpResponse<Void>> future = rawClient.makePutRequestAsync("/v1/session/destroy/" + session, "", r -> null, queryParams, tokenParam);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				return new Response<>(null, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Session>> getSessionInfo(String session, QueryParams queryParams) {
+		return getSessionInfo(session, queryParams, null);
+	}
+
+	@Override
+	public CompletableFuture<Response<Session>> getSessionInfo(String session, QueryParams queryParams, String token) {
+		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
+		CompletableFuture<HttpResponse<List<Session>>> future = rawClient.makeGetRequestAsync("/v1/session/info/" + session, SESSION_LIST_TYPE, queryParams, tokenParam);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				List<Session> value = httpResponse.getContent();
+
+				if (value == null || value.isEmpty()) {
+					return new Response<>(null, httpResponse);
+				} else if (value.size() == 1) {
+					return new Response<>(value.get(0), httpResponse);
+				} else {
+					throw new ConsulException("Strange response (list size=" + value.size() + ")");
+				}
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<List<Session>>> getSessionNode(String node, QueryParams queryParams) {
+		return getSessionNode(node, queryParams, null);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<Session>>> getSessionNode(String node, QueryParams queryParams, String token) {
+		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
+		CompletableFuture<HttpResponse<List<Session>>> future = rawClient.makeGetRequestAsync("/v1/session/node/" + node, SESSION_LIST_TYPE, queryParams, tokenParam);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				List<Session> value = httpResponse.getContent();
+				return new Response<>(value, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<List<Session>>> getSessionList(QueryParams queryParams) {
+		return getSessionList(queryParams, null);
+	}
+
+	@Override
+	public CompletableFuture<Response<List<Session>>> getSessionList(QueryParams queryParams, String token) {
+		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
+		CompletableFuture<HttpResponse<List<Session>>> future = rawClient.makeGetRequestAsync("/v1/session/list", SESSION_LIST_TYPE, queryParams, tokenParam);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				List<Session> value = httpResponse.getContent();
+				return new Response<>(value, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<Session>> renewSession(String session, QueryParams queryParams) {
+		return renewSession(session, queryParams, null);
+	}
+
+	@Override
+	public CompletableFuture<Response<Session>> renewSession(String session, QueryParams queryParams, String token) {
+		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
+		CompletableFuture<HttpResponse<List<Session>>> future = rawClient.makePutRequestAsync("/v1/session/renew/" + session, "", r -> {
+			return rawClient.getJsonCodec().fromJson(r, SESSION_LIST_TYPE);
+		}, queryParams, tokenParam);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				List<Session> value = httpResponse.getContent();
+
+				if (value.size() == 1) {
+					return new Response<>(value.get(0), httpResponse);
+				} else {
+					throw new ConsulException("Strange response (list size=" + value.size() + ")");
+				}
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+}
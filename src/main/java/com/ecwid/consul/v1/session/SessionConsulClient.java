@@ -3,7 +3,6 @@ package com.ecwid.consul.v1.session;
 import com.ecwid.consul.ConsulException;
 import com.ecwid.consul.SingleUrlParameters;
 import com.ecwid.consul.UrlParameters;
-import com.ecwid.consul.json.GsonFactory;
 import com.ecwid.consul.transport.HttpResponse;
 import com.ecwid.consul.v1.ConsulRawClient;
 import com.ecwid.consul.v1.OperationException;
@@ -13,6 +12,7 @@ import com.ecwid.consul.v1.session.model.NewSession;
 import com.ecwid.consul.v1.session.model.Session;
 import com.google.gson.reflect.TypeToken;
 
+import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Map;
 
@@ -21,6 +21,9 @@ import java.util.Map;
  */
 public final class SessionConsulClient implements SessionClient {
 
+	private static final Type STRING_MAP_TYPE = new TypeToken<Map<String, String>>() {}.getType();
+	private static final Type SESSION_LIST_TYPE = new TypeToken<List<Session>>() {}.getType();
+
 	private final ConsulRawClient rawClient;
 
 	public SessionConsulClient(ConsulRawClient rawClient) {
@@ -48,9 +51,9 @@ public final class SessionConsulClient implements SessionClient {
 	public Response<String> sessionCreate(NewSession newSession, QueryParams queryParams, String token) {
 		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
 
-		String json = GsonFactory.getGson().toJson(newSession);
+		String json = rawClient.getJsonCodec().toJson(newSession);
 		HttpResponse<Map<String, String>> httpResponse = rawClient.makePutRequest("/v1/session/create", json, r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<Map<String, String>>() {}.getType());
+			return rawClient.getJsonCodec().fromJson(r, STRING_MAP_TYPE);
 		}, queryParams, tokenParam);
 
 		if (httpResponse.getStatusCode() == 200) {
@@ -86,9 +89,7 @@ public final class SessionConsulClient implements SessionClient {
 	@Override
 	public Response<Session> getSessionInfo(String session, QueryParams queryParams, String token) {
 		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
-		HttpResponse<List<Session>> httpResponse = rawClient.makeGetRequest("/v1/session/info/" + session, r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<List<Session>>() {}.getType());
-		}, queryParams, tokenParam);
+		HttpResponse<List<Session>> httpResponse = rawClient.makeGetRequest("/v1/session/info/" + session, SESSION_LIST_TYPE, queryParams, tokenParam);
 
 		if (httpResponse.getStatusCode() == 200) {
 			List<Session> value = httpResponse.getContent();
@@ -113,9 +114,7 @@ public final class SessionConsulClient implements SessionClient {
 	@Override
 	public Response<List<Session>> getSessionNode(String node, QueryParams queryParams, String token) {
 		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
-		HttpResponse<List<Session>> httpResponse = rawClient.makeGetRequest("/v1/session/node/" + node, r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<List<Session>>() {}.getType());
-		}, queryParams, tokenParam);
+		HttpResponse<List<Session>> httpResponse = rawClient.makeGetRequest("/v1/session/node/" + node, SESSION_LIST_TYPE, queryParams, tokenParam);
 
 		if (httpResponse.getStatusCode() == 200) {
 			List<Session> value = httpResponse.getContent();
@@ -133,9 +132,7 @@ public final class SessionConsulClient implements SessionClient {
 	@Override
 	public Response<List<Session>> getSessionList(QueryParams queryParams, String token) {
 		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
-		HttpResponse<List<Session>> httpResponse = rawClient.makeGetRequest("/v1/session/list", r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<List<Session>>() {}.getType());
-		}, queryParams, tokenParam);
+		HttpResponse<List<Session>> httpResponse = rawClient.makeGetRequest("/v1/session/list", SESSION_LIST_TYPE, queryParams, tokenParam);
 
 		if (httpResponse.getStatusCode() == 200) {
 			List<Session> value = httpResponse.getContent();
@@ -153,7 +150,7 @@ public final class SessionConsulClient implements SessionClient {
 	public Response<Session> renewSession(String session, QueryParams queryParams, String token) {
 		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
 		HttpResponse<List<Session>> httpResponse = rawClient.makePutRequest("/v1/session/renew/" + session, "", r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<List<Session>>() {}.getType());
+			return rawClient.getJsonCodec().fromJson(r, SESSION_LIST_TYPE);
 		}, queryParams, tokenParam);
 
 		if (httpResponse.getStatusCode() == 200) {
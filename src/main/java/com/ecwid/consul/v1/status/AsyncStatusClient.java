@@ -0,0 +1,17 @@
+package com.ecwid.consul.v1.status;
+
+import com.ecwid.consul.v1.Response;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link StatusClient}, all methods return immediately and complete the future
+ * when the response arrives. Failures are reported through the future, not thrown.
+ */
+public interface AsyncStatusClient {
+
+	public CompletableFuture<Response<String>> getStatusLeader();
+
+	public CompletableFuture<Response<List<String>>> getStatusPeers();
+}
@@ -0,0 +1,80 @@
+package com.ecwid.consul.v1.status;
+
+import com.ecwid.consul.transport.HttpResponse;
+import com.ecwid.consul.transport.TLSConfig;
+import com.ecwid.consul.v1.ConsulRawClient;
+import com.ecwid.consul.v1.OperationException;
+import com.ecwid.consul.v1.Response;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking implementation of {@link AsyncStatusClient} on top of {@link ConsulRawClient} async requests.
+ */
+public final class AsyncStatusConsulClient implements AsyncStatusClient {
+
+	private static final Type STRING_TYPE = new TypeToken<String>() {}.getType();
+	private static final Type STRING_LIST_TYPE = new TypeToken<List<String>>() {}.getType();
+
+	private final ConsulRawClient rawClient;
+
+	public AsyncStatusConsulClient(ConsulRawClient rawClient) {
+		this.rawClient = rawClient;
+	}
+
+	public AsyncStatusConsulClient() {
+		this(new ConsulRawClient());
+	}
+
+	public AsyncStatusConsulClient(TLSConfig tlsConfig) {
+		this(new ConsulRawClient(tlsConfig));
+	}
+
+	public AsyncStatusConsulClient(String agentHost) {
+		this(new ConsulRawClient(agentHost));
+	}
+
+	public AsyncStatusConsulClient(String agentHost, TLSConfig tlsConfig) {
+		this(new ConsulRawClient(agentHost, tlsConfig));
+	}
+
+	public AsyncStatusConsulClient(String agentHost, int agentPort) {
+		this(new ConsulRawClient(agentHost, agentPort));
+	}
+
+	public AsyncStatusConsulClient(String agentHost, int agentPort, TLSConfig tlsConfig) {
+		this(new ConsulRawClient(agentHost, agentPort, tlsConfig));
+	}
+
+	@Override
+	public CompletableFuture<Response<String>> getStatusLeader() {
+		CompletableFuture<HttpResponse<String>> future = rawClient.makeGetRequestAsync("/v1/status/leader", STRING_TYPE);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				String value = httpResponse.getContent();
+				return new Response<>(value, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+	@Override
+	public CompletableFuture<Response<List<String>>> getStatusPeers() {
+		CompletableFuture<HttpResponse<List<String>>> future = rawClient.makeGetRequestAsync("/v1/status/peers", STRING_LIST_TYPE);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				List<String> value = httpResponse.getContent();
+				return new Response<>(value, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+
+}
@@ -1,6 +1,5 @@
 package com.ecwid.consul.v1.status;
 
-import com.ecwid.consul.json.GsonFactory;
 import com.ecwid.consul.transport.HttpResponse;
 import com.ecwid.consul.transport.TLSConfig;
 import com.ecwid.consul.v1.ConsulRawClient;
@@ -8,6 +7,7 @@ import com.ecwid.consul.v1.OperationException;
 import com.ecwid.consul.v1.Response;
 import com.google.gson.reflect.TypeToken;
 
+import java.lang.reflect.Type;
 import java.util.List;
 
 /**
@@ -15,6 +15,9 @@ import java.util.List;
  */
 public final class StatusConsulClient implements StatusClient {
 
+	private static final Type STRING_TYPE = new TypeToken<String>() {}.getType();
+	private static final Type STRING_LIST_TYPE = new TypeToken<List<String>>() {}.getType();
+
 	private final ConsulRawClient rawClient;
 
 	public StatusConsulClient(ConsulRawClient rawClient) {
@@ -47,9 +50,7 @@ public final class StatusConsulClient implements StatusClient {
 
 	@Override
 	public Response<String> getStatusLeader() {
-		HttpResponse<String> httpResponse = rawClient.makeGetRequest("/v1/status/leader", r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<String>() {}.getType());
-		});
+		HttpResponse<String> httpResponse = rawClient.makeGetRequest("/v1/status/leader", STRING_TYPE);
 
 		if (httpResponse.getStatusCode() == 200) {
 			String value = httpResponse.getContent();
@@ -61,9 +62,7 @@ public final class StatusConsulClient implements StatusClient {
 
 	@Override
 	public Response<List<String>> getStatusPeers() {
-		HttpResponse<List<String>> httpResponse = rawClient.makeGetRequest("/v1/status/peers", r -> {
-			return GsonFactory.getGson().fromJson(r, new TypeToken<List<String>>() {}.getType());
-		});
+		HttpResponse<List<String>> httpResponse = rawClient.makeGetRequest("/v1/status/peers", STRING_LIST_TYPE);
 
 		if (httpResponse.getStatusCode() == 200) {
 			List<String> value = httpResponse.getContent();
@@ -0,0 +1,22 @@
+package com.ecwid.consul.v1.txn;
+
+import com.ecwid.consul.v1.QueryParams;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.txn.model.TxnOperation;
+import com.ecwid.consul.v1.txn.model.TxnResponse;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link TxnClient}, all methods return immediately and complete the future
+ * when the response arrives. Failures are reported through the future, not thrown.
+ */
+public interface AsyncTxnClient {
+
+	public CompletableFuture<Response<TxnResponse>> txn(List<TxnOperation> operations);
+
+	public CompletableFuture<Response<TxnResponse>> txn(List<TxnOperation> operations, QueryParams queryParams);
+
+	public CompletableFuture<Response<TxnResponse>> txn(List<TxnOperation> operations, String token, QueryParams queryParams);
+}
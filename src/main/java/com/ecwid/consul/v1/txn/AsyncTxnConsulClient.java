@@ -0,0 +1,95 @@
+package com.ecwid.consul.v1.txn;
+
+import com.ecwid.consul.SingleUrlParameters;
+import com.ecwid.consul.UrlParameters;
+import com.ecwid.consul.transport.HttpResponse;
+import com.ecwid.consul.transport.TLSConfig;
+import com.ecwid.consul.v1.ConsulRawClient;
+import com.ecwid.consul.v1.OperationException;
+import com.ecwid.consul.v1.QueryParams;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.txn.model.TxnOperation;
+import com.ecwid.consul.v1.txn.model.TxnResponse;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking implementation of {@link AsyncTxnClient} on top of {@link ConsulRawClient} async requests.
+ */
+public final class AsyncTxnConsulClient implements AsyncTxnClient {
+
+	private static final Type TXN_RESPONSE_TYPE = new TypeToken<TxnResponse>() {}.getType();
+
+	private final ConsulRawClient rawClient;
+
+	public AsyncTxnConsulClient(ConsulRawClient rawClient) {
+		this.rawClient = rawClient;
+	}
+
+	public AsyncTxnConsulClient() {
+		this(new ConsulRawClient());
+	}
+
+	public AsyncTxnConsulClient(TLSConfig tlsConfig) {
+		this(new ConsulRawClient(tlsConfig));
+	}
+
+	public AsyncTxnConsulClient(String agentHost) {
+		this(new ConsulRawClient(agentHost));
+	}
+
+	public AsyncTxnConsulClient(String agentHost, TLSConfig tlsConfig) {
+		this(new ConsulRawClient(agentHost, tlsConfig));
+	}
+
+	public AsyncTxnConsulClient(String agentHost, int agentPort) {
+		this(new ConsulRawClient(agentHost, agentPort));
+	}
+
+	public AsyncTxnConsulClient(String agentHost, int agentPort, TLSConfig tlsConfig) {
+		this(new ConsulRawClient(agentHost, agentPort, tlsConfig));
+	}
+
+	@Override
+	public CompletableFuture<Response<TxnResponse>> txn(List<TxnOperation> operations) {
+		return txn(operations, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public CompletableFuture<Response<TxnResponse>> txn(List<TxnOperation> operations, QueryParams queryParams) {
+		return txn(operations, null, queryParams);
+	}
+
+	@Override
+	public CompletableFuture<Response<TxnResponse>> txn(List<TxnOperation> operations, String token, QueryParams queryParams) {
+		try {
+			TxnConsulClient.checkOperations(operations);
+		} catch (IllegalArgumentException e) {
+			CompletableFuture<Response<TxnResponse>> failed = new CompletableFuture<>();
+			failed.completeExceptionally(e);
+			return failed;
+		}
+
+		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
+		String json = rawClient.getJsonCodec().toJson(operations);
+		CompletableFuture<HttpResponse<TxnResponse>> future = rawClient.makePutRequestAsync("/v1/txn", json, r -> {
+			return rawClient.getJsonCodec().fromJson(r, TXN_RESPONSE_TYPE);
+		}, tokenParam, queryParams);
+
+		return future.thenApply(httpResponse -> {
+			if (httpResponse.getStatusCode() == 200) {
+				return new Response<>(httpResponse.getContent(), httpResponse);
+			} else if (httpResponse.getStatusCode() == 409) {
+				// rolled back, the body describes the failed operations
+				TxnResponse txnResponse = rawClient.getJsonCodec().fromJson(new StringReader(httpResponse.getError()), TXN_RESPONSE_TYPE);
+				return new Response<>(txnResponse, httpResponse);
+			} else {
+				throw new OperationException(httpResponse);
+			}
+		});
+	}
+}
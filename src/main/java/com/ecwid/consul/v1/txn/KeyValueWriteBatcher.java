@@ -0,0 +1,333 @@
+package com.ecwid.consul.v1.txn;
+
+import com.ecwid.consul.transport.TransportException;
+import com.ecwid.consul.v1.OperationException;
+import com.ecwid.consul.v1.QueryParams;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.txn.model.TxnError;
+import com.ecwid.consul.v1.txn.model.TxnOperation;
+import com.ecwid.consul.v1.txn.model.TxnResponse;
+
+import java.io.Closeable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gathers KV writes of concurrent callers and sends them as {@link TxnClient} transactions. A batch is sent when
+ * it's full (by count or by estimated request size) or when the linger time of its first write has passed, each
+ * caller gets its own response.
+ * <p>
+ * Batches are sent one at a time in the order of the writes, so the last write to a key wins like with separate
+ * requests. If a transaction is rolled back, the failed writes complete exceptionally with {@link OperationException}
+ * and the other writes of the batch are sent again.
+ * <p>
+ * {@link #close()} sends the pending writes and stops the batcher thread.
+ */
+public final class KeyValueWriteBatcher implements Closeable {
+
+	private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+	// well below txn_max_req_len, the request size is only estimated
+	private static final int DEFAULT_MAX_BATCH_BYTES = 256 * 1024;
+
+	// JSON field names, verb and flags of one operation
+	private static final int OPERATION_OVERHEAD = 64;
+
+	private final TxnClient txnClient;
+	private final long linger;
+	private final int maxBatchSize;
+	private final int maxBatchBytes;
+	private final String token;
+	private final QueryParams queryParams;
+	private final ScheduledExecutorService executor;
+
+	// guarded by this
+	private final Deque<PendingWrite<?>> pendingWrites = new ArrayDeque<>();
+	private long pendingBytes;
+	private boolean flushScheduled;
+	private boolean closed;
+
+	private KeyValueWriteBatcher(Builder builder) {
+		this.txnClient = builder.txnClient;
+		this.linger = builder.linger;
+		this.maxBatchSize = builder.maxBatchSize;
+		this.maxBatchBytes = builder.maxBatchBytes;
+		this.token = builder.token;
+		this.queryParams = builder.queryParams;
+		this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, "consul-kv-write-batcher-" + THREAD_COUNTER.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public Response<Boolean> setKVValue(String key, String value) {
+		return join(setKVValueAsync(key, value));
+	}
+
+	public Response<Boolean> setKVBinaryValue(String key, byte[] value) {
+		return join(setKVBinaryValueAsync(key, value));
+	}
+
+	public Response<Void> deleteKVValue(String key) {
+		return join(deleteKVValueAsync(key));
+	}
+
+	public CompletableFuture<Response<Boolean>> setKVValueAsync(String key, String value) {
+		return submit(TxnOperation.set(key, value), Boolean.TRUE);
+	}
+
+	public CompletableFuture<Response<Boolean>> setKVBinaryValueAsync(String key, byte[] value) {
+		return submit(TxnOperation.set(key, value), Boolean.TRUE);
+	}
+
+	public CompletableFuture<Response<Void>> deleteKVValueAsync(String key) {
+		return submit(TxnOperation.delete(key), null);
+	}
+
+	/**
+	 * Sends the pending writes and waits until they are completed
+	 */
+	@Override
+	public void close() {
+		synchronized (this) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+		}
+
+		executor.execute(this::flush);
+		executor.shutdown();
+		try {
+			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private <T> CompletableFuture<Response<T>> submit(TxnOperation operation, T result) {
+		PendingWrite<T> write = new PendingWrite<>(operation, result);
+		synchronized (this) {
+			if (closed) {
+				throw new IllegalStateException("KeyValueWriteBatcher is closed");
+			}
+
+			boolean wasFull = isFull();
+			pendingWrites.addLast(write);
+			pendingBytes += write.size;
+			if (!wasFull && isFull()) {
+				// full batch, don't wait for the linger time
+				executor.execute(this::flush);
+			} else if (!flushScheduled) {
+				flushScheduled = true;
+				executor.schedule(this::flush, linger, TimeUnit.MILLISECONDS);
+			}
+		}
+		return write.future;
+	}
+
+	// guarded by this
+	private boolean isFull() {
+		return pendingWrites.size() >= maxBatchSize || pendingBytes >= maxBatchBytes;
+	}
+
+	// runs on the batcher thread only
+	private void flush() {
+		while (true) {
+			List<PendingWrite<?>> batch = new ArrayList<>(maxBatchSize);
+			synchronized (this) {
+				if (pendingWrites.isEmpty()) {
+					flushScheduled = false;
+					return;
+				}
+				long batchBytes = 0;
+				while (batch.size() < maxBatchSize && !pendingWrites.isEmpty()) {
+					// a write larger than the limit is sent alone
+					PendingWrite<?> write = pendingWrites.peekFirst();
+					if (!batch.isEmpty() && batchBytes + write.size > maxBatchBytes) {
+						break;
+					}
+					batch.add(pendingWrites.pollFirst());
+					batchBytes += write.size;
+				}
+				pendingBytes -= batchBytes;
+			}
+
+			try {
+				send(batch);
+			} catch (Throwable e) {
+				// no caller may wait forever, completed writes ignore this
+				for (PendingWrite<?> write : batch) {
+					write.future.completeExceptionally(e);
+				}
+			}
+		}
+	}
+
+	private void send(List<PendingWrite<?>> batch) {
+		List<TxnOperation> operations = new ArrayList<>(batch.size());
+		for (PendingWrite<?> write : batch) {
+			operations.add(write.operation);
+		}
+
+		Response<TxnResponse> response = txnClient.txn(operations, token, queryParams);
+		TxnResponse txnResponse = response.getValue();
+		if (txnResponse.isCommitted()) {
+			for (PendingWrite<?> write : batch) {
+				write.complete(response);
+			}
+			return;
+		}
+
+		Map<Integer, String> errors = new HashMap<>();
+		for (TxnError error : txnResponse.getErrors()) {
+			errors.put(error.getOpIndex(), error.getWhat());
+		}
+
+		List<PendingWrite<?>> rolledBack = new ArrayList<>();
+		for (int i = 0; i < batch.size(); i++) {
+			PendingWrite<?> write = batch.get(i);
+			String error = errors.get(i);
+			if (error != null) {
+				write.future.completeExceptionally(new OperationException(409, "Conflict", error));
+			} else {
+				rolledBack.add(write);
+			}
+		}
+
+		if (rolledBack.size() == batch.size()) {
+			// no operation was blamed, sending the batch again would fail the same way
+			for (PendingWrite<?> write : batch) {
+				write.future.completeExceptionally(new OperationException(409, "Conflict", txnResponse.getErrors().toString()));
+			}
+			return;
+		}
+
+		synchronized (this) {
+			for (int i = rolledBack.size() - 1; i >= 0; i--) {
+				pendingWrites.addFirst(rolledBack.get(i));
+				pendingBytes += rolledBack.get(i).size;
+			}
+		}
+	}
+
+	private static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new TransportException(cause);
+		}
+	}
+
+	public static Builder builder(TxnClient txnClient) {
+		return new Builder(txnClient);
+	}
+
+	private static final class PendingWrite<T> {
+		private final TxnOperation operation;
+		private final T result;
+		private final int size;
+		private final CompletableFuture<Response<T>> future = new CompletableFuture<>();
+
+		private PendingWrite(TxnOperation operation, T result) {
+			this.operation = operation;
+			this.result = result;
+			this.size = estimateSize(operation);
+		}
+
+		// JSON size of the operation, the value is already base64 encoded
+		private static int estimateSize(TxnOperation operation) {
+			int size = OPERATION_OVERHEAD + operation.getKey().getBytes(StandardCharsets.UTF_8).length;
+			if (operation.getValue() != null) {
+				size += operation.getValue().length();
+			}
+			return size;
+		}
+
+		private void complete(Response<TxnResponse> response) {
+			future.complete(new Response<>(result, response.getConsulIndex(), response.isConsulKnownLeader(), response.getConsulLastContact()));
+		}
+	}
+
+	// ---------------------------------------
+	// Builder
+	public static final class Builder {
+		private final TxnClient txnClient;
+		private long linger = 5; // 5 ms
+		private int maxBatchSize = TxnOperation.MAX_OPERATIONS;
+		private int maxBatchBytes = DEFAULT_MAX_BATCH_BYTES;
+		private String token;
+		private QueryParams queryParams = QueryParams.DEFAULT;
+
+		private Builder(TxnClient txnClient) {
+			this.txnClient = txnClient;
+		}
+
+		/**
+		 * @param linger max time in milliseconds a write waits for other writes before its batch is sent
+		 */
+		public Builder setLinger(long linger) {
+			this.linger = linger;
+			return this;
+		}
+
+		/**
+		 * @param maxBatchSize max number of writes in one transaction, at most {@link TxnOperation#MAX_OPERATIONS}
+		 */
+		public Builder setMaxBatchSize(int maxBatchSize) {
+			this.maxBatchSize = maxBatchSize;
+			return this;
+		}
+
+		/**
+		 * @param maxBatchBytes max estimated request size of one transaction in bytes, 256 KB by default. Consul
+		 * rejects requests larger than its txn_max_req_len, see {@link TxnOperation#MAX_REQUEST_BYTES}.
+		 */
+		public Builder setMaxBatchBytes(int maxBatchBytes) {
+			this.maxBatchBytes = maxBatchBytes;
+			return this;
+		}
+
+		public Builder setToken(String token) {
+			this.token = token;
+			return this;
+		}
+
+		public Builder setQueryParams(QueryParams queryParams) {
+			this.queryParams = queryParams;
+			return this;
+		}
+
+		public KeyValueWriteBatcher build() {
+			if (txnClient == null) {
+				throw new IllegalArgumentException("txnClient must not be null");
+			}
+			if (linger < 0) {
+				throw new IllegalArgumentException("linger must not be negative");
+			}
+			if (maxBatchSize < 1 || maxBatchSize > TxnOperation.MAX_OPERATIONS) {
+				throw new IllegalArgumentException("maxBatchSize must be between 1 and " + TxnOperation.MAX_OPERATIONS);
+			}
+			if (maxBatchBytes < 1) {
+				throw new IllegalArgumentException("maxBatchBytes must be positive");
+			}
+			return new KeyValueWriteBatcher(this);
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package com.ecwid.consul.v1.txn;
+
+import com.ecwid.consul.v1.QueryParams;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.txn.model.TxnOperation;
+import com.ecwid.consul.v1.txn.model.TxnResponse;
+
+import java.util.List;
+
+/**
+ * Atomic execution of up to {@link TxnOperation#MAX_OPERATIONS} KV operations in a single request.
+ * A rolled back transaction is not an error, its {@link TxnResponse#getErrors()} tell which operations failed.
+ */
+public interface TxnClient {
+
+	public Response<TxnResponse> txn(List<TxnOperation> operations);
+
+	public Response<TxnResponse> txn(List<TxnOperation> operations, QueryParams queryParams);
+
+	public Response<TxnResponse> txn(List<TxnOperation> operations, String token, QueryParams queryParams);
+}
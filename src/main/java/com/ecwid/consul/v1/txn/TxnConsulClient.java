@@ -0,0 +1,93 @@
+package com.ecwid.consul.v1.txn;
+
+import com.ecwid.consul.SingleUrlParameters;
+import com.ecwid.consul.UrlParameters;
+import com.ecwid.consul.transport.HttpResponse;
+import com.ecwid.consul.transport.TLSConfig;
+import com.ecwid.consul.v1.ConsulRawClient;
+import com.ecwid.consul.v1.OperationException;
+import com.ecwid.consul.v1.QueryParams;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.txn.model.TxnOperation;
+import com.ecwid.consul.v1.txn.model.TxnResponse;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.util.List;
+
+public final class TxnConsulClient implements TxnClient {
+
+	private static final Type TXN_RESPONSE_TYPE = new TypeToken<TxnResponse>() {}.getType();
+
+	private final ConsulRawClient rawClient;
+
+	public TxnConsulClient(ConsulRawClient rawClient) {
+		this.rawClient = rawClient;
+	}
+
+	public TxnConsulClient() {
+		this(new ConsulRawClient());
+	}
+
+	public TxnConsulClient(TLSConfig tlsConfig) {
+		this(new ConsulRawClient(tlsConfig));
+	}
+
+	public TxnConsulClient(String agentHost) {
+		this(new ConsulRawClient(agentHost));
+	}
+
+	public TxnConsulClient(String agentHost, TLSConfig tlsConfig) {
+		this(new ConsulRawClient(agentHost, tlsConfig));
+	}
+
+	public TxnConsulClient(String agentHost, int agentPort) {
+		this(new ConsulRawClient(agentHost, agentPort));
+	}
+
+	public TxnConsulClient(String agentHost, int agentPort, TLSConfig tlsConfig) {
+		this(new ConsulRawClient(agentHost, agentPort, tlsConfig));
+	}
+
+	@Override
+	public Response<TxnResponse> txn(List<TxnOperation> operations) {
+		return txn(operations, QueryParams.DEFAULT);
+	}
+
+	@Override
+	public Response<TxnResponse> txn(List<TxnOperation> operations, QueryParams queryParams) {
+		return txn(operations, null, queryParams);
+	}
+
+	@Override
+	public Response<TxnResponse> txn(List<TxnOperation> operations, String token, QueryParams queryParams) {
+		checkOperations(operations);
+
+		UrlParameters tokenParam = token != null ? new SingleUrlParameters("token", token) : null;
+		String json = rawClient.getJsonCodec().toJson(operations);
+		HttpResponse<TxnResponse> httpResponse = rawClient.makePutRequest("/v1/txn", json, r -> {
+			return rawClient.getJsonCodec().fromJson(r, TXN_RESPONSE_TYPE);
+		}, tokenParam, queryParams);
+
+		if (httpResponse.getStatusCode() == 200) {
+			return new Response<>(httpResponse.getContent(), httpResponse);
+		} else if (httpResponse.getStatusCode() == 409) {
+			// rolled back, the body describes the failed operations
+			TxnResponse txnResponse = rawClient.getJsonCodec().fromJson(new StringReader(httpResponse.getError()), TXN_RESPONSE_TYPE);
+			return new Response<>(txnResponse, httpResponse);
+		} else {
+			throw new OperationException(httpResponse);
+		}
+	}
+
+	static void checkOperations(List<TxnOperation> operations) {
+		if (operations == null || operations.isEmpty()) {
+			throw new IllegalArgumentException("Transaction must contain at least one operation");
+		}
+		if (operations.size() > TxnOperation.MAX_OPERATIONS) {
+			throw new IllegalArgumentException("Transaction must contain at most " + TxnOperation.MAX_OPERATIONS
+					+ " operations, got " + operations.size());
+		}
+	}
+}
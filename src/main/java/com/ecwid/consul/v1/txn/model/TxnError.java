@@ -0,0 +1,42 @@
+package com.ecwid.consul.v1.txn.model;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * Reason why a transaction was rolled back
+ */
+public class TxnError {
+
+	@SerializedName("OpIndex")
+	private int opIndex;
+
+	@SerializedName("What")
+	private String what;
+
+	/**
+	 * @return index of the failed operation in the request
+	 */
+	public int getOpIndex() {
+		return opIndex;
+	}
+
+	public void setOpIndex(int opIndex) {
+		this.opIndex = opIndex;
+	}
+
+	public String getWhat() {
+		return what;
+	}
+
+	public void setWhat(String what) {
+		this.what = what;
+	}
+
+	@Override
+	public String toString() {
+		return "TxnError{" +
+				"opIndex=" + opIndex +
+				", what='" + what + '\'' +
+				'}';
+	}
+}
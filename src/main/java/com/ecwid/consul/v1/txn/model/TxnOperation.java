@@ -0,0 +1,207 @@
+package com.ecwid.consul.v1.txn.model;
+
+import com.google.gson.annotations.SerializedName;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Single KV operation of a transaction, see https://www.consul.io/api/txn.html
+ */
+public final class TxnOperation {
+
+	/**
+	 * Consul rejects transactions with more operations
+	 */
+	public static final int MAX_OPERATIONS = 64;
+
+	/**
+	 * Default txn_max_req_len of Consul, larger transaction requests are rejected
+	 */
+	public static final int MAX_REQUEST_BYTES = 512 * 1024;
+
+	public static enum Verb {
+		@SerializedName("set")
+		SET,
+
+		@SerializedName("cas")
+		CAS,
+
+		@SerializedName("lock")
+		LOCK,
+
+		@SerializedName("unlock")
+		UNLOCK,
+
+		@SerializedName("get")
+		GET,
+
+		@SerializedName("get-tree")
+		GET_TREE,
+
+		@SerializedName("check-index")
+		CHECK_INDEX,
+
+		@SerializedName("check-session")
+		CHECK_SESSION,
+
+		@SerializedName("check-not-exists")
+		CHECK_NOT_EXISTS,
+
+		@SerializedName("delete")
+		DELETE,
+
+		@SerializedName("delete-tree")
+		DELETE_TREE,
+
+		@SerializedName("delete-cas")
+		DELETE_CAS
+	}
+
+	@SerializedName("KV")
+	private final KVOperation kv;
+
+	private TxnOperation(Verb verb, String key, byte[] value, Long index, String session) {
+		this.kv = new KVOperation(verb, key, value != null ? Base64.getEncoder().encodeToString(value) : null, index, session);
+	}
+
+	public static TxnOperation set(String key, String value) {
+		return set(key, encode(value));
+	}
+
+	public static TxnOperation set(String key, byte[] value) {
+		return new TxnOperation(Verb.SET, key, value, null, null);
+	}
+
+	public static TxnOperation cas(String key, String value, long index) {
+		return cas(key, encode(value), index);
+	}
+
+	public static TxnOperation cas(String key, byte[] value, long index) {
+		return new TxnOperation(Verb.CAS, key, value, index, null);
+	}
+
+	public static TxnOperation lock(String key, String value, String session) {
+		return lock(key, encode(value), session);
+	}
+
+	public static TxnOperation lock(String key, byte[] value, String session) {
+		return new TxnOperation(Verb.LOCK, key, value, null, session);
+	}
+
+	public static TxnOperation unlock(String key, String value, String session) {
+		return unlock(key, encode(value), session);
+	}
+
+	public static TxnOperation unlock(String key, byte[] value, String session) {
+		return new TxnOperation(Verb.UNLOCK, key, value, null, session);
+	}
+
+	public static TxnOperation get(String key) {
+		return new TxnOperation(Verb.GET, key, null, null, null);
+	}
+
+	public static TxnOperation getTree(String keyPrefix) {
+		return new TxnOperation(Verb.GET_TREE, keyPrefix, null, null, null);
+	}
+
+	public static TxnOperation checkIndex(String key, long index) {
+		return new TxnOperation(Verb.CHECK_INDEX, key, null, index, null);
+	}
+
+	public static TxnOperation checkSession(String key, String session) {
+		return new TxnOperation(Verb.CHECK_SESSION, key, null, null, session);
+	}
+
+	public static TxnOperation checkNotExists(String key) {
+		return new TxnOperation(Verb.CHECK_NOT_EXISTS, key, null, null, null);
+	}
+
+	public static TxnOperation delete(String key) {
+		return new TxnOperation(Verb.DELETE, key, null, null, null);
+	}
+
+	public static TxnOperation deleteTree(String keyPrefix) {
+		return new TxnOperation(Verb.DELETE_TREE, keyPrefix, null, null, null);
+	}
+
+	public static TxnOperation deleteCas(String key, long index) {
+		return new TxnOperation(Verb.DELETE_CAS, key, null, index, null);
+	}
+
+	/**
+	 * Flags are stored by set, cas, lock and unlock operations
+	 */
+	public TxnOperation setFlags(long flags) {
+		kv.flags = flags;
+		return this;
+	}
+
+	public Verb getVerb() {
+		return kv.verb;
+	}
+
+	public String getKey() {
+		return kv.key;
+	}
+
+	public String getValue() {
+		return kv.value;
+	}
+
+	public Long getFlags() {
+		return kv.flags;
+	}
+
+	public Long getIndex() {
+		return kv.index;
+	}
+
+	public String getSession() {
+		return kv.session;
+	}
+
+	private static byte[] encode(String value) {
+		return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+	}
+
+	@Override
+	public String toString() {
+		return "TxnOperation{" +
+				"verb=" + kv.verb +
+				", key='" + kv.key + '\'' +
+				", flags=" + kv.flags +
+				", index=" + kv.index +
+				", session='" + kv.session + '\'' +
+				'}';
+	}
+
+	private static final class KVOperation {
+
+		@SerializedName("Verb")
+		private final Verb verb;
+
+		@SerializedName("Key")
+		private final String key;
+
+		@SerializedName("Value")
+		private final String value;
+
+		@SerializedName("Flags")
+		private Long flags;
+
+		@SerializedName("Index")
+		private final Long index;
+
+		@SerializedName("Session")
+		private final String session;
+
+		private KVOperation(Verb verb, String key, String value, Long index, String session) {
+			this.verb = verb;
+			this.key = key;
+			this.value = value;
+			this.index = index;
+			this.session = session;
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package com.ecwid.consul.v1.txn.model;
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a transaction. A committed transaction has results and no errors,
+ * a rolled back one has errors and no results.
+ */
+public class TxnResponse {
+
+	@SerializedName("Results")
+	private List<TxnResult> results;
+
+	@SerializedName("Errors")
+	private List<TxnError> errors;
+
+	public boolean isCommitted() {
+		return errors == null || errors.isEmpty();
+	}
+
+	public List<TxnResult> getResults() {
+		return results != null ? results : Collections.emptyList();
+	}
+
+	public void setResults(List<TxnResult> results) {
+		this.results = results;
+	}
+
+	public List<TxnError> getErrors() {
+		return errors != null ? errors : Collections.emptyList();
+	}
+
+	public void setErrors(List<TxnError> errors) {
+		this.errors = errors;
+	}
+
+	@Override
+	public String toString() {
+		return "TxnResponse{" +
+				"results=" + results +
+				", errors=" + errors +
+				'}';
+	}
+}
@@ -0,0 +1,28 @@
+package com.ecwid.consul.v1.txn.model;
+
+import com.ecwid.consul.v1.kv.model.GetValue;
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * Result of a single transaction operation, reads return the value, writes only return the indexes
+ */
+public class TxnResult {
+
+	@SerializedName("KV")
+	private GetValue kv;
+
+	public GetValue getKv() {
+		return kv;
+	}
+
+	public void setKv(GetValue kv) {
+		this.kv = kv;
+	}
+
+	@Override
+	public String toString() {
+		return "TxnResult{" +
+				"kv=" + kv +
+				'}';
+	}
+}
@@ -1,22 +1,59 @@
 package com.ecwid.consul;
 
 import com.ecwid.consul.json.GsonFactory;
+import com.ecwid.consul.transport.AbstractHttpTransport;
+import com.ecwid.consul.transport.AsyncHttpTransport;
+import com.ecwid.consul.transport.DefaultAsyncHttpTransport;
+import com.ecwid.consul.transport.DefaultHttpTransport;
+import com.ecwid.consul.transport.HttpRequest;
+import com.ecwid.consul.transport.HttpResponse;
+import com.ecwid.consul.transport.HttpTransport;
+import com.ecwid.consul.transport.HttpTransportConfig;
+import com.ecwid.consul.transport.RetryPolicy;
+import com.ecwid.consul.transport.TransportException;
+import com.ecwid.consul.v1.CacheControl;
+import com.ecwid.consul.v1.CircuitBreakerConfig;
+import com.ecwid.consul.v1.CircuitBreakerOpenException;
+import com.ecwid.consul.v1.ConcurrencyLimitExceededException;
+import com.ecwid.consul.v1.ConcurrencyLimiterConfig;
+import com.ecwid.consul.v1.ConsistencyMode;
 import com.ecwid.consul.v1.ConsulRawClient;
 import com.ecwid.consul.v1.QueryParams;
+import com.ecwid.consul.v1.Request;
+import com.ecwid.consul.v1.ResponseCacheConfig;
 import com.ecwid.consul.v1.catalog.model.CatalogService;
 import com.google.gson.reflect.TypeToken;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.ResponseHandler;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatcher;
 
+import java.io.InputStream;
+import java.io.Reader;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
 
 public class ConsulRawClientTest {
 
@@ -70,4 +107,539 @@ public class ConsulRawClientTest {
         verify(httpClient).execute(calledUri.capture(), any(ResponseHandler.class));
         assertEquals(EXPECTED_AGENT_ADDRESS, calledUri.getValue().getURI().toString());
     }
+
+    @Test
+    public void verifyAsyncUrlWithPath() throws Exception {
+        // Given
+        CloseableHttpAsyncClient asyncHttpClient = mock(CloseableHttpAsyncClient.class);
+        ConsulRawClient client = ConsulRawClient.Builder.builder()
+                .setAsyncHttpTransport(new DefaultAsyncHttpTransport(asyncHttpClient))
+                .setHost(HOST)
+                .setPort(PORT)
+                .setPath(PATH)
+                .build();
+
+        // When
+        client.makeGetRequestAsync(ENDPOINT, r -> {
+			return GsonFactory.getGson().fromJson(r, new TypeToken<String>() {}.getType());
+		}, EMPTY_QUERY_PARAMS);
+
+        // Then
+        ArgumentCaptor<HttpUriRequest> calledUri = ArgumentCaptor.forClass(HttpUriRequest.class);
+        verify(asyncHttpClient).execute(calledUri.capture(), any(FutureCallback.class));
+        assertEquals(EXPECTED_AGENT_ADDRESS, calledUri.getValue().getURI().toString());
+    }
+
+    @Test
+    public void verifyAgentUrlWithPath() throws Exception {
+        // Given
+        HttpClient httpClient = mock(HttpClient.class);
+        ConsulRawClient client = ConsulRawClient.Builder.builder()
+                .setHttpClient(httpClient)
+                .addAgent(HOST, PORT)
+                .addAgent("https://agent2", PORT)
+                .setPath(PATH)
+                .build();
+
+        // When
+        client.makeGetRequest(ENDPOINT, r -> null, EMPTY_QUERY_PARAMS);
+
+        // Then
+        ArgumentCaptor<HttpUriRequest> calledUri = ArgumentCaptor.forClass(HttpUriRequest.class);
+        verify(httpClient).execute(calledUri.capture(), any(ResponseHandler.class));
+        assertEquals(EXPECTED_AGENT_ADDRESS, calledUri.getValue().getURI().toString());
+    }
+
+    @Test
+    public void failoverToNextAgentOnConnectError() throws Exception {
+        // Given
+        HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.execute(argThat(hostIs("agent1")), any(ResponseHandler.class))).thenThrow(new ConnectException());
+        when(httpClient.execute(argThat(hostIs("agent2")), any(ResponseHandler.class))).thenReturn(okResponse());
+        ConsulRawClient client = ConsulRawClient.Builder.builder()
+                .setHttpClient(httpClient)
+                .addAgent("agent1", PORT)
+                .addAgent("agent2", PORT)
+                .build();
+
+        // When
+        HttpResponse<String> response = client.makePutRequest(ENDPOINT, "value", r -> null);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+        verify(httpClient).execute(argThat(hostIs("agent1")), any(ResponseHandler.class));
+        verify(httpClient).execute(argThat(hostIs("agent2")), any(ResponseHandler.class));
+    }
+
+    @Test
+    public void noFailoverForPutOnReadTimeout() throws Exception {
+        // Given
+        HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.execute(argThat(hostIs("agent1")), any(ResponseHandler.class))).thenThrow(new SocketTimeoutException());
+        ConsulRawClient client = ConsulRawClient.Builder.builder()
+                .setHttpClient(httpClient)
+                .addAgent("agent1", PORT)
+                .addAgent("agent2", PORT)
+                .build();
+
+        // When
+        assertThrows(TransportException.class, () -> client.makePutRequest(ENDPOINT, "value", r -> null));
+
+        // Then
+        verify(httpClient, never()).execute(argThat(hostIs("agent2")), any(ResponseHandler.class));
+    }
+
+    @Test
+    public void onlyLastAgentMayRetryConnectErrors() {
+        // Given
+        List<Boolean> failoverAvailable = new ArrayList<>();
+        AsyncHttpTransport asyncHttpTransport = new AsyncHttpTransport() {
+            @Override
+            public <T> CompletableFuture<HttpResponse<T>> makeGetRequest(HttpRequest request, Function<Reader, T> objConverter) {
+                failoverAvailable.add(request.isFailoverAvailable());
+                CompletableFuture<HttpResponse<T>> future = new CompletableFuture<>();
+                future.completeExceptionally(new TransportException(new ConnectException()));
+                return future;
+            }
+
+            @Override
+            public <T> CompletableFuture<HttpResponse<T>> makePutRequest(HttpRequest request, Function<Reader, T> objConverter) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <T> CompletableFuture<HttpResponse<T>> makeDeleteRequest(HttpRequest request, Function<Reader, T> objConverter) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <T> CompletableFuture<HttpResponse<T>> makeGetStreamRequest(HttpRequest request, Function<InputStream, T> streamConverter) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        ConsulRawClient client = ConsulRawClient.Builder.builder()
+                .setAsyncHttpTransport(asyncHttpTransport)
+                .addAgent("agent1", PORT)
+                .addAgent("agent2", PORT)
+                .build();
+
+        // When
+        CompletableFuture<HttpResponse<Object>> response = client.makeGetRequestAsync(ENDPOINT, r -> null, EMPTY_QUERY_PARAMS);
+
+        // Then
+        assertThrows(CompletionException.class, response::join);
+        assertEquals(Arrays.asList(true, false), failoverAvailable);
+    }
+
+    @Test
+    public void synchronousFailureOfNextAgentCompletesTheFuture() {
+        // Given
+        AsyncHttpTransport asyncHttpTransport = new AsyncHttpTransport() {
+            @Override
+            public <T> CompletableFuture<HttpResponse<T>> makeGetRequest(HttpRequest request, Function<Reader, T> objConverter) {
+                if (request.getUrl().startsWith("http://agent2:")) {
+                    throw new IllegalStateException("Transport is closed");
+                }
+                CompletableFuture<HttpResponse<T>> future = new CompletableFuture<>();
+                future.completeExceptionally(new TransportException(new ConnectException()));
+                return future;
+            }
+
+            @Override
+            public <T> CompletableFuture<HttpResponse<T>> makePutRequest(HttpRequest request, Function<Reader, T> objConverter) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <T> CompletableFuture<HttpResponse<T>> makeDeleteRequest(HttpRequest request, Function<Reader, T> objConverter) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <T> CompletableFuture<HttpResponse<T>> makeGetStreamRequest(HttpRequest request, Function<InputStream, T> streamConverter) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        ConsulRawClient client = ConsulRawClient.Builder.builder()
+                .setAsyncHttpTransport(asyncHttpTransport)
+                .addAgent("agent1", PORT)
+                .addAgent("agent2", PORT)
+                .build();
+
+        // When
+        CompletableFuture<HttpResponse<Object>> response = client.makeGetRequestAsync(ENDPOINT, r -> null, EMPTY_QUERY_PARAMS);
+
+        // Then
+        assertTrue(response.isCompletedExceptionally());
+        CompletionException e = assertThrows(CompletionException.class, response::join);
+        assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void httpTransportWithoutStreamRequestsIsRejected() {
+        // Given
+        HttpTransport httpTransport = new HttpTransport() {
+            @Override
+            public <T> HttpResponse<T> makeGetRequest(HttpRequest request, Function<Reader, T> objConverter) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <T> HttpResponse<T> makePutRequest(HttpRequest request, Function<Reader, T> objConverter) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <T> HttpResponse<T> makeDeleteRequest(HttpRequest request, Function<Reader, T> objConverter) {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        // When
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> ConsulRawClient.Builder.builder().setHttpTransport(httpTransport));
+    }
+
+    @Test
+    public void customHttpTransportIsUsed() throws Exception {
+        // Given
+        HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class))).thenReturn(okResponse());
+        ConsulRawClient client = ConsulRawClient.Builder.builder()
+                .setHttpTransport(new DefaultHttpTransport(httpClient))
+                .build();
+
+        // When
+        client.makeGetRequest(ENDPOINT, r -> null, EMPTY_QUERY_PARAMS);
+
+        // Then
+        verify(httpClient).execute(any(HttpUriRequest.class), any(ResponseHandler.class));
+    }
+
+    @Test
+    public void asyncRequestFailsWithoutAsyncTransportForCustomHttpClient() {
+        // Given
+        HttpClient httpClient = mock(HttpClient.class);
+        ConsulRawClient builtClient = ConsulRawClient.Builder.builder()
+                .setHttpClient(httpClient)
+                .build();
+        ConsulRawClient legacyClient = new ConsulRawClient(httpClient, HOST, PORT, PATH);
+
+        // When
+        CompletableFuture<HttpResponse<Object>> builtResponse = builtClient.makeGetRequestAsync(ENDPOINT, r -> null, EMPTY_QUERY_PARAMS);
+        CompletableFuture<HttpResponse<Object>> legacyResponse = legacyClient.makeGetRequestAsync(ENDPOINT, r -> null, EMPTY_QUERY_PARAMS);
+
+        // Then
+        CompletionException e = assertThrows(CompletionException.class, builtResponse::join);
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        e = assertThrows(CompletionException.class, legacyResponse::join);
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        verifyZeroInteractions(httpClient);
+    }
+
+    @Test
+    public void hedgedStaleReadsNeedAsyncTransportForCustomHttpClient() {
+        // Given
+        ConsulRawClient.Builder builder = ConsulRawClient.Builder.builder()
+                .setHttpClient(mock(HttpClient.class))
+                .addAgent("agent1", PORT)
+                .addAgent("agent2", PORT)
+                .setHedgedStaleReads(true);
+
+        // When
+        // Then
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    @Test
+    public void failoverGetOnServerError() throws Exception {
+        // Given
+        HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.execute(argThat(hostIs("agent1")), any(ResponseHandler.class)))
+                .thenReturn(new HttpResponse<>(503, "Service Unavailable", null, null, null, null, "No cluster leader"));
+        when(httpClient.execute(argThat(hostIs("agent2")), any(ResponseHandler.class))).thenReturn(okResponse());
+        ConsulRawClient client = ConsulRawClient.Builder.builder()
+                .setHttpClient(httpClient)
+                .addAgent("agent1", PORT)
+                .addAgent("agent2", PORT)
+                .build();
+
+        // When
+        HttpResponse<String> response = client.makeGetRequest(ENDPOINT, r -> null, EMPTY_QUERY_PARAMS);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+
+        // When the failed agent is backing off
+        client.makeGetRequest(ENDPOINT, r -> null, EMPTY_QUERY_PARAMS);
+
+        // Then it is not asked again
+        verify(httpClient).execute(argThat(hostIs("agent1")), any(ResponseHandler.class));
+    }
+
+    @Test
+    public void failedAgentIsAskedOnceBeforeFailover() throws Exception {
+        // Given
+        HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.execute(argThat(hostIs("agent1")), any(ResponseHandler.class))).thenThrow(new SocketTimeoutException());
+        when(httpClient.execute(argThat(hostIs("agent2")), any(ResponseHandler.class)))
+                .thenReturn(new HttpResponse<>(503, "Service Unavailable", null, null, null, null, "No cluster leader"));
+        when(httpClient.execute(argThat(hostIs("agent3")), any(ResponseHandler.class))).thenReturn(okResponse());
+        HttpTransportConfig config = HttpTransportConfig.builder()
+                .setRetryPolicy(RetryPolicy.builder().setBaseBackoff(1).build())
+                .build();
+        ConsulRawClient client = ConsulRawClient.Builder.builder()
+                .setHttpTransport(new AbstractHttpTransport(config) {
+                    @Override
+                    protected HttpClient getHttpClient() {
+                        return httpClient;
+                    }
+                })
+                .addAgent("agent1", PORT)
+                .addAgent("agent2", PORT)
+                .addAgent("agent3", PORT)
+                .build();
+
+        // When
+        HttpResponse<String> response = client.makeGetRequest(ENDPOINT, r -> null, EMPTY_QUERY_PARAMS);
+
+        // Then
+        assertEquals(200, response.getStatusCode());
+        verify(httpClient).execute(argThat(hostIs("agent1")), any(ResponseHandler.class));
+        verify(httpClient).execute(argThat(hostIs("agent2")), any(ResponseHandler.class));
+        verify(httpClient).execute(argThat(hostIs("agent3")), any(ResponseHandler.class));
+    }
+
+    @Test
+    public void hedgedStaleReadIsAnsweredBySecondAgent() {
+        // Given
+        CompletableFuture<HttpResponse<Object>> slowResponse = new CompletableFuture<>();
+        AsyncHttpTransport asyncHttpTransport = new AsyncHttpTransport() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> CompletableFuture<HttpResponse<T>> makeGetRequest(HttpRequest request, Function<Reader, T> objConverter) {
+                if (request.getUrl().startsWith("http://agent1:")) {
+                    return (CompletableFuture) slowResponse;
+                }
+                return CompletableFuture.completedFuture(new HttpResponse<>(200, "OK", (T) "agent2", null, null, null));
+            }
+
+            @Override
+            public <T> CompletableFuture<HttpResponse<T>> makePutRequest(HttpRequest request, Function<Reader, T> objConverter) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <T> CompletableFuture<HttpResponse<T>> makeDeleteRequest(HttpRequest request, Function<Reader, T> objConverter) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <T> CompletableFuture<HttpResponse<T>> makeGetStreamRequest(HttpRequest request, Function<InputStream, T> streamConverter) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        ConsulRawClient client = ConsulRawClient.Builder.builder()
+                .setAsyncHttpTransport(asyncHttpTransport)
+                .addAgent("agent1", PORT)
+                .addAgent("agent2", PORT)
+                .setHedgedStaleReads(true)
+                .build();
+        QueryParams staleQueryParams = new QueryParams(ConsistencyMode.STALE);
+
+        // When
+        HttpResponse<String> response = client.makeGetRequest(ENDPOINT, r -> null, staleQueryParams);
+
+        // Then
+        assertEquals("agent2", response.getContent());
+        assertTrue(slowResponse.isCancelled());
+    }
+
+    @Test
+    public void openCircuitBreakerFailsFast() throws Exception {
+        // Given
+        HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class))).thenThrow(new ConnectException());
+        ConsulRawClient client = ConsulRawClient.Builder.builder()
+                .setHttpClient(httpClient)
+                .setHost(HOST)
+                .setPort(PORT)
+                .setCircuitBreakerConfig(CircuitBreakerConfig.builder()
+                        .setMinimumCalls(2)
+                        .build())
+                .build();
+        assertThrows(TransportException.class, () -> client.makeGetRequest(ENDPOINT, r -> null, EMPTY_QUERY_PARAMS));
+        assertThrows(TransportException.class, () -> client.makeGetRequest(ENDPOINT, r -> null, EMPTY_QUERY_PARAMS));
+
+        // When
+        assertThrows(CircuitBreakerOpenException.class, () -> client.makeGetRequest(ENDPOINT, r -> null, EMPTY_QUERY_PARAMS));
+
+        // Then
+        verify(httpClient, times(2)).execute(any(HttpUriRequest.class), any(ResponseHandler.class));
+    }
+
+    @Test
+    public void saturatedAgentRejectsRequestsButNotBlockingQueries() {
+        // Given
+        AsyncHttpTransport asyncHttpTransport = mock(AsyncHttpTransport.class);
+        when(asyncHttpTransport.makeGetRequest(any(HttpRequest.class), any())).thenAnswer(invocation -> new CompletableFuture<>());
+        ConsulRawClient client = ConsulRawClient.Builder.builder()
+                .setAsyncHttpTransport(asyncHttpTransport)
+                .setHost(HOST)
+                .setPort(PORT)
+                .setConcurrencyLimiterConfig(ConcurrencyLimiterConfig.builder()
+                        .setInitialLimit(1)
+                        .build())
+                .build();
+        QueryParams blockingQueryParams = QueryParams.Builder.builder().setIndex(10).build();
+        CompletableFuture<HttpResponse<Object>> inFlight = client.makeGetRequestAsync(ENDPOINT, r -> null, EMPTY_QUERY_PARAMS);
+
+        // When
+        CompletableFuture<HttpResponse<Object>> rejected = client.makeGetRequestAsync(ENDPOINT, r -> null, EMPTY_QUERY_PARAMS);
+        CompletableFuture<HttpResponse<Object>> blockingQuery = client.makeGetRequestAsync(ENDPOINT, r -> null, blockingQueryParams);
+
+        // Then
+        CompletionException e = assertThrows(CompletionException.class, rejected::join);
+        assertTrue(e.getCause() instanceof ConcurrencyLimitExceededException);
+        assertTrue(!inFlight.isDone() && !blockingQuery.isDone());
+        verify(asyncHttpTransport, times(2)).makeGetRequest(any(HttpRequest.class), any());
+    }
+
+    @Test
+    public void cacheControlIsSentAsHeader() throws Exception {
+        // Given
+        HttpClient httpClient = mock(HttpClient.class);
+        ConsulRawClient client = ConsulRawClient.Builder.builder()
+                .setHttpClient(httpClient)
+                .setHost(HOST)
+                .setPort(PORT)
+                .build();
+        Request request = Request.Builder.newBuilder()
+                .setEndpoint(ENDPOINT)
+                .setCacheControl(CacheControl.builder()
+                        .setMaxAge(30)
+                        .setStaleIfError(600)
+                        .build())
+                .build();
+
+        // When
+        client.makeGetRequest(request, r -> null);
+
+        // Then
+        ArgumentCaptor<HttpUriRequest> calledUri = ArgumentCaptor.forClass(HttpUriRequest.class);
+        verify(httpClient).execute(calledUri.capture(), any(ResponseHandler.class));
+        assertEquals("max-age=30, stale-if-error=600", calledUri.getValue().getFirstHeader("Cache-Control").getValue());
+    }
+
+    @Test
+    public void expiredCacheEntryIsRevalidatedWithItsIndex() throws Exception {
+        // Given
+        HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class)))
+                .thenReturn(new HttpResponse<>(200, "OK", "value", 10L, true, 0L));
+        ConsulRawClient client = ConsulRawClient.Builder.builder()
+                .setHttpClient(httpClient)
+                .setHost(HOST)
+                .setPort(PORT)
+                .setResponseCacheConfig(ResponseCacheConfig.builder()
+                        .setDefaultTtl(1)
+                        .setRevalidationWait(50)
+                        .build())
+                .build();
+        // responses are cached per converter instance
+        Function<Reader, Object> converter = r -> null;
+        client.makeGetRequest(ENDPOINT, converter, EMPTY_QUERY_PARAMS);
+        Thread.sleep(5);
+
+        // When
+        client.makeGetRequest(ENDPOINT, converter, EMPTY_QUERY_PARAMS);
+
+        // Then
+        ArgumentCaptor<HttpUriRequest> calledUri = ArgumentCaptor.forClass(HttpUriRequest.class);
+        verify(httpClient, times(2)).execute(calledUri.capture(), any(ResponseHandler.class));
+        assertEquals(EXPECTED_AGENT_ADDRESS_NO_PATH + "?index=10&wait=50ms", calledUri.getAllValues().get(1).getURI().toString());
+        assertEquals(1, client.getCacheRevalidationCount());
+    }
+
+    @Test
+    public void responsesAreCachedPerResponseType() throws Exception {
+        // Given
+        HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class)))
+                .thenReturn(new HttpResponse<>(200, "OK", "value", 10L, true, 0L));
+        ConsulRawClient client = ConsulRawClient.Builder.builder()
+                .setHttpClient(httpClient)
+                .setResponseCacheConfig(ResponseCacheConfig.builder()
+                        .setDefaultTtl(60_000)
+                        .build())
+                .build();
+
+        // When
+        client.makeGetRequest(ENDPOINT, String.class, EMPTY_QUERY_PARAMS);
+        client.makeGetRequest(ENDPOINT, String.class, EMPTY_QUERY_PARAMS);
+        client.makeGetRequest(ENDPOINT, Long.class, EMPTY_QUERY_PARAMS);
+
+        // Then
+        verify(httpClient, times(2)).execute(any(HttpUriRequest.class), any(ResponseHandler.class));
+    }
+
+    @Test
+    public void convertersOfOneCallSiteDontShareCachedResponses() throws Exception {
+        // Given
+        HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class)))
+                .thenReturn(new HttpResponse<>(200, "OK", "value", 10L, true, 0L));
+        ConsulRawClient client = ConsulRawClient.Builder.builder()
+                .setHttpClient(httpClient)
+                .setResponseCacheConfig(ResponseCacheConfig.builder()
+                        .setDefaultTtl(60_000)
+                        .build())
+                .build();
+
+        // When
+        client.makeGetRequest(ENDPOINT, createConverter(String.class), EMPTY_QUERY_PARAMS);
+        client.makeGetRequest(ENDPOINT, createConverter(Long.class), EMPTY_QUERY_PARAMS);
+
+        // Then
+        verify(httpClient, times(2)).execute(any(HttpUriRequest.class), any(ResponseHandler.class));
+    }
+
+    @Test
+    public void exclusiveRequestBypassesResponseCache() throws Exception {
+        // Given
+        HttpClient httpClient = mock(HttpClient.class);
+        when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class)))
+                .thenReturn(new HttpResponse<>(200, "OK", "value", 10L, true, 0L));
+        ConsulRawClient client = ConsulRawClient.Builder.builder()
+                .setHttpClient(httpClient)
+                .setResponseCacheConfig(ResponseCacheConfig.builder()
+                        .setDefaultTtl(60_000)
+                        .build())
+                .build();
+        Request request = Request.Builder.newBuilder()
+                .setEndpoint(ENDPOINT)
+                .setExclusive(true)
+                .build();
+        Function<InputStream, Object> converter = in -> null;
+
+        // When
+        client.makeGetStreamRequest(request, converter);
+        client.makeGetStreamRequest(request, converter);
+
+        // Then
+        verify(httpClient, times(2)).execute(any(HttpUriRequest.class), any(ResponseHandler.class));
+        assertEquals(0, client.getCacheMissCount());
+    }
+
+    private static Function<Reader, Object> createConverter(Class<?> type) {
+        return r -> GsonFactory.getGson().fromJson(r, type);
+    }
+
+    private static ArgumentMatcher<HttpUriRequest> hostIs(String host) {
+        return request -> request != null && host.equals(request.getURI().getHost());
+    }
+
+    private static HttpResponse<Object> okResponse() {
+        return new HttpResponse<>(200, "OK", null, null, null, null, null);
+    }
 }
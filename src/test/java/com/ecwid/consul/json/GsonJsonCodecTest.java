@@ -0,0 +1,9 @@
+package com.ecwid.consul.json;
+
+public class GsonJsonCodecTest extends JsonCodecParityTest {
+
+	@Override
+	protected JsonCodec createCodec() {
+		return GsonJsonCodec.DEFAULT;
+	}
+}
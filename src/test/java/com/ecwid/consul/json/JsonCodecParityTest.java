@@ -0,0 +1,285 @@
+package com.ecwid.consul.json;
+
+import com.ecwid.consul.v1.acl.model.Acl;
+import com.ecwid.consul.v1.acl.model.NewAcl;
+import com.ecwid.consul.v1.agent.model.Member;
+import com.ecwid.consul.v1.agent.model.NewCheck;
+import com.ecwid.consul.v1.agent.model.NewService;
+import com.ecwid.consul.v1.agent.model.Self;
+import com.ecwid.consul.v1.agent.model.Service;
+import com.ecwid.consul.v1.catalog.model.CatalogNode;
+import com.ecwid.consul.v1.catalog.model.CatalogRegistration;
+import com.ecwid.consul.v1.catalog.model.CatalogService;
+import com.ecwid.consul.v1.coordinate.model.Datacenter;
+import com.ecwid.consul.v1.event.model.Event;
+import com.ecwid.consul.v1.health.model.Check;
+import com.ecwid.consul.v1.health.model.HealthService;
+import com.ecwid.consul.v1.kv.model.GetBinaryValue;
+import com.ecwid.consul.v1.kv.model.GetValue;
+import com.ecwid.consul.v1.query.model.QueryExecution;
+import com.ecwid.consul.v1.session.model.NewSession;
+import com.ecwid.consul.v1.session.model.Session;
+import com.ecwid.consul.v1.txn.model.TxnResponse;
+import com.google.gson.reflect.TypeToken;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that a {@link JsonCodec} reads and writes the model classes exactly like {@link GsonFactory}.
+ * Alternative codecs get the same checks by extending this class.
+ */
+public abstract class JsonCodecParityTest {
+
+	private static final Type HEALTH_SERVICE_LIST_TYPE = new TypeToken<List<HealthService>>() {}.getType();
+	private static final Type GET_VALUE_LIST_TYPE = new TypeToken<List<GetValue>>() {}.getType();
+	private static final Type GET_BINARY_VALUE_LIST_TYPE = new TypeToken<List<GetBinaryValue>>() {}.getType();
+	private static final Type ACL_LIST_TYPE = new TypeToken<List<Acl>>() {}.getType();
+	private static final Type AGENT_CHECK_MAP_TYPE = new TypeToken<Map<String, com.ecwid.consul.v1.agent.model.Check>>() {}.getType();
+	private static final Type SERVICE_MAP_TYPE = new TypeToken<Map<String, Service>>() {}.getType();
+	private static final Type MEMBER_LIST_TYPE = new TypeToken<List<Member>>() {}.getType();
+	private static final Type CATALOG_SERVICE_LIST_TYPE = new TypeToken<List<CatalogService>>() {}.getType();
+	private static final Type DATACENTER_LIST_TYPE = new TypeToken<List<Datacenter>>() {}.getType();
+	private static final Type EVENT_LIST_TYPE = new TypeToken<List<Event>>() {}.getType();
+	private static final Type CHECK_LIST_TYPE = new TypeToken<List<Check>>() {}.getType();
+	private static final Type SESSION_LIST_TYPE = new TypeToken<List<Session>>() {}.getType();
+
+	private static final String HEALTH_SERVICES = "[{\"Node\":{\"ID\":\"40e4a748-2192-161a-0510-9bf59fe950b5\",\"Node\":\"node-1\"," +
+		"\"Address\":\"10.1.10.12\",\"Datacenter\":\"dc1\",\"TaggedAddresses\":{\"lan\":\"10.1.10.12\",\"wan\":\"10.1.10.12\"}," +
+		"\"Meta\":{\"instance_type\":\"t2.medium\"},\"CreateIndex\":5,\"ModifyIndex\":7}," +
+		"\"Service\":{\"ID\":\"web-1\",\"Service\":\"web\",\"Tags\":[\"primary\",\"v1\"],\"Address\":\"\",\"Meta\":{\"version\":\"1.0\"}," +
+		"\"Port\":8080,\"EnableTagOverride\":false,\"CreateIndex\":5,\"ModifyIndex\":7}," +
+		"\"Checks\":[{\"Node\":\"node-1\",\"CheckID\":\"serfHealth\",\"Name\":\"Serf Health Status\",\"Status\":\"passing\"," +
+		"\"Notes\":\"\",\"Output\":\"Agent alive and reachable \\u00e9\",\"ServiceID\":\"\",\"ServiceName\":\"\",\"ServiceTags\":[]," +
+		"\"CreateIndex\":1,\"ModifyIndex\":1}]}]";
+
+	private static final String KV_VALUES = "[{\"LockIndex\":1,\"Key\":\"config/db\",\"Flags\":42,\"Value\":\"aGVsbG8=\"," +
+		"\"Session\":\"adf4238a-882b-9ddc-4a9d-5b6758e4159e\",\"CreateIndex\":100,\"ModifyIndex\":200}]";
+
+	private static final String ACLS = "[{\"CreateIndex\":3,\"ModifyIndex\":3,\"ID\":\"8f246b77-f3e1-ff88-5b48-8ec93abf3e05\"," +
+		"\"Name\":\"Client Token\",\"Type\":\"client\",\"Rules\":\"key \\\"\\\" { policy = \\\"read\\\" }\"}]";
+
+	private static final String NEW_ACL = "{\"Name\":\"my-app-token\",\"Type\":\"management\",\"Rules\":\"\"}";
+
+	private static final String AGENT_CHECKS = "{\"service:redis\":{\"Node\":\"foobar\",\"CheckID\":\"service:redis\"," +
+		"\"Name\":\"Service 'redis' check\",\"Status\":\"critical\",\"Notes\":\"\",\"Output\":\"\",\"ServiceID\":\"redis\"," +
+		"\"ServiceName\":\"redis\",\"ServiceTags\":[\"primary\"]}}";
+
+	private static final String AGENT_SERVICES = "{\"redis\":{\"ID\":\"redis\",\"Service\":\"redis\",\"Tags\":[\"primary\"]," +
+		"\"Address\":\"10.1.10.12\",\"Meta\":{\"redis_version\":\"4.0\"},\"Port\":8000,\"EnableTagOverride\":true}}";
+
+	private static final String MEMBERS = "[{\"Name\":\"foobar\",\"Addr\":\"10.1.10.12\",\"Port\":8301," +
+		"\"Tags\":{\"bootstrap\":\"1\",\"dc\":\"dc1\",\"port\":\"8300\",\"role\":\"consul\"},\"Status\":1," +
+		"\"ProtocolMin\":1,\"ProtocolMax\":2,\"ProtocolCur\":2,\"DelegateMin\":1,\"DelegateMax\":3,\"DelegateCur\":3}]";
+
+	private static final String SELF = "{\"Config\":{\"Datacenter\":\"dc1\",\"NodeName\":\"foobar\"," +
+		"\"Revision\":\"deadbeef\",\"Server\":true,\"Version\":\"1.0.0\"},\"DebugConfig\":{\"Bootstrap\":true," +
+		"\"DataDir\":\"/tmp/consul\",\"LogLevel\":\"INFO\",\"NodeID\":\"40e4a748-2192-161a-0510-9bf59fe950b5\"," +
+		"\"ClientAddrs\":[\"127.0.0.1\"],\"BindAddr\":\"0.0.0.0\",\"EnableDebug\":false,\"VerifyIncoming\":true}," +
+		"\"Member\":{\"Name\":\"foobar\",\"Addr\":\"10.1.10.12\",\"Port\":8301,\"Tags\":{\"role\":\"consul\"}," +
+		"\"Status\":1,\"ProtocolMin\":1,\"ProtocolMax\":2,\"ProtocolCur\":2,\"DelegateMin\":2,\"DelegateMax\":5,\"DelegateCur\":4}}";
+
+	private static final String NEW_CHECK = "{\"ID\":\"api\",\"Name\":\"HTTP API on port 5000\",\"Notes\":\"\"," +
+		"\"Args\":[\"/usr/local/bin/check.sh\"],\"HTTP\":\"https://example.com\",\"Method\":\"POST\"," +
+		"\"Header\":{\"x-foo\":[\"bar\",\"baz\"]},\"Interval\":\"10s\",\"Timeout\":\"5s\"," +
+		"\"DeregisterCriticalServiceAfter\":\"90m\",\"TLSSkipVerify\":true,\"Status\":\"passing\"}";
+
+	private static final String CATALOG_SERVICES = "[{\"ID\":\"40e4a748-2192-161a-0510-9bf59fe950b5\",\"Node\":\"foobar\"," +
+		"\"Address\":\"192.168.10.10\",\"Datacenter\":\"dc1\",\"TaggedAddresses\":{\"lan\":\"192.168.10.10\"}," +
+		"\"NodeMeta\":{\"somekey\":\"somevalue\"},\"ServiceID\":\"32a2a47f7992:nodea:5000\",\"ServiceName\":\"foobar\"," +
+		"\"ServiceTags\":[\"tagged\"],\"ServiceAddress\":\"172.17.0.3\",\"ServiceMeta\":{\"foobar_meta_value\":\"baz\"}," +
+		"\"ServicePort\":5000,\"ServiceEnableTagOverride\":false,\"CreateIndex\":51,\"ModifyIndex\":51}]";
+
+	private static final String CATALOG_NODE = "{\"Node\":{\"ID\":\"40e4a748-2192-161a-0510-9bf59fe950b5\",\"Node\":\"foobar\"," +
+		"\"Address\":\"10.1.10.12\",\"Datacenter\":\"dc1\",\"TaggedAddresses\":{\"lan\":\"10.1.10.12\"}," +
+		"\"Meta\":{\"instance_type\":\"t2.medium\"},\"CreateIndex\":1,\"ModifyIndex\":2}," +
+		"\"Services\":{\"consul\":{\"ID\":\"consul\",\"Service\":\"consul\",\"Tags\":null,\"Port\":8300}," +
+		"\"redis\":{\"ID\":\"redis\",\"Service\":\"redis\",\"Tags\":[\"v1\"],\"Port\":8000}}}";
+
+	private static final String CATALOG_REGISTRATION = "{\"Datacenter\":\"dc1\",\"Node\":\"foobar\",\"Address\":\"192.168.10.10\"," +
+		"\"TaggedAddresses\":{\"lan\":\"192.168.10.10\"},\"NodeMeta\":{\"somekey\":\"somevalue\"}," +
+		"\"Service\":{\"ID\":\"redis1\",\"Service\":\"redis\",\"Tags\":[\"primary\",\"v1\"],\"Address\":\"127.0.0.1\"," +
+		"\"Meta\":{\"redis_version\":\"4.0\"},\"Port\":8000},\"Check\":{\"Node\":\"foobar\",\"CheckID\":\"service:redis1\"," +
+		"\"Name\":\"Redis health check\",\"Notes\":\"Script based health check\",\"Status\":\"passing\"," +
+		"\"ServiceID\":\"redis1\"},\"SkipNodeUpdate\":true}";
+
+	private static final String COORDINATE_DATACENTERS = "[{\"Datacenter\":\"dc1\",\"AreaID\":\"WAN\",\"Coordinates\":" +
+		"[{\"Node\":\"agent-one\",\"Coord\":{\"Adjustment\":0.125,\"Error\":1.5,\"Height\":1.0E-5," +
+		"\"Vec\":[0.5,-0.25,0,0,0,0,0,0]}}]}]";
+
+	private static final String EVENTS = "[{\"ID\":\"b54fe110-7af5-cafc-d1fb-afc8ba432b1c\",\"Name\":\"deploy\"," +
+		"\"Payload\":\"MTYwOQ==\",\"NodeFilter\":\"\",\"ServiceFilter\":\"web\",\"TagFilter\":\"\",\"Version\":1,\"LTime\":19}]";
+
+	private static final String HEALTH_CHECKS = "[{\"Node\":\"foobar\",\"CheckID\":\"service:redis\",\"Name\":\"Service 'redis' check\"," +
+		"\"Status\":\"warning\",\"Notes\":\"\",\"Output\":\"load \\u00e9 1.5\",\"ServiceID\":\"redis\"," +
+		"\"ServiceName\":\"redis\",\"ServiceTags\":[\"primary\"],\"CreateIndex\":10,\"ModifyIndex\":12}]";
+
+	private static final String QUERY_EXECUTION = "{\"Service\":\"redis\",\"Nodes\":[{\"Node\":{\"ID\":\"40e4a748\"," +
+		"\"Node\":\"foobar\",\"Address\":\"10.1.10.12\",\"Datacenter\":\"dc1\",\"TaggedAddresses\":{\"lan\":\"10.1.10.12\"}," +
+		"\"Meta\":{\"instance_type\":\"t2.medium\"},\"CreateIndex\":1,\"ModifyIndex\":2},\"Service\":{\"ID\":\"redis\"," +
+		"\"Service\":\"redis\",\"Tags\":null,\"Address\":\"\",\"Port\":8000,\"EnableTagOverride\":false," +
+		"\"Meta\":{\"redis_version\":\"4.0\"},\"CreateIndex\":3,\"ModifyIndex\":4},\"Checks\":[{\"Node\":\"foobar\"," +
+		"\"CheckID\":\"service:redis\",\"Name\":\"Service 'redis' check\",\"Status\":\"passing\",\"Notes\":\"\"," +
+		"\"Output\":\"\",\"ServiceID\":\"redis\",\"ServiceName\":\"redis\"}]}],\"DNS\":{\"TTL\":\"10s\"}," +
+		"\"Datacenter\":\"dc3\",\"Failovers\":2}";
+
+	private static final String SESSIONS = "[{\"LockDelay\":1500000000,\"Checks\":[\"serfHealth\"],\"Node\":\"foobar\"," +
+		"\"ID\":\"adf4238a-882b-9ddc-4a9d-5b6758e4159e\",\"Name\":\"lock\",\"CreateIndex\":1086449,\"ModifyIndex\":1086450," +
+		"\"TTL\":\"30s\",\"Behavior\":\"delete\"}]";
+
+	private static final String NEW_SESSION = "{\"LockDelay\":15,\"Name\":\"my-service-lock\",\"Node\":\"foobar\"," +
+		"\"Checks\":[\"a\",\"b\"],\"Behavior\":\"release\",\"TTL\":\"30s\"}";
+
+	private static final String TXN_RESPONSE = "{\"Results\":[{\"KV\":{\"LockIndex\":0,\"Key\":\"config/db\",\"Flags\":0," +
+		"\"Value\":\"aGVsbG8=\",\"CreateIndex\":10,\"ModifyIndex\":12}}],\"Errors\":[{\"OpIndex\":1,\"What\":\"failed to lock\"}]}";
+
+	protected abstract JsonCodec createCodec();
+
+	@Test
+	public void healthServicesAreDecodedLikeGson() {
+		assertDecodedLikeGson(HEALTH_SERVICES, HEALTH_SERVICE_LIST_TYPE);
+	}
+
+	@Test
+	public void kvValuesAreDecodedLikeGson() {
+		assertDecodedLikeGson(KV_VALUES, GET_VALUE_LIST_TYPE);
+	}
+
+	@Test
+	public void aclModelsRoundTripLikeGson() {
+		assertRoundTripLikeGson(ACLS, ACL_LIST_TYPE);
+		assertRoundTripLikeGson(NEW_ACL, NewAcl.class);
+	}
+
+	@Test
+	public void agentModelsRoundTripLikeGson() {
+		assertRoundTripLikeGson(AGENT_CHECKS, AGENT_CHECK_MAP_TYPE);
+		assertRoundTripLikeGson(AGENT_SERVICES, SERVICE_MAP_TYPE);
+		assertRoundTripLikeGson(MEMBERS, MEMBER_LIST_TYPE);
+		assertRoundTripLikeGson(SELF, Self.class);
+		assertRoundTripLikeGson(NEW_CHECK, NewCheck.class);
+	}
+
+	@Test
+	public void catalogModelsRoundTripLikeGson() {
+		assertRoundTripLikeGson(CATALOG_SERVICES, CATALOG_SERVICE_LIST_TYPE);
+		assertRoundTripLikeGson(CATALOG_NODE, CatalogNode.class);
+		assertRoundTripLikeGson(CATALOG_REGISTRATION, CatalogRegistration.class);
+	}
+
+	@Test
+	public void coordinateModelsRoundTripLikeGson() {
+		assertRoundTripLikeGson(COORDINATE_DATACENTERS, DATACENTER_LIST_TYPE);
+	}
+
+	@Test
+	public void eventModelsRoundTripLikeGson() {
+		assertRoundTripLikeGson(EVENTS, EVENT_LIST_TYPE);
+	}
+
+	@Test
+	public void healthModelsRoundTripLikeGson() {
+		assertRoundTripLikeGson(HEALTH_CHECKS, CHECK_LIST_TYPE);
+		assertRoundTripLikeGson(HEALTH_SERVICES, HEALTH_SERVICE_LIST_TYPE);
+	}
+
+	@Test
+	public void queryModelsRoundTripLikeGson() {
+		assertRoundTripLikeGson(QUERY_EXECUTION, QueryExecution.class);
+	}
+
+	@Test
+	public void sessionModelsRoundTripLikeGson() {
+		assertRoundTripLikeGson(SESSIONS, SESSION_LIST_TYPE);
+		assertRoundTripLikeGson(NEW_SESSION, NewSession.class);
+	}
+
+	@Test
+	public void txnModelsRoundTripLikeGson() {
+		assertRoundTripLikeGson(TXN_RESPONSE, TxnResponse.class);
+	}
+
+	@Test
+	public void binaryValuesAreDecodedFromBase64() {
+		// When
+		List<GetBinaryValue> values = createCodec().fromJson(new StringReader(KV_VALUES), GET_BINARY_VALUE_LIST_TYPE);
+
+		// Then
+		assertArrayEquals("hello".getBytes(), values.get(0).getValue());
+		assertDecodedLikeGson(KV_VALUES, GET_BINARY_VALUE_LIST_TYPE);
+	}
+
+	@Test
+	public void kvValuesAreStreamedLikeGson() {
+		// Given
+		List<GetValue> values = new ArrayList<>();
+
+		// When
+		long count = createCodec().<GetValue>fromJsonArray(new StringReader(KV_VALUES), GetValue.class, values::add);
+
+		// Then
+		assertEquals(1, count);
+		List<GetValue> expected = GsonFactory.getGson().fromJson(KV_VALUES, GET_VALUE_LIST_TYPE);
+		assertEquals(GsonFactory.getGson().toJson(expected), GsonFactory.getGson().toJson(values));
+	}
+
+	@Test
+	public void nullArrayIsStreamedAsEmpty() {
+		// When
+		long count = createCodec().fromJsonArray(new StringReader("null"), GetValue.class, value -> {
+			throw new AssertionError("unexpected value " + value);
+		});
+
+		// Then
+		assertEquals(0, count);
+	}
+
+	@Test
+	public void nullFieldsAreNotEncoded() {
+		// Given
+		NewService newService = new NewService();
+		newService.setId("web-1");
+		newService.setName("web");
+		newService.setTags(Arrays.asList("primary", "v1"));
+		newService.setMeta(Collections.singletonMap("version", "1.0"));
+		newService.setPort(8080);
+
+		// When
+		String json = createCodec().toJson(newService);
+
+		// Then
+		assertEquals(GsonFactory.getGson().toJson(newService), json);
+	}
+
+	private void assertRoundTripLikeGson(String json, Type type) {
+		assertDecodedLikeGson(json, type);
+
+		// When
+		JsonCodec codec = createCodec();
+		Object decoded = codec.fromJson(new StringReader(json), type);
+		String encoded = codec.toJson(decoded);
+
+		// Then
+		Object expected = GsonFactory.getGson().fromJson(json, type);
+		assertEquals(GsonFactory.getGson().toJson(expected), encoded);
+	}
+
+	private void assertDecodedLikeGson(String json, Type type) {
+		// When
+		Object decoded = createCodec().fromJson(new StringReader(json), type);
+
+		// Then
+		// most of the models don't implement equals(), so the decoded objects are compared by their Gson encoding
+		Object expected = GsonFactory.getGson().fromJson(json, type);
+		assertEquals(GsonFactory.getGson().toJson(expected), GsonFactory.getGson().toJson(decoded));
+	}
+}
@@ -0,0 +1,397 @@
+package com.ecwid.consul.transport;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class AbstractHttpTransportTest {
+
+	private static final String URL = "http://localhost:8500/v1/kv/key";
+
+	private final HttpClient httpClient = mock(HttpClient.class);
+	private final HttpClient blockingQueryHttpClient = mock(HttpClient.class);
+
+	private final AbstractHttpTransport transport = new AbstractHttpTransport() {
+		@Override
+		protected HttpClient getHttpClient() {
+			return httpClient;
+		}
+
+		@Override
+		protected HttpClient getBlockingQueryHttpClient() {
+			return blockingQueryHttpClient;
+		}
+	};
+
+	@Test
+	public void blockingQueryUsesBlockingQueryClient() throws Exception {
+		// Given
+		HttpRequest request = HttpRequest.Builder.newBuilder()
+			.setUrl(URL + "?index=10")
+			.setBlockingQuery(true)
+			.build();
+
+		// When
+		transport.makeGetRequest(request, r -> null);
+
+		// Then
+		verify(blockingQueryHttpClient).execute(any(HttpUriRequest.class), any(ResponseHandler.class));
+		verifyZeroInteractions(httpClient);
+	}
+
+	@Test
+	public void shortRequestUsesDefaultClient() throws Exception {
+		// Given
+		HttpRequest request = HttpRequest.Builder.newBuilder()
+			.setUrl(URL)
+			.setContent("value")
+			.build();
+
+		// When
+		transport.makePutRequest(request, r -> null);
+
+		// Then
+		verify(httpClient).execute(any(HttpUriRequest.class), any(ResponseHandler.class));
+		verifyZeroInteractions(blockingQueryHttpClient);
+	}
+
+	@Test
+	public void readTimeoutIsComputedPerRequest() throws Exception {
+		// Given
+		HttpTransportConfig config = HttpTransportConfig.builder()
+			.setReadTimeout(5000)
+			.setBlockingQueryReadTimeoutMargin(1000)
+			.build();
+		AbstractHttpTransport configuredTransport = new AbstractHttpTransport(config) {
+			@Override
+			protected HttpClient getHttpClient() {
+				return httpClient;
+			}
+		};
+		HttpRequest request = HttpRequest.Builder.newBuilder()
+			.setUrl(URL + "?index=10&wait=16s")
+			.setBlockingQuery(true)
+			.setWaitTime(16)
+			.build();
+		when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class))).thenReturn(okResponse());
+
+		// When
+		configuredTransport.makeGetRequest(request, r -> null);
+
+		// Then
+		ArgumentCaptor<HttpRequestBase> calledRequest = ArgumentCaptor.forClass(HttpRequestBase.class);
+		verify(httpClient).execute(calledRequest.capture(), any(ResponseHandler.class));
+		assertEquals(18000, calledRequest.getValue().getConfig().getSocketTimeout());
+	}
+
+	@Test
+	public void gzipIsRequestedIfCompressionIsEnabled() throws Exception {
+		// Given
+		AbstractHttpTransport configuredTransport = transportWithRetries(RetryPolicy.NONE);
+		HttpRequest request = HttpRequest.Builder.newBuilder()
+			.setUrl(URL)
+			.build();
+		when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class))).thenReturn(okResponse());
+
+		// When
+		configuredTransport.makeGetRequest(request, r -> null);
+
+		// Then
+		ArgumentCaptor<HttpRequestBase> calledRequest = ArgumentCaptor.forClass(HttpRequestBase.class);
+		verify(httpClient).execute(calledRequest.capture(), any(ResponseHandler.class));
+		assertEquals("gzip", calledRequest.getValue().getFirstHeader("Accept-Encoding").getValue());
+	}
+
+	@Test
+	public void clientDefaultsAreKeptWithoutConfig() throws Exception {
+		// Given
+		HttpRequest request = HttpRequest.Builder.newBuilder()
+			.setUrl(URL)
+			.build();
+
+		// When
+		transport.makeGetRequest(request, r -> null);
+
+		// Then
+		ArgumentCaptor<HttpRequestBase> calledRequest = ArgumentCaptor.forClass(HttpRequestBase.class);
+		verify(httpClient).execute(calledRequest.capture(), any(ResponseHandler.class));
+		assertNull(calledRequest.getValue().getConfig());
+	}
+
+	@Test
+	public void metricsListenerReceivesCompletedRequest() throws Exception {
+		// Given
+		RecordingMetricsListener metricsListener = new RecordingMetricsListener();
+		AbstractHttpTransport configuredTransport = transportWithMetrics(metricsListener);
+		HttpRequest request = HttpRequest.Builder.newBuilder()
+			.setUrl(URL + "?dc=dc1")
+			.build();
+		when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class))).thenReturn(okResponse());
+
+		// When
+		configuredTransport.makeGetRequest(request, r -> null);
+
+		// Then
+		assertEquals("GET /v1/kv/key 200", metricsListener.event);
+	}
+
+	@Test
+	public void metricsListenerReceivesFailedRequest() throws Exception {
+		// Given
+		RecordingMetricsListener metricsListener = new RecordingMetricsListener();
+		AbstractHttpTransport configuredTransport = transportWithMetrics(metricsListener);
+		HttpRequest request = HttpRequest.Builder.newBuilder()
+			.setUrl(URL)
+			.build();
+		when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class))).thenThrow(new ConnectException());
+
+		// When
+		assertThrows(TransportException.class, () -> configuredTransport.makeDeleteRequest(request, r -> null));
+
+		// Then
+		assertEquals("DELETE /v1/kv/key ConnectException", metricsListener.event);
+	}
+
+	@Test
+	public void getIsRetriedOnIOException() throws Exception {
+		// Given
+		AbstractHttpTransport retryingTransport = transportWithRetries(RetryPolicy.builder().setBaseBackoff(1).build());
+		HttpRequest request = HttpRequest.Builder.newBuilder()
+			.setUrl(URL)
+			.build();
+		when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class)))
+			.thenThrow(new ConnectException())
+			.thenReturn(okResponse());
+
+		// When
+		HttpResponse<Object> response = retryingTransport.makeGetRequest(request, r -> null);
+
+		// Then
+		assertEquals(200, response.getStatusCode());
+		verify(httpClient, times(2)).execute(any(HttpUriRequest.class), any(ResponseHandler.class));
+	}
+
+	@Test
+	public void getIsRetriedOnServiceUnavailable() throws Exception {
+		// Given
+		AbstractHttpTransport retryingTransport = transportWithRetries(RetryPolicy.builder().setBaseBackoff(1).build());
+		HttpRequest request = HttpRequest.Builder.newBuilder()
+			.setUrl(URL)
+			.build();
+		when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class)))
+			.thenReturn(new HttpResponse<>(503, "Service Unavailable", null, null, null, null, null));
+
+		// When
+		HttpResponse<Object> response = retryingTransport.makeGetRequest(request, r -> null);
+
+		// Then
+		assertEquals(503, response.getStatusCode());
+		verify(httpClient, times(3)).execute(any(HttpUriRequest.class), any(ResponseHandler.class));
+	}
+
+	@Test
+	public void putIsNotRetriedUnlessIdempotent() throws Exception {
+		// Given
+		AbstractHttpTransport retryingTransport = transportWithRetries(RetryPolicy.builder().setBaseBackoff(1).build());
+		HttpRequest request = HttpRequest.Builder.newBuilder()
+			.setUrl(URL)
+			.setContent("value")
+			.build();
+		when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class))).thenThrow(new ConnectException());
+
+		// When
+		assertThrows(TransportException.class, () -> retryingTransport.makePutRequest(request, r -> null));
+
+		// Then
+		verify(httpClient).execute(any(HttpUriRequest.class), any(ResponseHandler.class));
+	}
+
+	@Test
+	public void idempotentPutIsRetried() throws Exception {
+		// Given
+		AbstractHttpTransport retryingTransport = transportWithRetries(RetryPolicy.builder().setBaseBackoff(1).build());
+		HttpRequest request = HttpRequest.Builder.newBuilder()
+			.setUrl(URL + "?cas=10")
+			.setContent("value")
+			.setIdempotent(true)
+			.build();
+		when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class)))
+			.thenThrow(new ConnectException())
+			.thenReturn(okResponse());
+
+		// When
+		HttpResponse<Object> response = retryingTransport.makePutRequest(request, r -> null);
+
+		// Then
+		assertEquals(200, response.getStatusCode());
+	}
+
+	@Test
+	public void streamedPutIsNotRetried() throws Exception {
+		// Given
+		AbstractHttpTransport retryingTransport = transportWithRetries(RetryPolicy.builder().setBaseBackoff(1).build());
+		HttpRequest request = HttpRequest.Builder.newBuilder()
+			.setUrl(URL + "?cas=10")
+			.setContentSource(ContentSource.of(new ByteArrayInputStream(new byte[] {1, 2, 3}), 3))
+			.setIdempotent(true)
+			.build();
+		when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class))).thenThrow(new ConnectException());
+
+		// When
+		assertThrows(TransportException.class, () -> retryingTransport.makePutRequest(request, r -> null));
+
+		// Then
+		verify(httpClient).execute(any(HttpUriRequest.class), any(ResponseHandler.class));
+	}
+
+	@Test
+	public void blockingQueryReadTimeoutIsNotRetried() throws Exception {
+		// Given
+		AbstractHttpTransport retryingTransport = transportWithRetries(RetryPolicy.builder().setBaseBackoff(1).build());
+		HttpRequest request = HttpRequest.Builder.newBuilder()
+			.setUrl(URL + "?index=10&wait=16s")
+			.setBlockingQuery(true)
+			.setWaitTime(16)
+			.build();
+		when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class))).thenThrow(new SocketTimeoutException());
+
+		// When
+		assertThrows(TransportException.class, () -> retryingTransport.makeGetRequest(request, r -> null));
+
+		// Then
+		verify(httpClient).execute(any(HttpUriRequest.class), any(ResponseHandler.class));
+	}
+
+	@Test
+	public void connectFailureIsNotRetriedIfCallerFailsOver() throws Exception {
+		// Given
+		AbstractHttpTransport retryingTransport = transportWithRetries(RetryPolicy.builder().setBaseBackoff(1).build());
+		HttpRequest request = HttpRequest.Builder.newBuilder()
+			.setUrl(URL)
+			.setFailoverAvailable(true)
+			.build();
+		when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class))).thenThrow(new ConnectException());
+
+		// When
+		assertThrows(TransportException.class, () -> retryingTransport.makeGetRequest(request, r -> null));
+
+		// Then
+		verify(httpClient).execute(any(HttpUriRequest.class), any(ResponseHandler.class));
+	}
+
+	@Test
+	public void readTimeoutIsNotRetriedIfCallerFailsOver() throws Exception {
+		// Given
+		AbstractHttpTransport retryingTransport = transportWithRetries(RetryPolicy.builder().setBaseBackoff(1).build());
+		HttpRequest request = HttpRequest.Builder.newBuilder()
+			.setUrl(URL)
+			.setFailoverAvailable(true)
+			.build();
+		when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class))).thenThrow(new SocketTimeoutException());
+
+		// When
+		assertThrows(TransportException.class, () -> retryingTransport.makeGetRequest(request, r -> null));
+
+		// Then
+		verify(httpClient).execute(any(HttpUriRequest.class), any(ResponseHandler.class));
+	}
+
+	@Test
+	public void serviceUnavailableIsNotRetriedIfCallerFailsOver() throws Exception {
+		// Given
+		AbstractHttpTransport retryingTransport = transportWithRetries(RetryPolicy.builder().setBaseBackoff(1).build());
+		HttpRequest request = HttpRequest.Builder.newBuilder()
+			.setUrl(URL)
+			.setFailoverAvailable(true)
+			.build();
+		when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class)))
+			.thenReturn(new HttpResponse<>(503, "Service Unavailable", null, null, null, null, null));
+
+		// When
+		HttpResponse<Object> response = retryingTransport.makeGetRequest(request, r -> null);
+
+		// Then
+		assertEquals(503, response.getStatusCode());
+		verify(httpClient).execute(any(HttpUriRequest.class), any(ResponseHandler.class));
+	}
+
+	@Test
+	public void retriesStopWhenBudgetIsExhausted() throws Exception {
+		// Given
+		AbstractHttpTransport retryingTransport = transportWithRetries(RetryPolicy.builder()
+			.setMaxAttempts(10)
+			.setBaseBackoff(1)
+			.setBudgetCapacity(2)
+			.setBudgetRatio(0)
+			.build());
+		HttpRequest request = HttpRequest.Builder.newBuilder()
+			.setUrl(URL)
+			.build();
+		when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class))).thenThrow(new ConnectException());
+
+		// When
+		assertThrows(TransportException.class, () -> retryingTransport.makeGetRequest(request, r -> null));
+
+		// Then
+		verify(httpClient, times(3)).execute(any(HttpUriRequest.class), any(ResponseHandler.class));
+	}
+
+	private AbstractHttpTransport transportWithRetries(RetryPolicy retryPolicy) {
+		HttpTransportConfig config = HttpTransportConfig.builder()
+			.setRetryPolicy(retryPolicy)
+			.build();
+		return new AbstractHttpTransport(config) {
+			@Override
+			protected HttpClient getHttpClient() {
+				return httpClient;
+			}
+		};
+	}
+
+	private AbstractHttpTransport transportWithMetrics(TransportMetricsListener metricsListener) {
+		HttpTransportConfig config = HttpTransportConfig.builder()
+			.setMetricsListener(metricsListener)
+			.build();
+		return new AbstractHttpTransport(config) {
+			@Override
+			protected HttpClient getHttpClient() {
+				return httpClient;
+			}
+		};
+	}
+
+	private static HttpResponse<Object> okResponse() {
+		return new HttpResponse<>(200, "OK", null, null, null, null, null);
+	}
+
+	private static final class RecordingMetricsListener implements TransportMetricsListener {
+		private String event;
+
+		@Override
+		public void onRequestCompleted(String method, String endpoint, boolean blockingQuery, int statusCode, long latencyNanos, long responseBytes) {
+			event = method + " " + endpoint + " " + statusCode;
+		}
+
+		@Override
+		public void onRequestFailed(String method, String endpoint, boolean blockingQuery, long latencyNanos, Exception e) {
+			event = method + " " + endpoint + " " + e.getClass().getSimpleName();
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package com.ecwid.consul.transport;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+public class ConnectionEvictorTest {
+
+	@Test
+	public void defaultConfigEvictsIdleConnections() {
+		HttpTransportConfig config = HttpTransportConfig.DEFAULT;
+
+		assertEquals(5 * 60 * 1000, config.getConnectionTimeToLive());
+		assertEquals(30 * 1000, config.getMaxIdleTime());
+		assertEquals(1000, config.getValidateAfterInactivity());
+		assertEquals(30 * 1000, ConnectionEvictor.getPeriod(config));
+	}
+
+	@Test
+	public void expiredConnectionsAreEvictedWithoutMaxIdleTime() {
+		HttpTransportConfig config = HttpTransportConfig.builder()
+			.setMaxIdleTime(-1)
+			.build();
+
+		assertEquals(10 * 1000, ConnectionEvictor.getPeriod(config));
+	}
+
+	@Test
+	public void evictionIsDisabledWithoutMaxIdleTimeAndTimeToLive() {
+		HttpTransportConfig config = HttpTransportConfig.builder()
+			.setMaxIdleTime(-1)
+			.setConnectionTimeToLive(-1)
+			.build();
+
+		assertEquals(-1, ConnectionEvictor.getPeriod(config));
+	}
+
+	@Test
+	public void registeredPoolIsEvicted() {
+		// Given
+		PoolingHttpClientConnectionManager connectionManager = mock(PoolingHttpClientConnectionManager.class);
+		HttpTransportConfig config = HttpTransportConfig.builder()
+			.setMaxIdleTime(10)
+			.build();
+
+		// When
+		ConnectionEvictor.register(connectionManager, config);
+
+		// Then
+		verify(connectionManager, timeout(1000).atLeastOnce()).closeExpiredConnections();
+		verify(connectionManager, timeout(1000).atLeastOnce()).closeIdleConnections(10, TimeUnit.MILLISECONDS);
+	}
+
+	@Test
+	public void registeredPoolIsNotKeptAlive() throws Exception {
+		// Given
+		HttpTransportConfig config = HttpTransportConfig.builder()
+			.setMaxIdleTime(10)
+			.build();
+		PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+		ConnectionEvictor.register(connectionManager, config);
+		WeakReference<PoolingHttpClientConnectionManager> reference = new WeakReference<>(connectionManager);
+
+		// When
+		connectionManager = null;
+		for (int i = 0; i < 50 && reference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+
+		// Then
+		assertNull(reference.get());
+	}
+}
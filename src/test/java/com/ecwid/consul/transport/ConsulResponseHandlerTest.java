@@ -0,0 +1,170 @@
+package com.ecwid.consul.transport;
+
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ConsulResponseHandlerTest {
+
+	@Test
+	public void countsResponseBytes() throws Exception {
+		// Given
+		BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+		response.setEntity(new StringEntity("[\"\u043a\u043b\u044e\u0447\"]", StandardCharsets.UTF_8));
+		response.addHeader("X-Consul-Index", "42");
+		ConsulResponseHandler<String> handler = new ConsulResponseHandler<>(r -> new BufferedReader(r).lines().collect(Collectors.joining()));
+
+		// When
+		HttpResponse<String> httpResponse = handler.handleResponse(response);
+
+		// Then
+		assertEquals("[\"\u043a\u043b\u044e\u0447\"]", httpResponse.getContent());
+		assertEquals(Long.valueOf(42), httpResponse.getConsulIndex());
+		assertEquals(12, handler.getResponseBytes());
+	}
+
+	@Test
+	public void passesRawBodyToStreamConverter() throws Exception {
+		// Given
+		BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+		response.setEntity(new StringEntity("[\"\u043a\u043b\u044e\u0447\"]", StandardCharsets.UTF_8));
+		ConsulResponseHandler<Integer> handler = ConsulResponseHandler.forStream(in -> {
+			try {
+				return EntityUtils.toByteArray(new InputStreamEntity(in)).length;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+
+		// When
+		HttpResponse<Integer> httpResponse = handler.handleResponse(response);
+
+		// Then
+		assertEquals(Integer.valueOf(12), httpResponse.getContent());
+		assertEquals(12, handler.getResponseBytes());
+	}
+
+	@Test
+	public void passesContentLengthToStreamConverter() throws Exception {
+		// Given
+		BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+		response.setEntity(new ByteArrayEntity(new byte[] {1, 2, 3}));
+		ConsulResponseHandler<Long> handler = ConsulResponseHandler.forStream(in -> ((ResponseBodyStream) in).getContentLength());
+
+		// When
+		HttpResponse<Long> httpResponse = handler.handleResponse(response);
+
+		// Then
+		assertEquals(Long.valueOf(3), httpResponse.getContent());
+	}
+
+	@Test
+	public void passesUnknownContentLengthOfChunkedBody() throws Exception {
+		// Given
+		BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+		response.setEntity(new InputStreamEntity(new ByteArrayInputStream(new byte[] {1, 2, 3})));
+		ConsulResponseHandler<Long> handler = ConsulResponseHandler.forStream(in -> ((ResponseBodyStream) in).getContentLength());
+
+		// When
+		HttpResponse<Long> httpResponse = handler.handleResponse(response);
+
+		// Then
+		assertEquals(Long.valueOf(-1), httpResponse.getContent());
+	}
+
+	@Test
+	public void decompressesGzipResponse() throws Exception {
+		// Given
+		StringBuilder json = new StringBuilder("[");
+		for (int i = 0; i < 100; i++) {
+			json.append("{\"Key\":\"config/app/").append(i).append("\"},");
+		}
+		json.append("{}]");
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+			gzip.write(json.toString().getBytes(StandardCharsets.UTF_8));
+		}
+		ByteArrayEntity entity = new ByteArrayEntity(compressed.toByteArray(), ContentType.APPLICATION_JSON);
+		entity.setContentEncoding("gzip");
+		BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+		response.setEntity(entity);
+		ConsulResponseHandler<String> handler = new ConsulResponseHandler<>(r -> new BufferedReader(r).lines().collect(Collectors.joining()));
+
+		// When
+		HttpResponse<String> httpResponse = handler.handleResponse(response);
+
+		// Then
+		assertEquals(json.toString(), httpResponse.getContent());
+		assertEquals(compressed.size(), httpResponse.getResponseBytes());
+		assertEquals(json.length(), httpResponse.getDecodedResponseBytes());
+		assertEquals(compressed.size(), handler.getResponseBytes());
+	}
+
+	@Test
+	public void countsErrorBytes() throws Exception {
+		// Given
+		BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 403, "Forbidden");
+		response.setEntity(new StringEntity("Permission denied", StandardCharsets.UTF_8));
+		ConsulResponseHandler<String> handler = new ConsulResponseHandler<>(r -> null);
+
+		// When
+		HttpResponse<String> httpResponse = handler.handleResponse(response);
+
+		// Then
+		assertEquals("Permission denied", httpResponse.getError());
+		assertEquals(17, handler.getResponseBytes());
+	}
+
+	@Test
+	public void parsesAgentCacheHeaders() throws Exception {
+		// Given
+		BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+		response.setEntity(new StringEntity("[]", StandardCharsets.UTF_8));
+		response.addHeader("X-Cache", "HIT");
+		response.addHeader("Age", "14");
+		ConsulResponseHandler<String> handler = new ConsulResponseHandler<>(r -> null);
+
+		// When
+		HttpResponse<String> httpResponse = handler.handleResponse(response);
+
+		// Then
+		assertEquals(Boolean.TRUE, httpResponse.isCacheHit());
+		assertEquals(Long.valueOf(14), httpResponse.getCacheAge());
+	}
+
+	@Test
+	public void skipsConversionOfKnownIndex() throws Exception {
+		// Given
+		BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+		response.setEntity(new StringEntity("[\"value\"]", StandardCharsets.UTF_8));
+		response.addHeader("X-Consul-Index", "42");
+		ConsulResponseHandler<String> handler = new ConsulResponseHandler<String>(r -> {
+			throw new AssertionError("the body must not be converted");
+		}).setKnownIndex(42L);
+
+		// When
+		HttpResponse<String> httpResponse = handler.handleResponse(response);
+
+		// Then
+		assertEquals(200, httpResponse.getStatusCode());
+		assertEquals(Long.valueOf(42), httpResponse.getConsulIndex());
+		assertNull(httpResponse.getContent());
+	}
+}
@@ -0,0 +1,88 @@
+package com.ecwid.consul.transport;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContentSourceTest {
+
+	private static final byte[] VALUE = "value".getBytes(StandardCharsets.UTF_8);
+
+	@Test
+	void heapBufferSendsRemainingBytes() throws Exception {
+		// Given
+		ByteBuffer buffer = ByteBuffer.wrap("--value--".getBytes(StandardCharsets.UTF_8));
+		buffer.position(2).limit(7);
+
+		// When
+		HttpEntity entity = ContentSource.of(buffer).createEntity();
+
+		// Then
+		assertEquals(5, entity.getContentLength());
+		assertArrayEquals(VALUE, EntityUtils.toByteArray(entity));
+		assertEquals(2, buffer.position());
+	}
+
+	@Test
+	void directBufferCanBeSentTwice() throws Exception {
+		// Given
+		ByteBuffer buffer = ByteBuffer.allocateDirect(VALUE.length);
+		buffer.put(VALUE).flip();
+		HttpEntity entity = ContentSource.of(buffer).createEntity();
+
+		// When
+		ByteArrayOutputStream first = new ByteArrayOutputStream();
+		entity.writeTo(first);
+		ByteArrayOutputStream second = new ByteArrayOutputStream();
+		entity.writeTo(second);
+
+		// Then
+		assertTrue(entity.isRepeatable());
+		assertArrayEquals(VALUE, first.toByteArray());
+		assertArrayEquals(VALUE, second.toByteArray());
+		assertArrayEquals(VALUE, EntityUtils.toByteArray(entity));
+	}
+
+	@Test
+	void fileIsSentWithItsLength() throws Exception {
+		// Given
+		Path file = Files.createTempFile("consul-api", ".bin");
+		try {
+			Files.write(file, VALUE);
+
+			// When
+			HttpEntity entity = ContentSource.of(file).createEntity();
+
+			// Then
+			assertTrue(entity.isRepeatable());
+			assertEquals(VALUE.length, entity.getContentLength());
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			entity.writeTo(out);
+			assertArrayEquals(VALUE, out.toByteArray());
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	void streamIsNotRepeatable() {
+		// When
+		ContentSource source = ContentSource.of(new ByteArrayInputStream(VALUE), VALUE.length);
+
+		// Then
+		assertFalse(source.isRepeatable());
+		assertFalse(source.createEntity().isRepeatable());
+	}
+}
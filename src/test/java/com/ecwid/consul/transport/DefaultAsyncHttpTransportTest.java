@@ -0,0 +1,58 @@
+package com.ecwid.consul.transport;
+
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class DefaultAsyncHttpTransportTest {
+
+	private static final String URL = "http://localhost:8500/v1/kv/key";
+
+	@Test
+	public void responseIsConvertedOnResponseExecutor() throws Exception {
+		// Given
+		List<Runnable> tasks = new ArrayList<>();
+		CloseableHttpAsyncClient httpClient = mock(CloseableHttpAsyncClient.class);
+		DefaultAsyncHttpTransport transport = new DefaultAsyncHttpTransport(httpClient, tasks::add);
+		HttpRequest request = HttpRequest.Builder.newBuilder()
+			.setUrl(URL)
+			.build();
+
+		// When
+		CompletableFuture<HttpResponse<String>> result = transport.makeGetRequest(request, r -> "converted");
+		ArgumentCaptor<FutureCallback> callback = ArgumentCaptor.forClass(FutureCallback.class);
+		verify(httpClient).execute(any(HttpUriRequest.class), callback.capture());
+		callback.getValue().completed(okResponse());
+
+		// Then
+		assertFalse(result.isDone());
+		assertEquals(1, tasks.size());
+
+		// When
+		tasks.get(0).run();
+
+		// Then
+		assertEquals("converted", result.get().getContent());
+	}
+
+	private static org.apache.http.HttpResponse okResponse() throws Exception {
+		BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+		response.setEntity(new StringEntity("\"value\""));
+		return response;
+	}
+}
@@ -0,0 +1,90 @@
+package com.ecwid.consul.transport;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class HttpTransportConfigTest {
+
+	private static final String URL = "http://localhost:8500/v1/kv/key";
+
+	private final HttpTransportConfig config = HttpTransportConfig.builder()
+		.setReadTimeout(5000)
+		.setBlockingQueryReadTimeoutMargin(1000)
+		.build();
+
+	@Test
+	public void shortRequestUsesReadTimeout() {
+		HttpRequest request = HttpRequest.Builder.newBuilder()
+			.setUrl(URL)
+			.build();
+
+		assertEquals(5000, config.getReadTimeout(request));
+	}
+
+	@Test
+	public void blockingQueryTimeoutIncludesWaitJitterAndMargin() {
+		HttpRequest request = HttpRequest.Builder.newBuilder()
+			.setUrl(URL + "?index=10&wait=32s")
+			.setBlockingQuery(true)
+			.setWaitTime(32)
+			.build();
+
+		// 32s + 32s/16 + 1s
+		assertEquals(35000, config.getReadTimeout(request));
+	}
+
+	@Test
+	public void blockingQueryWithoutWaitUsesAgentDefault() {
+		HttpRequest request = HttpRequest.Builder.newBuilder()
+			.setUrl(URL + "?index=10")
+			.setBlockingQuery(true)
+			.build();
+
+		// 5min + 5min/16 + 1s
+		assertEquals(300000 + 18750 + 1000, config.getReadTimeout(request));
+	}
+
+	@Test
+	public void blockingQueryWaitIsCappedByConsulMaximum() {
+		HttpRequest request = HttpRequest.Builder.newBuilder()
+			.setUrl(URL + "?index=10&wait=3600s")
+			.setBlockingQuery(true)
+			.setWaitTime(3600)
+			.build();
+
+		// 10min + 10min/16 + 1s
+		assertEquals(600000 + 37500 + 1000, config.getReadTimeout(request));
+	}
+
+	@Test
+	public void configsWithEqualSettingsAreEqual() {
+		HttpTransportConfig same = HttpTransportConfig.builder()
+			.setReadTimeout(5000)
+			.setBlockingQueryReadTimeoutMargin(1000)
+			.setRetryPolicy(RetryPolicy.builder().build())
+			.build();
+
+		assertEquals(config, same);
+		assertEquals(config.hashCode(), same.hashCode());
+	}
+
+	@Test
+	public void configsWithDifferentSettingsAreNotEqual() {
+		HttpTransportConfig otherRetryPolicy = HttpTransportConfig.builder()
+			.setReadTimeout(5000)
+			.setBlockingQueryReadTimeoutMargin(1000)
+			.setRetryPolicy(RetryPolicy.NONE)
+			.build();
+		HttpTransportConfig otherMetricsListener = HttpTransportConfig.builder()
+			.setReadTimeout(5000)
+			.setBlockingQueryReadTimeoutMargin(1000)
+			.setMetricsListener(new TransportMetricsListener() {
+			})
+			.build();
+
+		assertNotEquals(config, otherRetryPolicy);
+		assertNotEquals(config, otherMetricsListener);
+	}
+}
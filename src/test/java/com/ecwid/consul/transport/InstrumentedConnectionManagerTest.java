@@ -0,0 +1,86 @@
+package com.ecwid.consul.transport;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class InstrumentedConnectionManagerTest {
+
+	private final AtomicInteger createdConnections = new AtomicInteger();
+	private final AtomicInteger closedConnections = new AtomicInteger();
+
+	private HttpServer server;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/", exchange -> {
+			byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		server.start();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	public void reportsPoolStatsPerAgentAndClosedConnections() {
+		// Given
+		HttpTransportConfig config = HttpTransportConfig.builder()
+			.setMetricsListener(new TransportMetricsListener() {
+				@Override
+				public void onConnectionCreated(boolean blockingQuery) {
+					createdConnections.incrementAndGet();
+				}
+
+				@Override
+				public void onConnectionClosed(boolean blockingQuery) {
+					closedConnections.incrementAndGet();
+				}
+			})
+			.build();
+		DefaultHttpTransport transport = new DefaultHttpTransport(config);
+		String agent = "http://127.0.0.1:" + server.getAddress().getPort();
+		HttpRequest request = HttpRequest.Builder.newBuilder()
+			.setUrl(agent + "/v1/kv/key")
+			.build();
+
+		// When
+		HttpResponse<String> response = transport.makeGetRequest(request, r -> new BufferedReader(r).lines().collect(Collectors.joining()));
+
+		// Then
+		assertEquals("[]", response.getContent());
+		Map<String, ConnectionPoolStats> stats = transport.getPoolStatsByAgent();
+		assertEquals(1, stats.size());
+		assertEquals(0, stats.get(agent).getLeased());
+		assertEquals(1, stats.get(agent).getAvailable());
+		assertEquals(config.getMaxPerRouteConnections(), stats.get(agent).getMax());
+		assertEquals(0, transport.getBlockingQueryPoolStatsByAgent().size());
+		assertEquals(1, createdConnections.get());
+		assertEquals(0, closedConnections.get());
+
+		// When
+		transport.close();
+
+		// Then
+		assertEquals(1, closedConnections.get());
+	}
+}
@@ -0,0 +1,155 @@
+package com.ecwid.consul.transport;
+
+import com.ecwid.consul.transport.TLSConfig.KeyStoreInstanceType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class ReloadableSSLContextTest {
+
+	private static final String PASSWORD = "secret";
+
+	private Path dir;
+	private Path certificate;
+	private Path trustStore;
+	private TLSConfig tlsConfig;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		dir = Files.createTempDirectory("consul-tls");
+		certificate = dir.resolve("client.p12");
+		trustStore = dir.resolve("trust.jks");
+		tlsConfig = new TLSConfig(KeyStoreInstanceType.PKCS12, certificate.toString(), PASSWORD, trustStore.toString(), PASSWORD);
+
+		KeyStore keyStore = KeyStore.getInstance("JKS");
+		keyStore.load(null, null);
+		try (OutputStream out = Files.newOutputStream(trustStore)) {
+			keyStore.store(out, PASSWORD.toCharArray());
+		}
+	}
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		for (File file : dir.toFile().listFiles()) {
+			Files.delete(file.toPath());
+		}
+		Files.delete(dir);
+	}
+
+	@Test
+	public void sharesContextForEqualConfigs() throws Exception {
+		// Given
+		generateKeyPair("first", 0);
+		TLSConfig sameConfig = new TLSConfig(KeyStoreInstanceType.PKCS12, certificate.toString(), PASSWORD, trustStore.toString(), PASSWORD);
+		TLSConfig otherConfig = new TLSConfig(KeyStoreInstanceType.PKCS12, certificate.toString(), PASSWORD, trustStore.toString(), "other");
+
+		// Then
+		assertEquals(tlsConfig, sameConfig);
+		assertEquals(tlsConfig.hashCode(), sameConfig.hashCode());
+		assertNotEquals(tlsConfig, otherConfig);
+		assertSame(SSLContextFactory.acquire(tlsConfig), SSLContextFactory.acquire(sameConfig));
+		SSLContextFactory.release(tlsConfig);
+		SSLContextFactory.release(sameConfig);
+	}
+
+	@Test
+	public void dropsContextWithLastTransport() throws Exception {
+		// Given
+		generateKeyPair("first", 0);
+		DefaultHttpsTransport transport = new DefaultHttpsTransport(tlsConfig);
+		DefaultAsyncHttpTransport asyncTransport = new DefaultAsyncHttpTransport(tlsConfig);
+		// the async client and its context are created on the first request
+		asyncTransport.makeGetRequest(HttpRequest.Builder.newBuilder().setUrl("https://127.0.0.1:1/v1/kv/key").build(), r -> null);
+		ReloadableSSLContext sslContext = SSLContextFactory.acquire(tlsConfig);
+		SSLContextFactory.release(tlsConfig);
+
+		// When
+		transport.close();
+		transport.close();
+
+		// Then
+		assertSame(sslContext, SSLContextFactory.acquire(tlsConfig));
+		SSLContextFactory.release(tlsConfig);
+
+		// When
+		asyncTransport.close();
+
+		// Then
+		assertNotSame(sslContext, SSLContextFactory.acquire(tlsConfig));
+		SSLContextFactory.release(tlsConfig);
+	}
+
+	@Test
+	public void reloadsModifiedCertificate() throws Exception {
+		// Given
+		generateKeyPair("first", 0);
+		ReloadableSSLContext sslContext = new ReloadableSSLContext(tlsConfig, 0);
+		assertArrayEquals(new String[]{"first"}, sslContext.getKeyManager().getClientAliases("RSA", null));
+
+		// When
+		Files.delete(certificate);
+		generateKeyPair("second", 10_000);
+		sslContext.reloadIfModified(TransportMetricsListener.NOOP);
+
+		// Then
+		assertArrayEquals(new String[]{"second"}, sslContext.getKeyManager().getClientAliases("RSA", null));
+	}
+
+	@Test
+	public void keepsCurrentMaterialIfReloadFails() throws Exception {
+		// Given
+		generateKeyPair("first", 0);
+		ReloadableSSLContext sslContext = new ReloadableSSLContext(tlsConfig, 0);
+
+		List<String> failures = new ArrayList<>();
+		TransportMetricsListener metricsListener = new TransportMetricsListener() {
+			@Override
+			public void onCertificateReloadFailed(String certificatePath, Exception e) {
+				failures.add(certificatePath);
+			}
+		};
+
+		// When
+		Files.write(certificate, "half written".getBytes(StandardCharsets.US_ASCII));
+		certificate.toFile().setLastModified(certificate.toFile().lastModified() + 10_000);
+		sslContext.reloadIfModified(metricsListener);
+
+		// Then
+		assertArrayEquals(new String[]{"first"}, sslContext.getKeyManager().getClientAliases("RSA", null));
+		assertEquals(Collections.singletonList(certificate.toString()), failures);
+	}
+
+	private void generateKeyPair(String alias, long modifiedShift) throws IOException, InterruptedException {
+		File keytool = new File(System.getProperty("java.home"), "bin/keytool");
+		assumeTrue(keytool.canExecute(), "keytool is not available");
+
+		Process process = new ProcessBuilder(keytool.getPath(), "-genkeypair",
+				"-alias", alias, "-keyalg", "RSA", "-keysize", "2048", "-dname", "CN=" + alias,
+				"-storetype", "PKCS12", "-keystore", certificate.toString(),
+				"-storepass", PASSWORD, "-keypass", PASSWORD)
+				.redirectErrorStream(true)
+				.start();
+		assertEquals(0, process.waitFor());
+
+		File file = certificate.toFile();
+		file.setLastModified(file.lastModified() + modifiedShift);
+	}
+}
@@ -0,0 +1,40 @@
+package com.ecwid.consul.transport;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RetryPolicyTest {
+
+	@Test
+	public void backoffIsBoundedByExponentialCeiling() {
+		RetryPolicy retryPolicy = RetryPolicy.builder()
+			.setBaseBackoff(100)
+			.setMaxBackoff(1000)
+			.build();
+
+		for (int i = 0; i < 1000; i++) {
+			long first = retryPolicy.getBackoff(1);
+			long third = retryPolicy.getBackoff(3);
+			long hundredth = retryPolicy.getBackoff(100);
+			assertTrue(first >= 0 && first <= 100);
+			assertTrue(third >= 0 && third <= 400);
+			assertTrue(hundredth >= 0 && hundredth <= 1000);
+		}
+	}
+
+	@Test
+	public void budgetLimitsRetries() {
+		RetryBudget retryBudget = new RetryBudget(2, 0.5);
+
+		assertTrue(retryBudget.tryAcquire());
+		assertTrue(retryBudget.tryAcquire());
+		assertFalse(retryBudget.tryAcquire());
+
+		retryBudget.onRequest();
+		assertFalse(retryBudget.tryAcquire());
+		retryBudget.onRequest();
+		assertTrue(retryBudget.tryAcquire());
+	}
+}
@@ -0,0 +1,145 @@
+package com.ecwid.consul.transport;
+
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.protocol.BasicHttpContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class StreamingResponseConsumerTest {
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+	private final CountDownLatch firstByteRead = new CountDownLatch(1);
+
+	@AfterEach
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void bodyIsConvertedWhileItArrives() throws Exception {
+		// Given
+		CompletableFuture<HttpResponse<String>> result = new CompletableFuture<>();
+		StreamingResponseConsumer<String> consumer = new StreamingResponseConsumer<>(
+			ConsulResponseHandler.forStream(this::readAll), executor, result);
+
+		// When
+		consumer.responseReceived(okResponse());
+		consumer.consumeContent(new ChunkDecoder("first,", false), mock(IOControl.class));
+
+		// Then
+		assertTrue(firstByteRead.await(5, TimeUnit.SECONDS));
+		assertFalse(result.isDone());
+
+		// When
+		consumer.consumeContent(new ChunkDecoder("second", true), mock(IOControl.class));
+		consumer.responseCompleted(new BasicHttpContext());
+
+		// Then
+		assertEquals("first,second", result.get(5, TimeUnit.SECONDS).getContent());
+	}
+
+	@Test
+	public void truncatedBodyFailsTheResult() throws Exception {
+		// Given
+		CompletableFuture<HttpResponse<String>> result = new CompletableFuture<>();
+		StreamingResponseConsumer<String> consumer = new StreamingResponseConsumer<>(
+			ConsulResponseHandler.forStream(this::readAll), executor, result);
+
+		// When
+		consumer.responseReceived(okResponse());
+		consumer.consumeContent(new ChunkDecoder("first,", false), mock(IOControl.class));
+		assertTrue(firstByteRead.await(5, TimeUnit.SECONDS));
+		consumer.failed(new IOException("Connection reset"));
+
+		// Then
+		ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+		assertTrue(e.getCause() instanceof TransportException);
+	}
+
+	@Test
+	public void responseWithoutBodyIsHandledOnCompletion() throws Exception {
+		// Given
+		CompletableFuture<HttpResponse<String>> result = new CompletableFuture<>();
+		StreamingResponseConsumer<String> consumer = new StreamingResponseConsumer<>(
+			ConsulResponseHandler.forStream(this::readAll), executor, result);
+
+		// When
+		consumer.responseReceived(new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK"));
+		consumer.responseCompleted(new BasicHttpContext());
+
+		// Then
+		HttpResponse<String> response = result.get(5, TimeUnit.SECONDS);
+		assertEquals(200, response.getStatusCode());
+		assertEquals(null, response.getContent());
+	}
+
+	private String readAll(InputStream content) {
+		try {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			int b;
+			while ((b = content.read()) != -1) {
+				out.write(b);
+				firstByteRead.countDown();
+			}
+			return new String(out.toByteArray(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static org.apache.http.HttpResponse okResponse() {
+		BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+		BasicHttpEntity entity = new BasicHttpEntity();
+		entity.setContentLength(-1);
+		response.setEntity(entity);
+		return response;
+	}
+
+	private static final class ChunkDecoder implements ContentDecoder {
+		private final ByteBuffer chunk;
+		private final boolean last;
+
+		private ChunkDecoder(String chunk, boolean last) {
+			this.chunk = ByteBuffer.wrap(chunk.getBytes(StandardCharsets.UTF_8));
+			this.last = last;
+		}
+
+		@Override
+		public int read(ByteBuffer dst) {
+			int count = 0;
+			while (chunk.hasRemaining() && dst.hasRemaining()) {
+				dst.put(chunk.get());
+				count++;
+			}
+			return count;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return last && !chunk.hasRemaining();
+		}
+	}
+}
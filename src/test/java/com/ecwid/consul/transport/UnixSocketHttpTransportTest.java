@@ -0,0 +1,76 @@
+package com.ecwid.consul.transport;
+
+import org.junit.jupiter.api.Test;
+import org.newsclub.net.unix.AFUNIXServerSocket;
+import org.newsclub.net.unix.AFUNIXSocket;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class UnixSocketHttpTransportTest {
+
+	@Test
+	public void sendsRequestOverSocketFile() throws Exception {
+		assumeTrue(AFUNIXSocket.isSupported(), "unix sockets are not supported on this platform");
+
+		// Given
+		Path socketFile = Files.createTempDirectory("consul").resolve("agent.sock");
+		CompletableFuture<String> requestLine = new CompletableFuture<>();
+		try (AFUNIXServerSocket server = AFUNIXServerSocket.bindOn(socketFile, true)) {
+			Thread stub = new Thread(() -> serveOneRequest(server, requestLine));
+			stub.setDaemon(true);
+			stub.start();
+
+			UnixSocketHttpTransport transport = new UnixSocketHttpTransport(socketFile);
+			HttpRequest request = HttpRequest.Builder.newBuilder()
+					.setUrl("http://localhost:8500/v1/kv/key")
+					.build();
+
+			// When
+			HttpResponse<String> response = transport.makeGetRequest(request, r -> new BufferedReader(r).lines().collect(Collectors.joining()));
+
+			// Then
+			assertEquals("GET /v1/kv/key HTTP/1.1", requestLine.get(5, TimeUnit.SECONDS));
+			assertEquals(200, response.getStatusCode());
+			assertEquals("[]", response.getContent());
+			assertEquals(Long.valueOf(7), response.getConsulIndex());
+		} finally {
+			Files.deleteIfExists(socketFile);
+			Files.deleteIfExists(socketFile.getParent());
+		}
+	}
+
+	private static void serveOneRequest(AFUNIXServerSocket server, CompletableFuture<String> requestLine) {
+		try (Socket socket = server.accept()) {
+			BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+			requestLine.complete(reader.readLine());
+			String header;
+			do {
+				header = reader.readLine();
+			} while (header != null && !header.isEmpty());
+
+			OutputStream out = socket.getOutputStream();
+			out.write(("HTTP/1.1 200 OK\r\n" +
+					"Content-Type: application/json\r\n" +
+					"Content-Length: 2\r\n" +
+					"X-Consul-Index: 7\r\n" +
+					"Connection: close\r\n" +
+					"\r\n" +
+					"[]").getBytes(StandardCharsets.US_ASCII));
+			out.flush();
+		} catch (Exception e) {
+			requestLine.completeExceptionally(e);
+		}
+	}
+}
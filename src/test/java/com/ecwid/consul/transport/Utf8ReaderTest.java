@@ -0,0 +1,49 @@
+package com.ecwid.consul.transport;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class Utf8ReaderTest {
+
+	private static final String TEXT = "{\"Key\":\"\u043a\u043b\u044e\u0447/\u952e/\ud83d\ude00\",\"Value\":\"ascii \u00e9 \u00fc \u20ac\"}";
+
+	@Test
+	public void decodesLikeStringConstructor() throws IOException {
+		byte[] bytes = TEXT.getBytes(StandardCharsets.UTF_8);
+
+		assertEquals(TEXT, readAll(new Utf8Reader(new ByteArrayInputStream(bytes)), 1024));
+	}
+
+	@Test
+	public void decodesSequencesSplitAcrossBuffers() throws IOException {
+		byte[] bytes = TEXT.getBytes(StandardCharsets.UTF_8);
+
+		for (int bufferSize = 4; bufferSize < 10; bufferSize++) {
+			assertEquals(TEXT, readAll(new Utf8Reader(new ByteArrayInputStream(bytes), bufferSize), 1));
+			assertEquals(TEXT, readAll(new Utf8Reader(new ByteArrayInputStream(bytes), bufferSize), 3));
+		}
+	}
+
+	@Test
+	public void replacesMalformedInput() throws IOException {
+		byte[] bytes = {'a', (byte) 0xFF, 'b', (byte) 0xC0, (byte) 0x80, 'c', (byte) 0xE2, (byte) 0x82};
+
+		assertEquals("a\ufffdb\ufffd\ufffdc\ufffd", readAll(new Utf8Reader(new ByteArrayInputStream(bytes)), 16));
+	}
+
+	private static String readAll(Reader reader, int chunk) throws IOException {
+		StringBuilder result = new StringBuilder();
+		char[] buffer = new char[chunk];
+		int read;
+		while ((read = reader.read(buffer, 0, chunk)) != -1) {
+			result.append(buffer, 0, read);
+		}
+		return result.toString();
+	}
+}
@@ -0,0 +1,108 @@
+package com.ecwid.consul.v1;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CircuitBreakerTest {
+
+	private static final long OPEN_DURATION = TimeUnit.MILLISECONDS.toNanos(1000);
+
+	private final CircuitBreaker circuitBreaker = new CircuitBreaker(CircuitBreakerConfig.builder()
+		.setWindowSize(10)
+		.setMinimumCalls(4)
+		.setFailureRateThreshold(0.5)
+		.setSlowCallDuration(100)
+		.setSlowCallRateThreshold(0.75)
+		.setOpenDuration(1000)
+		.setHalfOpenCalls(2)
+		.build());
+
+	@Test
+	public void opensOnFailureRate() {
+		call(false);
+		call(false);
+		call(true);
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+		call(true);
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+		assertFalse(circuitBreaker.tryAcquire(0));
+	}
+
+	@Test
+	public void opensOnSlowCallRate() {
+		for (int i = 0; i < 4; i++) {
+			assertTrue(circuitBreaker.tryAcquire(0));
+			circuitBreaker.onSuccess(TimeUnit.MILLISECONDS.toNanos(500), 0);
+		}
+
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+	}
+
+	@Test
+	public void blockingQueriesAreNeverSlow() {
+		for (int i = 0; i < 10; i++) {
+			assertTrue(circuitBreaker.tryAcquire(0));
+			circuitBreaker.onSuccess(-1, 0);
+		}
+
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+	}
+
+	@Test
+	public void closesAfterSuccessfulTrialCalls() {
+		open();
+
+		assertTrue(circuitBreaker.tryAcquire(OPEN_DURATION));
+		assertTrue(circuitBreaker.tryAcquire(OPEN_DURATION));
+		assertFalse(circuitBreaker.tryAcquire(OPEN_DURATION));
+		assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+
+		circuitBreaker.onSuccess(0, OPEN_DURATION);
+		circuitBreaker.onSuccess(0, OPEN_DURATION);
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+	}
+
+	@Test
+	public void reopensOnFailedTrialCall() {
+		open();
+
+		assertTrue(circuitBreaker.tryAcquire(OPEN_DURATION));
+		circuitBreaker.onFailure(OPEN_DURATION);
+
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+		assertFalse(circuitBreaker.tryAcquire(OPEN_DURATION + 1));
+	}
+
+	@Test
+	public void cancelledTrialCallReturnsPermit() {
+		open();
+
+		assertTrue(circuitBreaker.tryAcquire(OPEN_DURATION));
+		assertTrue(circuitBreaker.tryAcquire(OPEN_DURATION));
+		circuitBreaker.onCancel();
+
+		assertTrue(circuitBreaker.tryAcquire(OPEN_DURATION));
+	}
+
+	private void open() {
+		for (int i = 0; i < 4; i++) {
+			call(true);
+		}
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+	}
+
+	private void call(boolean failed) {
+		assertTrue(circuitBreaker.tryAcquire(0));
+		if (failed) {
+			circuitBreaker.onFailure(0);
+		} else {
+			circuitBreaker.onSuccess(0, 0);
+		}
+	}
+}
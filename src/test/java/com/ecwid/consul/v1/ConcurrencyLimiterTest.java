@@ -0,0 +1,113 @@
+package com.ecwid.consul.v1;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrencyLimiterTest {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(20);
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+	private final ConcurrencyLimiter concurrencyLimiter = new ConcurrencyLimiter(ConcurrencyLimiterConfig.builder()
+		.setInitialLimit(4)
+		.setMinLimit(2)
+		.setMaxLimit(6)
+		.setBackoffRatio(0.5)
+		.setLatencyTolerance(2.0)
+		.setLatencyFloor(10)
+		.build());
+
+	@Test
+	public void rejectsOverLimit() {
+		for (int i = 0; i < 4; i++) {
+			assertTrue(concurrencyLimiter.tryAcquire());
+		}
+
+		assertFalse(concurrencyLimiter.tryAcquire());
+
+		concurrencyLimiter.onCancel();
+		assertTrue(concurrencyLimiter.tryAcquire());
+	}
+
+	@Test
+	public void growsWhileSaturatedAndFast() {
+		for (int i = 0; i < 10; i++) {
+			acquireAll();
+			concurrencyLimiter.onSuccess(FAST);
+			releaseAll();
+		}
+
+		assertEquals(6, concurrencyLimiter.getLimit());
+	}
+
+	@Test
+	public void doesNotGrowWhenUnderused() {
+		for (int i = 0; i < 10; i++) {
+			assertTrue(concurrencyLimiter.tryAcquire());
+			concurrencyLimiter.onSuccess(FAST);
+		}
+
+		assertEquals(4, concurrencyLimiter.getLimit());
+	}
+
+	@Test
+	public void shrinksOnSlowResponse() {
+		assertTrue(concurrencyLimiter.tryAcquire());
+		concurrencyLimiter.onSuccess(FAST);
+
+		assertTrue(concurrencyLimiter.tryAcquire());
+		concurrencyLimiter.onSuccess(SLOW);
+
+		assertEquals(2, concurrencyLimiter.getLimit());
+	}
+
+	@Test
+	public void shrinksOnFailureDownToMinLimit() {
+		for (int i = 0; i < 5; i++) {
+			assertTrue(concurrencyLimiter.tryAcquire());
+			concurrencyLimiter.onFailure();
+		}
+
+		assertEquals(2, concurrencyLimiter.getLimit());
+		assertEquals(0, concurrencyLimiter.getInFlight());
+	}
+
+	@Test
+	public void queuedRequestGetsReleasedSlot() throws Exception {
+		acquireAll();
+		Thread releaser = new Thread(() -> {
+			sleep(50);
+			concurrencyLimiter.onCancel();
+		});
+		releaser.start();
+
+		assertTrue(concurrencyLimiter.acquire(TimeUnit.SECONDS.toNanos(5)));
+		assertFalse(concurrencyLimiter.acquire(TimeUnit.MILLISECONDS.toNanos(10)));
+		releaser.join();
+	}
+
+	private void acquireAll() {
+		while (concurrencyLimiter.tryAcquire()) {
+			// fill the limit
+		}
+	}
+
+	private void releaseAll() {
+		while (concurrencyLimiter.getInFlight() > 0) {
+			concurrencyLimiter.onCancel();
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
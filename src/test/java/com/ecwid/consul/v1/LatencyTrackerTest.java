@@ -0,0 +1,43 @@
+package com.ecwid.consul.v1;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LatencyTrackerTest {
+
+	@Test
+	public void notEnoughSamples() {
+		LatencyTracker tracker = new LatencyTracker(100, 10);
+		for (int i = 0; i < 9; i++) {
+			tracker.record(i);
+		}
+
+		assertEquals(-1, tracker.getPercentile(0.95));
+	}
+
+	@Test
+	public void percentile() {
+		LatencyTracker tracker = new LatencyTracker(100, 10);
+		for (int i = 100; i > 0; i--) {
+			tracker.record(i);
+		}
+
+		assertEquals(95, tracker.getPercentile(0.95));
+		assertEquals(50, tracker.getPercentile(0.5));
+		assertEquals(100, tracker.getPercentile(1));
+	}
+
+	@Test
+	public void oldSamplesAreOverwritten() {
+		LatencyTracker tracker = new LatencyTracker(10, 10);
+		for (int i = 0; i < 10; i++) {
+			tracker.record(1000);
+		}
+		for (int i = 0; i < 10; i++) {
+			tracker.record(1);
+		}
+
+		assertEquals(1, tracker.getPercentile(0.95));
+	}
+}
@@ -0,0 +1,134 @@
+package com.ecwid.consul.v1;
+
+import com.ecwid.consul.transport.TransportException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RequestCoalescerTest {
+
+	private final RequestCoalescer requestCoalescer = new RequestCoalescer();
+
+	@Test
+	public void concurrentCallsShareOneResult() throws Exception {
+		// Given
+		AtomicInteger calls = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Object result = new Object();
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+			// When
+			Future<Object> first = executor.submit(() -> requestCoalescer.execute("key", () -> {
+				calls.incrementAndGet();
+				started.countDown();
+				await(release);
+				return result;
+			}));
+			assertTrue(started.await(5, TimeUnit.SECONDS));
+			Future<Object> second = executor.submit(() -> requestCoalescer.execute("key", () -> {
+				calls.incrementAndGet();
+				return new Object();
+			}));
+			waitForCoalescedRequests(1);
+			release.countDown();
+
+			// Then
+			assertSame(result, first.get(5, TimeUnit.SECONDS));
+			assertSame(result, second.get(5, TimeUnit.SECONDS));
+			assertEquals(1, calls.get());
+			assertEquals(1, requestCoalescer.getExecutedRequests());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void completedCallIsNotReused() {
+		// When
+		requestCoalescer.execute("key", () -> "first");
+		String second = requestCoalescer.execute("key", () -> "second");
+
+		// Then
+		assertEquals("second", second);
+		assertEquals(2, requestCoalescer.getExecutedRequests());
+		assertEquals(0, requestCoalescer.getCoalescedRequests());
+	}
+
+	@Test
+	public void asyncCallsShareOneResult() {
+		// Given
+		CompletableFuture<String> call = new CompletableFuture<>();
+
+		// When
+		CompletableFuture<String> first = requestCoalescer.executeAsync("key", () -> call);
+		CompletableFuture<String> second = requestCoalescer.executeAsync("key", CompletableFuture::new);
+		CompletableFuture<String> other = requestCoalescer.executeAsync("other", () -> CompletableFuture.completedFuture("other"));
+		call.complete("value");
+
+		// Then
+		assertEquals("value", first.join());
+		assertEquals("value", second.join());
+		assertEquals("other", other.join());
+		assertEquals(2, requestCoalescer.getExecutedRequests());
+		assertEquals(1, requestCoalescer.getCoalescedRequests());
+	}
+
+	@Test
+	public void cancellingOneCallerDoesNotCancelTheSharedCall() {
+		// Given
+		CompletableFuture<String> call = new CompletableFuture<>();
+		CompletableFuture<String> first = requestCoalescer.executeAsync("key", () -> call);
+		CompletableFuture<String> second = requestCoalescer.executeAsync("key", CompletableFuture::new);
+
+		// When
+		first.cancel(false);
+		call.complete("value");
+
+		// Then
+		assertEquals("value", second.join());
+	}
+
+	@Test
+	public void failureIsShared() {
+		// Given
+		CompletableFuture<String> call = new CompletableFuture<>();
+		CompletableFuture<String> first = requestCoalescer.executeAsync("key", () -> call);
+		CompletableFuture<String> second = requestCoalescer.executeAsync("key", CompletableFuture::new);
+
+		// When
+		call.completeExceptionally(new TransportException(new RuntimeException("connection reset")));
+
+		// Then
+		assertThrows(TransportException.class, () -> ConsulRawClient.join(first));
+		assertThrows(TransportException.class, () -> ConsulRawClient.join(second));
+	}
+
+	private void waitForCoalescedRequests(long expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (requestCoalescer.getCoalescedRequests() < expected && System.nanoTime() < deadline) {
+			Thread.sleep(1);
+		}
+		assertEquals(expected, requestCoalescer.getCoalescedRequests());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
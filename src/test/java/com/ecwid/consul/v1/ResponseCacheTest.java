@@ -0,0 +1,146 @@
+package com.ecwid.consul.v1;
+
+import com.ecwid.consul.transport.HttpResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ResponseCacheTest {
+
+	private static final String ENDPOINT = "/v1/kv/config/app";
+
+	private final List<Long> knownIndexes = new ArrayList<>();
+
+	@Test
+	public void freshEntryIsReturnedWithoutFetch() {
+		// Given
+		ResponseCache responseCache = new ResponseCache(ResponseCacheConfig.builder().setDefaultTtl(60000).build());
+		HttpResponse<String> first = responseCache.get("key", ENDPOINT, index -> fetch(index, "value", 10L));
+
+		// When
+		HttpResponse<String> second = responseCache.get("key", ENDPOINT, index -> fetch(index, "other", 11L));
+
+		// Then
+		assertSame(first, second);
+		assertEquals(1, knownIndexes.size());
+		assertEquals(1, responseCache.getHits());
+	}
+
+	@Test
+	public void expiredEntryIsRevalidatedByIndex() throws Exception {
+		// Given
+		ResponseCache responseCache = new ResponseCache(ResponseCacheConfig.builder().setDefaultTtl(1).build());
+		responseCache.get("key", ENDPOINT, index -> fetch(index, "value", 10L));
+		Thread.sleep(5);
+
+		// When
+		// the transport doesn't decode a response with the known index
+		HttpResponse<String> revalidated = responseCache.get("key", ENDPOINT, index -> fetch(index, null, 10L));
+
+		// Then
+		assertEquals("value", revalidated.getContent());
+		assertNull(knownIndexes.get(0));
+		assertEquals(Long.valueOf(10), knownIndexes.get(1));
+		assertEquals(1, responseCache.getRevalidations());
+	}
+
+	@Test
+	public void changedIndexReplacesEntry() throws Exception {
+		// Given
+		ResponseCache responseCache = new ResponseCache(ResponseCacheConfig.builder().setDefaultTtl(1).build());
+		responseCache.get("key", ENDPOINT, index -> fetch(index, "value", 10L));
+		Thread.sleep(5);
+
+		// When
+		HttpResponse<String> changed = responseCache.get("key", ENDPOINT, index -> fetch(index, "new value", 12L));
+
+		// Then
+		assertEquals("new value", changed.getContent());
+		assertEquals(0, responseCache.getRevalidations());
+		assertEquals(2, responseCache.getMisses());
+	}
+
+	@Test
+	public void endpointTtlOverridesDefault() {
+		// Given
+		ResponseCache responseCache = new ResponseCache(ResponseCacheConfig.builder()
+			.setDefaultTtl(60000)
+			.setTtl("/v1/kv/", 0)
+			.setTtl("/v1/kv/config/", 60000)
+			.build());
+
+		// When
+		responseCache.get("key1", "/v1/kv/locks/app", index -> fetch(index, "value", 10L));
+		responseCache.get("key1", "/v1/kv/locks/app", index -> fetch(index, "value", 10L));
+		responseCache.get("key2", ENDPOINT, index -> fetch(index, "value", 10L));
+		responseCache.get("key2", ENDPOINT, index -> fetch(index, "value", 10L));
+
+		// Then
+		assertEquals(3, knownIndexes.size());
+		assertEquals(1, responseCache.getHits());
+	}
+
+	@Test
+	public void leastRecentlyUsedEntryIsEvicted() {
+		// Given
+		ResponseCache responseCache = new ResponseCache(ResponseCacheConfig.builder()
+			.setDefaultTtl(60000)
+			.setMaxEntries(2)
+			.build());
+		responseCache.get("key1", ENDPOINT, index -> fetch(index, "value1", 10L));
+		responseCache.get("key2", ENDPOINT, index -> fetch(index, "value2", 10L));
+		responseCache.get("key1", ENDPOINT, index -> fetch(index, "value1", 10L));
+
+		// When
+		responseCache.get("key3", ENDPOINT, index -> fetch(index, "value3", 10L));
+		responseCache.get("key2", ENDPOINT, index -> fetch(index, "value2", 10L));
+
+		// Then
+		assertEquals(2, responseCache.size());
+		assertEquals(4, knownIndexes.size());
+	}
+
+	@Test
+	public void errorsAreNotCached() {
+		// Given
+		ResponseCache responseCache = new ResponseCache(ResponseCacheConfig.builder().setDefaultTtl(60000).build());
+
+		// When
+		responseCache.get("key", ENDPOINT, index -> {
+			knownIndexes.add(index);
+			return new HttpResponse<String>(500, "Internal Server Error", null, null, null, null, "rpc error");
+		});
+		responseCache.get("key", ENDPOINT, index -> fetch(index, "value", 10L));
+
+		// Then
+		assertEquals(2, knownIndexes.size());
+		assertEquals(0, responseCache.getHits());
+	}
+
+	@Test
+	public void asyncEntryIsRevalidatedByIndex() throws Exception {
+		// Given
+		ResponseCache responseCache = new ResponseCache(ResponseCacheConfig.builder().setDefaultTtl(1).build());
+		responseCache.getAsync("key", ENDPOINT, index -> CompletableFuture.completedFuture(fetch(index, "value", 10L))).join();
+		Thread.sleep(5);
+
+		// When
+		HttpResponse<String> revalidated = responseCache.getAsync("key", ENDPOINT,
+			index -> CompletableFuture.completedFuture(fetch(index, null, 10L))).join();
+
+		// Then
+		assertEquals("value", revalidated.getContent());
+		assertEquals(1, responseCache.getRevalidations());
+	}
+
+	private HttpResponse<String> fetch(Long knownIndex, String content, Long consulIndex) {
+		knownIndexes.add(knownIndex);
+		return new HttpResponse<>(200, "OK", content, consulIndex, true, 0L);
+	}
+}
@@ -0,0 +1,63 @@
+package com.ecwid.consul.v1;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.Closeable;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class SharedTransportsTest {
+
+	private final SharedTransports<Closeable> sharedTransports = new SharedTransports<>();
+
+	@Test
+	public void equalKeysShareTransport() {
+		// When
+		Closeable first = sharedTransports.acquire(Arrays.asList("tls", "config"), () -> mock(Closeable.class));
+		Closeable second = sharedTransports.acquire(Arrays.asList("tls", "config"), () -> mock(Closeable.class));
+
+		// Then
+		assertSame(first, second);
+		assertEquals(1, sharedTransports.size());
+	}
+
+	@Test
+	public void transportIsClosedWithLastReference() throws Exception {
+		// Given
+		Closeable transport = mock(Closeable.class);
+		sharedTransports.acquire("key", () -> transport);
+		sharedTransports.acquire("key", () -> transport);
+
+		// When
+		sharedTransports.release("key");
+
+		// Then
+		verify(transport, never()).close();
+
+		// When
+		sharedTransports.release("key");
+
+		// Then
+		verify(transport).close();
+		assertEquals(0, sharedTransports.size());
+	}
+
+	@Test
+	public void closedTransportIsNotReused() {
+		// Given
+		Closeable first = sharedTransports.acquire("key", () -> mock(Closeable.class));
+		sharedTransports.release("key");
+
+		// When
+		Closeable second = sharedTransports.acquire("key", () -> mock(Closeable.class));
+
+		// Then
+		assertNotSame(first, second);
+	}
+}
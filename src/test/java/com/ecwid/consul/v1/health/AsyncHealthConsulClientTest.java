@@ -0,0 +1,122 @@
+package com.ecwid.consul.v1.health;
+
+import com.ecwid.consul.transport.AsyncHttpTransport;
+import com.ecwid.consul.transport.HttpRequest;
+import com.ecwid.consul.transport.HttpResponse;
+import com.ecwid.consul.v1.ConsulRawClient;
+import com.ecwid.consul.v1.OperationException;
+import com.ecwid.consul.v1.QueryParams;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.health.model.Check;
+import com.ecwid.consul.v1.health.model.HealthService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AsyncHealthConsulClientTest {
+
+	private final AsyncHttpTransport asyncHttpTransport = mock(AsyncHttpTransport.class);
+	private final AsyncHealthConsulClient client = new AsyncHealthConsulClient(ConsulRawClient.Builder.builder()
+		.setAsyncHttpTransport(asyncHttpTransport)
+		.build());
+
+	@Test
+	void getHealthServicesReturnsServices() {
+		// Given
+		respondToGet(200, "[{\"Node\":{\"Node\":\"node1\"},\"Service\":{\"Service\":\"web\",\"Port\":8080},\"Checks\":[]}]");
+		HealthServicesRequest request = HealthServicesRequest.newBuilder()
+			.setPassing(true)
+			.build();
+
+		// When
+		Response<List<HealthService>> response = client.getHealthServices("web", request).join();
+
+		// Then
+		assertEquals(1, response.getValue().size());
+		assertEquals("node1", response.getValue().get(0).getNode().getNode());
+		assertEquals(Integer.valueOf(8080), response.getValue().get(0).getService().getPort());
+		assertEquals(Long.valueOf(10), response.getConsulIndex());
+		ArgumentCaptor<HttpRequest> calledRequest = ArgumentCaptor.forClass(HttpRequest.class);
+		verify(asyncHttpTransport).makeGetRequest(calledRequest.capture(), any());
+		assertTrue(calledRequest.getValue().getUrl().contains("/v1/health/service/web?"));
+		assertTrue(calledRequest.getValue().getUrl().contains("passing=true"));
+	}
+
+	@Test
+	void getHealthServicesFailsForServerError() {
+		// Given
+		respondToGet(500, "No cluster leader");
+
+		// When
+		CompletableFuture<Response<List<HealthService>>> response = client.getHealthServices("web", HealthServicesRequest.newBuilder().build());
+
+		// Then
+		CompletionException e = assertThrows(CompletionException.class, response::join);
+		assertTrue(e.getCause() instanceof OperationException);
+		assertEquals("No cluster leader", ((OperationException) e.getCause()).getStatusContent());
+	}
+
+	@Test
+	void getHealthChecksStateReturnsChecks() {
+		// Given
+		respondToGet(200, "[{\"Node\":\"node1\",\"CheckID\":\"serfHealth\",\"Status\":\"critical\"}]");
+
+		// When
+		Response<List<Check>> response = client.getHealthChecksState(Check.CheckStatus.CRITICAL, QueryParams.DEFAULT).join();
+
+		// Then
+		assertEquals("serfHealth", response.getValue().get(0).getCheckId());
+		assertEquals(Check.CheckStatus.CRITICAL, response.getValue().get(0).getStatus());
+	}
+
+	@Test
+	void getHealthChecksForNodeFailsForMissingNode() {
+		// Given
+		respondToGet(404, "Node not found");
+
+		// When
+		CompletableFuture<Response<List<Check>>> response = client.getHealthChecksForNode("node1", QueryParams.DEFAULT);
+
+		// Then
+		CompletionException e = assertThrows(CompletionException.class, response::join);
+		assertEquals(404, ((OperationException) e.getCause()).getStatusCode());
+	}
+
+	@Test
+	void getHealthChecksForServiceFailsForForbidden() {
+		// Given
+		respondToGet(403, "Permission denied");
+
+		// When
+		CompletableFuture<Response<List<Check>>> response = client.getHealthChecksForService("web", HealthChecksForServiceRequest.newBuilder().build());
+
+		// Then
+		CompletionException e = assertThrows(CompletionException.class, response::join);
+		assertEquals(403, ((OperationException) e.getCause()).getStatusCode());
+	}
+
+	private void respondToGet(int statusCode, String body) {
+		when(asyncHttpTransport.makeGetRequest(any(HttpRequest.class), any())).thenAnswer(invocation -> {
+			// like ConsulResponseHandler, only a successful body is converted
+			if (statusCode != 200) {
+				return CompletableFuture.completedFuture(new HttpResponse<>(statusCode, "Error", null, 10L, true, 0L, body));
+			}
+			Function<Reader, Object> converter = invocation.getArgument(1);
+			return CompletableFuture.completedFuture(new HttpResponse<>(statusCode, "OK", converter.apply(new StringReader(body)), 10L, true, 0L));
+		});
+	}
+}
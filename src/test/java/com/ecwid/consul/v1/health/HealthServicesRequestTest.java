@@ -1,10 +1,14 @@
 package com.ecwid.consul.v1.health;
 
+import com.ecwid.consul.Utils;
+import com.ecwid.consul.v1.CacheControl;
 import com.ecwid.consul.v1.Filter;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 class HealthServicesRequestTest {
 	@Nested
 	class EqualsAndHashCode {
@@ -19,4 +23,16 @@ class HealthServicesRequestTest {
 					.verify();
 		}
 	}
+
+	@Nested
+	class UrlParameters {
+		@Test
+		void cacheControlImpliesCached() {
+			HealthServicesRequest request = HealthServicesRequest.newBuilder()
+					.setCacheControl(CacheControl.builder().setMaxAge(30).build())
+					.build();
+
+			assertEquals("/v1/health/service/web?passing=false&cached=1", Utils.generateUrl("/v1/health/service/web", request.asUrlParameters()));
+		}
+	}
 }
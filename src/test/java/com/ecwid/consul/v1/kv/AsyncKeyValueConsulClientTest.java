@@ -0,0 +1,220 @@
+package com.ecwid.consul.v1.kv;
+
+import com.ecwid.consul.ConsulException;
+import com.ecwid.consul.transport.AsyncHttpTransport;
+import com.ecwid.consul.transport.HttpRequest;
+import com.ecwid.consul.transport.HttpResponse;
+import com.ecwid.consul.v1.ConsulRawClient;
+import com.ecwid.consul.v1.OperationException;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.kv.model.GetValue;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AsyncKeyValueConsulClientTest {
+
+	private static final String VALUE_JSON = "{\"Key\":\"key\",\"Value\":\"dmFsdWU=\",\"Flags\":0,\"CreateIndex\":5,\"ModifyIndex\":7}";
+
+	private final AsyncHttpTransport asyncHttpTransport = mock(AsyncHttpTransport.class);
+	private final AsyncKeyValueConsulClient client = new AsyncKeyValueConsulClient(ConsulRawClient.Builder.builder()
+		.setAsyncHttpTransport(asyncHttpTransport)
+		.build());
+
+	@Test
+	void getKVValueReturnsTheOnlyValue() {
+		// Given
+		respondToGet(200, "[" + VALUE_JSON + "]");
+
+		// When
+		Response<GetValue> response = client.getKVValue("key").join();
+
+		// Then
+		assertEquals("key", response.getValue().getKey());
+		assertEquals("value", response.getValue().getDecodedValue());
+		assertEquals(Long.valueOf(10), response.getConsulIndex());
+	}
+
+	@Test
+	void getKVValueReturnsNullForEmptyList() {
+		// Given
+		respondToGet(200, "[]");
+
+		// When
+		Response<GetValue> response = client.getKVValue("key").join();
+
+		// Then
+		assertNull(response.getValue());
+	}
+
+	@Test
+	void getKVValueFailsForSeveralValues() {
+		// Given
+		respondToGet(200, "[" + VALUE_JSON + "," + VALUE_JSON + "]");
+
+		// When
+		CompletableFuture<Response<GetValue>> response = client.getKVValue("key");
+
+		// Then
+		CompletionException e = assertThrows(CompletionException.class, response::join);
+		assertTrue(e.getCause() instanceof ConsulException);
+	}
+
+	@Test
+	void getKVValueReturnsNullForMissingKey() {
+		// Given
+		respondToGet(404, "");
+
+		// When
+		Response<GetValue> response = client.getKVValue("key").join();
+
+		// Then
+		assertNull(response.getValue());
+	}
+
+	@Test
+	void getKVValueFailsForServerError() {
+		// Given
+		respondToGet(500, "rpc error");
+
+		// When
+		CompletableFuture<Response<GetValue>> response = client.getKVValue("key");
+
+		// Then
+		CompletionException e = assertThrows(CompletionException.class, response::join);
+		assertTrue(e.getCause() instanceof OperationException);
+		assertEquals(500, ((OperationException) e.getCause()).getStatusCode());
+		assertEquals("rpc error", ((OperationException) e.getCause()).getStatusContent());
+	}
+
+	@Test
+	void getKVValuesReturnsNullForMissingPrefix() {
+		// Given
+		respondToGet(404, "");
+
+		// When
+		Response<List<GetValue>> response = client.getKVValues("prefix").join();
+
+		// Then
+		assertNull(response.getValue());
+	}
+
+	@Test
+	void getKVKeysOnlyFailsForForbidden() {
+		// Given
+		respondToGet(403, "Permission denied");
+
+		// When
+		CompletableFuture<Response<List<String>>> response = client.getKVKeysOnly("prefix");
+
+		// Then
+		CompletionException e = assertThrows(CompletionException.class, response::join);
+		assertEquals(403, ((OperationException) e.getCause()).getStatusCode());
+	}
+
+	@Test
+	void getKVRawValueReturnsBodyOrNull() {
+		// Given
+		respondToStreamGet(200, "value");
+
+		// When
+		Response<byte[]> response = client.getKVRawValue("key").join();
+
+		// Then
+		assertArrayEquals("value".getBytes(StandardCharsets.UTF_8), response.getValue());
+
+		// Given
+		respondToStreamGet(404, "");
+
+		// When
+		response = client.getKVRawValue("key").join();
+
+		// Then
+		assertNull(response.getValue());
+	}
+
+	@Test
+	void setKVValueReturnsResultOrFails() {
+		// Given
+		respondToPut(200, "true");
+
+		// When
+		Response<Boolean> response = client.setKVValue("key", "value").join();
+
+		// Then
+		assertTrue(response.getValue());
+
+		// Given
+		respondToPut(500, "rpc error");
+
+		// When
+		CompletableFuture<Response<Boolean>> failedResponse = client.setKVValue("key", "value");
+
+		// Then
+		CompletionException e = assertThrows(CompletionException.class, failedResponse::join);
+		assertTrue(e.getCause() instanceof OperationException);
+	}
+
+	@Test
+	void deleteKVValueFailsForServerError() {
+		// Given
+		when(asyncHttpTransport.makeDeleteRequest(any(HttpRequest.class), any())).thenAnswer(invocation -> {
+			return CompletableFuture.completedFuture(new HttpResponse<>(500, "Internal Server Error", null, null, null, null, "rpc error"));
+		});
+
+		// When
+		CompletableFuture<Response<Void>> response = client.deleteKVValue("key");
+
+		// Then
+		CompletionException e = assertThrows(CompletionException.class, response::join);
+		assertTrue(e.getCause() instanceof OperationException);
+	}
+
+	private void respondToGet(int statusCode, String body) {
+		when(asyncHttpTransport.makeGetRequest(any(HttpRequest.class), any())).thenAnswer(invocation -> {
+			Function<Reader, Object> converter = invocation.getArgument(1);
+			return CompletableFuture.completedFuture(createResponse(statusCode, body, () -> converter.apply(new StringReader(body))));
+		});
+	}
+
+	private void respondToStreamGet(int statusCode, String body) {
+		when(asyncHttpTransport.makeGetStreamRequest(any(HttpRequest.class), any())).thenAnswer(invocation -> {
+			Function<InputStream, Object> converter = invocation.getArgument(1);
+			InputStream content = new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+			return CompletableFuture.completedFuture(createResponse(statusCode, body, () -> converter.apply(content)));
+		});
+	}
+
+	private void respondToPut(int statusCode, String body) {
+		when(asyncHttpTransport.makePutRequest(any(HttpRequest.class), any())).thenAnswer(invocation -> {
+			Function<Reader, Object> converter = invocation.getArgument(1);
+			return CompletableFuture.completedFuture(createResponse(statusCode, body, () -> converter.apply(new StringReader(body))));
+		});
+	}
+
+	// like ConsulResponseHandler, only a successful body is converted
+	private static HttpResponse<Object> createResponse(int statusCode, String body, Supplier<Object> content) {
+		if (statusCode == 200) {
+			return new HttpResponse<>(statusCode, "OK", content.get(), 10L, true, 0L);
+		}
+		return new HttpResponse<>(statusCode, "Error", null, 10L, true, 0L, body);
+	}
+}
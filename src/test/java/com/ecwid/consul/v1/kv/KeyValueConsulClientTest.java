@@ -1,6 +1,8 @@
 package com.ecwid.consul.v1.kv;
 
 import com.ecwid.consul.ConsulTestConstants;
+import com.ecwid.consul.v1.QueryParams;
+import com.ecwid.consul.v1.Response;
 import com.pszymczyk.consul.ConsulProcess;
 import com.pszymczyk.consul.ConsulStarterBuilder;
 import com.pszymczyk.consul.infrastructure.Ports;
@@ -10,6 +12,10 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
 
 class KeyValueConsulClientTest {
@@ -49,6 +55,27 @@ class KeyValueConsulClientTest {
 		Assertions.assertArrayEquals(consulClient.getKVBinaryValue(testKey).getValue().getValue(), testValue);
 	}
 
+	@Test
+	void testGetKVRawValue() throws Exception {
+		final String testKey = "test_key";
+		final byte[] testValue = new byte[100];
+		rnd.nextBytes(testValue);
+
+		// Make sure there is no such key before test running
+		Assertions.assertNull(consulClient.getKVRawValue(testKey).getValue());
+		// Set the key
+		long modifyIndex = consulClient.getKVValue(testKey).getConsulIndex();
+		consulClient.setKVBinaryValue(testKey, testValue);
+		// Make sure the raw value and its index are returned
+		Response<byte[]> response = consulClient.getKVRawValue(testKey);
+		Assertions.assertArrayEquals(testValue, response.getValue());
+		Assertions.assertTrue(response.getConsulIndex() > modifyIndex);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Assertions.assertEquals(Long.valueOf(testValue.length), consulClient.getKVRawValue(testKey, out, null, QueryParams.DEFAULT).getValue());
+		Assertions.assertArrayEquals(testValue, out.toByteArray());
+	}
+
 	@Test
 	void testDeleteKvValue() throws Exception {
 		final String testKey = "test_key";
@@ -93,4 +120,23 @@ class KeyValueConsulClientTest {
 		Assertions.assertNull(consulClient.getKVKeysOnly(testKeyPrefix).getValue());
 	}
 
+	@Test
+	void testGetKVValuesWithConsumer() throws Exception {
+		final String testKeyPrefix = "test_key";
+		final String testValue = "test_value";
+
+		// Make sure there are no keys before test running
+		Assertions.assertEquals(Long.valueOf(0), consulClient.getKVValues(testKeyPrefix, null, QueryParams.DEFAULT, value -> {}).getValue());
+
+		for (int i = 0; i < 10; i++) {
+			consulClient.setKVValue(testKeyPrefix + "/" + i, testValue);
+		}
+
+		// Values are passed to the consumer one by one
+		List<String> values = new ArrayList<>();
+		Response<Long> response = consulClient.getKVValues(testKeyPrefix, null, QueryParams.DEFAULT, value -> values.add(value.getDecodedValue()));
+		Assertions.assertEquals(Long.valueOf(10), response.getValue());
+		Assertions.assertEquals(Collections.nCopies(10, testValue), values);
+	}
+
 }
@@ -0,0 +1,161 @@
+package com.ecwid.consul.v1.txn;
+
+import com.ecwid.consul.v1.OperationException;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.txn.model.TxnError;
+import com.ecwid.consul.v1.txn.model.TxnOperation;
+import com.ecwid.consul.v1.txn.model.TxnResponse;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KeyValueWriteBatcherTest {
+
+	private final TxnClient txnClient = mock(TxnClient.class);
+
+	@Test
+	void fullBatchIsSentAsOneTransaction() {
+		// Given
+		when(txnClient.txn(anyList(), any(), any())).thenReturn(committed());
+		KeyValueWriteBatcher batcher = KeyValueWriteBatcher.builder(txnClient)
+			.setLinger(60_000)
+			.setMaxBatchSize(3)
+			.build();
+
+		// When
+		CompletableFuture<Response<Boolean>> first = batcher.setKVValueAsync("a", "1");
+		CompletableFuture<Response<Boolean>> second = batcher.setKVBinaryValueAsync("b", new byte[] {2});
+		CompletableFuture<Response<Void>> third = batcher.deleteKVValueAsync("c");
+
+		// Then
+		assertTrue(first.join().getValue());
+		assertTrue(second.join().getValue());
+		assertEquals(Long.valueOf(10), third.join().getConsulIndex());
+		ArgumentCaptor<List<TxnOperation>> operations = ArgumentCaptor.forClass(List.class);
+		verify(txnClient).txn(operations.capture(), any(), any());
+		assertEquals(3, operations.getValue().size());
+		assertEquals(TxnOperation.Verb.DELETE, operations.getValue().get(2).getVerb());
+	}
+
+	@Test
+	void batchIsClosedBeforeItExceedsMaxBytes() {
+		// Given
+		when(txnClient.txn(anyList(), any(), any())).thenReturn(committed());
+		KeyValueWriteBatcher batcher = KeyValueWriteBatcher.builder(txnClient)
+			.setLinger(60_000)
+			.setMaxBatchBytes(1000)
+			.build();
+
+		// When
+		CompletableFuture<Response<Boolean>> first = batcher.setKVBinaryValueAsync("a", new byte[600]);
+		CompletableFuture<Response<Boolean>> second = batcher.setKVBinaryValueAsync("b", new byte[600]);
+
+		// Then
+		assertTrue(first.join().getValue());
+		assertTrue(second.join().getValue());
+		ArgumentCaptor<List<TxnOperation>> operations = ArgumentCaptor.forClass(List.class);
+		verify(txnClient, times(2)).txn(operations.capture(), any(), any());
+		assertEquals(1, operations.getAllValues().get(0).size());
+		assertEquals(1, operations.getAllValues().get(1).size());
+	}
+
+	@Test
+	void errorFailsTheWritesOfTheBatch() {
+		// Given
+		when(txnClient.txn(anyList(), any(), any())).thenThrow(new StackOverflowError());
+		KeyValueWriteBatcher batcher = KeyValueWriteBatcher.builder(txnClient)
+			.setLinger(60_000)
+			.setMaxBatchSize(1)
+			.build();
+
+		// When
+		CompletableFuture<Response<Boolean>> write = batcher.setKVValueAsync("a", "1");
+
+		// Then
+		CompletionException e = assertThrows(CompletionException.class, write::join);
+		assertTrue(e.getCause() instanceof StackOverflowError);
+	}
+
+	@Test
+	void writeIsSentAfterLinger() {
+		// Given
+		when(txnClient.txn(anyList(), any(), any())).thenReturn(committed());
+		KeyValueWriteBatcher batcher = KeyValueWriteBatcher.builder(txnClient)
+			.setLinger(1)
+			.build();
+
+		// When
+		Response<Boolean> response = batcher.setKVValue("a", "1");
+
+		// Then
+		assertTrue(response.getValue());
+	}
+
+	@Test
+	void onlyFailedWriteFailsOnRollback() {
+		// Given
+		TxnError error = new TxnError();
+		error.setOpIndex(1);
+		error.setWhat("permission denied");
+		TxnResponse rolledBack = new TxnResponse();
+		rolledBack.setErrors(Collections.singletonList(error));
+		when(txnClient.txn(anyList(), any(), any()))
+			.thenReturn(new Response<>(rolledBack, null, null, null))
+			.thenReturn(committed());
+		KeyValueWriteBatcher batcher = KeyValueWriteBatcher.builder(txnClient)
+			.setLinger(60_000)
+			.setMaxBatchSize(3)
+			.build();
+
+		// When
+		CompletableFuture<Response<Boolean>> first = batcher.setKVValueAsync("a", "1");
+		CompletableFuture<Response<Boolean>> second = batcher.setKVValueAsync("secret", "2");
+		CompletableFuture<Response<Boolean>> third = batcher.setKVValueAsync("c", "3");
+
+		// Then
+		assertTrue(first.join().getValue());
+		assertTrue(third.join().getValue());
+		CompletionException e = assertThrows(CompletionException.class, second::join);
+		assertTrue(e.getCause() instanceof OperationException);
+		assertEquals("permission denied", ((OperationException) e.getCause()).getStatusContent());
+
+		ArgumentCaptor<List<TxnOperation>> operations = ArgumentCaptor.forClass(List.class);
+		verify(txnClient, times(2)).txn(operations.capture(), any(), any());
+		assertEquals(2, operations.getAllValues().get(1).size());
+	}
+
+	@Test
+	void closeSendsPendingWrites() {
+		// Given
+		when(txnClient.txn(anyList(), any(), any())).thenReturn(committed());
+		KeyValueWriteBatcher batcher = KeyValueWriteBatcher.builder(txnClient)
+			.setLinger(60_000)
+			.build();
+		CompletableFuture<Response<Boolean>> write = batcher.setKVValueAsync("a", "1");
+
+		// When
+		batcher.close();
+
+		// Then
+		assertTrue(write.isDone());
+		assertThrows(IllegalStateException.class, () -> batcher.setKVValueAsync("b", "2"));
+	}
+
+	private static Response<TxnResponse> committed() {
+		return new Response<>(new TxnResponse(), 10L, true, 0L);
+	}
+}
@@ -0,0 +1,90 @@
+package com.ecwid.consul.v1.txn;
+
+import com.ecwid.consul.transport.HttpResponse;
+import com.ecwid.consul.v1.ConsulRawClient;
+import com.ecwid.consul.v1.Response;
+import com.ecwid.consul.v1.txn.model.TxnOperation;
+import com.ecwid.consul.v1.txn.model.TxnResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+class TxnConsulClientTest {
+
+	private final HttpClient httpClient = mock(HttpClient.class);
+	private final TxnConsulClient txnClient = new TxnConsulClient(ConsulRawClient.Builder.builder()
+		.setHttpClient(httpClient)
+		.build());
+
+	@Test
+	void operationsAreSentInOneRequest() throws Exception {
+		// Given
+		TxnResponse committed = new TxnResponse();
+		when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class)))
+			.thenReturn(new HttpResponse<>(200, "OK", committed, 10L, true, 0L));
+
+		// When
+		Response<TxnResponse> response = txnClient.txn(Arrays.asList(
+			TxnOperation.set("config/a", "123"),
+			TxnOperation.delete("config/b")));
+
+		// Then
+		assertTrue(response.getValue().isCommitted());
+		ArgumentCaptor<HttpUriRequest> calledRequest = ArgumentCaptor.forClass(HttpUriRequest.class);
+		verify(httpClient).execute(calledRequest.capture(), any(ResponseHandler.class));
+		HttpPut httpPut = (HttpPut) calledRequest.getValue();
+		assertEquals("/v1/txn", httpPut.getURI().getPath());
+		assertEquals("[{\"KV\":{\"Verb\":\"set\",\"Key\":\"config/a\",\"Value\":\"MTIz\"}},{\"KV\":{\"Verb\":\"delete\",\"Key\":\"config/b\"}}]",
+			EntityUtils.toString(httpPut.getEntity()));
+	}
+
+	@Test
+	void rolledBackTransactionReturnsErrors() throws Exception {
+		// Given
+		String body = "{\"Results\":null,\"Errors\":[{\"OpIndex\":1,\"What\":\"failed to set key \\\"config/b\\\", index is stale\"}]}";
+		when(httpClient.execute(any(HttpUriRequest.class), any(ResponseHandler.class)))
+			.thenReturn(new HttpResponse<>(409, "Conflict", null, null, null, null, body));
+
+		// When
+		Response<TxnResponse> response = txnClient.txn(Arrays.asList(
+			TxnOperation.set("config/a", "123"),
+			TxnOperation.cas("config/b", "2", 5)));
+
+		// Then
+		assertFalse(response.getValue().isCommitted());
+		assertTrue(response.getValue().getResults().isEmpty());
+		assertEquals(1, response.getValue().getErrors().get(0).getOpIndex());
+		assertEquals("failed to set key \"config/b\", index is stale", response.getValue().getErrors().get(0).getWhat());
+	}
+
+	@Test
+	void tooManyOperationsAreRejected() {
+		// Given
+		List<TxnOperation> operations = new ArrayList<>(Collections.nCopies(TxnOperation.MAX_OPERATIONS + 1, TxnOperation.get("key")));
+
+		// When
+		assertThrows(IllegalArgumentException.class, () -> txnClient.txn(operations));
+
+		// Then
+		verifyZeroInteractions(httpClient);
+	}
+}
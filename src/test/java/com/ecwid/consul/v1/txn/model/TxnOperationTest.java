@@ -0,0 +1,38 @@
+package com.ecwid.consul.v1.txn.model;
+
+import com.ecwid.consul.json.GsonFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TxnOperationTest {
+
+	@Test
+	void serializesToConsulFormat() {
+		// Given
+		TxnOperation set = TxnOperation.set("config/a", "abc").setFlags(42);
+		TxnOperation checkIndex = TxnOperation.checkIndex("config/b", 10);
+		TxnOperation deleteTree = TxnOperation.deleteTree("config/old/");
+
+		// When
+		String json = GsonFactory.getGson().toJson(Arrays.asList(set, checkIndex, deleteTree));
+
+		// Then
+		assertEquals("[{\"KV\":{\"Verb\":\"set\",\"Key\":\"config/a\",\"Value\":\"YWJj\",\"Flags\":42}},"
+				+ "{\"KV\":{\"Verb\":\"check-index\",\"Key\":\"config/b\",\"Index\":10}},"
+				+ "{\"KV\":{\"Verb\":\"delete-tree\",\"Key\":\"config/old/\"}}]", json);
+	}
+
+	@Test
+	void lockCarriesSession() {
+		// When
+		TxnOperation lock = TxnOperation.lock("leader", "node-1", "session-id");
+
+		// Then
+		assertEquals(TxnOperation.Verb.LOCK, lock.getVerb());
+		assertEquals("session-id", lock.getSession());
+		assertEquals("bm9kZS0x", lock.getValue());
+	}
+}